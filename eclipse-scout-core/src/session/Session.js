@@ -72,6 +72,7 @@ export default class Session {
     this.forceNewClientSession = false;
     this.remoteUrl = 'json';
     this.unloadUrl = 'unload';
+    this.pushUrl = 'push';
     this.modelAdapterRegistry = {};
     this.ajaxCalls = [];
     this.asyncEvents = [];
@@ -82,6 +83,7 @@ export default class Session {
     this.requestTimeoutPoll = 75000; // ms, depends on polling interval, will therefore be initialized on startup
     this.requestTimeoutPing = 5000; // ms
     this.backgroundJobPollingSupport = new BackgroundJobPollingSupport(true);
+    this.backgroundJobPushEnabled = false; // results of background jobs are pushed by the server instead of polled, will be initialized on startup
     this.reconnector = new Reconnector(this);
     this.processingEvents = false;
 
@@ -95,6 +97,8 @@ export default class Session {
     this._fatalMessagesOnScreen = {};
     this._retryRequest = null;
     this._queuedRequest = null;
+    this._backgroundJobEventSource = null;
+    this._backgroundJobPushConnected = false;
     this.requestSequenceNo = 0;
 
     this.rootAdapter = new ModelAdapter();
@@ -385,6 +389,7 @@ export default class Session {
    * @param data.startupData
    * @param data.startupData.clientSession
    * @param data.startupData.pollingInterval
+   * @param data.startupData.pushEnabled
    * @param data.error
    * @param data.sessionTerminated
    */
@@ -429,6 +434,7 @@ export default class Session {
 
     // Init request timeout for poller
     this.requestTimeoutPoll = (data.startupData.pollingInterval + 15) * 1000;
+    this.backgroundJobPushEnabled = !!data.startupData.pushEnabled && !!window.EventSource;
 
     // Register UI session
     this.modelAdapterRegistry[this.uiSessionId] = this; // TODO [7.0] cgu: maybe better separate session object from event processing, create ClientSession.js?. If yes, desktop should not have rootadapter as parent, see 406
@@ -837,7 +843,60 @@ export default class Session {
   _resumeBackgroundJobPolling() {
     if (this.backgroundJobPollingSupport.enabled && this.backgroundJobPollingSupport.status !== BackgroundJobPollingStatus.RUNNING) {
       $.log.isInfoEnabled() && $.log.info('Resume background jobs polling request, status was=' + this.backgroundJobPollingSupport.status);
-      this._pollForBackgroundJobs();
+      if (this.backgroundJobPushEnabled) {
+        this._connectBackgroundJobPush();
+      } else {
+        this._pollForBackgroundJobs();
+      }
+    }
+  }
+
+  /**
+   * Opens a server-sent events stream the server pushes the results of jobs running in the background to. Unlike
+   * a polling request, the open stream does not block a thread on the server. The server closes the stream
+   * after the polling interval, it is then reopened immediately.
+   */
+  _connectBackgroundJobPush() {
+    this.backgroundJobPollingSupport.setRunning();
+
+    let opened = false;
+    let eventSource = new EventSource(this.pushUrl + '/' + this.uiSessionId);
+    this._backgroundJobEventSource = eventSource;
+    eventSource.onopen = () => {
+      opened = true;
+      this._backgroundJobPushConnected = true;
+    };
+    eventSource.onmessage = event => {
+      let data = JSON.parse(event.data);
+      if (data.error || data.sessionTerminated) {
+        this._disconnectBackgroundJobPush();
+      }
+      this._processBackgroundJobResponse(data);
+    };
+    eventSource.onerror = () => {
+      if (eventSource !== this._backgroundJobEventSource) {
+        return; // already disconnected
+      }
+      // Don't let the browser reconnect automatically, otherwise it would ping the server to death in case of an error
+      this._disconnectBackgroundJobPush();
+      if (opened) {
+        // Stream was closed by the server
+        this._connectBackgroundJobPush();
+      } else if (!this._backgroundJobPushConnected) {
+        $.log.warn('Push stream could not be opened. Fall back to polling');
+        this.backgroundJobPushEnabled = false;
+        this._pollForBackgroundJobs();
+      } else {
+        $.log.warn('Push stream failed. Interrupt until the next user-initiated request succeeds');
+        this.backgroundJobPollingSupport.setFailed();
+      }
+    };
+  }
+
+  _disconnectBackgroundJobPush() {
+    if (this._backgroundJobEventSource) {
+      this._backgroundJobEventSource.close();
+      this._backgroundJobEventSource = null;
     }
   }
 
@@ -868,43 +927,8 @@ export default class Session {
     // --- Helper methods ---
 
     function onAjaxDone(data) {
-      if (data.error) {
-        // Don't schedule a new polling request, when an error occurs
-        // when the next user-initiated request succeeds, we re-enable polling
-        // otherwise the polling would ping the server to death in case of an error
-        $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
-        this.backgroundJobPollingSupport.setFailed();
-        if (this.areRequestsPending()) {
-          // Add response to queue, handle later by _performUserAjaxRequest()
-          this.responseQueue.add(data);
-        } else {
-          // No user request pending, handle immediately
-          this.responseQueue.process(data);
-        }
-      } else if (data.sessionTerminated) {
-        $.log.info('Session terminated, stopped polling for background jobs');
-        this.backgroundJobPollingSupport.setStopped();
-        // If were are not yet logged out, redirect to the logout URL (the session that initiated the
-        // session invalidation will receive a dedicated logout event, redirect is handled there).
-        if (!this.loggedOut && data.redirectUrl) {
-          this.logout(data.redirectUrl);
-        }
-      } else {
-        try {
-          // No need to change backgroundJobPollingSupport state, it should still be RUNNING
-          if (this.areRequestsPending()) {
-            // Add response to queue, handle later by _performUserAjaxRequest()
-            this.responseQueue.add(data);
-          } else {
-            // No user request pending, handle immediately
-            this.responseQueue.process(data);
-            this.layoutValidator.validate();
-          }
-          setTimeout(this._pollForBackgroundJobs.bind(this));
-        } catch (error) {
-          this.backgroundJobPollingSupport.setFailed();
-          throw error;
-        }
+      if (this._processBackgroundJobResponse(data)) {
+        setTimeout(this._pollForBackgroundJobs.bind(this));
       }
     }
 
@@ -914,6 +938,54 @@ export default class Session {
     }
   }
 
+  /**
+   * Processes a response containing the results of jobs running in the background (either polled or pushed).
+   *
+   * @returns {boolean} true if further results should be awaited, false if an error occurred or the session was terminated
+   */
+  _processBackgroundJobResponse(data) {
+    if (data.error) {
+      // Don't schedule a new polling request, when an error occurs
+      // when the next user-initiated request succeeds, we re-enable polling
+      // otherwise the polling would ping the server to death in case of an error
+      $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
+      this.backgroundJobPollingSupport.setFailed();
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+      }
+      return false;
+    }
+    if (data.sessionTerminated) {
+      $.log.info('Session terminated, stopped polling for background jobs');
+      this.backgroundJobPollingSupport.setStopped();
+      // If were are not yet logged out, redirect to the logout URL (the session that initiated the
+      // session invalidation will receive a dedicated logout event, redirect is handled there).
+      if (!this.loggedOut && data.redirectUrl) {
+        this.logout(data.redirectUrl);
+      }
+      return false;
+    }
+    try {
+      // No need to change backgroundJobPollingSupport state, it should still be RUNNING
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+        this.layoutValidator.validate();
+      }
+      return true;
+    } catch (error) {
+      this.backgroundJobPollingSupport.setFailed();
+      throw error;
+    }
+  }
+
   /**
    * Do NOT call this method directly, always use the response queue:
    *
@@ -1184,6 +1256,11 @@ export default class Session {
 
     // Abort pending ajax requests.
     this.abortAllAjaxCalls();
+    if (this._backgroundJobEventSource) {
+      // Push stream is reopened when the next user-initiated request succeeds
+      this._disconnectBackgroundJobPush();
+      this.backgroundJobPollingSupport.setFailed();
+    }
 
     // In Firefox, the current async polling request is interrupted immediately when the page is unloaded. Therefore,
     // an offline message would appear at once on the desktop. When reloading the page, all elements are cleared anyway,
@@ -1602,6 +1679,7 @@ export default class Session {
   _onWindowUnload() {
     $.log.isInfoEnabled() && $.log.info('Session unloading...');
     this.unloaded = true;
+    this._disconnectBackgroundJobPush();
 
     // Close popup windows
     if (this.desktop && this.desktop.formController) {
@@ -141,6 +141,9 @@ export default class Table extends Widget {
     this.viewRangeDirty = false;
     this.viewRangeRendered = new Range(0, 0);
     this.virtual = true;
+    // True if the server holds more rows which are fetched when the user scrolls to the end of the table
+    this.moreRowsAvailable = false;
+    this._fetchRowsPending = false;
     this._doubleClickSupport = new DoubleClickSupport();
     this._permanentHeadSortColumns = [];
     this._permanentTailSortColumns = [];
@@ -2726,6 +2729,7 @@ export default class Table extends Widget {
 
   insertRows(rows) {
     let wasEmpty = this.rows.length === 0;
+    this._fetchRowsPending = false;
 
     // Update model
     rows.forEach(function(row, i) {
@@ -4925,6 +4929,26 @@ export default class Table extends Widget {
     }
     let viewRange = this._calculateCurrentViewRange();
     this._renderViewRange(viewRange);
+    this._fetchRowsIfNecessary(viewRange);
+  }
+
+  /**
+   * Requests more rows if the view range reaches the end of the loaded rows. The prefetch window is the size of the view range.
+   */
+  _fetchRowsIfNecessary(viewRange) {
+    if (!this.moreRowsAvailable || this._fetchRowsPending) {
+      return;
+    }
+    if (viewRange.to < this.visibleRows.length - this.viewRangeSize) {
+      return;
+    }
+    this._fetchRowsPending = true;
+    this.trigger('fetchRows');
+  }
+
+  _setMoreRowsAvailable(moreRowsAvailable) {
+    this._setProperty('moreRowsAvailable', moreRowsAvailable);
+    this._fetchRowsPending = false;
   }
 
   _rerenderViewport() {
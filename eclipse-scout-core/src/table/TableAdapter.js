@@ -340,6 +340,10 @@ export default class TableAdapter extends ModelAdapter {
     });
   }
 
+  _onWidgetFetchRows(event) {
+    this._send('fetchRows');
+  }
+
   _onWidgetReload(event) {
     let data = {
       reloadReason: event.reloadReason
@@ -381,6 +385,8 @@ export default class TableAdapter extends ModelAdapter {
       this._onWidgetExportToClipboard(event);
     } else if (event.type === 'reload') {
       this._onWidgetReload(event);
+    } else if (event.type === 'fetchRows') {
+      this._onWidgetFetchRows(event);
     } else if (event.type === 'filterAdded') {
       this._onWidgetFilterAdded(event);
     } else if (event.type === 'filterRemoved') {
@@ -646,6 +646,41 @@ describe('TableAdapter', () => {
 
   });
 
+  describe('fetchRows', () => {
+
+    it('sends fetchRows event if the table requests more rows', () => {
+      let model = helper.createModelFixture(2, 5);
+      model.moreRowsAvailable = true;
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop);
+
+      table.trigger('fetchRows');
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+
+      let event = new RemoteEvent(table.id, 'fetchRows');
+      expect(mostRecentJsonRequest()).toContainEvents(event);
+    });
+
+    it('resets the pending fetch if moreRowsAvailable changes', () => {
+      let model = helper.createModelFixture(2, 5);
+      model.moreRowsAvailable = true;
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop);
+      table._fetchRowsPending = true;
+
+      let message = {
+        events: [createPropertyChangeEvent(table, {
+          moreRowsAvailable: false
+        })]
+      };
+      session._processSuccessResponse(message);
+      expect(table.moreRowsAvailable).toBe(false);
+      expect(table._fetchRowsPending).toBe(false);
+    });
+
+  });
+
   describe('_sendFilter', () => {
 
     // Test case for ticket #175700
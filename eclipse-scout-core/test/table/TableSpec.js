@@ -3210,6 +3210,47 @@ describe('Table', () => {
     });
   });
 
+  describe('fetchRows', () => {
+    let table;
+
+    beforeEach(() => {
+      let model = helper.createModelFixture(2, 10);
+      model.moreRowsAvailable = true;
+      table = helper.createTable(model);
+      table.viewRangeSize = 4;
+    });
+
+    it('is triggered if the view range reaches the end of the loaded rows', () => {
+      let count = 0;
+      table.on('fetchRows', () => count++);
+      table._fetchRowsIfNecessary(new Range(0, 4));
+      expect(count).toBe(0);
+
+      table._fetchRowsIfNecessary(new Range(6, 10));
+      expect(count).toBe(1);
+    });
+
+    it('is not triggered again until rows are inserted', () => {
+      let count = 0;
+      table.on('fetchRows', () => count++);
+      table._fetchRowsIfNecessary(new Range(6, 10));
+      table._fetchRowsIfNecessary(new Range(6, 10));
+      expect(count).toBe(1);
+
+      table.insertRows(helper.createModelRows(2, 5));
+      table._fetchRowsIfNecessary(new Range(11, 15));
+      expect(count).toBe(2);
+    });
+
+    it('is not triggered if no more rows are available', () => {
+      let count = 0;
+      table.on('fetchRows', () => count++);
+      table._setMoreRowsAvailable(false);
+      table._fetchRowsIfNecessary(new Range(6, 10));
+      expect(count).toBe(0);
+    });
+  });
+
   describe('scrollTo', () => {
     it('does not scroll if row is invisible due to filter', () => {
       let model = helper.createModelFixture(2, 4);
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -606,6 +609,24 @@ public class JSONArray {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this array as a compact JSON string and writes it to the given writer. Unlike {@link #toString()}, the JSON
+   * string is not built in memory but written in chunks while encoding.
+   *
+   * @throws IOException
+   *           if the writer fails
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.array();
     for (Object value : m_values) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -709,6 +712,24 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this object as a compact JSON string and writes it to the given writer. Unlike {@link #toString()}, the JSON
+   * string is not built in memory but written in chunks while encoding.
+   *
+   * @throws IOException
+   *           if the writer fails
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +33,7 @@ import java.util.List;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Optionally writes the encoded data to a Writer in chunks instead of accumulating it (BSI)
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -67,10 +71,22 @@ import java.util.List;
  */
 public class JSONStringer {
 
+  /**
+   * Number of buffered characters after which the buffered data is written to the {@link #m_writer}, if set.
+   */
+  private static final int FLUSH_THRESHOLD = 8192;
+
   /** The output data, containing at most one top-level array or object. */
   @SuppressWarnings("squid:S00116")
   final StringBuilder out = new StringBuilder();
 
+  /**
+   * Optional writer the encoded data is written to. If set, {@link #out} is only used as buffer.
+   */
+  private final Writer m_writer;
+  private char[] m_flushBuffer;
+  private boolean m_flushed;
+
   /**
    * Lexical scoping elements within this stringer, necessary to insert the appropriate separator characters (ie. commas
    * and colons) and to detect nesting errors.
@@ -121,12 +137,29 @@ public class JSONStringer {
 
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
+  }
+
+  /**
+   * Creates a stringer that writes the encoded data in chunks to the given writer instead of accumulating the whole
+   * JSON string in memory. {@link #flush()} must be called after the top-level value is encoded. {@link #toString()}
+   * is not supported.
+   * <p>
+   * An {@link IOException} of the writer is thrown as {@link UncheckedIOException}.
+   */
+  public JSONStringer(Writer writer) {
+    if (writer == null) {
+      throw new JSONException("Writer must be non-null");
+    }
+    m_indent = null;
+    m_writer = writer;
   }
 
   /**
@@ -169,7 +202,7 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_flushed)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
@@ -192,6 +225,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
+    flushIfNecessary();
     return this;
   }
 
@@ -249,6 +283,7 @@ public class JSONStringer {
     }
     else {
       string(value.toString());
+      flushIfNecessary();
     }
 
     return this;
@@ -419,6 +454,55 @@ public class JSONStringer {
     }
   }
 
+  private void flushIfNecessary() {
+    if (m_writer != null && out.length() >= FLUSH_THRESHOLD) {
+      try {
+        writeBuffer();
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Writes the buffered data to the writer of this stringer without flushing the writer, so that intermediate chunks
+   * do not force the underlying stream to send them.
+   */
+  private void writeBuffer() throws IOException {
+    int length = out.length();
+    if (length == 0) {
+      return;
+    }
+    if (m_flushBuffer == null || m_flushBuffer.length < length) {
+      m_flushBuffer = new char[Math.max(length, FLUSH_THRESHOLD)];
+    }
+    out.getChars(0, length, m_flushBuffer, 0);
+    m_writer.write(m_flushBuffer, 0, length);
+    out.setLength(0);
+    m_flushed = true;
+  }
+
+  /**
+   * Writes the buffered data to the writer of this stringer and flushes the writer. Has no effect if this stringer has
+   * no writer. Call this method once after the top level value has been encoded.
+   *
+   * @throws UncheckedIOException
+   *           if the writer fails
+   */
+  public void flush() {
+    if (m_writer == null) {
+      return;
+    }
+    try {
+      writeBuffer();
+      m_writer.flush();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
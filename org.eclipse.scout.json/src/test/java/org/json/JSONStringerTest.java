@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import junit.framework.TestCase;
 
 /*
@@ -374,4 +377,66 @@ public class JSONStringerTest extends TestCase {
     catch (JSONException e) {
     }
   }
+
+  public void testWriter() throws IOException {
+    JSONObject object = new JSONObject();
+    JSONArray array = new JSONArray();
+    for (int i = 0; i < 2000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", i);
+      row.put("text", "row \"" + i + "\"");
+      array.put(row);
+    }
+    object.put("rows", array);
+    object.put("count", 2000);
+
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+
+    writer = new StringWriter();
+    array.write(writer);
+    assertEquals(array.toString(), writer.toString());
+  }
+
+  public void testWriterFlushedOnlyOnce() throws IOException {
+    JSONArray array = new JSONArray();
+    for (int i = 0; i < 5000; i++) {
+      array.put("value " + i);
+    }
+    final int[] writeCount = new int[1];
+    final int[] flushCount = new int[1];
+    StringWriter writer = new StringWriter() {
+      @Override
+      public void write(char[] cbuf, int off, int len) {
+        writeCount[0]++;
+        super.write(cbuf, off, len);
+      }
+
+      @Override
+      public void flush() {
+        flushCount[0]++;
+        super.flush();
+      }
+    };
+    array.write(writer);
+    assertEquals(array.toString(), writer.toString());
+    assertTrue(writeCount[0] > 1);
+    assertEquals(1, flushCount[0]);
+  }
+
+  public void testWriterMultipleRoots() throws JSONException {
+    StringWriter writer = new StringWriter();
+    JSONStringer stringer = new JSONStringer(writer);
+    stringer.array();
+    stringer.endArray();
+    stringer.flush();
+    assertEquals("[]", writer.toString());
+    try {
+      stringer.object();
+      fail();
+    }
+    catch (JSONException e) {
+    }
+  }
 }
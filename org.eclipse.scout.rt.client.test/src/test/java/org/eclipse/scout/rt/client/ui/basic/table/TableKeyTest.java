@@ -14,7 +14,9 @@ import static org.junit.Assert.*;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -189,6 +191,73 @@ public class TableKeyTest {
     assertNotSameContent(oldKeys, new TreeSet<>(getRowByKeyMap(table).keySet()));
   }
 
+  @Test
+  public void testReplaceRowsAndRestoreSelectionByKey() {
+    P_SinglePrimaryKeyColumnTable table = new P_SinglePrimaryKeyColumnTable();
+    table.init();
+    List<ITableRow> rows = new ArrayList<>();
+    rows.add(table.createRow(new Object[]{1, null}));
+    rows.add(table.createRow(new Object[]{2, null}));
+    rows.add(table.createRow(new Object[]{3, null}));
+    table.replaceRows(rows);
+    List<ITableRow> oldRows = table.getRows();
+    table.selectRows(Arrays.asList(oldRows.get(2), oldRows.get(0)));
+    List<CompositeObject> selectedKeys = table.getSelectedKeys();
+
+    rows = new ArrayList<>();
+    rows.add(table.createRow(new Object[]{3, null}));
+    rows.add(table.createRow(new Object[]{1, null}));
+    rows.add(table.createRow(new Object[]{4, null}));
+    table.replaceRows(rows);
+    assertEquals(3, table.getRowCount());
+    assertSame(oldRows.get(0), table.getRowByKey(Collections.singletonList(1)));
+    assertSame(oldRows.get(2), table.getRowByKey(Collections.singletonList(3)));
+    assertNull(table.getRowByKey(Collections.singletonList(2)));
+    assertNotNull(table.getRowByKey(Collections.singletonList(4)));
+
+    table.deselectAllRows();
+    table.restoreSelection(selectedKeys);
+    assertEquals(Arrays.asList(oldRows.get(0), oldRows.get(2)), table.getSelectedRows());
+  }
+
+  @Test
+  public void testReplaceRowsWithMultipleKeyColumn() {
+    P_MultiplePrimaryKeyColumnTable table = new P_MultiplePrimaryKeyColumnTable();
+    table.init();
+    List<ITableRow> rows = new ArrayList<>();
+    rows.add(table.createRow(new Object[]{1, "Key1", null, null, "a"}));
+    rows.add(table.createRow(new Object[]{1, "Key2", null, null, "b"}));
+    table.replaceRows(rows);
+    List<ITableRow> oldRows = table.getRows();
+
+    rows = new ArrayList<>();
+    rows.add(table.createRow(new Object[]{1, "Key2", null, null, "b"}));
+    rows.add(table.createRow(new Object[]{1, "Key1", null, null, "c"}));
+    table.replaceRows(rows);
+    assertEquals(oldRows, table.getRows());
+    assertEquals("c", table.getFirstColumn().getValue(oldRows.get(0)));
+    assertEquals("b", table.getFirstColumn().getValue(oldRows.get(1)));
+    assertSame(oldRows.get(0), table.getRowByKey(Arrays.asList(1, "Key1")));
+  }
+
+  @Test
+  public void testReplaceUnchangedRowsWithValidateValue() {
+    P_ValidatingTable table = new P_ValidatingTable();
+    table.init();
+    List<ITableRow> rows = new ArrayList<>();
+    rows.add(table.createRow(new Object[]{1, "a"}));
+    rows.add(table.createRow(new Object[]{2, "b"}));
+    table.replaceRows(rows);
+    table.getValidatingColumn().m_validateCount = 0;
+
+    // unchanged rows are validated again, because the column overrides execValidateValue
+    rows = new ArrayList<>();
+    rows.add(table.createRow(new Object[]{1, "a"}));
+    rows.add(table.createRow(new Object[]{2, "b"}));
+    table.replaceRows(rows);
+    assertEquals(2, table.getValidatingColumn().m_validateCount);
+  }
+
   private void assertSameContent(Collection<?> a, Collection<?> b) {
     assertEquals(a.size(), b.size());
     Iterator<?> it1 = a.iterator();
@@ -247,6 +316,34 @@ public class TableKeyTest {
     }
   }
 
+  public static class P_ValidatingTable extends AbstractTable {
+
+    public ValidatingColumn getValidatingColumn() {
+      return getColumnSet().getColumnByClass(ValidatingColumn.class);
+    }
+
+    @Order(100)
+    @ClassId("3c3cf3f5-8e57-4f4e-9b0b-1a6f1c3c6f61")
+    public class PrimaryKeyColumn extends AbstractIntegerColumn {
+      @Override
+      protected boolean getConfiguredPrimaryKey() {
+        return true;
+      }
+    }
+
+    @Order(200)
+    @ClassId("9f0e36a4-5d3b-4b7e-8a41-3f0c8e0c7a52")
+    public class ValidatingColumn extends AbstractStringColumn {
+      private int m_validateCount;
+
+      @Override
+      protected String execValidateValue(ITableRow row, String rawValue) {
+        m_validateCount++;
+        return rawValue;
+      }
+    }
+  }
+
   public static class P_MultiplePrimaryKeyColumnTable extends AbstractTable {
 
     public PrimaryKey2Column getPrimaryKey2Column() {
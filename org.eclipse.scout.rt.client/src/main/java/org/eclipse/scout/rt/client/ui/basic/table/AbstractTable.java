@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -150,6 +151,15 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractTable.class);
   private static final NamedBitMaskHelper FLAGS_BIT_HELPER = new NamedBitMaskHelper(AUTO_DISCARD_ON_DELETE, SORT_VALID, INITIAL_MULTI_LINE_TEXT, ACTION_RUNNING);
+  // column classes not overriding execParseValue and execValidateValue, see hasDefaultParseAndValidate
+  private static final ClassValue<Boolean> DEFAULT_PARSE_AND_VALIDATE = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> columnClass) {
+      Class[] parameterTypes = new Class[]{ITableRow.class, Object.class};
+      return !ConfigurationUtility.isMethodOverwrite(AbstractColumn.class, "execParseValue", parameterTypes, columnClass)
+          && !ConfigurationUtility.isMethodOverwrite(AbstractColumn.class, "execValidateValue", parameterTypes, columnClass);
+    }
+  };
 
   public interface IResetColumnsOption {
     String VISIBILITY = "visibility";
@@ -164,8 +174,8 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private List<ITableRow> m_rows; // synchronized list
   private List<ITableRow> m_rootRows; // synchronized list
   private final Object m_cachedRowsLock;
-  private final Map<CompositeObject, ITableRow> m_rowsByKey;
-  private final Map<CompositeObject, ITableRow> m_deletedRows;
+  private final Map<Object, ITableRow> m_rowsByKey; // primary key index, see createRowKey
+  private final Map<Object, ITableRow> m_deletedRows;
   private final List<ITableRowFilter> m_rowFilters;
   private final AttachmentSupport m_attachmentSupport;
   private final TableListeners m_listeners;
@@ -2298,14 +2308,15 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   public void restoreSelection(List<CompositeObject> selectedKeys) {
     List<ITableRow> selectedRows = new ArrayList<>();
     if (!selectedKeys.isEmpty()) {
-      for (ITableRow r : m_rows) {
-        if (selectedKeys.remove(new CompositeObject(getRowKeys(r)))) {
-          selectedRows.add(r);
-          if (selectedKeys.isEmpty()) {
-            break;
-          }
+      Set<ITableRow> selectedRowSet = new HashSet<>();
+      for (CompositeObject selectedKey : selectedKeys) {
+        ITableRow row = m_rowsByKey.get(createRowKey(Arrays.asList(selectedKey.getComponents())));
+        if (row != null && selectedRowSet.add(row)) {
+          selectedRows.add(row);
         }
       }
+      // keep the selection in the order of the rows
+      selectedRows.sort(Comparator.comparingInt(ITableRow::getRowIndex));
     }
     selectRows(selectedRows, false);
   }
@@ -2321,27 +2332,46 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       int[] newToOld = new int[newRows.size()];
       Arrays.fill(oldToNew, -1);
       Arrays.fill(newToOld, -1);
-      Map<CompositeObject, Integer> newRowIndexMap = new HashMap<>();
-      for (int i = newRows.size() - 1; i >= 0; i--) {
-        newRowIndexMap.put(new CompositeObject(getRowKeys(newRows.get(i))), i);
-      }
+      // match by the primary key index, the first new row of a key wins
+      Map<ITableRow, Integer> rowPositions = null;
       int mappedCount = 0;
-      for (int i = 0, ni = getRowCount(); i < ni; i++) {
-        ITableRow existingRow = m_rows.get(i);
-        Integer newIndex = newRowIndexMap.remove(new CompositeObject(getRowKeys(existingRow)));
-        if (newIndex != null) {
-          oldToNew[i] = newIndex.intValue();
-          newToOld[newIndex.intValue()] = i;
+      for (int i = 0; i < newToOld.length; i++) {
+        ITableRow existingRow = m_rowsByKey.get(createRowKey(getRowKeys(newRows.get(i))));
+        if (existingRow == null) {
+          continue;
+        }
+        int oldIndex = existingRow.getRowIndex();
+        if (oldIndex < 0 || oldIndex >= oldToNew.length || m_rows.get(oldIndex) != existingRow) {
+          // the row index does not correspond to the position in m_rows (e.g. in hierarchical tables)
+          if (rowPositions == null) {
+            rowPositions = new IdentityHashMap<>(oldToNew.length);
+            for (int j = 0; j < oldToNew.length; j++) {
+              rowPositions.put(m_rows.get(j), j);
+            }
+          }
+          Integer position = rowPositions.get(existingRow);
+          if (position == null) {
+            continue;
+          }
+          oldIndex = position.intValue();
+        }
+        if (oldToNew[oldIndex] < 0) {
+          oldToNew[oldIndex] = i;
+          newToOld[i] = oldIndex;
           mappedCount++;
         }
       }
+      // unchanged rows are not parsed and validated again unless a column has custom parse or validate logic
+      boolean skipUnchangedRows = getColumns().stream().allMatch(AbstractTable::hasDefaultParseAndValidate);
       List<ITableRow> updatedRows = new ArrayList<>(mappedCount);
       for (int i = 0; i < oldToNew.length; i++) {
         if (oldToNew[i] >= 0) {
           ITableRow existingRow = getRow(i);
           ITableRow newRow = newRows.get(oldToNew[i]);
 
-          replaceRowValues(existingRow, newRow);
+          if (!skipUnchangedRows || !isRowUnchanged(existingRow, newRow)) {
+            replaceRowValues(existingRow, newRow);
+          }
           updatedRows.add(existingRow);
         }
       }
@@ -2372,6 +2402,41 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     }
   }
 
+  /**
+   * @return {@code true} if neither the column nor a column extension overrides
+   *         {@link AbstractColumn#execParseValue(ITableRow, Object)} or
+   *         {@link AbstractColumn#execValidateValue(ITableRow, Object)}. Then parsing and validating an unchanged value
+   *         has no side effects.
+   */
+  private static boolean hasDefaultParseAndValidate(IColumn<?> col) {
+    if (!(col instanceof AbstractColumn) || ((AbstractColumn<?>) col).getAllExtensions().size() > 1) {
+      return false;
+    }
+    return DEFAULT_PARSE_AND_VALIDATE.get(col.getClass());
+  }
+
+  /**
+   * @return {@code true} if the existing row has the same state and valid cell values as the new row. Then the values of
+   *         the new row need not be parsed and validated again.
+   */
+  private boolean isRowUnchanged(ITableRow existingRow, ITableRow newRow) {
+    if (existingRow.isEnabled() != newRow.isEnabled() || existingRow.getStatus() != newRow.getStatus()) {
+      return false;
+    }
+    for (IColumn<?> col : getColumns()) {
+      int columnIndex = col.getColumnIndex();
+      Object newValue = null;
+      if (columnIndex < newRow.getCellCount()) {
+        newValue = newRow.getCellValue(columnIndex);
+      }
+      ICell cell = existingRow.getCell(columnIndex);
+      if (cell.getErrorStatus() != null || ObjectUtility.notEquals(cell.getValue(), newValue)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Update existing row with values from new row
    */
@@ -2467,7 +2532,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       if (CollectionUtility.containsAny(changedColumnValues, IntStream.of(getColumnSet().getKeyColumnIndexes()).boxed().toArray(Integer[]::new))) {
         // update primary key
         m_rowsByKey.values().remove(row);
-        m_rowsByKey.put(new CompositeObject(row.getKeyValues()), row);
+        m_rowsByKey.put(createRowKey(row.getKeyValues()), row);
       }
       if (CollectionUtility.containsAny(changedColumnValues, getColumnSet().getSortColumns().stream().map(IColumn::getColumnIndex).collect(Collectors.toSet()))) {
         // sort has to be updated
@@ -3223,7 +3288,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       newIRow.setRowIndex(newIndex);
       newIRow.setTableInternal(this);
       m_rows.add(newIRow);
-      m_rowsByKey.put(new CompositeObject(newIRow.getKeyValues()), newIRow);
+      m_rowsByKey.put(createRowKey(newIRow.getKeyValues()), newIRow);
     }
     rebuildTreeStructure();
 
@@ -3452,7 +3517,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
             boolean removed = false;
             synchronized (m_cachedRowsLock) {
               removed = m_rows.remove(candidateRow);
-              m_rowsByKey.remove(new CompositeObject(candidateRow.getKeyValues()));
+              m_rowsByKey.remove(createRowKey(candidateRow.getKeyValues()), candidateRow);
               if (removed) {
                 m_cachedRows = null;
               }
@@ -3499,7 +3564,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     }
     else {
       internalRow.setStatus(ITableRow.STATUS_DELETED);
-      m_deletedRows.put(new CompositeObject(getRowKeys(internalRow)), internalRow);
+      m_deletedRows.put(createRowKey(getRowKeys(internalRow)), internalRow);
     }
   }
 
@@ -3569,7 +3634,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   public void discardDeletedRows(Collection<? extends ITableRow> deletedRows) {
     if (deletedRows != null) {
       for (ITableRow row : deletedRows) {
-        m_deletedRows.remove(new CompositeObject(getRowKeys(row)));
+        m_deletedRows.remove(createRowKey(getRowKeys(row)));
         ((InternalTableRow) row).setTableInternal(null);
       }
     }
@@ -3604,7 +3669,18 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     if (!CollectionUtility.hasElements(keys)) {
       return null;
     }
-    return m_rowsByKey.get(new CompositeObject(keys));
+    return m_rowsByKey.get(createRowKey(keys));
+  }
+
+  /**
+   * @return key of the given primary key values in the row index. A single key value is used as is, which saves
+   *         wrapping it for every row, multiple key values are combined in a {@link CompositeObject}.
+   */
+  private static Object createRowKey(List<?> keys) {
+    if (keys.size() == 1 && !(keys.get(0) instanceof CompositeObject)) {
+      return keys.get(0);
+    }
+    return new CompositeObject(keys);
   }
 
   @Override
@@ -11,6 +11,8 @@
 package org.eclipse.scout.rt.dataobject;
 
 import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
@@ -164,6 +166,34 @@ public class DataObjectInventoryTest {
     assertEquals("otherEntitiesMap", attributesDescription.get("otherEntitiesMap").getName());
   }
 
+  @Test
+  public void testGetAttributeSlots() {
+    DataObjectAttributeSlots slots = m_inventory.getAttributeSlots(EntityFixtureDo.class);
+    assertSame(slots, m_inventory.getAttributeSlots(EntityFixtureDo.class));
+    assertEquals(5, slots.size());
+    assertEquals("id", slots.getName(0));
+    assertEquals("otherEntities", slots.getName(1));
+    assertEquals("otherEntitiesList", slots.getName(2));
+    assertEquals("otherEntitiesMap", slots.getName(3));
+    assertEquals("otherEntity", slots.getName(4));
+    assertEquals(4, slots.indexOf("otherEntity"));
+    assertEquals(4, slots.indexOf(new String("otherEntity"))); // not interned
+    assertEquals(0, slots.indexOf(new StringBuilder("i").append("d").toString()));
+    assertEquals(-1, slots.indexOf("foo"));
+    assertEquals(-1, slots.indexOf(null));
+  }
+
+  @Test
+  public void testAttributeSlotsHashCollision() {
+    // "Aa" and "BB" have the same hash code
+    DataObjectAttributeSlots slots = new DataObjectAttributeSlots(Arrays.asList("c", "BB", "Aa"));
+    assertEquals(0, slots.indexOf(new String("Aa")));
+    assertEquals(1, slots.indexOf(new String("BB")));
+    assertEquals(2, slots.indexOf("c"));
+    assertEquals(-1, slots.indexOf("C#"));
+    assertEquals(-1, new DataObjectAttributeSlots(Collections.emptyList()).indexOf("c"));
+  }
+
   @Test(expected = AssertionException.class)
   public void testRegisterDuplicateTypeName() {
     m_inventory.registerClassByTypeName(EntityFixtureDo.class);
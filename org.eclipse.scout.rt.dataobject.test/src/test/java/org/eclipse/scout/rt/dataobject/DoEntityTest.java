@@ -709,4 +709,63 @@ public class DoEntityTest {
 
     assertEqualsWithComparisonFailure(expected, actual);
   }
+
+  @CompactStorage
+  public static class CompactFixtureDo extends DoEntity {
+
+    public DoValue<String> name() {
+      return doValue("name");
+    }
+
+    public DoList<String> items() {
+      return doList("items");
+    }
+  }
+
+  @Test
+  public void testCompactStorage() {
+    CompactFixtureDo entity = new CompactFixtureDo();
+    assertTrue(entity.isCompactStorage());
+    assertFalse(BEANS.get(DoEntity.class).isCompactStorage());
+    assertTrue(entity.isEmpty());
+    assertNull(entity.getNode("name"));
+
+    entity.put("zeta", "z");
+    entity.name().set("foo");
+    entity.put("alpha", "a");
+    entity.items().add("bar");
+
+    assertEquals(4, entity.allNodes().size());
+    assertEquals(Arrays.asList("alpha", "items", "name", "zeta"), new ArrayList<>(entity.allNodes().keySet()));
+    assertEquals("foo", entity.get("name"));
+    assertEquals("z", entity.get("zeta"));
+    assertEquals(Arrays.asList("bar"), entity.getList("items"));
+    assertSame(entity.name(), entity.getNode("name"));
+    assertTrue(entity.has("alpha"));
+
+    // compact storage is equal to map storage holding the same attributes
+    DoEntity expected = BEANS.get(DoEntity.class);
+    expected.put("name", "foo");
+    expected.putList("items", Arrays.asList("bar"));
+    expected.put("alpha", "a");
+    expected.put("zeta", "z");
+    assertEquals(expected.allNodes(), entity.allNodes());
+    assertEquals(expected.allNodes().hashCode(), entity.allNodes().hashCode());
+
+    assertTrue(entity.remove("zeta"));
+    assertFalse(entity.remove("zeta"));
+    assertTrue(entity.removeIf(node -> "alpha".equals(node.getAttributeName()) || "name".equals(node.getAttributeName())));
+    assertEquals(Arrays.asList("items"), new ArrayList<>(entity.allNodes().keySet()));
+    assertFalse(entity.has("name"));
+    assertEquals(1, entity.all().size());
+  }
+
+  @Test
+  public void testCompactStoragePutNullNode() {
+    CompactDoNodeMap nodes = new CompactDoNodeMap(CompactFixtureDo.class);
+    assertThrows(AssertionException.class, () -> nodes.put("name", null));
+    assertThrows(AssertionException.class, () -> nodes.put("other", null));
+    assertTrue(nodes.isEmpty());
+    assertFalse(nodes.containsKey("name"));
+  }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Attribute map of a {@link DoEntity} annotated with {@link CompactStorage}.
+ * <p>
+ * Attributes declared by the entity class are held in an array indexed by their {@link DataObjectAttributeSlots}, all
+ * other attributes in a sorted map. Both are created upon the first attribute added. Iteration is in alphabetical order
+ * of the attribute names.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @since 11.0
+ */
+final class CompactDoNodeMap extends AbstractMap<String, DoNode<?>> {
+
+  private final Class<? extends IDoEntity> m_entityClass;
+
+  private DataObjectAttributeSlots m_slots;
+  private DoNode<?>[] m_nodes;
+  private int m_nodeCount;
+  private TreeMap<String, DoNode<?>> m_extraNodes;
+  private EntrySet m_entrySet;
+
+  CompactDoNodeMap(Class<? extends IDoEntity> entityClass) {
+    m_entityClass = entityClass;
+  }
+
+  /**
+   * @return attribute slots of the entity class, resolved upon first call
+   */
+  private DataObjectAttributeSlots slots() {
+    if (m_slots == null) {
+      m_slots = BEANS.get(DataObjectInventory.class).getAttributeSlots(m_entityClass);
+      m_nodes = new DoNode<?>[m_slots.size()];
+    }
+    return m_slots;
+  }
+
+  @Override
+  public int size() {
+    return m_nodeCount + (m_extraNodes == null ? 0 : m_extraNodes.size());
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public DoNode<?> get(Object key) {
+    if (m_slots == null) {
+      return null;
+    }
+    int index = m_slots.indexOf(key);
+    if (index >= 0) {
+      return m_nodes[index];
+    }
+    return m_extraNodes == null ? null : m_extraNodes.get(key);
+  }
+
+  @Override
+  public DoNode<?> put(String key, DoNode<?> value) {
+    // an empty slot is represented by null, see DoEntity#putNode
+    Assertions.assertNotNull(value, "attribute node cannot be null for attribute name {}", key);
+    int index = slots().indexOf(key);
+    if (index >= 0) {
+      DoNode<?> previous = m_nodes[index];
+      m_nodes[index] = value;
+      if (previous == null) {
+        m_nodeCount++;
+      }
+      return previous;
+    }
+    if (m_extraNodes == null) {
+      m_extraNodes = new TreeMap<>();
+    }
+    return m_extraNodes.put(key, value);
+  }
+
+  @Override
+  public DoNode<?> remove(Object key) {
+    if (m_slots == null) {
+      return null;
+    }
+    int index = m_slots.indexOf(key);
+    if (index >= 0) {
+      return removeSlot(index);
+    }
+    return m_extraNodes == null ? null : m_extraNodes.remove(key);
+  }
+
+  private DoNode<?> removeSlot(int index) {
+    DoNode<?> previous = m_nodes[index];
+    if (previous != null) {
+      m_nodes[index] = null;
+      m_nodeCount--;
+    }
+    return previous;
+  }
+
+  @Override
+  public void clear() {
+    if (m_nodes != null) {
+      Arrays.fill(m_nodes, null);
+    }
+    m_nodeCount = 0;
+    m_extraNodes = null;
+  }
+
+  @Override
+  public Set<Entry<String, DoNode<?>>> entrySet() {
+    if (m_entrySet == null) {
+      m_entrySet = new EntrySet();
+    }
+    return m_entrySet;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, DoNode<?>>> {
+
+    @Override
+    public Iterator<Entry<String, DoNode<?>>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return CompactDoNodeMap.this.size();
+    }
+  }
+
+  /**
+   * Merges the slots and the extra nodes, both sorted by attribute name. Extra nodes are navigated by key, hence
+   * removing the current entry does not invalidate the iterator.
+   */
+  private final class EntryIterator implements Iterator<Entry<String, DoNode<?>>> {
+    private int m_nextSlot = -1;
+    private Entry<String, DoNode<?>> m_nextExtra;
+    private int m_lastSlot = -1;
+    private String m_lastExtraKey;
+
+    EntryIterator() {
+      advanceSlot();
+      m_nextExtra = m_extraNodes == null ? null : m_extraNodes.firstEntry();
+    }
+
+    private void advanceSlot() {
+      int i = m_nextSlot + 1;
+      while (m_nodes != null && i < m_nodes.length && m_nodes[i] == null) {
+        i++;
+      }
+      m_nextSlot = m_nodes != null && i < m_nodes.length ? i : -1;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return m_nextSlot >= 0 || m_nextExtra != null;
+    }
+
+    @Override
+    public Entry<String, DoNode<?>> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (m_nextExtra == null || (m_nextSlot >= 0 && m_slots.getName(m_nextSlot).compareTo(m_nextExtra.getKey()) < 0)) {
+        Entry<String, DoNode<?>> entry = new SimpleImmutableEntry<>(m_slots.getName(m_nextSlot), m_nodes[m_nextSlot]);
+        m_lastSlot = m_nextSlot;
+        m_lastExtraKey = null;
+        advanceSlot();
+        return entry;
+      }
+      Entry<String, DoNode<?>> entry = m_nextExtra;
+      m_lastSlot = -1;
+      m_lastExtraKey = entry.getKey();
+      m_nextExtra = m_extraNodes.higherEntry(m_lastExtraKey);
+      return entry;
+    }
+
+    @Override
+    public void remove() {
+      if (m_lastSlot >= 0) {
+        removeSlot(m_lastSlot);
+        m_lastSlot = -1;
+      }
+      else if (m_lastExtraKey != null) {
+        m_extraNodes.remove(m_lastExtraKey);
+        m_lastExtraKey = null;
+      }
+      else {
+        throw new IllegalStateException();
+      }
+    }
+  }
+}
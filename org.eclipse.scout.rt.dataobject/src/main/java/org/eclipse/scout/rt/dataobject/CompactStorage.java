@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to store the attributes of a {@link DoEntity} in compact form: attributes declared by an accessor
+ * method are held in an array slot according to {@link DataObjectInventory#getAttributeSlots(Class)}, only attributes
+ * without accessor method are held in a map.
+ * <p>
+ * The attributes of an entity with compact storage are iterated in alphabetical order of their names, instead of in
+ * insertion order.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * &#64;TypeName("ExampleEntity")
+ * &#64;CompactStorage
+ * public class ExampleEntityDo extends DoEntity {
+ *   ...
+ * }
+ * </pre>
+ *
+ * @see DoEntity
+ * @since 11.0
+ */
+@Documented
+@Inherited
+@Retention(RUNTIME)
+@Target({TYPE})
+public @interface CompactStorage {
+}
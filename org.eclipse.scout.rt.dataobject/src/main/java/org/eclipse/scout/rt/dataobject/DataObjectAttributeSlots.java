@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable assignment of the attributes declared by a {@link IDoEntity} class to slot indices. The slots are ordered
+ * alphabetically by attribute name.
+ * <p>
+ * Slots are looked up by an open addressing hash table of the attribute names built once per entity class. The hash
+ * code of a string is cached by the string itself, hence a lookup typically costs a single probe and a reference
+ * comparison (attribute names are typically interned string literals).
+ *
+ * @see CompactStorage
+ * @since 11.0
+ */
+public final class DataObjectAttributeSlots {
+  private final String[] m_names; // sorted and interned
+  private final int[] m_hashes; // hash code of each name
+  private final int[] m_table; // slot index + 1 per hash bucket, 0 for an empty bucket
+  private final int m_mask;
+
+  public DataObjectAttributeSlots(Collection<String> attributeNames) {
+    m_names = attributeNames.toArray(new String[0]);
+    for (int i = 0; i < m_names.length; i++) {
+      m_names[i] = m_names[i].intern();
+    }
+    Arrays.sort(m_names);
+
+    // load factor of at most 0.5 keeps the probe sequences short
+    int tableSize = Integer.highestOneBit(Math.max(m_names.length, 1) * 4 - 1);
+    m_table = new int[tableSize];
+    m_mask = tableSize - 1;
+    m_hashes = new int[m_names.length];
+    for (int i = 0; i < m_names.length; i++) {
+      m_hashes[i] = m_names[i].hashCode();
+      int bucket = spread(m_hashes[i]) & m_mask;
+      while (m_table[bucket] != 0) {
+        bucket = (bucket + 1) & m_mask;
+      }
+      m_table[bucket] = i + 1;
+    }
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * @return number of slots
+   */
+  public int size() {
+    return m_names.length;
+  }
+
+  /**
+   * @return attribute name of slot {@code index}
+   */
+  public String getName(int index) {
+    return m_names[index];
+  }
+
+  /**
+   * @return slot index of attribute {@code attributeName} or {@code -1} if the attribute is not declared
+   */
+  public int indexOf(Object attributeName) {
+    if (!(attributeName instanceof String)) {
+      return -1;
+    }
+    int hash = attributeName.hashCode();
+    for (int bucket = spread(hash) & m_mask; m_table[bucket] != 0; bucket = (bucket + 1) & m_mask) {
+      int index = m_table[bucket] - 1;
+      if (m_hashes[index] == hash && (m_names[index] == attributeName || m_names[index].equals(attributeName))) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public String toString() {
+    return DataObjectAttributeSlots.class.getSimpleName() + " " + Arrays.toString(m_names);
+  }
+}
@@ -62,6 +62,9 @@ public class DataObjectInventory {
   /** Map of {@link IDoEntity} class to its attributes map */
   private final Map<Class<? extends IDoEntity>, Map<String, DataObjectAttributeDescriptor>> m_classAttributeMap = new ConcurrentHashMap<>();
 
+  /** Map of {@link IDoEntity} class to the slots of its attributes */
+  private final Map<Class<? extends IDoEntity>, DataObjectAttributeSlots> m_classAttributeSlots = new ConcurrentHashMap<>();
+
   @PostConstruct
   protected void init() {
     ClassInventory.get()
@@ -158,6 +161,14 @@ public class DataObjectInventory {
     return Collections.unmodifiableMap(m_classAttributeMap.get(entityClass));
   }
 
+  /**
+   * @return {@link DataObjectAttributeSlots} of all attributes declared for specified {@code entityClass}
+   * @see CompactStorage
+   */
+  public DataObjectAttributeSlots getAttributeSlots(Class<? extends IDoEntity> entityClass) {
+    return m_classAttributeSlots.computeIfAbsent(entityClass, c -> new DataObjectAttributeSlots(getAttributesDescription(c).keySet()));
+  }
+
   /* **************************************************************************
    * HELPER METHODS
    * *************************************************************************/
@@ -42,10 +42,39 @@ import org.eclipse.scout.rt.platform.util.StreamUtility;
  *   }
  * }
  * </pre>
+ * <p>
+ * Attributes are held in insertion order, or in compact form if the entity class is annotated with
+ * {@link CompactStorage}.
  */
 public class DoEntity implements IDoEntity {
 
-  private final Map<String, DoNode<?>> m_attributes = new LinkedHashMap<>();
+  private static final ClassValue<Boolean> COMPACT_STORAGE = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return type.isAnnotationPresent(CompactStorage.class);
+    }
+  };
+
+  private final Map<String, DoNode<?>> m_attributes = createAttributesMap();
+
+  /**
+   * @return map holding the attribute nodes of this entity
+   */
+  private Map<String, DoNode<?>> createAttributesMap() {
+    if (COMPACT_STORAGE.get(getClass())) {
+      return new CompactDoNodeMap(getClass());
+    }
+    return new LinkedHashMap<>();
+  }
+
+  /**
+   * @return {@code true} if the attributes of this entity are held in compact form, and {@link #allNodes()} is
+   *         therefore sorted alphabetically by attribute name.
+   * @see CompactStorage
+   */
+  public boolean isCompactStorage() {
+    return m_attributes instanceof CompactDoNodeMap;
+  }
 
   /**
    * @return Node of attribute {@code attributeName} or {@code null}, if attribute is not available.
@@ -10,10 +10,18 @@
  */
 package org.eclipse.scout.rt.dataobject;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.util.Assertions;
 
 /**
  * Interface to a data mapper implementation handling the mapping between data objects and their serialized String
@@ -36,6 +44,45 @@ public interface IDataObjectMapper {
    */
   <T> T readValue(String value, Class<T> valueType);
 
+  /**
+   * Deserialize the elements of a list from input stream one by one and pass each of them to the {@code consumer}. Only
+   * the current element is held in memory, hence this method is suitable for large payloads.
+   *
+   * @param valueType
+   *          type of the list elements
+   * @param attributePath
+   *          names of the nested attributes leading to the list, starting at the top-level data object. If empty, the
+   *          top-level value is expected to be the list. If an attribute along the path is missing or {@code null}, no
+   *          element is passed to the consumer.
+   * @since 11.0
+   */
+  default <T> void readValues(InputStream inputStream, Class<T> valueType, Consumer<? super T> consumer, String... attributePath) {
+    // default implementation for mappers not supporting streaming: reads the whole input and converts the list elements one by one
+    Assertions.assertNotNull(consumer, "Consumer must not be null");
+    Object value = readValueRaw(inputStream);
+    for (String attributeName : attributePath) {
+      if (value == null) {
+        return;
+      }
+      if (!(value instanceof IDoEntity)) {
+        throw new PlatformException("Expected an object containing attribute '{}' but found {}", attributeName, value);
+      }
+      value = ((IDoEntity) value).get(attributeName);
+    }
+    if (value == null) {
+      return;
+    }
+    if (value instanceof DoList) {
+      value = ((DoList<?>) value).get();
+    }
+    if (!(value instanceof Collection)) {
+      throw new PlatformException("Expected a list at attribute path {} but found {}", Arrays.toString(attributePath), value);
+    }
+    for (Object element : (Collection<?>) value) {
+      consumer.accept(element == null ? null : readValue(writeValue(element), valueType));
+    }
+  }
+
   /**
    * Deserialize from input stream into a generic {@link IDataObject} object tree ignoring any available type
    * attributes.
@@ -56,4 +103,38 @@ public interface IDataObjectMapper {
    * Serializes a data object into its string representation.
    */
   String writeValue(Object value);
+
+  /**
+   * Creates a writer serializing data objects one by one into the given output stream, enclosed in a list. The
+   * returned writer must be closed to complete the list.
+   * <p>
+   * The default implementation buffers the values and writes them upon {@link IDataObjectSequenceWriter#close()}.
+   *
+   * @since 11.0
+   */
+  default IDataObjectSequenceWriter writeValues(OutputStream outputStream) {
+    Assertions.assertNotNull(outputStream, "Output stream must not be null");
+    DoList<Object> values = new DoList<>();
+    return new IDataObjectSequenceWriter() {
+      @Override
+      public void write(Object value) {
+        values.add(value);
+      }
+
+      @Override
+      public void flush() {
+        // values are buffered until the writer is closed
+      }
+
+      @Override
+      public void close() {
+        try (OutputStream out = outputStream) {
+          writeValue(out, values);
+        }
+        catch (IOException e) {
+          throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+        }
+      }
+    };
+  }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+/**
+ * Writer serializing a sequence of data objects one by one. The values are enclosed in a list, hence the output can be
+ * read element by element using {@link IDataObjectMapper#readValues} or as a whole using
+ * {@link IDataObjectMapper#readValue(java.io.InputStream, Class)}.
+ *
+ * @see IDataObjectMapper#writeValues(java.io.OutputStream)
+ * @since 11.0
+ */
+public interface IDataObjectSequenceWriter extends AutoCloseable {
+
+  /**
+   * Serializes the given value as next element of the sequence.
+   */
+  void write(Object value);
+
+  /**
+   * Flushes the values written so far to the underlying output stream.
+   */
+  void flush();
+
+  /**
+   * Completes the sequence and closes the underlying output stream.
+   */
+  @Override
+  void close();
+}
@@ -16,8 +16,11 @@ import static org.junit.Assert.*;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -27,12 +30,17 @@ import java.util.UUID;
 import org.eclipse.scout.rt.dataobject.DataObjectHelper;
 import org.eclipse.scout.rt.dataobject.DoEntity;
 import org.eclipse.scout.rt.dataobject.DoEntityHolder;
+import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObjectSequenceWriter;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.testing.TestingDataObjectHelper;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.ITestBaseEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCustomImplementedEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithInterface1Do;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithListsDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
 import org.eclipse.scout.rt.jackson.testing.DataObjectSerializationTestHelper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
@@ -117,6 +125,107 @@ public class JacksonDataObjectMapperTest {
     assertArrayEquals(expected.toByteArray(), actual.toByteArray());
   }
 
+  @Test
+  public void testReadWriteValuesWithStreams() {
+    List<TestItemDo> items = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      items.add(BEANS.get(TestItemDo.class).withId("item-" + i));
+    }
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (IDataObjectSequenceWriter writer = m_mapper.writeValues(bos)) {
+      items.forEach(writer::write);
+    }
+
+    // read element by element, keeping the type information
+    List<TestItemDo> actual = new ArrayList<>();
+    m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), TestItemDo.class, actual::add);
+    assertEqualsWithComparisonFailure(items, actual);
+
+    // output of sequence writer is a regular list
+    List<IDoEntity> actualEntities = new ArrayList<>();
+    m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), IDoEntity.class, actualEntities::add);
+    assertEquals(100, actualEntities.size());
+    assertEquals(TestItemDo.class, actualEntities.get(0).getClass());
+  }
+
+  @Test
+  public void testReadValuesNested() {
+    TestEntityWithListsDo entity = BEANS.get(TestEntityWithListsDo.class)
+        .withStringListAttribute(Arrays.asList("a", "b"))
+        .withItemsDoListAttribute(BEANS.get(TestItemDo.class).withId("1"), BEANS.get(TestItemDo.class).withId("2"));
+    DoEntity wrapper = BEANS.get(DoEntity.class);
+    wrapper.put("before", BEANS.get(TestItemDo.class).withId("0"));
+    wrapper.put("nested", entity);
+    byte[] json = m_mapper.writeValue(wrapper).getBytes(StandardCharsets.UTF_8);
+
+    List<TestItemDo> items = new ArrayList<>();
+    m_mapper.readValues(new ByteArrayInputStream(json), TestItemDo.class, items::add, "nested", "itemsDoListAttribute");
+    assertEqualsWithComparisonFailure(entity.getItemsDoListAttribute(), items);
+
+    List<String> strings = new ArrayList<>();
+    m_mapper.readValues(new ByteArrayInputStream(json), String.class, strings::add, "nested", "stringListAttribute");
+    assertEquals(Arrays.asList("a", "b"), strings);
+
+    // missing attribute
+    List<Object> none = new ArrayList<>();
+    m_mapper.readValues(new ByteArrayInputStream(json), Object.class, none::add, "nested", "foo");
+    m_mapper.readValues(new ByteArrayInputStream(json), Object.class, none::add, "foo", "itemsDoListAttribute");
+    assertTrue(none.isEmpty());
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testReadValuesNoList() {
+    byte[] json = m_mapper.writeValue(BEANS.get(TestItemDo.class).withId("1")).getBytes(StandardCharsets.UTF_8);
+    m_mapper.readValues(new ByteArrayInputStream(json), Object.class, value -> fail("no value expected"), "id");
+  }
+
+  @Test
+  public void testReadWriteValuesDefaultImplementation() {
+    IDataObjectMapper mapper = new P_NonStreamingDataObjectMapper(m_mapper);
+    List<TestItemDo> items = Arrays.asList(BEANS.get(TestItemDo.class).withId("1"), BEANS.get(TestItemDo.class).withId("2"));
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (IDataObjectSequenceWriter writer = mapper.writeValues(bos)) {
+      items.forEach(writer::write);
+    }
+
+    // output of default implementation is readable by streaming implementation and vice versa
+    List<TestItemDo> actual = new ArrayList<>();
+    m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), TestItemDo.class, actual::add);
+    assertEqualsWithComparisonFailure(items, actual);
+
+    actual.clear();
+    mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), TestItemDo.class, actual::add);
+    assertEqualsWithComparisonFailure(items, actual);
+
+    TestEntityWithListsDo entity = BEANS.get(TestEntityWithListsDo.class)
+        .withStringListAttribute(Arrays.asList("a", "b"))
+        .withItemsDoListAttribute(items);
+    DoEntity wrapper = BEANS.get(DoEntity.class);
+    wrapper.put("nested", entity);
+    byte[] json = m_mapper.writeValue(wrapper).getBytes(StandardCharsets.UTF_8);
+
+    actual.clear();
+    mapper.readValues(new ByteArrayInputStream(json), TestItemDo.class, actual::add, "nested", "itemsDoListAttribute");
+    assertEqualsWithComparisonFailure(items, actual);
+
+    List<String> strings = new ArrayList<>();
+    mapper.readValues(new ByteArrayInputStream(json), String.class, strings::add, "nested", "stringListAttribute");
+    assertEquals(Arrays.asList("a", "b"), strings);
+
+    List<Object> none = new ArrayList<>();
+    mapper.readValues(new ByteArrayInputStream(json), Object.class, none::add, "nested", "foo");
+    mapper.readValues(new ByteArrayInputStream(json), Object.class, none::add, "foo", "itemsDoListAttribute");
+    assertTrue(none.isEmpty());
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testReadValuesNoListDefaultImplementation() {
+    byte[] json = m_mapper.writeValue(BEANS.get(TestItemDo.class).withId("1")).getBytes(StandardCharsets.UTF_8);
+    new P_NonStreamingDataObjectMapper(m_mapper).readValues(new ByteArrayInputStream(json), Object.class, value -> fail("no value expected"), "id");
+  }
+
   @Test(expected = PlatformException.class)
   public void testWriteValueException() {
     m_mapper.writeValue(new Object());
@@ -211,4 +320,46 @@ public class JacksonDataObjectMapperTest {
     assertNull(m_mapper.getObjectMapper().getDeserializationConfig().getDefaultTyper(TypeFactory.defaultInstance().constructType(DoEntity.class)));
     assertNull(m_mapper.getObjectMapper().getDeserializationConfig().getDefaultTyper(TypeFactory.defaultInstance().constructType(Object.class)));
   }
+
+  /**
+   * Mapper implementing only the non-streaming methods, hence using the default implementations of
+   * {@link IDataObjectMapper#readValues} and {@link IDataObjectMapper#writeValues}.
+   */
+  private static class P_NonStreamingDataObjectMapper implements IDataObjectMapper {
+    private final IDataObjectMapper m_delegate;
+
+    P_NonStreamingDataObjectMapper(IDataObjectMapper delegate) {
+      m_delegate = delegate;
+    }
+
+    @Override
+    public <T> T readValue(InputStream inputStream, Class<T> valueType) {
+      return m_delegate.readValue(inputStream, valueType);
+    }
+
+    @Override
+    public <T> T readValue(String value, Class<T> valueType) {
+      return m_delegate.readValue(value, valueType);
+    }
+
+    @Override
+    public IDataObject readValueRaw(InputStream inputStream) {
+      return m_delegate.readValueRaw(inputStream);
+    }
+
+    @Override
+    public IDataObject readValueRaw(String value) {
+      return m_delegate.readValueRaw(value);
+    }
+
+    @Override
+    public void writeValue(OutputStream outputStream, Object value) {
+      m_delegate.writeValue(outputStream, value);
+    }
+
+    @Override
+    public String writeValue(Object value) {
+      return m_delegate.writeValue(value);
+    }
+  }
 }
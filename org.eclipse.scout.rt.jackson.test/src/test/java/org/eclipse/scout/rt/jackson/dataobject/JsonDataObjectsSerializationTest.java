@@ -49,6 +49,7 @@ import org.eclipse.scout.rt.jackson.dataobject.fixture.TestBinaryResourceDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCollectionsDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityPojo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCompactDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCoreExample1Do;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCoreExample2Do;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCoreExample3Do;
@@ -2143,6 +2144,30 @@ public class JsonDataObjectsSerializationTest {
     assertNull(entity.getString(ScoutDataObjectModule.DEFAULT_TYPE_VERSION_ATTRIBUTE_NAME));
   }
 
+  @Test
+  public void testSerializeDeserialize_CompactDo() throws Exception {
+    TestCompactDo compact = BEANS.get(TestCompactDo.class)
+        .withName("lorem")
+        .withItems(BEANS.get(TestItemDo.class).withId("1"));
+    compact.put("zeta", "z");
+    compact.put("alpha", "a");
+    String json = s_dataObjectMapper.writeValueAsString(compact);
+
+    // same attributes held in map storage are serialized identically
+    DoEntity expected = BEANS.get(DoEntity.class);
+    expected.put("zeta", "z");
+    expected.put("name", "lorem");
+    expected.put("alpha", "a");
+    expected.putList("items", Arrays.asList(BEANS.get(TestItemDo.class).withId("1")));
+    expected.put(ScoutDataObjectModule.DEFAULT_TYPE_ATTRIBUTE_NAME, "TestCompact");
+    assertEquals(s_dataObjectMapper.writeValueAsString(expected), json);
+
+    TestCompactDo marshalled = s_dataObjectMapper.readValue(json, TestCompactDo.class);
+    assertTrue(marshalled.isCompactStorage());
+    assertEqualsWithComparisonFailure(compact, marshalled);
+    assertEquals("a", marshalled.get("alpha"));
+  }
+
   @Test
   public void testSerializeDeserialize_VersionedDoWithoutVersion() throws Exception {
     runTestVersionedDo("TestVersionedDoNoVersion.json");
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.jackson.dataobject.fixture;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.CompactStorage;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.TypeName;
+
+@TypeName("TestCompact")
+@CompactStorage
+public class TestCompactDo extends DoEntity {
+
+  public DoValue<String> name() {
+    return doValue("name");
+  }
+
+  public DoList<TestItemDo> items() {
+    return doList("items");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public TestCompactDo withName(String name) {
+    name().set(name);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getName() {
+    return name().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public TestCompactDo withItems(Collection<? extends TestItemDo> items) {
+    items().updateAll(items);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public TestCompactDo withItems(TestItemDo... items) {
+    items().updateAll(items);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<TestItemDo> getItems() {
+    return items().get();
+  }
+}
@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 
 import org.eclipse.scout.rt.dataobject.DataObjectInventory;
+import org.eclipse.scout.rt.dataobject.DoEntity;
 import org.eclipse.scout.rt.dataobject.DoNode;
 import org.eclipse.scout.rt.dataobject.DoValue;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
@@ -66,13 +67,23 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
    */
   protected void serializeAttributes(IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
     serializeTypeVersion(gen, entity);
-    TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(entity.allNodes());
-    for (Map.Entry<String, DoNode<?>> e : sortedMap.entrySet()) {
+    for (Map.Entry<String, DoNode<?>> e : sortedNodes(entity).entrySet()) {
       gen.setCurrentValue(entity);
       serializeAttributes(e.getKey(), e.getValue(), gen, provider);
     }
   }
 
+  /**
+   * @return all nodes of specified {@link IDoEntity} sorted alphabetically. Entities with compact storage are already
+   *         sorted and their nodes are iterated directly.
+   */
+  protected Map<String, DoNode<?>> sortedNodes(IDoEntity entity) {
+    if (entity instanceof DoEntity && ((DoEntity) entity).isCompactStorage()) {
+      return entity.allNodes();
+    }
+    return new TreeMap<>(entity.allNodes());
+  }
+
   protected void serializeTypeVersion(JsonGenerator gen, IDoEntity entity) throws IOException {
     String typeVersion = m_dataObjectInventory.get().getTypeVersion(entity.getClass());
     if (typeVersion != null) {
@@ -14,9 +14,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.text.SimpleDateFormat;
+import java.util.function.Consumer;
 
 import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObjectSequenceWriter;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.IValueFormatConstants;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -25,9 +27,12 @@ import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
 /**
  * {@link IDataObjectMapper} implementation based on Jackson databind {@link ObjectMapper}.
@@ -62,6 +67,59 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  @Override
+  public <T> void readValues(InputStream inputStream, Class<T> valueType, Consumer<? super T> consumer, String... attributePath) {
+    Assertions.assertNotNull(inputStream, "Input stream must not be null");
+    Assertions.assertNotNull(consumer, "Consumer must not be null");
+    ObjectMapper om = m_objectMapper.get();
+    try (JsonParser parser = om.getFactory().createParser(inputStream)) {
+      if (!moveToList(parser, attributePath)) {
+        return;
+      }
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        consumer.accept(om.readValue(parser, valueType));
+      }
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  /**
+   * Advances the parser to the start of the list found at {@code attributePath}.
+   *
+   * @return {@code true} if the parser is positioned on the start of the list, {@code false} if an attribute along
+   *         the path is missing or {@code null}.
+   */
+  protected boolean moveToList(JsonParser parser, String... attributePath) throws IOException {
+    JsonToken token = parser.nextToken();
+    for (String attributeName : attributePath) {
+      if (token == null || token == JsonToken.VALUE_NULL) {
+        return false;
+      }
+      if (token != JsonToken.START_OBJECT) {
+        throw MismatchedInputException.from(parser, Object.class, "Expected an object containing attribute '" + attributeName + "' but found " + token);
+      }
+      token = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        JsonToken valueToken = parser.nextToken();
+        if (attributeName.equals(name)) {
+          token = valueToken;
+          break;
+        }
+        parser.skipChildren();
+      }
+    }
+    if (token == null || token == JsonToken.VALUE_NULL) {
+      return false;
+    }
+    if (token != JsonToken.START_ARRAY) {
+      throw MismatchedInputException.from(parser, Object.class, "Expected a list but found " + token);
+    }
+    return true;
+  }
+
   @Override
   public IDataObject readValueRaw(InputStream inputStream) {
     Assertions.assertNotNull(inputStream, "Input stream must not be null");
@@ -113,6 +171,17 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  @Override
+  public IDataObjectSequenceWriter writeValues(OutputStream outputStream) {
+    Assertions.assertNotNull(outputStream, "Output stream must not be null");
+    try {
+      return new JacksonDataObjectSequenceWriter(m_objectMapper.get().writer().writeValuesAsArray(outputStream));
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
   /**
    * <b>Note</b> This method is exposed only for internal framework usage. It is recommended to use the
    * {@link IDataObjectMapper} representation of the object mapper and not to use {@link ObjectMapper} instances
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.io.IOException;
+
+import org.eclipse.scout.rt.dataobject.IDataObjectSequenceWriter;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+/**
+ * {@link IDataObjectSequenceWriter} implementation based on Jackson databind {@link SequenceWriter}.
+ *
+ * @since 11.0
+ */
+public class JacksonDataObjectSequenceWriter implements IDataObjectSequenceWriter {
+
+  private final SequenceWriter m_sequenceWriter;
+
+  public JacksonDataObjectSequenceWriter(SequenceWriter sequenceWriter) {
+    m_sequenceWriter = sequenceWriter;
+  }
+
+  @Override
+  public void write(Object value) {
+    try {
+      m_sequenceWriter.write(value);
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public void flush() {
+    try {
+      m_sequenceWriter.flush();
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      m_sequenceWriter.close();
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+}
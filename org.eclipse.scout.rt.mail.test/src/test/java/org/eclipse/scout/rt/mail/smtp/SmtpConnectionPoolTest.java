@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mail.smtp;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.net.SocketException;
+import java.util.concurrent.TimeUnit;
+
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit tests for {@link SmtpConnectionPool}
+ *
+ * @since 11.0
+ */
+@RunWith(PlatformTestRunner.class)
+public class SmtpConnectionPoolTest {
+
+  private TestingSmtpConnectionPool m_pool;
+  private SmtpServerConfig m_config;
+  private MimeMessage m_message;
+  private Address[] m_recipients;
+
+  @Before
+  public void before() throws MessagingException {
+    m_config = BEANS.get(SmtpServerConfig.class)
+        .withHost("smtp.example.org")
+        .withUsername("user")
+        .withPassword("password")
+        .withPoolSize(2);
+    m_message = new MimeMessage((Session) null);
+    m_recipients = new Address[]{new InternetAddress("recipient@example.org")};
+  }
+
+  @After
+  public void after() {
+    if (m_pool != null) {
+      m_pool.destroy();
+    }
+  }
+
+  @Test
+  public void testLeaseIsBoundedByPoolSize() {
+    m_pool = new TestingSmtpConnectionPool(200, transport -> {
+    });
+
+    SmtpConnectionPoolEntry entry1 = m_pool.leaseConnection(m_config);
+    SmtpConnectionPoolEntry entry2 = m_pool.leaseConnection(m_config);
+    assertNotSame(entry1, entry2);
+    assertEquals(2, m_pool.getStatistics().getLeasedConnectionCount());
+
+    // no connection is released within the wait for connection timeout
+    assertThrows(ProcessingException.class, () -> m_pool.leaseConnection(m_config));
+    assertEquals(1, m_pool.getStatistics().getWaitCount());
+    assertEquals(2, m_pool.getStatistics().getLeasedConnectionCount());
+    assertEquals(2, m_pool.getTransports().size());
+
+    // the released connection is reused
+    m_pool.releaseConnection(entry1);
+    assertEquals(1, m_pool.getStatistics().getIdleConnectionCount());
+    assertSame(entry1, m_pool.leaseConnection(m_config));
+    assertEquals(2, m_pool.getTransports().size());
+  }
+
+  @Test
+  public void testWaitingLeaseContinuesOnRelease() {
+    m_pool = new TestingSmtpConnectionPool((int) TimeUnit.SECONDS.toMillis(30), transport -> {
+    });
+
+    SmtpConnectionPoolEntry entry1 = m_pool.leaseConnection(m_config);
+    m_pool.leaseConnection(m_config);
+
+    IFuture<SmtpConnectionPoolEntry> future = Jobs.schedule(() -> m_pool.leaseConnection(m_config), Jobs.newInput());
+    JobTestUtil.waitForCondition(() -> m_pool.getStatistics().getWaitCount() == 1);
+    assertFalse(future.isDone());
+
+    m_pool.releaseConnection(entry1);
+    assertSame(entry1, future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    assertEquals(2, m_pool.getStatistics().getLeasedConnectionCount());
+  }
+
+  @Test
+  public void testExchangeOnConnectionFailure() throws MessagingException {
+    m_pool = new TestingSmtpConnectionPool(200, transport -> {
+      // only the first connection is broken
+      if (m_pool.getTransports().isEmpty()) {
+        doThrow(new MessagingException("connection lost", new SocketException())).when(transport).sendMessage(any(), any());
+      }
+    });
+
+    SmtpConnectionPoolEntry entry = m_pool.leaseConnection(m_config);
+    Transport brokenTransport = entry.getTransport();
+    SmtpConnectionPoolEntry newEntry = m_pool.sendMessage(entry, m_message, m_recipients);
+
+    assertNotSame(entry, newEntry);
+    verify(brokenTransport).close();
+    verify(newEntry.getTransport()).sendMessage(m_message, m_recipients);
+    assertEquals(1, newEntry.getMessagesSent());
+    assertEquals(1, m_pool.getStatistics().getLeasedConnectionCount());
+
+    // the new connection took over the lease of the broken one
+    m_pool.releaseConnection(newEntry);
+    assertEquals(0, m_pool.getStatistics().getLeasedConnectionCount());
+    assertEquals(1, m_pool.getStatistics().getIdleConnectionCount());
+    m_pool.leaseConnection(m_config);
+    m_pool.leaseConnection(m_config);
+    assertEquals(0, m_pool.getStatistics().getWaitCount());
+  }
+
+  @Test
+  public void testNoExchangeOnOtherFailure() throws MessagingException {
+    m_pool = new TestingSmtpConnectionPool(200, transport -> doThrow(new MessagingException("rejected")).when(transport).sendMessage(any(), any()));
+
+    SmtpConnectionPoolEntry entry = m_pool.leaseConnection(m_config);
+    assertThrows(MessagingException.class, () -> m_pool.sendMessage(entry, m_message, m_recipients));
+
+    // the failed connection is released and closed, but not exchanged
+    assertEquals(1, m_pool.getTransports().size());
+    verify(entry.getTransport()).close();
+    assertEquals(0, m_pool.getStatistics().getLeasedConnectionCount());
+    assertEquals(0, m_pool.getStatistics().getIdleConnectionCount());
+  }
+
+  @Test
+  public void testConfigChangedAfterLease() {
+    m_pool = new TestingSmtpConnectionPool(200, transport -> {
+    });
+
+    SmtpConnectionPoolEntry entry = m_pool.leaseConnection(m_config);
+    m_config.withPassword("changed");
+    m_pool.releaseConnection(entry);
+    assertEquals(0, m_pool.getStatistics().getLeasedConnectionCount());
+    assertEquals(1, m_pool.getStatistics().getIdleConnectionCount());
+
+    // the changed config uses a partition of its own
+    assertNotSame(entry, m_pool.leaseConnection(m_config));
+    m_config.withPassword("password");
+    assertSame(entry, m_pool.leaseConnection(m_config));
+  }
+}
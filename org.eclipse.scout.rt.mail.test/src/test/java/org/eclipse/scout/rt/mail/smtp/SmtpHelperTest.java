@@ -11,9 +11,15 @@
 package org.eclipse.scout.rt.mail.smtp;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.mail.Address;
@@ -26,7 +32,9 @@ import org.eclipse.scout.rt.mail.MailMessage;
 import org.eclipse.scout.rt.mail.MailParticipant;
 import org.eclipse.scout.rt.mail.smtp.SmtpHelper.SmtpDebugReceiverEmailProperty;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.html.HTML;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.junit.After;
@@ -77,6 +85,105 @@ public class SmtpHelperTest {
     assertEquals("Wrong recipient", "debug@example.org", ((InternetAddress) allRecipients[0]).getAddress());
   }
 
+  protected TestingSmtpConnectionPool registerTestingSmtpConnectionPool() {
+    TestingSmtpConnectionPool pool = new TestingSmtpConnectionPool(30000, transport -> doAnswer(invocation -> {
+      MimeMessage message = invocation.getArgument(0);
+      if ("fail".equals(message.getSubject())) {
+        throw new MessagingException("rejected");
+      }
+      return null;
+    }).when(transport).sendMessage(any(), any()));
+    m_replacedBeans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(TestingSmtpConnectionPool.class, pool).withReplace(true)));
+    return pool;
+  }
+
+  @Test
+  public void testSendMessages() throws MessagingException {
+    TestingSmtpConnectionPool pool = registerTestingSmtpConnectionPool();
+
+    try {
+      List<MimeMessage> messages = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        if (i == 5) {
+          messages.add(createMimeMessage("no recipients", false));
+        }
+        else {
+          messages.add(createMimeMessage(i % 7 == 3 ? "fail" : "message " + i, true));
+        }
+      }
+      SmtpServerConfig config = BEANS.get(SmtpServerConfig.class)
+          .withHost("smtp.example.org")
+          .withPoolSize(3);
+
+      List<SmtpSendResult> results = BEANS.get(SmtpHelper.class).sendMessages(config, messages);
+
+      // a failing message does not affect the others, the results are in the order of the messages
+      assertEquals(messages.size(), results.size());
+      for (int i = 0; i < results.size(); i++) {
+        SmtpSendResult result = results.get(i);
+        assertEquals(i, result.getIndex());
+        assertEquals(messages.get(i).getMessageID(), result.getMessageId());
+        if (i == 5) {
+          assertFalse(result.isSent());
+          assertNull(result.getException());
+        }
+        else if (i % 7 == 3) {
+          assertFalse(result.isSent());
+          assertTrue(result.getException() instanceof ProcessingException);
+        }
+        else {
+          assertTrue(result.isSent());
+          assertNull(result.getException());
+        }
+      }
+      assertEquals(0, pool.getStatistics().getLeasedConnectionCount());
+    }
+    finally {
+      pool.destroy();
+    }
+  }
+
+  @Test
+  public void testSendMessagesHandleMessagingException() {
+    TestingSmtpConnectionPool pool = registerTestingSmtpConnectionPool();
+    SmtpHelper helper = new SmtpHelper() {
+      @Override
+      protected void handleMessagingException(MessagingException e) {
+        if (!"rejected".equals(e.getMessage())) {
+          super.handleMessagingException(e);
+        }
+        // rejected messages are ignored
+      }
+    };
+
+    try {
+      List<MimeMessage> messages = Arrays.asList(createMimeMessage("fail", true), createMimeMessage("message", true));
+      SmtpServerConfig config = BEANS.get(SmtpServerConfig.class)
+          .withHost("smtp.example.org")
+          .withPoolSize(1);
+
+      List<SmtpSendResult> results = helper.sendMessages(config, messages);
+      assertEquals(2, results.size());
+      assertFalse(results.get(0).isSent());
+      assertNull(results.get(0).getException());
+      assertTrue(results.get(1).isSent());
+    }
+    finally {
+      pool.destroy();
+    }
+  }
+
+  protected MimeMessage createMimeMessage(String subject, boolean withRecipient) {
+    MailMessage mailMessage = BEANS.get(MailMessage.class)
+        .withSubject(subject)
+        .withBodyPlainText("lorem")
+        .withSender(BEANS.get(MailParticipant.class).withEmail("sender@example.org"));
+    if (withRecipient) {
+      mailMessage.addToRecipient(BEANS.get(MailParticipant.class).withEmail("ipsum@example.org"));
+    }
+    return BEANS.get(MailHelper.class).createMimeMessage(mailMessage);
+  }
+
   /**
    * This test method provides an easy way to test an SMTP server access by sending an email. Remove the {@link Ignore}
    * annotation before executing this test.
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mail.smtp;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+
+/**
+ * {@link SmtpConnectionPool} creating connections with mocked transports instead of connecting to an SMTP server.
+ */
+@IgnoreBean
+public class TestingSmtpConnectionPool extends SmtpConnectionPool {
+
+  private final List<Transport> m_transports = new CopyOnWriteArrayList<>();
+  private final ITransportSetup m_transportSetup;
+
+  /**
+   * @param waitForConnectionTimeout
+   *          max. wait time for a connection in milliseconds
+   * @param transportSetup
+   *          stubs the behavior of each created transport
+   */
+  public TestingSmtpConnectionPool(int waitForConnectionTimeout, ITransportSetup transportSetup) {
+    init();
+    m_waitForConnectionTimeout = waitForConnectionTimeout;
+    m_transportSetup = transportSetup;
+  }
+
+  @Override
+  protected SmtpConnectionPoolEntry createNewConnection(SmtpServerConfig smtpServerConfig) throws MessagingException {
+    Transport transport = mock(Transport.class);
+    m_transportSetup.setup(transport);
+    m_transports.add(transport);
+    m_createdConnectionCount.increment();
+    long now = System.currentTimeMillis();
+    return BEANS.get(SmtpConnectionPoolEntry.class)
+        .withName(getNextPoolEntryName())
+        .withSmtpServerConfig(smtpServerConfig)
+        .withTransport(transport)
+        .withCreateTime(now)
+        .withIdleSince(now);
+  }
+
+  /**
+   * @return the transports of all connections created so far
+   */
+  public List<Transport> getTransports() {
+    return m_transports;
+  }
+
+  @FunctionalInterface
+  public interface ITransportSetup {
+    void setup(Transport transport) throws MessagingException;
+  }
+}
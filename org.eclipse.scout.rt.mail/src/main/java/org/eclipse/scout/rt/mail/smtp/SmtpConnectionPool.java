@@ -11,14 +11,16 @@
 package org.eclipse.scout.rt.mail.smtp;
 
 import java.net.SocketException;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Deque;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.annotation.PostConstruct;
 import javax.mail.Address;
@@ -51,23 +53,22 @@ import com.sun.mail.smtp.SMTPSendFailedException;
  * This class implements pooling for SMTP connections. It is intended to be used in conjunction with {@link SmtpHelper}
  * but can also be used standalone.<br>
  * The <em>pooling</em> behavior of this class is implemented as follows:<br>
- * There are no connections created initially. Instead, whenever a call to {@link #leaseConnection(SmtpServerConfig)} is
- * made, the returned {@link SmtpConnectionPoolEntry} is determined as follows:
+ * There are no connections created initially. Connections are pooled per {@link SmtpServerConfig} (the match is made
+ * using the {@link SmtpServerConfig#equals(Object)} method, the pool keeps a copy of the config, see
+ * {@link SmtpServerConfig#copy()}). Whenever a call to
+ * {@link #leaseConnection(SmtpServerConfig)} is made, the returned {@link SmtpConnectionPoolEntry} is determined as
+ * follows:
  * <ol>
- * <li>A check is made whether there already exists an idle connection matching the provided config (the match is made
- * using the {@link SmtpServerConfig#equals(Object)} method).
- * <ol type="a">
- * <li>If such a connection exists, it is marked as "leased" and returned to the caller.</li>
- * <li>If no such connection exits, the current number of connections (idle and leased) matching the provided
- * {@link SmtpServerConfig} object is checked against the {@link SmtpServerConfig#getPoolSize()}). If the limit has not
- * yet been reached, a new connection is created, marked as leased and returned to the caller.</li>
- * </ol>
- * </li>
- * <li>If there is still no connection (no idle connection and pool size limit reached), the calling thread will wait
- * until a connection is released. The wait time will be according to the
- * {@link SmtpPoolWaitForConnectionTimeoutProperty} property. If the property's value is 0, the wait time will be
- * infinite.</li>
+ * <li>If the number of leased connections matching the provided config has reached
+ * {@link SmtpServerConfig#getPoolSize()}, the calling thread will wait until a connection is released. The wait time
+ * will be according to the {@link SmtpPoolWaitForConnectionTimeoutProperty} property. If the property's value is 0, the
+ * wait time will be infinite.</li>
+ * <li>The most recently released idle connection matching the provided config is marked as "leased" and returned to
+ * the caller. Older idle connections are thus more likely to reach the max idle time and are collected.</li>
+ * <li>If no such connection exits, a new connection is created, marked as leased and returned to the caller.</li>
  * </ol>
+ * Idle connections are held in a concurrent free-list and the number of leases is bounded by a semaphore per config,
+ * hence leasing and releasing connections does not block other threads.<br>
  * If a connection is released by calling {@link #releaseConnection(SmtpConnectionPoolEntry)}, it is not closed
  * immediately but instead returned to the pool as idle connection. A connection is not returned to the pool if one of
  * the following situations occurs:
@@ -77,11 +78,11 @@ import com.sun.mail.smtp.SMTPSendFailedException;
  * ({@link SmtpServerConfig#getMaxMessagesPerConnection()}).</li>
  * <li>An exception occurred while trying to send a message using this connection.</li>
  * </ul>
- * In any case, all threads waiting for connections are notified which causes them to return to step 1 and recheck for
- * idle connections or space left in the pool.<br>
+ * In any case, one of the threads waiting for a connection matching the same config may continue.<br>
  * As soon as a connection is created, a background job is started which monitors idle connections. If they reach the
  * max idle time ({@link SmtpPoolMaxIdleTimeProperty}) or max connection lifetime, they are closed and removed from the
- * pool.
+ * pool.<br>
+ * The current state of the pool is available by {@link #getStatistics()}.
  */
 @ApplicationScoped
 public class SmtpConnectionPool {
@@ -90,17 +91,23 @@ public class SmtpConnectionPool {
 
   protected static final String JOB_NAME_CLOSE_IDLE_CONNECTIONS = "smtp-close-idle-connections";
 
+  // guards the lifecycle of the close-idle-connections job and the destruction of the pool
   protected final Object m_poolLock = new Object();
-  protected final Set<SmtpConnectionPoolEntry> m_idleEntries = new HashSet<>();
-  protected final Set<SmtpConnectionPoolEntry> m_leasedEntries = new HashSet<>();
+  protected final ConcurrentMap<SmtpServerConfig, P_Partition> m_partitions = new ConcurrentHashMap<>();
   protected final String m_jobExecutionHint = "smtp-connection-pool." + UUID.randomUUID().toString();
-  protected long m_lastPoolEntryNo = 0;
+  protected final AtomicLong m_lastPoolEntryNo = new AtomicLong();
+
+  protected final LongAdder m_createdConnectionCount = new LongAdder();
+  protected final LongAdder m_closedConnectionCount = new LongAdder();
+  protected final LongAdder m_leaseCount = new LongAdder();
+  protected final LongAdder m_waitCount = new LongAdder();
 
   protected long m_maxIdleTime;
   protected long m_maxConnectionLifetime;
   protected int m_waitForConnectionTimeout;
 
-  protected boolean m_destroyed;
+  protected boolean m_closeIdleConnectionsJobRunning;
+  protected volatile boolean m_destroyed;
 
   @PostConstruct
   protected void init() {
@@ -122,29 +129,45 @@ public class SmtpConnectionPool {
    */
   public void sendMessage(SmtpServerConfig smtpServerConfig, MimeMessage message, Address[] recipients) throws MessagingException {
     SmtpConnectionPoolEntry poolEntry = leaseConnection(smtpServerConfig);
+    releaseConnection(sendMessage(poolEntry, message, recipients));
+  }
+
+  /**
+   * Sends the provided {@link MimeMessage} via the provided leased connection. If sending fails due to a connection
+   * failure, the connection is exchanged for a new one and sending is retried once.
+   *
+   * @return the leased connection which must be released by the caller. This is a new connection if the provided one
+   *         has been exchanged. If an exception is thrown, the connection has already been released.
+   */
+  protected SmtpConnectionPoolEntry sendMessage(SmtpConnectionPoolEntry poolEntry, MimeMessage message, Address[] recipients) throws MessagingException {
     try {
       poolEntry.sendMessage(message, recipients);
+      return poolEntry;
     }
     catch (MessagingException e) {
       // the type of the caught exception must follow the checks done in the isConnectionFailure method
       if (!isConnectionFailure(e)) {
+        releaseConnection(poolEntry);
         throw e;
       }
       LOG.info("Sending message failed on first try due to a connection failure with the leased connection. Will retry with a new connection.", e);
-      // if sending failed caused by a connection problem, we exchange our connection for a brand new one
-      // exchangeConnection will take care of releasing the connection we provide
-      poolEntry = exchangeConnection(poolEntry);
-      // we must not close the poolEntry here as this is taken care of by the surrounding try/finally block
-      try {
-        poolEntry.sendMessage(message, recipients);
-      }
-      catch (RuntimeException | MessagingException e1) {
-        LOG.error("Sending failed with the second try", e1);
-        throw e1;
-      }
     }
-    finally {
+    catch (RuntimeException e) {
       releaseConnection(poolEntry);
+      throw e;
+    }
+
+    // if sending failed caused by a connection problem, we exchange our connection for a brand new one
+    // exchangeConnection will take care of releasing the connection we provide
+    SmtpConnectionPoolEntry newEntry = exchangeConnection(poolEntry);
+    try {
+      newEntry.sendMessage(message, recipients);
+      return newEntry;
+    }
+    catch (RuntimeException | MessagingException e1) {
+      LOG.error("Sending failed with the second try", e1);
+      releaseConnection(newEntry);
+      throw e1;
     }
   }
 
@@ -158,115 +181,96 @@ public class SmtpConnectionPool {
    */
   protected SmtpConnectionPoolEntry leaseConnection(SmtpServerConfig smtpServerConfig) {
     Assertions.assertGreater(smtpServerConfig.getPoolSize(), 0, "Pool size of provided SmtpServerConfig must be greater 0.");
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(m_destroyed, "SmtpConnectionPool not available because it has already been destroyed.");
-      SmtpConnectionPoolEntry candidate = null;
-      while (candidate == null) {
-        // try to find an idle connection or create a new connection if poolsize has not been reached yet.
-        // candidate may be null as a result
-        try {
-          candidate = tryGetIdleOrCreateNewConnection(smtpServerConfig);
-        }
-        catch (RuntimeException | MessagingException e) {
-          throw new ProcessingException("MessagingException caught while trying to connect to smtp server.", e);
-        }
+    Assertions.assertFalse(m_destroyed, "SmtpConnectionPool not available because it has already been destroyed.");
+    P_Partition partition = getPartition(smtpServerConfig);
 
-        // if we could not find an idle connection and the pool has already reached its limit in terms of connection count,
-        // we wait until someone releases a connection (@see #releaseConnection(SmtpConnectionPoolEntry))
-        if (candidate == null) {
-          try {
-            long startWaitMillis = System.currentTimeMillis();
-            m_poolLock.wait(m_waitForConnectionTimeout);
-            if (m_waitForConnectionTimeout > 0 &&
-                System.currentTimeMillis() >= startWaitMillis + m_waitForConnectionTimeout) {
-              // Object.wait(long) does not indicate why it returned (some form of notify called or timeout).
-              // So we check, if the current time is greater or equal our recorded starttime plus the configured
-              // wait for connection timeout and then assume, that we have been woken up by the timeout.
-              throw new ProcessingException("Wait for connection timeout of {}ms exceeded while waiting for an SMTP connection.", m_waitForConnectionTimeout);
-            }
-          }
-          catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new ThreadInterruptedError("Interrupted while waiting for idle smtp connection");
-          }
-        }
+    // if the pool has already reached its limit in terms of leased connections,
+    // we wait until someone releases a connection (@see #releaseConnection(SmtpConnectionPoolEntry))
+    acquireLease(partition);
+
+    SmtpConnectionPoolEntry candidate = partition.m_idleEntries.pollFirst();
+    if (candidate == null) {
+      try {
+        candidate = createNewConnection(partition.m_smtpServerConfig).withPartition(partition);
+      }
+      catch (RuntimeException | MessagingException e) {
+        partition.m_leases.release();
+        throw new ProcessingException("MessagingException caught while trying to connect to smtp server.", e);
       }
-      // we found a valid candidate. Remove it from the idle connection set, add it to the leased connection set and return it
-      m_idleEntries.remove(candidate);
-      m_leasedEntries.add(candidate);
-      LOG.debug("Leasing pooled SMTP connection {}", candidate);
-      return candidate;
     }
+    partition.m_leasedEntries.add(candidate);
+    m_leaseCount.increment();
+    LOG.debug("Leasing pooled SMTP connection {}", candidate);
+    return candidate;
   }
 
-  protected SmtpConnectionPoolEntry tryGetIdleOrCreateNewConnection(SmtpServerConfig smtpServerConfig) throws MessagingException {
-    Assertions.assertGreater(smtpServerConfig.getPoolSize(), 0, "Invalid pool size '{}'; must be greater 0", smtpServerConfig.getPoolSize());
-    synchronized (m_poolLock) {
-      Predicate<SmtpConnectionPoolEntry> poolFilter = getPoolFilter(smtpServerConfig);
-      SmtpConnectionPoolEntry candidate = null;
-      candidate = m_idleEntries.stream()
-          .filter(poolFilter)
-          .sorted((pe1, pe2) -> {
-            // sort ascending by create time to favor younger connections when picking from the pool
-            // as a result, older connections (which are less likely to be picked) are thus more likely to reach max idle time and are collected.
-            return (int) (pe1.getCreateTime() - pe2.getCreateTime());
-          })
-          .findFirst()
-          .orElse(null);
-
-      if (candidate != null) {
-        return candidate;
+  protected void acquireLease(P_Partition partition) {
+    if (partition.m_leases.tryAcquire()) {
+      return;
+    }
+    m_waitCount.increment();
+    try {
+      if (m_waitForConnectionTimeout <= 0) {
+        partition.m_leases.acquire();
       }
+      else if (!partition.m_leases.tryAcquire(m_waitForConnectionTimeout, TimeUnit.MILLISECONDS)) {
+        throw new ProcessingException("Wait for connection timeout of {}ms exceeded while waiting for an SMTP connection.", m_waitForConnectionTimeout);
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ThreadInterruptedError("Interrupted while waiting for idle smtp connection");
+    }
+  }
 
-      return createNewConnection(smtpServerConfig);
+  /**
+   * @return the partition of the provided config. A new partition is keyed by a copy of the config, so that later
+   *         changes of the provided config do not affect the pool.
+   */
+  protected P_Partition getPartition(SmtpServerConfig smtpServerConfig) {
+    P_Partition partition = m_partitions.get(smtpServerConfig);
+    if (partition != null) {
+      return partition;
     }
+    SmtpServerConfig configCopy = smtpServerConfig.copy();
+    return m_partitions.computeIfAbsent(configCopy, P_Partition::new);
   }
 
+  /**
+   * Creates a new connection, which is neither idle nor leased yet.
+   */
   protected SmtpConnectionPoolEntry createNewConnection(SmtpServerConfig smtpServerConfig) throws MessagingException {
+    Session session = BEANS.get(SmtpHelper.class).createSession(smtpServerConfig);
+    @SuppressWarnings("resource") // suppress warning about resource leak, we are managing transports ourselves
+    Transport transport = session.getTransport();
+    BEANS.get(SmtpHelper.class).connect(session, transport, smtpServerConfig.getPassword());
+    IDateProvider dateProvider = BEANS.get(IDateProvider.class);
+    SmtpConnectionPoolEntry poolEntry = BEANS.get(SmtpConnectionPoolEntry.class)
+        .withName(getNextPoolEntryName())
+        .withSmtpServerConfig(smtpServerConfig)
+        .withSession(session)
+        .withTransport(transport)
+        .withCreateTime(dateProvider.currentMillis().getTime())
+        .withIdleSince(dateProvider.currentMillis().getTime());
+
+    LOG.debug("Created new pooled SMTP connection {}", poolEntry);
+    m_createdConnectionCount.increment();
+    ensureCloseIdleConnectionsJob();
+    return poolEntry;
+  }
+
+  protected void ensureCloseIdleConnectionsJob() {
     synchronized (m_poolLock) {
-      Predicate<SmtpConnectionPoolEntry> poolFilter = getPoolFilter(smtpServerConfig);
-      boolean firstConnection = m_idleEntries.isEmpty() && m_leasedEntries.isEmpty();
-      // there was no idle connection so we create a new connection if the pool size has not been reached for this config
-      long idleEntryCount = m_idleEntries.stream()
-          .filter(poolFilter)
-          .count();
-      long leasedEntryCount = m_leasedEntries.stream()
-          .filter(poolFilter)
-          .count();
-      SmtpConnectionPoolEntry poolEntry = null;
-
-      if (idleEntryCount + leasedEntryCount < smtpServerConfig.getPoolSize()) {
-        Session session = BEANS.get(SmtpHelper.class).createSession(smtpServerConfig);
-        @SuppressWarnings("resource") // suppress warning about resource leak, we are managing transports ourselves
-        Transport transport = session.getTransport();
-        BEANS.get(SmtpHelper.class).connect(session, transport, smtpServerConfig.getPassword());
-        IDateProvider dateProvider = BEANS.get(IDateProvider.class);
-        poolEntry = BEANS.get(SmtpConnectionPoolEntry.class)
-            .withName(getNextPoolEntryName())
-            .withSmtpServerConfig(smtpServerConfig)
-            .withSession(session)
-            .withTransport(transport)
-            .withCreateTime(dateProvider.currentMillis().getTime())
-            .withIdleSince(dateProvider.currentMillis().getTime());
-
-        LOG.debug("Created new pooled SMTP connection {}", poolEntry);
-        m_idleEntries.add(poolEntry);
-
-        if (firstConnection) {
-          // if there were neither idle nor leased connections before, the first connection has just been created
-          // start job for connection cleanup
-          LOG.debug("First connection created, starting close-idle-connections job.");
-          startCloseIdleConnectionsJob();
-        }
+      if (!m_closeIdleConnectionsJobRunning && !m_destroyed) {
+        // the first connection has just been created (or the first one after all connections have been closed)
+        // start job for connection cleanup
+        LOG.debug("First connection created, starting close-idle-connections job.");
+        startCloseIdleConnectionsJob();
+        m_closeIdleConnectionsJobRunning = true;
       }
-      return poolEntry;
     }
   }
 
-  protected Predicate<SmtpConnectionPoolEntry> getPoolFilter(SmtpServerConfig smtpServerConfig) {
-    return ssc -> ssc.matchesConfig(smtpServerConfig);
-  }
-
   protected void startCloseIdleConnectionsJob() {
     Jobs.schedule(this::closeIdleConnections, Jobs.newInput()
         .withName(JOB_NAME_CLOSE_IDLE_CONNECTIONS)
@@ -281,30 +285,34 @@ public class SmtpConnectionPool {
    * connection.<br>
    */
   protected void releaseConnection(SmtpConnectionPoolEntry poolEntry) {
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(m_destroyed, "SmtpConnectionPool not available because it has already been destroyed.");
-
-      m_leasedEntries.remove(poolEntry);
+    Assertions.assertFalse(m_destroyed, "SmtpConnectionPool not available because it has already been destroyed.");
+    P_Partition partition = poolEntry.getPartition();
+    if (!partition.m_leasedEntries.remove(poolEntry)) {
+      LOG.warn("Releasing SMTP connection {} which is not leased.", poolEntry);
+      return;
+    }
 
+    try {
       if (poolEntry.isFailed()) {
         LOG.debug("Releasing pooled SMTP connection {}; transport is broken, not returning to idle pool.", poolEntry);
         safeCloseTransport(poolEntry);
-        poolEntry = null;
+        return;
       }
 
-      if (poolEntry != null) {
-        P_ReuseCheckResult reuseCheckResult = isReuseAllowed(poolEntry);
-        if (reuseCheckResult.isReuseAllowed()) {
-          LOG.debug("Releasing pooled SMTP connection {}; returning to idle pool.", poolEntry);
-          poolEntry.withIdleSince(BEANS.get(IDateProvider.class).currentMillis().getTime());
-          m_idleEntries.add(poolEntry);
-        }
-        else {
-          safeCloseTransport(poolEntry);
-          LOG.debug("Releasing pooled SMTP connection {}; {}, not returning to idle pool.", poolEntry, reuseCheckResult.getReuseDeniedReason());
-        }
+      P_ReuseCheckResult reuseCheckResult = isReuseAllowed(poolEntry);
+      if (reuseCheckResult.isReuseAllowed()) {
+        LOG.debug("Releasing pooled SMTP connection {}; returning to idle pool.", poolEntry);
+        poolEntry.withIdleSince(BEANS.get(IDateProvider.class).currentMillis().getTime());
+        partition.m_idleEntries.offerFirst(poolEntry);
       }
-      m_poolLock.notifyAll();
+      else {
+        safeCloseTransport(poolEntry);
+        LOG.debug("Releasing pooled SMTP connection {}; {}, not returning to idle pool.", poolEntry, reuseCheckResult.getReuseDeniedReason());
+      }
+    }
+    finally {
+      // the idle connection is available before the lease is returned
+      partition.m_leases.release();
     }
   }
 
@@ -320,18 +328,28 @@ public class SmtpConnectionPool {
    *         provided entry.
    */
   protected SmtpConnectionPoolEntry exchangeConnection(SmtpConnectionPoolEntry oldEntry) throws MessagingException {
-    synchronized (m_poolLock) {
-
-      m_leasedEntries.remove(oldEntry);
-      safeCloseTransport(oldEntry);
+    P_Partition partition = oldEntry.getPartition();
+    partition.m_leasedEntries.remove(oldEntry);
+    safeCloseTransport(oldEntry);
 
-      SmtpConnectionPoolEntry newEntry = createNewConnection(oldEntry.getSmtpServerConfig());
-
-      m_idleEntries.remove(newEntry);
-      m_leasedEntries.add(newEntry);
-
-      return newEntry;
+    // the new connection takes over the lease of the old one
+    SmtpConnectionPoolEntry newEntry;
+    try {
+      newEntry = createNewConnection(partition.m_smtpServerConfig).withPartition(partition);
+    }
+    catch (RuntimeException | MessagingException e) {
+      partition.m_leases.release();
+      throw e;
     }
+    partition.m_leasedEntries.add(newEntry);
+    return newEntry;
+  }
+
+  /**
+   * @return true if the provided leased connection may be used to send further messages before it is released
+   */
+  protected boolean isReusable(SmtpConnectionPoolEntry smtpConnectionPoolEntry) {
+    return !smtpConnectionPoolEntry.isFailed() && isReuseAllowed(smtpConnectionPoolEntry).isReuseAllowed();
   }
 
   protected P_ReuseCheckResult isReuseAllowed(SmtpConnectionPoolEntry smtpConnectionPoolEntry) {
@@ -347,9 +365,7 @@ public class SmtpConnectionPool {
   }
 
   protected String getNextPoolEntryName() {
-    synchronized (m_poolLock) {
-      return "pool-entry-" + ++m_lastPoolEntryNo;
-    }
+    return "pool-entry-" + m_lastPoolEntryNo.incrementAndGet();
   }
 
   protected boolean isConnectionFailure(MessagingException e) {
@@ -361,33 +377,41 @@ public class SmtpConnectionPool {
   }
 
   protected void closeIdleConnections() {
-    synchronized (m_poolLock) {
-      try {
-        for (Iterator<SmtpConnectionPoolEntry> it = m_idleEntries.iterator(); it.hasNext();) {
-          SmtpConnectionPoolEntry idleEntry = it.next();
-          IDateProvider dateProvider = BEANS.get(IDateProvider.class);
-          if (dateProvider.currentMillis().getTime() - idleEntry.getIdleSince() >= m_maxIdleTime ||
-              dateProvider.currentMillis().getTime() - idleEntry.getCreateTime() >= m_maxConnectionLifetime) {
+    try {
+      IDateProvider dateProvider = BEANS.get(IDateProvider.class);
+      for (P_Partition partition : m_partitions.values()) {
+        for (SmtpConnectionPoolEntry idleEntry : partition.m_idleEntries) {
+          if ((dateProvider.currentMillis().getTime() - idleEntry.getIdleSince() >= m_maxIdleTime ||
+              dateProvider.currentMillis().getTime() - idleEntry.getCreateTime() >= m_maxConnectionLifetime)
+              // the entry may have been leased in the meantime
+              && partition.m_idleEntries.remove(idleEntry)) {
             safeCloseTransport(idleEntry);
-            it.remove();
           }
         }
-        if (m_idleEntries.isEmpty() && m_leasedEntries.isEmpty()) {
+      }
+      synchronized (m_poolLock) {
+        if (m_closeIdleConnectionsJobRunning && getOpenConnectionCount() == 0) {
           LOG.debug("Last pooled connection closed, stopping close-idle-connections job.");
           Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
               .andMatchName(JOB_NAME_CLOSE_IDLE_CONNECTIONS)
               .andMatchExecutionHint(m_jobExecutionHint)
               .toFilter(), false);
+          m_closeIdleConnectionsJobRunning = false;
         }
       }
-      catch (RuntimeException e) {
-        LOG.warn("Caught RuntimeException while trying to close idle SMTP connections.", e);
-      }
     }
+    catch (RuntimeException e) {
+      LOG.warn("Caught RuntimeException while trying to close idle SMTP connections.", e);
+    }
+  }
+
+  protected long getOpenConnectionCount() {
+    return m_createdConnectionCount.sum() - m_closedConnectionCount.sum();
   }
 
   protected void safeCloseTransport(SmtpConnectionPoolEntry poolEntry) {
     LOG.debug("Closing pooled SMTP connection {}", poolEntry);
+    m_closedConnectionCount.increment();
     try {
       poolEntry.getTransport().close();
     }
@@ -396,6 +420,20 @@ public class SmtpConnectionPool {
     }
   }
 
+  /**
+   * @return a snapshot of the current state of the pool
+   * @since 11.0
+   */
+  public SmtpConnectionPoolStatistics getStatistics() {
+    int idleCount = 0;
+    int leasedCount = 0;
+    for (P_Partition partition : m_partitions.values()) {
+      idleCount += partition.m_idleEntries.size();
+      leasedCount += partition.m_leasedEntries.size();
+    }
+    return new SmtpConnectionPoolStatistics(idleCount, leasedCount, m_createdConnectionCount.sum(), m_closedConnectionCount.sum(), m_leaseCount.sum(), m_waitCount.sum());
+  }
+
   protected void destroy() {
     if (m_destroyed) {
       return;
@@ -405,18 +443,20 @@ public class SmtpConnectionPool {
       if (m_destroyed) {
         return;
       }
+      m_destroyed = true;
 
       Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
           .andMatchExecutionHint(m_jobExecutionHint)
           .toFilter(), true);
+      m_closeIdleConnectionsJobRunning = false;
 
-      Stream.of(m_idleEntries, m_leasedEntries)
-          .flatMap(Collection::stream)
-          .forEach(this::safeCloseTransport);
-
-      m_idleEntries.clear();
-      m_leasedEntries.clear();
-      m_destroyed = true;
+      for (P_Partition partition : m_partitions.values()) {
+        partition.m_idleEntries.forEach(this::safeCloseTransport);
+        partition.m_leasedEntries.forEach(this::safeCloseTransport);
+        partition.m_idleEntries.clear();
+        partition.m_leasedEntries.clear();
+      }
+      m_partitions.clear();
     }
   }
 
@@ -480,6 +520,24 @@ public class SmtpConnectionPool {
     }
   }
 
+  /**
+   * Connections of a single {@link SmtpServerConfig}.
+   */
+  protected static class P_Partition {
+    // copy of the config, not changed anymore
+    protected final SmtpServerConfig m_smtpServerConfig;
+    // idle connections, the most recently released first
+    protected final Deque<SmtpConnectionPoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+    protected final Set<SmtpConnectionPoolEntry> m_leasedEntries = ConcurrentHashMap.newKeySet();
+    // bounds the number of leased connections, hence also the number of idle and leased connections
+    protected final Semaphore m_leases;
+
+    protected P_Partition(SmtpServerConfig smtpServerConfig) {
+      m_smtpServerConfig = smtpServerConfig;
+      m_leases = new Semaphore(smtpServerConfig.getPoolSize(), true);
+    }
+  }
+
   private static class P_ReuseCheckResult {
 
     private final boolean m_reuseAllowed;
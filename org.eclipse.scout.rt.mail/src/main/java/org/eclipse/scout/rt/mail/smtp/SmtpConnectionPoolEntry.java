@@ -25,6 +25,7 @@ import org.eclipse.scout.rt.platform.Bean;
  * <ul>
  * <li>{@link #m_name}</li>
  * <li>{@link #m_smtpServerConfig}</li>
+ * <li>{@link #m_partition}</li>
  * <li>{@link #m_session}</li>
  * <li>{@link #m_transport}</li>
  * <li>{@link #m_createTime}</li>
@@ -39,6 +40,8 @@ public class SmtpConnectionPoolEntry {
 
   protected String m_name;
   protected SmtpServerConfig m_smtpServerConfig;
+  // partition of the pool this entry belongs to
+  protected SmtpConnectionPool.P_Partition m_partition;
   protected Session m_session;
   protected Transport m_transport;
   // creation time of this pool entry object in milliseconds
@@ -69,6 +72,11 @@ public class SmtpConnectionPoolEntry {
     return this;
   }
 
+  SmtpConnectionPoolEntry withPartition(SmtpConnectionPool.P_Partition partition) {
+    m_partition = partition;
+    return this;
+  }
+
   public SmtpConnectionPoolEntry withSession(Session session) {
     m_session = session;
     return this;
@@ -93,6 +101,10 @@ public class SmtpConnectionPoolEntry {
     return m_smtpServerConfig;
   }
 
+  SmtpConnectionPool.P_Partition getPartition() {
+    return m_partition;
+  }
+
   public Transport getTransport() {
     return m_transport;
   }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mail.smtp;
+
+import java.io.Serializable;
+
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Immutable snapshot of the state of a {@link SmtpConnectionPool}.
+ *
+ * @see SmtpConnectionPool#getStatistics()
+ * @since 11.0
+ */
+public class SmtpConnectionPoolStatistics implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final int m_idleConnectionCount;
+  private final int m_leasedConnectionCount;
+  private final long m_createdConnectionCount;
+  private final long m_closedConnectionCount;
+  private final long m_leaseCount;
+  private final long m_waitCount;
+
+  public SmtpConnectionPoolStatistics(int idleConnectionCount, int leasedConnectionCount, long createdConnectionCount, long closedConnectionCount, long leaseCount, long waitCount) {
+    m_idleConnectionCount = idleConnectionCount;
+    m_leasedConnectionCount = leasedConnectionCount;
+    m_createdConnectionCount = createdConnectionCount;
+    m_closedConnectionCount = closedConnectionCount;
+    m_leaseCount = leaseCount;
+    m_waitCount = waitCount;
+  }
+
+  /**
+   * @return number of connections currently in the pool which are not leased
+   */
+  public int getIdleConnectionCount() {
+    return m_idleConnectionCount;
+  }
+
+  /**
+   * @return number of connections currently leased
+   */
+  public int getLeasedConnectionCount() {
+    return m_leasedConnectionCount;
+  }
+
+  /**
+   * @return number of connections created since the pool was started
+   */
+  public long getCreatedConnectionCount() {
+    return m_createdConnectionCount;
+  }
+
+  /**
+   * @return number of connections closed since the pool was started
+   */
+  public long getClosedConnectionCount() {
+    return m_closedConnectionCount;
+  }
+
+  /**
+   * @return number of leases since the pool was started
+   */
+  public long getLeaseCount() {
+    return m_leaseCount;
+  }
+
+  /**
+   * @return number of leases which had to wait for a connection to be released
+   */
+  public long getWaitCount() {
+    return m_waitCount;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attr("idleConnectionCount", m_idleConnectionCount)
+        .attr("leasedConnectionCount", m_leasedConnectionCount)
+        .attr("createdConnectionCount", m_createdConnectionCount)
+        .attr("closedConnectionCount", m_closedConnectionCount)
+        .attr("leaseCount", m_leaseCount)
+        .attr("waitCount", m_waitCount)
+        .toString();
+  }
+}
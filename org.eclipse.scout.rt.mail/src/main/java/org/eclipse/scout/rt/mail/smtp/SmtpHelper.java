@@ -10,6 +10,10 @@
  */
 package org.eclipse.scout.rt.mail.smtp;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
 import java.util.function.Consumer;
 
@@ -25,7 +29,10 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
@@ -112,6 +119,172 @@ public class SmtpHelper {
     });
   }
 
+  /**
+   * Sends multiple messages over the provided SMTP server. Each connection is reused for many messages.
+   * <p>
+   * If the {@link SmtpServerConfig#getPoolSize()} returns a value > 0, the messages are sent in parallel over up to
+   * pool size connections leased from the connection pool (one of them by the calling thread). Otherwise the messages
+   * are sent by the calling thread over a single connection.
+   * <p>
+   * Failing messages do not abort sending the remaining messages, instead the outcome of each message is reported.
+   *
+   * @param config
+   *          SMTP server configuration.
+   * @param messages
+   *          Messages to send, iterated only once and not retained by this method.
+   * @return the outcome of each message in the order of the provided messages
+   * @since 11.0
+   */
+  public List<SmtpSendResult> sendMessages(SmtpServerConfig config, Iterable<MimeMessage> messages) {
+    Assertions.assertNotNull(config, "SMTP server config must be set");
+    Assertions.assertNotNull(messages, "Messages must be set");
+
+    P_BulkSendQueue queue = new P_BulkSendQueue(messages.iterator());
+    if (config.getPoolSize() > 0) {
+      List<IFuture<Void>> futures = new ArrayList<>();
+      for (int i = 1; i < config.getPoolSize(); i++) {
+        futures.add(Jobs.schedule(() -> sendMessagesOverPool(config, queue), Jobs.newInput()
+            .withName("Sending SMTP messages")
+            .withRunContext(RunContexts.copyCurrent(true))));
+      }
+      sendMessagesOverPool(config, queue);
+      for (IFuture<Void> future : futures) {
+        future.awaitDoneAndGet();
+      }
+    }
+    else {
+      sendMessagesOverConnection(config, queue);
+    }
+    return queue.getResults();
+  }
+
+  /**
+   * Sends messages from the queue over a connection leased from the {@link SmtpConnectionPool}, the connection is
+   * exchanged when the pool does not allow its reuse anymore.
+   */
+  protected void sendMessagesOverPool(SmtpServerConfig config, P_BulkSendQueue queue) {
+    SmtpConnectionPool pool = BEANS.get(SmtpConnectionPool.class);
+    SmtpConnectionPoolEntry poolEntry = null;
+    try {
+      for (P_BulkSendItem item = queue.next(); item != null; item = queue.next()) {
+        if (!prepareBulkSendItem(item, queue)) {
+          continue;
+        }
+        try {
+          if (poolEntry == null) {
+            poolEntry = pool.leaseConnection(config);
+          }
+          // sendMessage releases the connection if it fails
+          SmtpConnectionPoolEntry usedEntry = poolEntry;
+          poolEntry = null;
+          usedEntry = pool.sendMessage(usedEntry, item.m_message, item.m_recipients);
+          if (pool.isReusable(usedEntry)) {
+            poolEntry = usedEntry;
+          }
+          else {
+            pool.releaseConnection(usedEntry);
+          }
+          queue.addResult(item, true, null);
+        }
+        catch (RuntimeException | MessagingException e) {
+          queue.addResult(item, false, translateBulkSendException(e));
+        }
+      }
+    }
+    finally {
+      if (poolEntry != null) {
+        pool.releaseConnection(poolEntry);
+      }
+    }
+  }
+
+  /**
+   * Sends messages from the queue over a single, not pooled connection which is reconnected after a failure.
+   */
+  protected void sendMessagesOverConnection(SmtpServerConfig config, P_BulkSendQueue queue) {
+    Session session = createSession(config);
+    Transport transport = null;
+    try {
+      for (P_BulkSendItem item = queue.next(); item != null; item = queue.next()) {
+        if (!prepareBulkSendItem(item, queue)) {
+          continue;
+        }
+        try {
+          if (transport == null) {
+            transport = session.getTransport();
+            connect(session, transport, config.getPassword());
+          }
+          transport.sendMessage(item.m_message, item.m_recipients);
+          queue.addResult(item, true, null);
+        }
+        catch (RuntimeException | MessagingException e) {
+          queue.addResult(item, false, translateBulkSendException(e));
+          closeTransportSafe(transport);
+          transport = null;
+        }
+      }
+    }
+    finally {
+      closeTransportSafe(transport);
+    }
+  }
+
+  /**
+   * Resolves the recipients of the message and prepares it for sending, see {@link #sendMessageInternal(MimeMessage,
+   * Consumer)}.
+   *
+   * @return true if the message is to be sent, false if its result has already been added to the queue
+   */
+  protected boolean prepareBulkSendItem(P_BulkSendItem item, P_BulkSendQueue queue) {
+    try {
+      item.m_recipients = getAllRecipients(item.m_message);
+      if (item.m_recipients == null || item.m_recipients.length <= 0) {
+        LOG.info("No recipients found, email is not sent");
+        queue.addResult(item, false, null);
+        return false;
+      }
+      item.m_message.setSentDate(BEANS.get(IDateProvider.class).currentMillis());
+      item.m_message.saveChanges();
+      return true;
+    }
+    catch (RuntimeException | MessagingException e) {
+      queue.addResult(item, false, translateBulkSendException(e));
+      return false;
+    }
+  }
+
+  /**
+   * Failures of a single message of {@link #sendMessages(SmtpServerConfig, Iterable)} are handled by
+   * {@link #handleMessagingException(MessagingException)} like a failure of {@link #sendMessage(SmtpServerConfig,
+   * MimeMessage)}, but do not abort sending the remaining messages.
+   *
+   * @return the exception reported for the message or {@code null} if the failure is ignored
+   */
+  protected RuntimeException translateBulkSendException(Exception e) {
+    if (!(e instanceof MessagingException)) {
+      return (RuntimeException) e;
+    }
+    try {
+      handleMessagingException((MessagingException) e);
+      return null;
+    }
+    catch (RuntimeException handled) {
+      return handled;
+    }
+  }
+
+  protected void closeTransportSafe(Transport transport) {
+    if (transport == null) {
+      return;
+    }
+    try {
+      transport.close();
+    }
+    catch (RuntimeException | MessagingException e) {
+      LOG.warn("Could not close SMTP transport {}", transport, e);
+    }
+  }
+
   protected void sendMessageInternal(MimeMessage message, Consumer<Address[]> messageSender) {
     Assertions.assertNotNull(message, "Message must be set");
 
@@ -213,6 +386,63 @@ public class SmtpHelper {
     return config.isUseSmtps() ? "smtps" : "smtp";
   }
 
+  /**
+   * Messages to send by {@link SmtpHelper#sendMessages(SmtpServerConfig, Iterable)}, shared by all threads sending
+   * them. Collects the results.
+   */
+  protected static class P_BulkSendQueue {
+    private final Iterator<MimeMessage> m_messages;
+    private final List<SmtpSendResult> m_results = new ArrayList<>();
+    private int m_nextIndex;
+
+    protected P_BulkSendQueue(Iterator<MimeMessage> messages) {
+      m_messages = messages;
+    }
+
+    /**
+     * @return the next message to send or {@code null} if all messages are taken
+     */
+    protected synchronized P_BulkSendItem next() {
+      if (!m_messages.hasNext()) {
+        return null;
+      }
+      MimeMessage message = m_messages.next();
+      Assertions.assertNotNull(message, "Message must be set");
+      return new P_BulkSendItem(m_nextIndex++, message);
+    }
+
+    protected void addResult(P_BulkSendItem item, boolean sent, RuntimeException exception) {
+      String messageId = BEANS.get(MailHelper.class).getMessageIdSafely(item.m_message);
+      if (exception != null) {
+        LOG.warn("Sending email with message id {} failed", messageId, exception);
+      }
+      else if (sent) {
+        LOG.debug("Sent email with message id {}", messageId);
+      }
+      SmtpSendResult result = new SmtpSendResult(item.m_index, messageId, sent, exception);
+      synchronized (this) {
+        m_results.add(result);
+      }
+    }
+
+    protected synchronized List<SmtpSendResult> getResults() {
+      List<SmtpSendResult> results = new ArrayList<>(m_results);
+      results.sort(Comparator.comparingInt(SmtpSendResult::getIndex));
+      return results;
+    }
+  }
+
+  protected static class P_BulkSendItem {
+    private final int m_index;
+    private final MimeMessage m_message;
+    private Address[] m_recipients;
+
+    protected P_BulkSendItem(int index, MimeMessage message) {
+      m_index = index;
+      m_message = message;
+    }
+  }
+
   public static class SmtpDebugReceiverEmailProperty extends AbstractStringConfigProperty {
 
     @Override
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mail.smtp;
+
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Outcome of sending a single message by {@link SmtpHelper#sendMessages(SmtpServerConfig, Iterable)}. It does not
+ * reference the message itself, so that the messages may be garbage collected once sent.
+ *
+ * @since 11.0
+ */
+public class SmtpSendResult {
+
+  private final int m_index;
+  private final String m_messageId;
+  private final boolean m_sent;
+  private final RuntimeException m_exception;
+
+  public SmtpSendResult(int index, String messageId, boolean sent, RuntimeException exception) {
+    m_index = index;
+    m_messageId = messageId;
+    m_sent = sent;
+    m_exception = exception;
+  }
+
+  /**
+   * @return zero-based position of the message in the messages to send
+   */
+  public int getIndex() {
+    return m_index;
+  }
+
+  /**
+   * @return message id of the message or {@code null} if not available
+   */
+  public String getMessageId() {
+    return m_messageId;
+  }
+
+  /**
+   * @return true if the message was sent, false if it failed or was not sent because it has no recipients
+   */
+  public boolean isSent() {
+    return m_sent;
+  }
+
+  /**
+   * @return the exception if sending the message failed, otherwise {@code null}
+   */
+  public RuntimeException getException() {
+    return m_exception;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attr("index", m_index)
+        .attr("messageId", m_messageId)
+        .attr("sent", m_sent)
+        .attr("exception", m_exception, false)
+        .toString();
+  }
+}
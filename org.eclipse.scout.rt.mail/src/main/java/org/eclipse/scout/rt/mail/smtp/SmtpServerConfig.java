@@ -10,18 +10,20 @@
  */
 package org.eclipse.scout.rt.mail.smtp;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import javax.mail.Session;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 
 /**
  * Configuration object for SMTP server used by
  * {@link SmtpHelper#sendMessage(SmtpServerConfig, javax.mail.internet.MimeMessage)}.
  */
 @Bean
-public class SmtpServerConfig {
+public class SmtpServerConfig implements Cloneable {
 
   private String m_host;
   private Integer m_port;
@@ -200,6 +202,24 @@ public class SmtpServerConfig {
     return this;
   }
 
+  /**
+   * @return a copy of this config which is not affected by later changes of this config, e.g. to be used as key in a
+   *         map
+   * @since 11.0
+   */
+  public SmtpServerConfig copy() {
+    try {
+      SmtpServerConfig copy = (SmtpServerConfig) super.clone();
+      if (m_additionalSessionProperties != null) {
+        copy.m_additionalSessionProperties = new HashMap<>(m_additionalSessionProperties);
+      }
+      return copy;
+    }
+    catch (CloneNotSupportedException e) {
+      throw new PlatformException("Could not copy SMTP server config", e);
+    }
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
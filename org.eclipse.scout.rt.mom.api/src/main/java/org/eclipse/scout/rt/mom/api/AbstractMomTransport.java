@@ -146,6 +146,11 @@ public abstract class AbstractMomTransport implements IMomTransport {
     return getDelegate().subscribe(destination, listener, input);
   }
 
+  @Override
+  public <DTO> ISubscription subscribeBatch(final IDestination<DTO> destination, final IBatchMessageListener<DTO> listener, final SubscribeInput input) {
+    return getDelegate().subscribeBatch(destination, listener, input);
+  }
+
   @Override
   public <REQUEST, REPLY> REPLY request(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input) {
     return getDelegate().request(destination, requestObject, input);
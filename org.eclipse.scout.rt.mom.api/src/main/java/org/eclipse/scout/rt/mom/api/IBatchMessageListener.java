@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+
+/**
+ * Listener to receive messages in batches.
+ *
+ * @see IMom#subscribeBatch(IDestination, IBatchMessageListener, SubscribeInput)
+ * @see SubscribeInput#withBatch(int, long)
+ * @since 11.0
+ */
+@FunctionalInterface
+public interface IBatchMessageListener<DTO> {
+
+  /**
+   * Method invoked upon the receive of a batch of messages, and is invoked in the {@link RunContext} as specified at
+   * registration. The list contains at least one message, in the order received.
+   */
+  void onMessages(List<IMessage<DTO>> messages);
+}
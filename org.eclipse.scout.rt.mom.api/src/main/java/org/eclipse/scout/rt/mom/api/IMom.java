@@ -98,6 +98,24 @@ public interface IMom {
    */
   <DTO> ISubscription subscribe(IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input);
 
+  /**
+   * Subscribes the given listener to receive messages sent to the given destination in batches, see
+   * {@link SubscribeInput#withBatch(int, long)}.
+   *
+   * @param destination
+   *          specifies the target to consume messages from, and is either a topic (pub/sub) or queue (P2P).
+   * @param listener
+   *          specifies the listener to receive batches of messages.
+   * @param input
+   *          specifies how to subscribe for messages.
+   * @return subscription handle to unsubscribe from the destination.
+   * @param <DTO>
+   *          the type of the transfer object a subscription is created for.
+   * @see IMom#subscribe(IDestination, IMessageListener, SubscribeInput)
+   * @since 11.0
+   */
+  <DTO> ISubscription subscribeBatch(IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input);
+
   /**
    * Initiates a 'request-reply' communication with a replier, and blocks until the reply is received. This type of
    * communication does not support transacted message publishing.
@@ -227,6 +227,27 @@ public final class MOM {
     return BEANS.get(transport).subscribe(destination, listener, input != null ? input : newSubscribeInput());
   }
 
+  /**
+   * Subscribes the given listener to receive messages sent to the given destination in batches.
+   *
+   * @param transport
+   *          specifies the 'transport or network' to subscribe for messages, e.g. {@link ClusterMom}.
+   * @param destination
+   *          specifies the target to consume messages from, and is either a topic (pub/sub) or queue (P2P).
+   * @param listener
+   *          specifies the listener to receive batches of messages.
+   * @param input
+   *          specifies how to subscribe for messages, and how to group messages into batches, see
+   *          {@link SubscribeInput#withBatch(int, long)}.
+   * @return subscription handle to unsubscribe from the destination.
+   * @param <DTO>
+   *          the type of the transfer object a subscription is created for.
+   * @since 11.0
+   */
+  public static <DTO> ISubscription subscribeBatch(final Class<? extends IMomTransport> transport, final IDestination<DTO> destination, final IBatchMessageListener<DTO> listener, final SubscribeInput input) {
+    return BEANS.get(transport).subscribeBatch(destination, listener, input != null ? input : newSubscribeInput());
+  }
+
   /**
    * Cancels a <i>durable</i> subscription previously created on the specified MOM. Messages published to the
    * subscription's destination while the subscriber is inactive will then no longer be kept by the network.
@@ -37,6 +37,11 @@ public class NullMomImplementor implements IMomImplementor {
     return new P_NullSubscription(destination);
   }
 
+  @Override
+  public <DTO> ISubscription subscribeBatch(final IDestination<DTO> destination, final IBatchMessageListener<DTO> listener, final SubscribeInput input) {
+    return new P_NullSubscription(destination);
+  }
+
   @Override
   public <REQUEST, REPLY> REPLY request(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input) {
     return null;
@@ -51,11 +51,25 @@ public class SubscribeInput {
    */
   public static final int ACKNOWLEDGE_TRANSACTED = 3;
 
+  /**
+   * Default maximal number of messages delivered to an {@link IBatchMessageListener} at once.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  /**
+   * Default maximal time in milliseconds to wait for further messages of a batch once its first message is received.
+   */
+  public static final long DEFAULT_BATCH_TIMEOUT_MILLIS = 100L;
+
   private int m_acknowledgementMode = ACKNOWLEDGE_AUTO;
   private RunContext m_runContext;
   private String m_selector;
   private boolean m_localReceipt = true;
   private String m_durableSubscriptionName;
+  private int m_batchSize = DEFAULT_BATCH_SIZE;
+  private long m_batchTimeoutMillis = DEFAULT_BATCH_TIMEOUT_MILLIS;
+  private int m_maxConcurrency;
+  private String m_orderingProperty;
 
   public int getAcknowledgementMode() {
     return m_acknowledgementMode;
@@ -147,4 +161,60 @@ public class SubscribeInput {
     m_durableSubscriptionName = durableSubscriptionName;
     return this;
   }
+
+  public int getBatchSize() {
+    return m_batchSize;
+  }
+
+  public long getBatchTimeoutMillis() {
+    return m_batchTimeoutMillis;
+  }
+
+  /**
+   * Specifies how messages are grouped for an {@link IBatchMessageListener}. A batch is delivered once it contains
+   * <code>batchSize</code> messages, or <code>batchTimeoutMillis</code> elapsed since its first message was received,
+   * whichever comes first. This setting has no effect for an {@link IMessageListener}.
+   * <p>
+   * In {@link #ACKNOWLEDGE_TRANSACTED} mode, all messages of a batch are committed or rolled back together.
+   */
+  public SubscribeInput withBatch(final int batchSize, final long batchTimeoutMillis) {
+    m_batchSize = Math.max(1, batchSize);
+    m_batchTimeoutMillis = Math.max(0L, batchTimeoutMillis);
+    return this;
+  }
+
+  public int getMaxConcurrency() {
+    return m_maxConcurrency;
+  }
+
+  /**
+   * Specifies the maximal number of messages (or batches) processed concurrently in {@link #ACKNOWLEDGE_AUTO} mode.
+   * The default is <code>0</code>, which does not limit concurrency. While the limit is reached, no further messages
+   * are received, so they stay with the broker. This setting has no effect in the other modes, because these process
+   * messages in the receiving thread.
+   *
+   * @see #withOrderingProperty(String)
+   */
+  public SubscribeInput withMaxConcurrency(final int maxConcurrency) {
+    m_maxConcurrency = Math.max(0, maxConcurrency);
+    return this;
+  }
+
+  public String getOrderingProperty() {
+    return m_orderingProperty;
+  }
+
+  /**
+   * Specifies the name of a message property whose value is the ordering key of a message. Messages with the same key
+   * are processed one after the other in the order received, while messages with different keys are processed
+   * concurrently up to {@link #getMaxConcurrency()}.
+   * <p>
+   * This setting only has an effect in {@link #ACKNOWLEDGE_AUTO} mode with a max concurrency set. Batches of an
+   * {@link IBatchMessageListener} are not split by key, hence ordering is only preserved for an
+   * {@link IMessageListener}.
+   */
+  public SubscribeInput withOrderingProperty(final String orderingProperty) {
+    m_orderingProperty = orderingProperty;
+    return this;
+  }
 }
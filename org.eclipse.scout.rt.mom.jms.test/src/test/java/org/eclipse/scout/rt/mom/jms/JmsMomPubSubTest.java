@@ -780,6 +780,86 @@ public class JmsMomPubSubTest extends AbstractJmsMomTest {
     }
   }
 
+  @Test
+  public void testSubscribeBatch() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testSubscribeBatch", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    // 1. Publish some messages
+    int msgCount = 10;
+    for (int i = 0; i < msgCount; i++) {
+      MOM.publish(FixtureMom.class, queue, "message-" + i);
+    }
+
+    // 2. Consume the messages in batches
+    final List<String> received = Collections.synchronizedList(new ArrayList<>());
+    final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch latch = new CountDownLatch(msgCount);
+    m_disposables.add(MOM.subscribeBatch(FixtureMom.class, queue, messages -> {
+      batchSizes.add(messages.size());
+      for (IMessage<String> message : messages) {
+        received.add(message.getTransferObject());
+        latch.countDown();
+      }
+    }, MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED)
+        .withBatch(4, 5000)));
+
+    assertTrue(latch.await(30, TimeUnit.SECONDS));
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < msgCount; i++) {
+      expected.add("message-" + i);
+    }
+    assertEquals(expected, received);
+    for (Integer batchSize : batchSizes) {
+      assertTrue("batch size exceeded [size=" + batchSize + "]", batchSize <= 4);
+    }
+    assertTrue("messages expected to be delivered in batches", batchSizes.size() < msgCount);
+  }
+
+  @Test
+  public void testOrderingProperty() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testOrderingProperty", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    // 1. Publish messages of two keys interleaved
+    int msgCountPerKey = 10;
+    for (int i = 0; i < msgCountPerKey; i++) {
+      MOM.publish(FixtureMom.class, queue, "a-" + i, MOM.newPublishInput().withProperty("key", "a"));
+      MOM.publish(FixtureMom.class, queue, "b-" + i, MOM.newPublishInput().withProperty("key", "b"));
+    }
+
+    // 2. Consume the messages concurrently, but in order per key
+    final List<String> receivedA = Collections.synchronizedList(new ArrayList<>());
+    final List<String> receivedB = Collections.synchronizedList(new ArrayList<>());
+    final AtomicInteger active = new AtomicInteger();
+    final AtomicInteger maxActive = new AtomicInteger();
+    final CountDownLatch latch = new CountDownLatch(2 * msgCountPerKey);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> {
+      maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(10);
+      }
+      catch (InterruptedException e) {
+        throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+      }
+      finally {
+        active.decrementAndGet();
+      }
+      ("a".equals(message.getProperty("key")) ? receivedA : receivedB).add(message.getTransferObject());
+      latch.countDown();
+    }, MOM.newSubscribeInput()
+        .withMaxConcurrency(2)
+        .withOrderingProperty("key")));
+
+    assertTrue(latch.await(30, TimeUnit.SECONDS));
+    for (int i = 0; i < msgCountPerKey; i++) {
+      assertEquals("a-" + i, receivedA.get(i));
+      assertEquals("b-" + i, receivedB.get(i));
+    }
+    assertTrue("max concurrency exceeded [active=" + maxActive.get() + "]", maxActive.get() <= 2);
+  }
+
   @Test
   public void testMessageSelector() throws InterruptedException {
     installMom();
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.JMSException;
+
+import org.junit.Test;
+
+/**
+ * @since 11.0
+ */
+public class JmsSessionProviderPoolTest {
+
+  @Test
+  public void testReuse() throws JMSException {
+    AtomicInteger created = new AtomicInteger();
+    JmsSessionProviderPool pool = new JmsSessionProviderPool(() -> {
+      created.incrementAndGet();
+      return mock(IJmsSessionProvider.class);
+    }, 2);
+
+    IJmsSessionProvider sessionProvider = pool.borrow();
+    pool.release(sessionProvider);
+    assertEquals(1, pool.getIdleCount());
+    assertSame(sessionProvider, pool.borrow());
+    assertEquals(0, pool.getIdleCount());
+    assertEquals(1, created.get());
+    verify(sessionProvider, never()).close();
+  }
+
+  @Test
+  public void testMaxIdle() throws JMSException {
+    JmsSessionProviderPool pool = new JmsSessionProviderPool(() -> mock(IJmsSessionProvider.class), 1);
+
+    IJmsSessionProvider sessionProvider1 = pool.borrow();
+    IJmsSessionProvider sessionProvider2 = pool.borrow();
+    assertNotSame(sessionProvider1, sessionProvider2);
+
+    pool.release(sessionProvider1);
+    pool.release(sessionProvider2);
+    assertEquals(1, pool.getIdleCount());
+    verify(sessionProvider1, never()).close();
+    verify(sessionProvider2).close();
+  }
+
+  @Test
+  public void testInvalidateAndClosing() throws JMSException {
+    JmsSessionProviderPool pool = new JmsSessionProviderPool(() -> mock(IJmsSessionProvider.class), 2);
+
+    IJmsSessionProvider sessionProvider1 = pool.borrow();
+    pool.invalidate(sessionProvider1);
+    verify(sessionProvider1).close();
+    assertEquals(0, pool.getIdleCount());
+
+    // session provider closed while idle (e.g. by the connection wrapper) is not handed out again
+    IJmsSessionProvider sessionProvider2 = pool.borrow();
+    pool.release(sessionProvider2);
+    when(sessionProvider2.isClosing()).thenReturn(true);
+    assertNotSame(sessionProvider2, pool.borrow());
+  }
+
+  @Test
+  public void testClose() throws JMSException {
+    JmsSessionProviderPool pool = new JmsSessionProviderPool(() -> mock(IJmsSessionProvider.class), 2);
+
+    IJmsSessionProvider idle = pool.borrow();
+    IJmsSessionProvider borrowed = pool.borrow();
+    pool.release(idle);
+
+    pool.close();
+    verify(idle).close();
+    assertEquals(0, pool.getIdleCount());
+
+    pool.release(borrowed);
+    verify(borrowed).close();
+    assertEquals(0, pool.getIdleCount());
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * @since 11.0
+ */
+@RunWith(PlatformTestRunner.class)
+public class MessageConsumerJobTest {
+
+  /**
+   * Tests that the receiving thread does not receive further messages while the max concurrency is reached.
+   */
+  @Test
+  public void testMaxConcurrencyBoundsReceivedMessages() throws Exception {
+    final int maxConcurrency = 2;
+    final AtomicInteger receivedCount = new AtomicInteger();
+    final CountDownLatch tooManyReceived = new CountDownLatch(1);
+    final CountDownLatch blockedReceived = new CountDownLatch(1);
+
+    IJmsSessionProvider sessionProvider = mock(IJmsSessionProvider.class);
+    when(sessionProvider.getSession()).thenReturn(mock(Session.class));
+    when(sessionProvider.receive(any(), anyLong())).thenAnswer(invocation -> {
+      int count = receivedCount.incrementAndGet();
+      if (count == maxConcurrency + 1) {
+        blockedReceived.countDown();
+      }
+      else if (count > maxConcurrency + 1) {
+        tooManyReceived.countDown();
+      }
+      return mock(Message.class);
+    });
+
+    JmsMomImplementor mom = mock(JmsMomImplementor.class);
+    when(mom.newJobInput()).thenAnswer(invocation -> Jobs.newInput());
+    when(mom.getMessageHandler()).thenReturn(mock(IJmsMessageHandler.class));
+
+    final CountDownLatch processing = new CountDownLatch(maxConcurrency);
+    final CountDownLatch releaseProcessing = new CountDownLatch(1);
+    @SuppressWarnings("unchecked")
+    MessageConsumerJob<String> consumerJob = new MessageConsumerJob<String>(mom, sessionProvider, mock(IDestination.class), null, new SubscribeInput().withMaxConcurrency(maxConcurrency), 0L) {
+      @Override
+      protected void handleMessageInRunContext(Message jmsMessage) throws JMSException {
+        processing.countDown();
+        try {
+          releaseProcessing.await();
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+
+    IFuture<Void> consumer = Jobs.schedule(consumerJob, Jobs.newInput());
+    try {
+      assertTrue(processing.await(10, TimeUnit.SECONDS));
+      // one more message is received, then the receiving thread waits for a free permit
+      assertTrue(blockedReceived.await(10, TimeUnit.SECONDS));
+      assertFalse("receive loop must not continue while max concurrency is reached", tooManyReceived.await(500, TimeUnit.MILLISECONDS));
+      assertEquals(maxConcurrency + 1, receivedCount.get());
+
+      releaseProcessing.countDown();
+      assertTrue(tooManyReceived.await(10, TimeUnit.SECONDS));
+    }
+    finally {
+      releaseProcessing.countDown();
+      when(sessionProvider.isClosing()).thenReturn(true);
+      consumer.cancel(true);
+    }
+  }
+}
@@ -10,7 +10,10 @@
  */
 package org.eclipse.scout.rt.mom.jms;
 
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -24,7 +27,10 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
@@ -35,6 +41,7 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractMessageConsumerJob.class);
+  private static final long PROCESSING_PERMIT_POLL_MILLIS = 500L;
 
   protected final JmsMomImplementor m_mom;
   protected final IJmsSessionProvider m_sessionProvider;
@@ -42,6 +49,8 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
   protected final SubscribeInput m_subscribeInput;
   protected final IMarshaller m_marshaller;
   protected final long m_receiveTimeoutMillis;
+  protected final IExecutionSemaphore[] m_executionSemaphores; // null if concurrency is not limited
+  protected final Semaphore m_processingPermits; // null if concurrency is not limited
 
   /**
    * @param mom
@@ -68,6 +77,85 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
     m_subscribeInput = input;
     m_marshaller = mom.resolveMarshaller(destination);
     m_receiveTimeoutMillis = receiveTimeoutMillis;
+    m_executionSemaphores = createExecutionSemaphores(input);
+    m_processingPermits = input.getMaxConcurrency() > 0 ? new Semaphore(input.getMaxConcurrency()) : null;
+  }
+
+  /**
+   * @return one semaphore limiting the concurrency to {@link SubscribeInput#getMaxConcurrency()}, or one single-permit
+   *         semaphore per concurrent key if an {@link SubscribeInput#getOrderingProperty()} is set, or
+   *         <code>null</code> if concurrency is not limited.
+   */
+  protected IExecutionSemaphore[] createExecutionSemaphores(SubscribeInput input) {
+    int maxConcurrency = input.getMaxConcurrency();
+    if (maxConcurrency <= 0) {
+      return null;
+    }
+    if (input.getOrderingProperty() == null) {
+      return new IExecutionSemaphore[]{Jobs.newExecutionSemaphore(maxConcurrency).seal()};
+    }
+    IExecutionSemaphore[] semaphores = new IExecutionSemaphore[maxConcurrency];
+    for (int i = 0; i < semaphores.length; i++) {
+      semaphores[i] = Jobs.newExecutionSemaphore(1).seal();
+    }
+    return semaphores;
+  }
+
+  /**
+   * @return the semaphore to process the given message with, or <code>null</code> if concurrency is not limited.
+   *         Messages with the same ordering key always get the same single-permit semaphore, hence are processed in
+   *         the order received.
+   */
+  protected IExecutionSemaphore resolveExecutionSemaphore(Message jmsMessage) throws JMSException {
+    if (m_executionSemaphores == null) {
+      return null;
+    }
+    if (m_executionSemaphores.length == 1) {
+      return m_executionSemaphores[0];
+    }
+    String key = jmsMessage.getStringProperty(m_subscribeInput.getOrderingProperty());
+    if (key == null) {
+      // no ordering required
+      key = jmsMessage.getJMSMessageID();
+    }
+    return m_executionSemaphores[Math.floorMod(Objects.hashCode(key), m_executionSemaphores.length)];
+  }
+
+  /**
+   * Schedules the processing of received messages. If concurrency is limited, the receiving thread blocks until fewer
+   * than {@link SubscribeInput#getMaxConcurrency()} messages (or batches) are being processed or waiting for their
+   * execution semaphore. Hence no backlog of received messages builds up while the listener is busy.
+   */
+  protected IFuture<Void> scheduleProcessing(IRunnable runnable, JobInput input) {
+    final boolean permitAcquired = acquireProcessingPermit();
+    final IFuture<Void> future = Jobs.schedule(runnable, input);
+    if (permitAcquired) {
+      future.whenDone(event -> m_processingPermits.release(), null);
+    }
+    return future;
+  }
+
+  /**
+   * @return <code>true</code> if a processing permit was acquired, <code>false</code> if concurrency is not limited or
+   *         the consumer is closed while waiting.
+   */
+  protected boolean acquireProcessingPermit() {
+    if (m_processingPermits == null) {
+      return false;
+    }
+    try {
+      while (!m_processingPermits.tryAcquire(PROCESSING_PERMIT_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
+          return false;
+        }
+      }
+      return true;
+    }
+    catch (InterruptedException e) {
+      // do not lose the message already received, the receive loop checks for cancellation afterwards
+      Thread.currentThread().interrupt();
+      return false;
+    }
   }
 
   protected boolean isSingleThreaded() {
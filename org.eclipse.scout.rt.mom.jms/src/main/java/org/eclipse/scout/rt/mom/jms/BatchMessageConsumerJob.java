@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IMessage;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Receives messages in batches as specified by {@link SubscribeInput#withBatch(int, long)} and delivers them to an
+ * {@link IBatchMessageListener}. All messages of a batch are processed in the same run context, hence in
+ * {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED} mode they are committed or rolled back together.
+ *
+ * @since 11.0
+ */
+public class BatchMessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchMessageConsumerJob.class);
+
+  protected final IBatchMessageListener<DTO> m_listener;
+
+  public BatchMessageConsumerJob(JmsMomImplementor mom, IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input, long receiveTimeout) {
+    super(mom, sessionProvider, destination, input, receiveTimeout);
+    m_listener = listener;
+  }
+
+  @Override
+  protected void onJmsMessage(final Message jmsMessage) throws JMSException {
+    final List<Message> jmsMessages = receiveBatch(jmsMessage);
+    if (isSingleThreaded() || isTransacted()) {
+      handleMessagesInRunContext(jmsMessages);
+    }
+    else {
+      scheduleProcessing(() -> handleMessagesInRunContext(jmsMessages), m_mom.newJobInput()
+          .withName("Receiving JMS messages [dest={}, count={}]", m_destination, jmsMessages.size())
+          .withExecutionSemaphore(resolveExecutionSemaphore(jmsMessage)));
+    }
+  }
+
+  /**
+   * Receives further messages until the batch is full or the batch timeout elapsed.
+   *
+   * @param firstMessage
+   *          the message which started the batch
+   */
+  protected List<Message> receiveBatch(Message firstMessage) {
+    final List<Message> jmsMessages = new ArrayList<>(Math.min(m_subscribeInput.getBatchSize(), 64));
+    jmsMessages.add(firstMessage);
+
+    final long deadline = System.currentTimeMillis() + m_subscribeInput.getBatchTimeoutMillis();
+    while (jmsMessages.size() < m_subscribeInput.getBatchSize()) {
+      long remainingMillis = deadline - System.currentTimeMillis();
+      if (remainingMillis <= 0L || IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
+        break;
+      }
+
+      try {
+        Message message = m_sessionProvider.receive(m_subscribeInput, remainingMillis);
+        if (message == null) {
+          break;
+        }
+        m_mom.getMessageHandler().handleIncoming(m_destination, message, m_marshaller);
+        jmsMessages.add(message);
+      }
+      catch (Exception | ThreadInterruptedError e) {
+        // deliver the messages received so far, the receive loop handles the failure upon next receive
+        Thread.interrupted();
+        LOG.debug("Failed to receive further messages of batch for {}", m_destination, e);
+        break;
+      }
+    }
+    return jmsMessages;
+  }
+
+  protected void handleMessagesInRunContext(final List<Message> jmsMessages) throws JMSException {
+    final List<IMessage<DTO>> messages = new ArrayList<>(jmsMessages.size());
+    for (Message jmsMessage : jmsMessages) {
+      final JmsMessageReader<DTO> messageReader = JmsMessageReader.newInstance(jmsMessage, m_marshaller);
+      messages.add(messageReader.readMessage());
+    }
+
+    createRunContext()
+        .run(() -> {
+          try {
+            m_listener.onMessages(messages);
+          }
+          catch (Exception e) {
+            throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                .withContextInfo("messages", messages.size());
+          }
+        });
+  }
+}
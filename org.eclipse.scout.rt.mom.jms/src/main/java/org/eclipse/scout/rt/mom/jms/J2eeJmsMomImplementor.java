@@ -74,6 +74,12 @@ public class J2eeJmsMomImplementor extends JmsMomImplementor {
     }
   }
 
+  @Override
+  protected JmsReplyQueue ensureReplyQueue() {
+    // The shared connection is not started, hence every request consumes its reply from its own temporary queue.
+    return null;
+  }
+
   @Override
   protected void postCreateConnection(Connection connection) {
     // We do not set client id nor exception handler and  we do NOT start the shared connection.
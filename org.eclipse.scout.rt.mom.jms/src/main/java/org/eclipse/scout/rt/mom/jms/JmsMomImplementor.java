@@ -19,7 +19,10 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
@@ -40,6 +43,7 @@ import javax.naming.InitialContext;
 import javax.naming.NamingException;
 
 import org.eclipse.scout.rt.mom.api.DestinationConfigPropertyParser;
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
 import org.eclipse.scout.rt.mom.api.IBiDestination;
 import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
@@ -128,6 +132,24 @@ public class JmsMomImplementor implements IMomImplementor {
    */
   public static final String JMS_REQUEST_CANCELLATION_MESSAGE_CONSUMER_JOB_RECEIVE_TIMEOUT = "scout.mom.jms.requestCancellationMessageConsumerJobReceiveTimeout";
 
+  /**
+   * Key to set the maximal number of idle sessions kept for publishing non-transactional messages. Use 0 to create a
+   * new session for every message published.
+   * <p>
+   * <b>Value type:</b> {@link Integer}, default {@value #DEFAULT_PUBLISHER_POOL_SIZE}
+   */
+  public static final String JMS_PUBLISHER_POOL_SIZE = "scout.mom.jms.publisherPoolSize";
+
+  /**
+   * Key to enable or disable the temporary queue shared by all 'request-reply' requests of this MOM. If disabled, a
+   * temporary queue and consumer is created for every request.
+   * <p>
+   * <b>Value type:</b> {@link Boolean}, default <code>true</code>
+   */
+  public static final String JMS_SHARED_REPLY_QUEUE_ENABLED = "scout.mom.jms.sharedReplyQueueEnabled";
+
+  public static final int DEFAULT_PUBLISHER_POOL_SIZE = 16;
+
   protected final String m_momUid = UUID.randomUUID().toString();
 
   // init -> thread-safety: only set in init method
@@ -142,9 +164,13 @@ public class JmsMomImplementor implements IMomImplementor {
   protected IDestination<?> m_requestReplyCancellationTopic;
   protected IMarshaller m_defaultMarshaller;
   protected IJmsMessageHandler m_messageHandler;
+  protected JmsSessionProviderPool m_publisherPool;
+  protected boolean m_sharedReplyQueueEnabled;
   // end init
 
   protected ISubscription m_requestCancellationSubscription;
+  protected JmsReplyQueue m_replyQueue;
+  protected ISubscription m_replyQueueSubscription;
   protected int m_subscriptionAwaitStartedSeconds = 30;
 
   protected final Map<IDestination, Destination> m_jmsDestinations = new ConcurrentHashMap<>();
@@ -168,6 +194,7 @@ public class JmsMomImplementor implements IMomImplementor {
       m_connectionFactory = createConnectionFactory(properties);
       m_clientId = computeClientId(properties);
       m_connectionWrapper = createConnectionWrapper(properties);
+      m_publisherPool = createPublisherPool(properties);
 
       m_defaultMarshaller = createDefaultMarshaller(properties);
       m_messageHandler = createMessageHandler(properties);
@@ -193,11 +220,17 @@ public class JmsMomImplementor implements IMomImplementor {
         .withConnectionFunction(this::createConnection);
   }
 
+  protected JmsSessionProviderPool createPublisherPool(final Map<Object, Object> properties) {
+    int maxIdle = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_PUBLISHER_POOL_SIZE), Integer.class), DEFAULT_PUBLISHER_POOL_SIZE);
+    return new JmsSessionProviderPool(this::createSessionProvider, maxIdle);
+  }
+
   @SuppressWarnings("RedundantThrows")
   protected void initRequestReply(final Map<Object, Object> properties) throws JMSException {//NOSONAR
     m_requestReplyEnabled = BooleanUtility.nvl(
         TypeCastUtility.castValue(properties.get(REQUEST_REPLY_ENABLED), Boolean.class),
         CONFIG.getPropertyValue(RequestReplyEnabledProperty.class));
+    m_sharedReplyQueueEnabled = BooleanUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_SHARED_REPLY_QUEUE_ENABLED), Boolean.class), true);
     if (!m_requestReplyEnabled) {
       LOG.info("{}: 'request-reply' messaging is disabled", m_symbolicName);
       return;
@@ -314,12 +347,27 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
-    IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
+    IJmsSessionProvider sessionProvider = m_publisherPool.borrow();
+    boolean sent = false;
     try {
       send(sessionProvider, destination, transferObject, input);
+      sent = true;
     }
     finally {
-      sessionProvider.close();
+      releasePublisher(sessionProvider, sent);
+    }
+  }
+
+  /**
+   * Returns a session provider borrowed from {@link #m_publisherPool}. A session provider which failed to send is not
+   * reused.
+   */
+  protected void releasePublisher(IJmsSessionProvider sessionProvider, boolean healthy) {
+    if (healthy) {
+      m_publisherPool.release(sessionProvider);
+    }
+    else {
+      m_publisherPool.invalidate(sessionProvider);
     }
   }
 
@@ -362,6 +410,29 @@ public class JmsMomImplementor implements IMomImplementor {
     return createJmsSubscription(destination, input, sessionProvider, worker);
   }
 
+  @Override
+  public <DTO> ISubscription subscribeBatch(final IDestination<DTO> destination, final IBatchMessageListener<DTO> listener, final SubscribeInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "messageListener not specified");
+    assertNotNull(input, "input not specified");
+    try {
+      return subscribeBatchImpl(destination, listener, input);
+    }
+    catch (final JMSException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
+  protected <DTO> ISubscription subscribeBatchImpl(IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input) throws JMSException {
+    IJmsSessionProvider sessionProvider = createSessionProvider(destination, SubscribeInput.ACKNOWLEDGE_TRANSACTED == input.getAcknowledgementMode());
+    IFuture<?> worker = Jobs.schedule(createBatchMessageConsumerJob(sessionProvider, destination, listener, input), newJobInput().withName("JMS batch subscriber"));
+    return createJmsSubscription(destination, input, sessionProvider, worker);
+  }
+
+  protected <DTO> IRunnable createBatchMessageConsumerJob(IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input) {
+    return new BatchMessageConsumerJob<>(this, sessionProvider, destination, listener, input, m_messageConsumerJobReceiveTimeout);
+  }
+
   protected <DTO> IRunnable createMessageConsumerJob(IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input) {
     return new MessageConsumerJob<>(this, sessionProvider, destination, listener, input, m_messageConsumerJobReceiveTimeout);
   }
@@ -419,6 +490,66 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <REQUEST, REPLY> Message requestImpl(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input, String replyId) throws JMSException {
+    JmsReplyQueue replyQueue = ensureReplyQueue();
+    if (replyQueue != null) {
+      return requestWithReplyQueue(replyQueue, destination, requestObject, input, replyId);
+    }
+    return requestWithTemporaryQueue(destination, requestObject, input, replyId);
+  }
+
+  protected <REQUEST, REPLY> Message requestWithReplyQueue(final JmsReplyQueue replyQueue, final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input, String replyId) throws JMSException {
+    Message responseMessage;
+    CompletableFuture<Message> reply = replyQueue.register(replyId);
+    try {
+      // send request message
+      IJmsSessionProvider sessionProvider = m_publisherPool.borrow();
+      boolean sent = false;
+      try {
+        JmsMessageWriter messageWriter = JmsMessageWriter.newInstance(sessionProvider.getSession(), resolveMarshaller(destination))
+            .writeReplyTo(replyQueue.getTemporaryQueue())
+            .writeReplyId(replyId)
+            .writeProperties(input.getProperties())
+            .writeTransferObject(requestObject);
+        send(sessionProvider, destination, messageWriter, input);
+        sent = true;
+      }
+      finally {
+        releasePublisher(sessionProvider, sent);
+      }
+
+      // receive response message
+      try {
+        responseMessage = reply.get();
+      }
+      catch (InterruptedException e) {
+        if (IFuture.CURRENT.get().isCancelled()) {
+          LOG.info("Request job canceled; {}", e.getMessage());
+          return null;
+        }
+        Thread.currentThread().interrupt();
+        throw new ThreadInterruptedError("Interrupted while waiting for reply", e);
+      }
+      catch (ExecutionException | CancellationException e) {
+        throw new ProcessingException("Reply queue closed while waiting for reply [replyId={}]", replyId, e);
+      }
+    }
+    catch (JMSException e) {
+      if (IFuture.CURRENT.get().isCancelled()) {
+        // if job was canceled, we ignore JMSException as these are exceptions because of interruption
+        LOG.info("Request job canceled; {}", e.getMessage());
+        return null;
+      }
+      throw e;
+    }
+    finally {
+      replyQueue.unregister(replyId);
+    }
+
+    getMessageHandler().handleIncoming(destination, responseMessage, resolveMarshaller(destination));
+    return responseMessage;
+  }
+
+  protected <REQUEST, REPLY> Message requestWithTemporaryQueue(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input, String replyId) throws JMSException {
     Message responseMessage;
     IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
     try {
@@ -475,15 +606,17 @@ public class JmsMomImplementor implements IMomImplementor {
     Jobs.schedule(() -> {
       assertNotNull(m_requestReplyCancellationTopic);
 
-      IJmsSessionProvider sessionProvider = createSessionProvider();
+      IJmsSessionProvider sessionProvider = m_publisherPool.borrow();
+      boolean sent = false;
       try {
         JmsMessageWriter writer = JmsMessageWriter.newInstance(sessionProvider.getSession(), BEANS.get(TextMarshaller.class))
             .writeReplyId(replyId);
 
         send(sessionProvider.getProducer(), resolveJmsDestination(m_requestReplyCancellationTopic, sessionProvider.getSession()), writer, Message.DEFAULT_DELIVERY_MODE, Message.DEFAULT_PRIORITY, Message.DEFAULT_TIME_TO_LIVE);
+        sent = true;
       }
       finally {
-        sessionProvider.close();
+        releasePublisher(sessionProvider, sent);
       }
     }, newJobInput().withName("JMS publish cancel request for {}", replyId));
   }
@@ -519,6 +652,24 @@ public class JmsMomImplementor implements IMomImplementor {
     }
   }
 
+  /**
+   * @return the reply queue shared by all requests of this MOM, or <code>null</code> if every request uses its own
+   *         temporary queue
+   */
+  protected synchronized JmsReplyQueue ensureReplyQueue() throws JMSException {
+    if (!m_sharedReplyQueueEnabled) {
+      return null;
+    }
+    if (m_replyQueue == null) {
+      IJmsSessionProvider sessionProvider = createSessionProviderWrapper(false, JmsReplyQueue.ReplyQueueSessionProvider::new);
+      JmsReplyQueue replyQueue = new JmsReplyQueue(sessionProvider, m_replyMessageConsumerJobReceiveTimeout);
+      IFuture<?> worker = Jobs.schedule(replyQueue, newJobInput().withName("JMS shared reply queue listener"));
+      m_replyQueueSubscription = createJmsSubscription(null, replyQueue.getSubscribeInput(), sessionProvider, worker);
+      m_replyQueue = replyQueue;
+    }
+    return m_replyQueue;
+  }
+
   protected <DTO> ISubscription subscribeRequestCancellation(IDestination<DTO> cancellationTopic) throws JMSException {
     SubscribeInput input = MOM.newSubscribeInput();
     IJmsSessionProvider sessionProvider = createSessionProvider(cancellationTopic, false);
@@ -552,6 +703,18 @@ public class JmsMomImplementor implements IMomImplementor {
       if (m_requestCancellationSubscription != null) {
         m_requestCancellationSubscription.dispose();
       }
+      if (m_replyQueueSubscription != null) {
+        try {
+          m_replyQueueSubscription.dispose();
+        }
+        finally {
+          m_replyQueueSubscription = null;
+          m_replyQueue = null;
+        }
+      }
+      if (m_publisherPool != null) {
+        m_publisherPool.close();
+      }
 
       // cancel any still running mom jobs
       Predicate<IFuture<?>> momJobsFilter = Jobs.newFutureFilterBuilder().andMatchExecutionHint(m_momUid).toFilter();
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.eclipse.scout.rt.mom.jms.IJmsMomProperties.JMS_PROP_REPLY_ID;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+import javax.jms.TemporaryQueue;
+
+import org.eclipse.scout.rt.mom.api.MOM;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.mom.jms.JmsMomImplementor.MomExceptionHandler;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Temporary queue shared by all 'request-reply' requests of a MOM. Instead of creating a temporary queue and consumer
+ * per request, every request registers its reply id and the replies are dispatched by this consumer job to the
+ * waiting requests.
+ * <p>
+ * The temporary queue is bound to the session of the session provider. Upon connection failover a new session and
+ * therefore a new temporary queue is created; requests waiting for a reply on the old queue run into their timeout.
+ *
+ * @since 11.0
+ */
+public class JmsReplyQueue implements IRunnable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JmsReplyQueue.class);
+
+  protected final IJmsSessionProvider m_sessionProvider;
+  protected final SubscribeInput m_subscribeInput = MOM.newSubscribeInput();
+  protected final long m_receiveTimeoutMillis;
+  protected final Map<String, CompletableFuture<Message>> m_pendingReplies = new ConcurrentHashMap<>();
+
+  /**
+   * @param sessionProvider
+   *          session provider consuming its {@link IJmsSessionProvider#getTemporaryQueue()}, see
+   *          {@link ReplyQueueSessionProvider}
+   * @param receiveTimeoutMillis
+   *          in milliseconds, 0 for no timeout
+   */
+  public JmsReplyQueue(IJmsSessionProvider sessionProvider, long receiveTimeoutMillis) {
+    m_sessionProvider = sessionProvider;
+    m_receiveTimeoutMillis = receiveTimeoutMillis;
+  }
+
+  public IJmsSessionProvider getSessionProvider() {
+    return m_sessionProvider;
+  }
+
+  public SubscribeInput getSubscribeInput() {
+    return m_subscribeInput;
+  }
+
+  /**
+   * @return the queue to be used as 'replyTo' of request messages
+   */
+  public TemporaryQueue getTemporaryQueue() throws JMSException {
+    return m_sessionProvider.getTemporaryQueue();
+  }
+
+  /**
+   * Registers a request waiting for its reply. The request must be registered before the request message is sent and
+   * must be unregistered once it does not wait anymore.
+   *
+   * @return future completed with the reply message
+   */
+  public CompletableFuture<Message> register(String replyId) {
+    CompletableFuture<Message> reply = new CompletableFuture<>();
+    m_pendingReplies.put(replyId, reply);
+    return reply;
+  }
+
+  public void unregister(String replyId) {
+    m_pendingReplies.remove(replyId);
+  }
+
+  public int getPendingCount() {
+    return m_pendingReplies.size();
+  }
+
+  @Override
+  public void run() throws Exception {
+    while (true) {
+      if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
+        break;
+      }
+
+      final Message message;
+      try {
+        message = m_sessionProvider.receive(m_subscribeInput, m_receiveTimeoutMillis);
+        if (message == null) {
+          // consumer closed or connection failure, go to start of while loop
+          continue;
+        }
+      }
+      catch (Exception | ThreadInterruptedError e) {
+        //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption
+        Thread.interrupted();
+        if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
+          break;
+        }
+        LOG.warn("JMS MessageConsumer for reply queue is still idle after several retry attempts", e);
+        continue;
+      }
+
+      try {
+        dispatch(message);
+      }
+      catch (Exception e) {
+        BEANS.get(MomExceptionHandler.class).handle(e);
+      }
+    }
+    cancelPendingReplies();
+    LOG.debug("JMS MessageConsumer for reply queue was closed");
+  }
+
+  protected void dispatch(Message message) throws JMSException {
+    String replyId = message.getStringProperty(JMS_PROP_REPLY_ID);
+    CompletableFuture<Message> reply = replyId == null ? null : m_pendingReplies.remove(replyId);
+    if (reply == null) {
+      LOG.debug("Discard reply message because its request is not waiting anymore [replyId={}]", replyId);
+      return;
+    }
+    reply.complete(message);
+  }
+
+  protected void cancelPendingReplies() {
+    for (CompletableFuture<Message> reply : m_pendingReplies.values()) {
+      reply.cancel(false);
+    }
+    m_pendingReplies.clear();
+  }
+
+  /**
+   * Session provider which creates its temporary queue together with the session and consumes from it.
+   */
+  public static class ReplyQueueSessionProvider extends JmsSessionProvider {
+
+    private final TemporaryQueue m_replyQueue;
+
+    public ReplyQueueSessionProvider(Session session) throws JMSException {
+      super(session, null);
+      // created eagerly, so concurrent requests may access the queue while the session is used by the consumer job
+      m_replyQueue = session.createTemporaryQueue();
+    }
+
+    @Override
+    public TemporaryQueue getTemporaryQueue() {
+      return m_replyQueue;
+    }
+
+    @Override
+    protected MessageConsumer createConsumer(SubscribeInput input) throws JMSException {
+      return getSession().createConsumer(m_replyQueue);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.JMSException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of {@link IJmsSessionProvider} which are not bound to a destination and therefore can be used to publish
+ * messages to any destination. This avoids creating a JMS session and producer for every message published.
+ * <p>
+ * A borrowed session provider is exclusively used by the borrowing thread until it is released again. At most
+ * {@link #getMaxIdle()} session providers are kept idle, surplus ones are closed upon release.
+ *
+ * @since 11.0
+ */
+public class JmsSessionProviderPool {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JmsSessionProviderPool.class);
+
+  protected final ISessionProviderFactory m_factory;
+  protected final int m_maxIdle;
+  protected final Deque<IJmsSessionProvider> m_idle = new ConcurrentLinkedDeque<>();
+  protected final AtomicInteger m_idleCount = new AtomicInteger();
+  protected volatile boolean m_closed;
+
+  /**
+   * @param factory
+   *          creates a new session provider if no idle one is available
+   * @param maxIdle
+   *          maximal number of idle session providers kept, 0 to close every session provider upon release
+   */
+  public JmsSessionProviderPool(ISessionProviderFactory factory, int maxIdle) {
+    m_factory = assertNotNull(factory);
+    m_maxIdle = Math.max(0, maxIdle);
+  }
+
+  public int getMaxIdle() {
+    return m_maxIdle;
+  }
+
+  public int getIdleCount() {
+    return m_idleCount.get();
+  }
+
+  /**
+   * @return an idle session provider or a new one if none is available. The caller must either
+   *         {@link #release(IJmsSessionProvider)} or {@link #invalidate(IJmsSessionProvider)} it afterwards.
+   */
+  public IJmsSessionProvider borrow() throws JMSException {
+    IJmsSessionProvider sessionProvider;
+    while ((sessionProvider = m_idle.pollFirst()) != null) {
+      m_idleCount.decrementAndGet();
+      if (!sessionProvider.isClosing()) {
+        return sessionProvider;
+      }
+    }
+    return m_factory.create();
+  }
+
+  /**
+   * Returns a healthy session provider to the pool. It is closed if the pool is closed or the idle limit is reached.
+   */
+  public void release(IJmsSessionProvider sessionProvider) {
+    if (sessionProvider.isClosing()) {
+      return;
+    }
+    if (!m_closed) {
+      if (m_idleCount.incrementAndGet() <= m_maxIdle) {
+        m_idle.offerFirst(sessionProvider);
+        if (m_closed) {
+          // pool was closed concurrently
+          closeIdle();
+        }
+        return;
+      }
+      m_idleCount.decrementAndGet();
+    }
+    closeQuietly(sessionProvider);
+  }
+
+  /**
+   * Closes a session provider which must not be reused, e.g. because sending a message failed.
+   */
+  public void invalidate(IJmsSessionProvider sessionProvider) {
+    closeQuietly(sessionProvider);
+  }
+
+  /**
+   * Closes all idle session providers. Session providers released afterwards are closed as well.
+   */
+  public void close() {
+    m_closed = true;
+    closeIdle();
+  }
+
+  protected void closeIdle() {
+    IJmsSessionProvider sessionProvider;
+    while ((sessionProvider = m_idle.pollFirst()) != null) {
+      m_idleCount.decrementAndGet();
+      closeQuietly(sessionProvider);
+    }
+  }
+
+  protected void closeQuietly(IJmsSessionProvider sessionProvider) {
+    try {
+      sessionProvider.close();
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Failed to close session provider {}", sessionProvider, e);
+    }
+  }
+
+  /**
+   * Creates the session providers of a {@link JmsSessionProviderPool}.
+   */
+  @FunctionalInterface
+  public interface ISessionProviderFactory {
+
+    IJmsSessionProvider create() throws JMSException;
+  }
+}
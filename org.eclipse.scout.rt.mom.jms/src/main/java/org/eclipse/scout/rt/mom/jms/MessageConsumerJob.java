@@ -19,7 +19,6 @@ import org.eclipse.scout.rt.mom.api.IMessageListener;
 import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
-import org.eclipse.scout.rt.platform.job.Jobs;
 
 public class MessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
   protected final IMessageListener<DTO> m_listener;
@@ -39,7 +38,9 @@ public class MessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
       handleMessageInRunContext(jmsMessage);
     }
     else {
-      Jobs.schedule(() -> handleMessageInRunContext(jmsMessage), m_mom.newJobInput().withName("Receiving JMS message [dest={}]", m_destination));
+      scheduleProcessing(() -> handleMessageInRunContext(jmsMessage), m_mom.newJobInput()
+          .withName("Receiving JMS message [dest={}]", m_destination)
+          .withExecutionSemaphore(resolveExecutionSemaphore(jmsMessage)));
     }
   }
 
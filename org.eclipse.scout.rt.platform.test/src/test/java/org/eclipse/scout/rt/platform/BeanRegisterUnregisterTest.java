@@ -10,6 +10,9 @@
  */
 package org.eclipse.scout.rt.platform;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Assert;
@@ -29,7 +32,28 @@ public class BeanRegisterUnregisterTest {
     Assert.assertEquals(0, context.getBeans(Object.class).size());
   }
 
+  @Test
+  public void testRegisterBeans() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+
+    List<IBean<?>> regs = context.registerBeans(Arrays.asList(new BeanMetaData(TestObject.class), new BeanMetaData(TestSubObject.class)));
+    Assert.assertEquals(2, regs.size());
+    Assert.assertEquals(TestObject.class, regs.get(0).getBeanClazz());
+    Assert.assertEquals(TestSubObject.class, regs.get(1).getBeanClazz());
+    Assert.assertEquals(2, context.getBeans(Object.class).size());
+    Assert.assertEquals(2, context.getRegisteredBeans(TestObject.class).size());
+    Assert.assertEquals(1, context.getRegisteredBeans(TestSubObject.class).size());
+
+    context.unregisterBean(regs.get(1));
+    Assert.assertEquals(1, context.getBeans(Object.class).size());
+    Assert.assertEquals(0, context.getRegisteredBeans(TestSubObject.class).size());
+  }
+
   private static class TestObject {
 
   }
+
+  private static class TestSubObject extends TestObject {
+
+  }
 }
@@ -12,11 +12,30 @@ package org.eclipse.scout.rt.platform.cache;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.ImmutablePair;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
 import org.junit.Test;
 
 /**
@@ -123,4 +142,202 @@ public class BasicCacheTest {
     cache.get(1337);
   }
 
+  @Test
+  public void testSingleFlight() throws InterruptedException {
+    final AtomicInteger resolveCount = new AtomicInteger();
+    final BlockingCountDownLatch resolveLatch = new BlockingCountDownLatch(1);
+    final BlockingCountDownLatch awaitLatch = new BlockingCountDownLatch(5);
+    final ICache<Integer, String> cache = new BasicCache<Integer, String>("BasicCacheTestCacheId_testSingleFlight", key -> {
+      resolveCount.incrementAndGet();
+      try {
+        resolveLatch.countDownAndBlock();
+      }
+      catch (InterruptedException e) {
+        throw new ThreadInterruptedError("interrupted", e);
+      }
+      return key + "." + resolveCount.get();
+    }, new ConcurrentHashMap<>(), false, true, null) {
+      @Override
+      protected String awaitOrResolve(Integer key, P_Load<String> load) {
+        awaitLatch.countDown();
+        return super.awaitOrResolve(key, load);
+      }
+    };
+
+    List<IFuture<String>> futures = new ArrayList<>();
+    futures.add(Jobs.schedule(() -> cache.get(1), Jobs.newInput()));
+    assertTrue(resolveLatch.await());
+    for (int i = 0; i < 5; i++) {
+      futures.add(Jobs.schedule(() -> cache.get(1), Jobs.newInput()));
+    }
+    // all concurrent callers joined the resolve in flight
+    assertTrue(awaitLatch.await());
+    resolveLatch.unblock();
+
+    for (IFuture<String> future : futures) {
+      assertEquals("1.1", future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    }
+    assertEquals(1, resolveCount.get());
+  }
+
+  /**
+   * The resolver of key 1 gets key 2 while the resolver of key 2 gets key 1. Waiting for each other would never end.
+   */
+  @Test
+  public void testSingleFlightCrossKeyNoDeadlock() {
+    final CountDownLatch resolving1 = new CountDownLatch(1);
+    final CountDownLatch resolving2 = new CountDownLatch(1);
+    final AtomicBoolean firstResolve2 = new AtomicBoolean(true);
+    final AtomicReference<ICache<Integer, String>> cacheRef = new AtomicReference<>();
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    cacheRef.set(cacheBuilder
+        .withCacheId("BasicCacheTestCacheId_testSingleFlightCrossKeyNoDeadlock")
+        .withValueResolver(key -> {
+          if (key == 1) {
+            awaitLatch(resolving1, resolving2);
+            return "1:" + cacheRef.get().get(2);
+          }
+          awaitLatch(resolving2, resolving1);
+          // only the first resolve of key 2 closes the cycle, so that resolving a key of the cycle terminates
+          return firstResolve2.compareAndSet(true, false) ? "2:" + cacheRef.get().get(1) : "2";
+        })
+        .withSingleFlight(true)
+        .withReplaceIfExists(true)
+        .build());
+
+    IFuture<String> future1 = Jobs.schedule(() -> cacheRef.get().get(1), Jobs.newInput());
+    IFuture<String> future2 = Jobs.schedule(() -> cacheRef.get().get(2), Jobs.newInput());
+    assertTrue(future1.awaitDoneAndGet(10, TimeUnit.SECONDS).startsWith("1:2"));
+    assertTrue(future2.awaitDoneAndGet(10, TimeUnit.SECONDS).startsWith("2"));
+  }
+
+  private static void awaitLatch(CountDownLatch own, CountDownLatch other) {
+    own.countDown();
+    try {
+      assertTrue(other.await(10, TimeUnit.SECONDS));
+    }
+    catch (InterruptedException e) {
+      throw new ThreadInterruptedError("interrupted", e);
+    }
+  }
+
+  /**
+   * A load of a transactional cache is shared with callers of other transactions, hence it is resolved in a separate
+   * transaction. A key changed by the current transaction is resolved within the current transaction.
+   */
+  @Test
+  public void testSingleFlightTransactional() {
+    final AtomicInteger resolveCount = new AtomicInteger();
+    final AtomicReference<ITransaction> resolveTransaction = new AtomicReference<>();
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    final ICache<Integer, String> cache = cacheBuilder
+        .withCacheId("BasicCacheTestCacheId_testSingleFlightTransactional")
+        .withValueResolver(key -> {
+          resolveTransaction.set(ITransaction.CURRENT.get());
+          return key + "." + resolveCount.incrementAndGet();
+        })
+        .withTransactional(true)
+        .withTransactionalFastForward(true)
+        .withSingleFlight(true)
+        .withReplaceIfExists(true)
+        .build();
+
+    RunContexts.empty().withTransactionScope(TransactionScope.REQUIRES_NEW).run(() -> {
+      ITransaction transaction = ITransaction.CURRENT.get();
+      assertEquals("1.1", cache.get(1));
+      assertNotNull(resolveTransaction.get());
+      assertNotSame(transaction, resolveTransaction.get());
+
+      // e.g. the current transaction changed the data of the value
+      cache.invalidate(new KeyCacheEntryFilter<>(Collections.singleton(1)), false);
+      assertEquals("1.2", cache.get(1));
+      assertSame(transaction, resolveTransaction.get());
+
+      // the changed value is cached within the current transaction, the other key is shared again
+      assertEquals(CollectionUtility.hashMap(new ImmutablePair<>(1, "1.2"), new ImmutablePair<>(2, "2.3")), cache.getAll(Arrays.asList(1, 2)));
+      assertNotSame(transaction, resolveTransaction.get());
+    });
+  }
+
+  @Test
+  public void testRefreshAhead() throws InterruptedException {
+    final AtomicInteger resolveCount = new AtomicInteger();
+    final AtomicLong clock = new AtomicLong();
+    final CountDownLatch refreshed = new CountDownLatch(1);
+    final ICache<Integer, String> cache = new BasicCache<Integer, String>("BasicCacheTestCacheId_testRefreshAhead",
+        key -> key + "." + resolveCount.incrementAndGet(), new ConcurrentHashMap<>(), false, true, 50L) {
+      @Override
+      protected long nanoTime() {
+        return clock.get();
+      }
+
+      @Override
+      protected void refresh(Integer key, String staleValue, P_Load<String> load) {
+        super.refresh(key, staleValue, load);
+        refreshed.countDown();
+      }
+    };
+
+    assertEquals("1.1", cache.get(1));
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+    assertEquals("1.1", cache.get(1));
+    assertEquals(1, resolveCount.get());
+
+    // stale value is served while it is reloaded asynchronously
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    assertEquals("1.1", cache.get(1));
+    assertTrue(refreshed.await(10, TimeUnit.SECONDS));
+    assertEquals("1.2", cache.get(1));
+    assertEquals(2, resolveCount.get());
+  }
+
+  /**
+   * A caller waiting for a refresh receives the refreshed value, even if it is <code>null</code>.
+   */
+  @Test
+  public void testRefreshAheadWaiterReceivesNull() throws InterruptedException {
+    final AtomicInteger resolveCount = new AtomicInteger();
+    final AtomicLong clock = new AtomicLong();
+    final BlockingCountDownLatch refreshLatch = new BlockingCountDownLatch(1);
+    final CountDownLatch awaitLatch = new CountDownLatch(1);
+    final BasicCache<Integer, String> cache = new BasicCache<Integer, String>("BasicCacheTestCacheId_testRefreshAheadWaiterReceivesNull", key -> {
+      if (resolveCount.incrementAndGet() == 1) {
+        return "1.1";
+      }
+      try {
+        refreshLatch.countDownAndBlock();
+      }
+      catch (InterruptedException e) {
+        throw new ThreadInterruptedError("interrupted", e);
+      }
+      return null;
+    }, new ConcurrentHashMap<>(), false, true, 50L) {
+      @Override
+      protected long nanoTime() {
+        return clock.get();
+      }
+
+      @Override
+      protected String awaitOrResolve(Integer key, P_Load<String> load) {
+        awaitLatch.countDown();
+        return super.awaitOrResolve(key, load);
+      }
+    };
+
+    assertEquals("1.1", cache.get(1));
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    assertEquals("1.1", cache.get(1));
+    assertTrue(refreshLatch.await());
+
+    // e.g. the entry is evicted while it is refreshed
+    cache.getCacheMap().remove(1);
+    IFuture<String> future = Jobs.schedule(() -> cache.get(1), Jobs.newInput());
+    assertTrue(awaitLatch.await(10, TimeUnit.SECONDS));
+    refreshLatch.unblock();
+
+    assertNull(future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    assertEquals(2, resolveCount.get());
+  }
 }
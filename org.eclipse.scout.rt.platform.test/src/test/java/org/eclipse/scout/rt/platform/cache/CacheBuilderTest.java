@@ -47,6 +47,88 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testCacheBuilderMaximumSize() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + ".maximumSize")
+        .withValueResolver(key -> "value" + key)
+        .withMaximumSize(10)
+        .withReplaceIfExists(true)
+        .build();
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals("value" + i, cache.get(i));
+    }
+    assertEquals("value99", cache.get(99));
+
+    CacheStatistics statistics = cache.getStatistics();
+    assertEquals(1, statistics.getHitCount());
+    assertEquals(100, statistics.getMissCount());
+    assertEquals(90, statistics.getEvictionCount());
+    assertEquals(10, statistics.getSize());
+    assertEquals(10, cache.getUnmodifiableMap().size());
+  }
+
+  @Test
+  public void testCacheBuilderMaximumWeight() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + ".maximumWeight")
+        .withValueResolver(key -> "value" + key)
+        .withMaximumWeight(20L, (key, value) -> value.length())
+        .withReplaceIfExists(true)
+        .build();
+
+    for (int i = 0; i < 10; i++) {
+      cache.get(i);
+    }
+    // each value has a weight of 6
+    assertEquals(3, cache.getUnmodifiableMap().size());
+    assertEquals(7, cache.getStatistics().getEvictionCount());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCacheBuilderMaximumSizeAndWeight() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    cacheBuilder
+        .withCacheId(CACHE_ID + ".maximumSizeAndWeight")
+        .withValueResolver(key -> "value" + key)
+        .withMaximumSize(10)
+        .withMaximumWeight(20L, (key, value) -> 1L)
+        .build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCacheBuilderMaximumSizeAndCopyOnWriteTransactional() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    cacheBuilder
+        .withCacheId(CACHE_ID + ".maximumSizeTransactional")
+        .withValueResolver(key -> "value" + key)
+        .withTransactional(true)
+        .withMaximumSize(10)
+        .build();
+  }
+
+  @Test
+  public void testCacheBuilderMaximumSizeAndFastForwardTransactional() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + ".maximumSizeFastForward")
+        .withValueResolver(key -> "value" + key)
+        .withTransactional(true)
+        .withTransactionalFastForward(true)
+        .withMaximumSize(10)
+        .withReplaceIfExists(true)
+        .build();
+    assertEquals("value1", cache.get(1));
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
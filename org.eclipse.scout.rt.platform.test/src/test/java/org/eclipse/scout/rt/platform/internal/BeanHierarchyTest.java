@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.platform.internal;
 import static org.junit.Assert.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
@@ -119,6 +120,27 @@ public class BeanHierarchyTest {
     assertEquals(Arrays.asList(bean3), h.sortedBeanCopy());
   }
 
+  @Test
+  public void testQueryResultSnapshot() {
+    BeanHierarchy<AbstractBaseClass> h = new BeanHierarchy<>(AbstractBaseClass.class);
+    BeanImplementor<AbstractBaseClass> beanA = new BeanImplementor<>(new BeanMetaData(SubClassA.class));
+    h.addBean(beanA);
+
+    List<IBean<AbstractBaseClass>> all = h.queryAll();
+    assertSame(all, h.queryAll());
+    assertEquals(Arrays.asList(beanA), all);
+
+    BeanImplementor<AbstractBaseClass> beanB = new BeanImplementor<>(new BeanMetaData(SubClassB.class).withOrder(IBean.DEFAULT_BEAN_ORDER - 1));
+    h.addBean(beanB);
+    assertEquals(Arrays.asList(beanA), all); // published snapshots are immutable
+    assertEquals(Arrays.asList(beanB, beanA), h.queryAll());
+    assertEquals(Arrays.asList(beanB), h.querySingle());
+
+    h.removeBean(beanB);
+    assertEquals(Arrays.asList(beanA), h.queryAll());
+    assertEquals(Arrays.asList(beanA), h.getBeans());
+  }
+
   public interface ITestInterface {
   }
 
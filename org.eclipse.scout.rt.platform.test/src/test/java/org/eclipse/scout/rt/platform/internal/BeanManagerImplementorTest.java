@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.junit.Test;
+
+public class BeanManagerImplementorTest {
+
+  /**
+   * A bean is registered in all its hierarchies at once: a lookup never sees it in some of them only.
+   */
+  @Test
+  public void testRegisterBeanAtomicForLookups() throws Exception {
+    final AtomicReference<BeanManagerImplementor> beanManager = new AtomicReference<>(new BeanManagerImplementor());
+    final AtomicBoolean stop = new AtomicBoolean();
+    final AtomicReference<String> failure = new AtomicReference<>();
+    Thread reader = new Thread(() -> {
+      while (!stop.get()) {
+        BeanManagerImplementor m = beanManager.get();
+        // ITestFirst is listed before ITestSecond in the implemented types, hence is registered first
+        boolean first = m.isBean(ITestFirst.class);
+        boolean second = m.isBean(ITestSecond.class);
+        if (first && !second) {
+          failure.set("bean visible in one hierarchy only");
+        }
+      }
+    });
+    reader.start();
+    try {
+      for (int i = 0; i < 2000 && failure.get() == null; i++) {
+        BeanManagerImplementor m = new BeanManagerImplementor();
+        beanManager.set(m);
+        m.registerClass(TestBean.class);
+      }
+    }
+    finally {
+      stop.set(true);
+      reader.join();
+    }
+    assertNull(failure.get());
+  }
+
+  @Test
+  public void testUnregisterBean() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    IBean<TestBean> bean = beanManager.registerClass(TestBean.class);
+    assertSame(bean, beanManager.getBean(ITestFirst.class));
+    assertSame(bean, beanManager.getBean(ITestSecond.class));
+
+    beanManager.unregisterBean(bean);
+    assertFalse(beanManager.isBean(ITestFirst.class));
+    assertFalse(beanManager.isBean(ITestSecond.class));
+    assertTrue(beanManager.getBeans(Object.class).isEmpty());
+  }
+
+  private interface ITestFirst {
+  }
+
+  private interface ITestSecond {
+  }
+
+  private static class TestBean implements ITestFirst, ITestSecond {
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2010-2017 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.filter.future.IRunContextAdapterFutureFilter;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class FutureSetTest {
+
+  @Test
+  public void testRunContextAdapterIndex() throws InterruptedException {
+    final P_Owner owner1 = new P_Owner();
+    final P_Owner owner2 = new P_Owner();
+
+    final BlockingCountDownLatch latch = new BlockingCountDownLatch(3);
+    final IRunnable runnable = latch::countDownAndBlock;
+
+    final IFuture<Void> future1 = Jobs.schedule(runnable, Jobs.newInput().withRunContext(new P_OwnerRunContext(owner1)));
+    final IFuture<Void> future2 = Jobs.schedule(runnable, Jobs.newInput().withRunContext(new P_OwnerRunContext(owner1)));
+    final IFuture<Void> future3 = Jobs.schedule(runnable, Jobs.newInput().withRunContext(new P_OwnerRunContext(owner2)));
+    assertTrue(latch.await());
+
+    // index is created upon first lookup and contains already running jobs
+    assertEquals(new HashSet<>(Arrays.asList(future1, future2)), Jobs.getJobManager().getFutures(new P_OwnerFutureFilter(owner1)));
+    assertEquals(new HashSet<>(Arrays.asList(future3)), Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchNotFuture(future1)
+        .andMatch(new P_OwnerFutureFilter(owner2))
+        .toFilter()));
+
+    // jobs scheduled after index creation are indexed as well
+    final BlockingCountDownLatch latch2 = new BlockingCountDownLatch(1);
+    final IFuture<Void> future4 = Jobs.schedule((IRunnable) latch2::countDownAndBlock, Jobs.newInput().withRunContext(new P_OwnerRunContext(owner2)));
+    assertTrue(latch2.await());
+    assertEquals(new HashSet<>(Arrays.asList(future3, future4)), Jobs.getJobManager().getFutures(new P_OwnerFutureFilter(owner2)));
+
+    // finished jobs are removed from the index
+    latch.unblock();
+    Jobs.getJobManager().awaitFinished(new P_OwnerFutureFilter(owner1), 10, TimeUnit.SECONDS);
+    assertTrue(Jobs.getJobManager().getFutures(new P_OwnerFutureFilter(owner1)).isEmpty());
+    assertEquals(new HashSet<>(Arrays.asList(future4)), Jobs.getJobManager().getFutures(new P_OwnerFutureFilter(owner2)));
+
+    latch2.unblock();
+    Jobs.getJobManager().awaitFinished(new P_OwnerFutureFilter(owner2), 10, TimeUnit.SECONDS);
+    assertTrue(Jobs.getJobManager().getFutures(new P_OwnerFutureFilter(owner2)).isEmpty());
+  }
+
+  @Test
+  public void testExecutionHintIndex() throws InterruptedException {
+    final String hint = "future-set-test-hint";
+
+    final BlockingCountDownLatch addedLatch = new BlockingCountDownLatch(1);
+    final BlockingCountDownLatch removedLatch = new BlockingCountDownLatch(1);
+    final IFuture<Void> future = Jobs.schedule(() -> {
+      IFuture.CURRENT.get().addExecutionHint(hint);
+      addedLatch.countDownAndBlock();
+      IFuture.CURRENT.get().removeExecutionHint(hint);
+      removedLatch.countDownAndBlock();
+    }, Jobs.newInput());
+
+    assertTrue(addedLatch.await());
+    assertEquals(new HashSet<>(Arrays.asList(future)), Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(hint)
+        .toFilter()));
+
+    addedLatch.unblock();
+    assertTrue(removedLatch.await());
+    assertTrue(Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(hint)
+        .toFilter()).isEmpty());
+
+    removedLatch.unblock();
+    future.awaitDone(10, TimeUnit.SECONDS);
+  }
+
+  private static class P_Owner {
+  }
+
+  private static class P_OwnerRunContext extends RunContext {
+
+    private final P_Owner m_owner;
+
+    P_OwnerRunContext(final P_Owner owner) {
+      m_owner = owner;
+    }
+
+    @Override
+    public <T> T getAdapter(final Class<T> type) {
+      if (type == P_Owner.class) {
+        return type.cast(m_owner);
+      }
+      return super.getAdapter(type);
+    }
+
+    @Override
+    public RunContext copy() {
+      final P_OwnerRunContext copy = new P_OwnerRunContext(m_owner);
+      copy.copyValues(this);
+      return copy;
+    }
+  }
+
+  private static class P_OwnerFutureFilter implements IRunContextAdapterFutureFilter {
+
+    private final P_Owner m_owner;
+
+    P_OwnerFutureFilter(final P_Owner owner) {
+      m_owner = owner;
+    }
+
+    @Override
+    public boolean test(final IFuture<?> future) {
+      final RunContext runContext = future.getJobInput().getRunContext();
+      return runContext != null && runContext.getAdapter(P_Owner.class) == m_owner;
+    }
+
+    @Override
+    public Class<?> getAdapterType() {
+      return P_Owner.class;
+    }
+
+    @Override
+    public Object getAdapterObject() {
+      return m_owner;
+    }
+  }
+}
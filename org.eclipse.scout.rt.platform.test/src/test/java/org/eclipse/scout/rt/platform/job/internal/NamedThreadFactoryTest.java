@@ -10,13 +10,20 @@
  */
 package org.eclipse.scout.rt.platform.job.internal;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.slf4j.MDC;
@@ -40,4 +47,49 @@ public class NamedThreadFactoryTest {
     latch.await(1, TimeUnit.SECONDS);
     assertNull(childThreadMdcValue.get());
   }
+
+  @Test
+  public void testPlatformThread() {
+    NamedThreadFactory factory = new NamedThreadFactory("platform-test-thread");
+    assertFalse(factory.isVirtual());
+
+    Thread thread = factory.newThread(() -> {
+      // NOOP
+    });
+    assertEquals("platform-test-thread-1", thread.getName());
+    assertFalse(thread.isDaemon());
+  }
+
+  @Test
+  public void testVirtualThread() throws InterruptedException {
+    Assume.assumeTrue(NamedThreadFactory.isVirtualThreadSupported());
+    MDC.put(MDC_KEY, "value should not be pushed to child thread");
+
+    NamedThreadFactory factory = new NamedThreadFactory("virtual-test-thread", true);
+    assertTrue(factory.isVirtual());
+
+    final AtomicReference<String> childThreadMdcValue = new AtomicReference<>();
+    final AtomicReference<Thread> childThreadInfoThread = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    Thread thread = factory.newThread(() -> {
+      childThreadMdcValue.set(MDC.get(MDC_KEY));
+      ThreadInfo threadInfo = ThreadInfo.CURRENT.get();
+      if (threadInfo != null) {
+        childThreadInfoThread.set(Thread.currentThread());
+      }
+      latch.countDown();
+    });
+    assertEquals("virtual-test-thread-1", thread.getName());
+    thread.start();
+
+    assertTrue(latch.await(1, TimeUnit.SECONDS));
+    assertNull(childThreadMdcValue.get());
+    assertSame(thread, childThreadInfoThread.get());
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testVirtualThreadNotSupported() {
+    Assume.assumeFalse(NamedThreadFactory.isVirtualThreadSupported());
+    new NamedThreadFactory("virtual-test-thread", true);
+  }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @since 11.0
+ */
+public class ConcurrentBoundedMapTest {
+
+  @Test
+  public void testBasicOperations() {
+    ConcurrentBoundedMap<String, String> map = new ConcurrentBoundedMap<>(10);
+    assertTrue(map.isEmpty());
+
+    assertNull(map.put("a", "1"));
+    assertEquals("1", map.put("a", "2"));
+    assertEquals("2", map.get("a"));
+    assertEquals("2", map.putIfAbsent("a", "3"));
+    assertNull(map.putIfAbsent("b", "3"));
+    assertTrue(map.containsKey("b"));
+    assertFalse(map.replace("b", "4", "5"));
+    assertTrue(map.replace("b", "3", "5"));
+    assertEquals("5", map.replace("b", "6"));
+    assertFalse(map.remove("b", "5"));
+    assertTrue(map.remove("b", "6"));
+    assertNull(map.remove("b"));
+    assertEquals(1, map.size());
+    assertEquals(1, map.getWeight());
+
+    Map<String, String> expected = new HashMap<>();
+    expected.put("a", "2");
+    assertEquals(expected, new HashMap<>(map));
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.getWeight());
+    assertEquals(0, map.getEvictionCount());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullValue() {
+    new ConcurrentBoundedMap<String, String>(10).put("a", null);
+  }
+
+  @Test
+  public void testSizeBound() {
+    ConcurrentBoundedMap<Integer, Integer> map = new ConcurrentBoundedMap<>(100);
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, i);
+      assertTrue(map.size() <= 100);
+    }
+    assertEquals(100, map.size());
+    assertEquals(100, map.getWeight());
+    assertEquals(900, map.getEvictionCount());
+  }
+
+  @Test
+  public void testFrequentEntriesRetained() {
+    ConcurrentBoundedMap<Integer, Integer> map = new ConcurrentBoundedMap<>(100);
+    // make keys 0..49 popular
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 50; i++) {
+        if (map.get(i) == null) {
+          map.put(i, i);
+        }
+      }
+    }
+
+    // scan through many keys which are used only once
+    for (int i = 1000; i < 10000; i++) {
+      map.put(i, i);
+    }
+
+    int retained = 0;
+    for (int i = 0; i < 50; i++) {
+      if (map.containsKey(i)) {
+        retained++;
+      }
+    }
+    assertTrue("popular entries must survive a scan [retained=" + retained + "]", retained >= 45);
+    assertEquals(100, map.size());
+  }
+
+  @Test
+  public void testWeightBound() {
+    ConcurrentBoundedMap<String, String> map = new ConcurrentBoundedMap<>(new ConcurrentHashMap<>(), 10, (key, value) -> value.length(), 0L, false);
+    map.put("a", "12345");
+    map.put("b", "12345");
+    assertEquals(10, map.getWeight());
+    assertEquals(2, map.size());
+
+    map.put("c", "1");
+    assertTrue(map.getWeight() <= 10);
+    assertEquals(1, map.getEvictionCount());
+
+    // entry heavier than the bound is never retained
+    map.put("d", "12345678901");
+    assertFalse(map.containsKey("d"));
+    assertTrue(map.getWeight() <= 10);
+  }
+
+  @Test
+  public void testTimeToLive() throws InterruptedException {
+    ConcurrentBoundedMap<String, String> map = new ConcurrentBoundedMap<>(new ConcurrentHashMap<>(), 10, null, 50L, false);
+    map.put("a", "1");
+    assertEquals("1", map.get("a"));
+    Thread.sleep(100L);
+    assertNull(map.get("a"));
+    assertFalse(map.containsKey("a"));
+    assertEquals(0, map.getWeight());
+    assertEquals(1, map.getEvictionCount());
+
+    assertNull(map.putIfAbsent("b", "1"));
+    Thread.sleep(100L);
+    assertNull(map.putIfAbsent("b", "2"));
+    assertEquals("2", map.get("b"));
+  }
+
+  @Test
+  public void testEvictionHook() {
+    final List<Integer> evicted = new ArrayList<>();
+    ConcurrentBoundedMap<Integer, Integer> map = new ConcurrentBoundedMap<Integer, Integer>(new ConcurrentHashMap<>(), 2, null, 0L, false) {
+      @Override
+      protected void execEntryEvicted(Integer key, Integer value) {
+        evicted.add(key);
+      }
+    };
+    map.put(1, 1);
+    map.put(2, 2);
+    map.put(3, 3);
+    assertEquals(1, evicted.size());
+    assertFalse(map.containsKey(evicted.get(0)));
+  }
+
+  @Test
+  public void testConcurrentAccess() throws InterruptedException {
+    final ConcurrentBoundedMap<Integer, Integer> map = new ConcurrentBoundedMap<>(64);
+    final int threadCount = 8;
+    final CountDownLatch latch = new CountDownLatch(threadCount);
+    for (int t = 0; t < threadCount; t++) {
+      new Thread(() -> {
+        try {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(256);
+            switch (random.nextInt(4)) {
+              case 0:
+                map.put(key, key);
+                break;
+              case 1:
+                map.remove(key);
+                break;
+              default:
+                Integer value = map.get(key);
+                assertTrue(value == null || value == key);
+            }
+          }
+        }
+        finally {
+          latch.countDown();
+        }
+      }).start();
+    }
+    assertTrue(latch.await(1, TimeUnit.MINUTES));
+
+    assertTrue(map.size() <= 64);
+    assertEquals(map.size(), map.getWeight());
+  }
+}
@@ -54,6 +54,11 @@ public abstract class AbstractCacheWrapper<K, V> implements ICache<K, V> {
     m_delegate.invalidate(filter, propagate);
   }
 
+  @Override
+  public CacheStatistics getStatistics() {
+    return m_delegate.getStatistics();
+  }
+
   @Override
   public <T> T getAdapter(Class<T> adapterClass) {
     return m_delegate.getAdapter(adapterClass);
@@ -13,14 +13,35 @@ package org.eclipse.scout.rt.platform.cache;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentBoundedMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Basic implementation of {@link ICache}.
@@ -28,27 +49,79 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
  * Note:
  * <ul>
  * <li>This cache is only thread safe if the provided cacheMap is thread safe.
- * <li>There might be multiple concurrent resolve operations running for the same key unless one is using
- * {@link BoundedResolveCacheWrapper} to limit these operations.
+ * <li>If single-flight loading is enabled, there is at most one resolve operation in flight per key. Concurrent
+ * callers for the same key wait for its result instead of resolving the key again. A caller whose wait would close a
+ * cycle of threads waiting for each other (e.g. the resolver of A gets B while the resolver of B gets A) resolves the
+ * key itself instead. Otherwise, there might be multiple concurrent resolve operations running for the same key unless
+ * one is using {@link BoundedResolveCacheWrapper} to limit these operations.
+ * <li>If single-flight loading is enabled for a transactional cache, a load shared with other callers is resolved in a
+ * separate transaction, so that callers of other transactions never receive values of uncommitted data. A key changed
+ * by the current transaction (e.g. invalidated after changing its data) is resolved within the current transaction and
+ * not shared.
+ * <li>If refresh-ahead is enabled, a value older than the refresh duration is reloaded by a job while the current
+ * value is still returned to the callers.
  * </ul>
  *
  * @since 5.2
  */
 public class BasicCache<K, V> implements ICache<K, V> {
+  private static final Logger LOG = LoggerFactory.getLogger(BasicCache.class);
 
   private final String m_cacheId;
   private final ICacheValueResolver<K, V> m_resolver;
   private final Map<K, V> m_cacheMap;
+  private final AbstractTransactionalMap<?, ?> m_transactionalMap;
   private final boolean m_atomicInsertion;
+  private final boolean m_singleFlight;
+  private final long m_refreshAfterNanos;
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final ConcurrentMap<K, P_Load<V>> m_inFlight = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Thread, P_Load<?>> m_awaitedLoads = new ConcurrentHashMap<>();
+  private final ConcurrentMap<K, Long> m_loadTimes = new ConcurrentHashMap<>();
+  private final AtomicLong m_invalidationCount = new AtomicLong();
 
   public BasicCache(String cacheId, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, boolean atomicInsertion) {
+    this(cacheId, resolver, cacheMap, atomicInsertion, false, null);
+  }
+
+  /**
+   * @param singleFlight
+   *          if true, at most one resolve operation per key is in flight at a time. The cacheMap must be thread safe.
+   * @param refreshAfter
+   *          optional duration in milliseconds after which a resolved value is reloaded asynchronously on its next
+   *          access. Requires singleFlight.
+   * @since 11.0
+   */
+  public BasicCache(String cacheId, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, boolean atomicInsertion, boolean singleFlight, Long refreshAfter) {
     m_cacheId = Assertions.assertNotNullOrEmpty(cacheId);
     m_resolver = Assertions.assertNotNull(resolver);
     m_cacheMap = Assertions.assertNotNull(cacheMap);
+    m_transactionalMap = findTransactionalMap(cacheMap);
     m_atomicInsertion = atomicInsertion;
+    m_singleFlight = singleFlight;
+    m_refreshAfterNanos = refreshAfter != null ? TimeUnit.MILLISECONDS.toNanos(refreshAfter) : -1L;
     if (m_atomicInsertion && !(cacheMap instanceof ConcurrentMap)) {
       throw new IllegalArgumentException("To use atomic insertions cacheMap must implement ConcurrentMap interface");
     }
+    if (isRefreshAhead() && !m_singleFlight) {
+      throw new IllegalArgumentException("To use refresh-ahead single-flight loading must be enabled");
+    }
+  }
+
+  /**
+   * @return the transactional map the given cache map consists of, or <code>null</code> if the cache map is not
+   *         transactional
+   */
+  protected static AbstractTransactionalMap<?, ?> findTransactionalMap(Map<?, ?> cacheMap) {
+    Map<?, ?> map = cacheMap;
+    if (map instanceof ConcurrentBoundedMap) {
+      map = ((ConcurrentBoundedMap<?, ?>) map).getElementMap();
+    }
+    else if (map instanceof ConcurrentExpiringMap) {
+      map = ((ConcurrentExpiringMap<?, ?>) map).getElementMap();
+    }
+    return map instanceof AbstractTransactionalMap ? (AbstractTransactionalMap<?, ?>) map : null;
   }
 
   protected ICacheValueResolver<K, V> getResolver() {
@@ -59,6 +132,26 @@ public class BasicCache<K, V> implements ICache<K, V> {
     return m_cacheMap;
   }
 
+  protected boolean isSingleFlight() {
+    return m_singleFlight;
+  }
+
+  protected boolean isRefreshAhead() {
+    return m_refreshAfterNanos > 0L;
+  }
+
+  protected boolean isTransactional() {
+    return m_transactionalMap != null;
+  }
+
+  /**
+   * @return true if the entry of the given key was changed by the current transaction. Such a key is neither shared
+   *         with nor awaited from other transactions.
+   */
+  protected boolean isChangedByCurrentTransaction(K key) {
+    return m_transactionalMap != null && m_transactionalMap.isChangedByCurrentTransaction(key);
+  }
+
   @Override
   public String getCacheId() {
     return m_cacheId;
@@ -75,19 +168,39 @@ public class BasicCache<K, V> implements ICache<K, V> {
       return null;
     }
     V value = m_cacheMap.get(key);
-    if (value == null) {
-      value = m_resolver.resolve(key);
-      if (value != null) {
-        if (m_atomicInsertion) {
-          V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
-          value = alreadySetValue != null ? alreadySetValue : value;
-        }
-        else {
-          m_cacheMap.put(key, value);
-        }
+    if (value != null) {
+      m_hitCount.increment();
+      if (isRefreshAhead()) {
+        refreshIfStale(key, value);
       }
+      return value;
+    }
+    m_missCount.increment();
+    if (!m_singleFlight || isChangedByCurrentTransaction(key)) {
+      return resolveAndPut(key);
+    }
+
+    P_Load<V> load = new P_Load<>(Thread.currentThread());
+    P_Load<V> inFlight = m_inFlight.putIfAbsent(key, load);
+    if (inFlight != null) {
+      return awaitOrResolve(key, inFlight);
+    }
+    try {
+      // another load might have been completed in the meantime
+      value = m_cacheMap.get(key);
+      if (value == null) {
+        value = resolveAndPut(key, true);
+      }
+      load.complete(value);
+      return value;
+    }
+    catch (RuntimeException | Error e) {
+      load.completeExceptionally(e);
+      throw e;
+    }
+    finally {
+      m_inFlight.remove(key, load);
     }
-    return value;
   }
 
   @Override
@@ -103,51 +216,370 @@ public class BasicCache<K, V> implements ICache<K, V> {
       if (value != null) {
         result.put(key, value);
         iterator.remove();
+        if (isRefreshAhead()) {
+          refreshIfStale(key, value);
+        }
       }
     }
+    m_hitCount.add(result.size());
     if (keys.isEmpty()) {
       // all keys could be resolved with cache
       return result;
     }
-    Map<K, V> resolvedValues = m_resolver.resolveAll(keys);
+    m_missCount.add(keys.size());
+    if (!m_singleFlight) {
+      result.putAll(resolveAllAndPut(keys));
+      return result;
+    }
+    if (isTransactional()) {
+      Set<K> changedKeys = new HashSet<>();
+      for (Iterator<K> iterator = keys.iterator(); iterator.hasNext();) {
+        K key = iterator.next();
+        if (isChangedByCurrentTransaction(key)) {
+          changedKeys.add(key);
+          iterator.remove();
+        }
+      }
+      if (!changedKeys.isEmpty()) {
+        result.putAll(resolveAllAndPut(changedKeys));
+      }
+    }
+
+    // claim the missing keys; keys which are already loaded by another thread are awaited after the own resolve
+    Map<K, P_Load<V>> claimed = new HashMap<>();
+    Map<K, P_Load<V>> awaited = new HashMap<>();
+    for (Iterator<K> iterator = keys.iterator(); iterator.hasNext();) {
+      K key = iterator.next();
+      P_Load<V> load = new P_Load<>(Thread.currentThread());
+      P_Load<V> inFlight = m_inFlight.putIfAbsent(key, load);
+      if (inFlight == null) {
+        claimed.put(key, load);
+      }
+      else if (!inFlight.isOwner(Thread.currentThread())) {
+        awaited.put(key, inFlight);
+        iterator.remove();
+      }
+    }
+    try {
+      if (!keys.isEmpty()) {
+        Map<K, V> resolvedValues = resolveAllAndPut(keys, true);
+        for (Entry<K, P_Load<V>> entry : claimed.entrySet()) {
+          entry.getValue().complete(resolvedValues.get(entry.getKey()));
+        }
+        result.putAll(resolvedValues);
+      }
+    }
+    catch (RuntimeException | Error e) {
+      for (P_Load<V> load : claimed.values()) {
+        load.completeExceptionally(e);
+      }
+      throw e;
+    }
+    finally {
+      for (Entry<K, P_Load<V>> entry : claimed.entrySet()) {
+        m_inFlight.remove(entry.getKey(), entry.getValue());
+      }
+    }
+    for (Entry<K, P_Load<V>> entry : awaited.entrySet()) {
+      V value = awaitOrResolve(entry.getKey(), entry.getValue());
+      if (value != null) {
+        result.put(entry.getKey(), value);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Waits for the given load of another thread. If the owner of the load (transitively) waits for a load of the current
+   * thread, e.g. because the resolver of key A gets key B while the resolver of key B gets key A, waiting would never
+   * end. In this case, the key is resolved by the current thread instead.
+   * <p>
+   * The current thread is registered as waiting before the cycle is checked. Hence, of two threads closing a cycle at
+   * the same time, at least one detects it.
+   */
+  protected V awaitOrResolve(K key, P_Load<V> load) {
+    Thread currentThread = Thread.currentThread();
+    m_awaitedLoads.put(currentThread, load);
+    try {
+      if (!isAwaitedBy(load, currentThread)) {
+        return load.await();
+      }
+    }
+    finally {
+      m_awaitedLoads.remove(currentThread);
+    }
+    return resolveAndPut(key);
+  }
+
+  /**
+   * @return <code>true</code> if the given load is owned by the given thread, or by a thread that (transitively) waits
+   *         for a load owned by the given thread
+   */
+  protected boolean isAwaitedBy(P_Load<?> load, Thread thread) {
+    P_Load<?> current = load;
+    // the chain is bounded by the number of waiting threads; the limit guards against a chain changing concurrently
+    for (int i = 0; current != null && i <= m_awaitedLoads.size(); i++) {
+      Thread owner = current.getOwner();
+      if (owner == null) {
+        return false;
+      }
+      if (owner == thread) {
+        return true;
+      }
+      current = m_awaitedLoads.get(owner);
+    }
+    return false;
+  }
+
+  /**
+   * Resolves the value of the given key and puts it into the cache map. The value is not put if the cache was
+   * invalidated in the meantime, as it might have been resolved from outdated data.
+   */
+  protected V resolveAndPut(K key) {
+    return resolveAndPut(key, false);
+  }
+
+  /**
+   * @param shared
+   *          true if the value is shared with callers waiting for it, see {@link #createSharedLoadRunContext()}
+   * @see #resolveAndPut(Object)
+   */
+  protected V resolveAndPut(K key, boolean shared) {
+    long invalidationCount = m_invalidationCount.get();
+    V value = shared && isTransactional() ? createSharedLoadRunContext().call(() -> m_resolver.resolve(key)) : m_resolver.resolve(key);
+    if (value == null || m_invalidationCount.get() != invalidationCount) {
+      return value;
+    }
+    if (m_atomicInsertion) {
+      V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
+      if (alreadySetValue != null) {
+        return alreadySetValue;
+      }
+    }
+    else {
+      m_cacheMap.put(key, value);
+    }
+    recordLoadTime(key);
+    return value;
+  }
+
+  /**
+   * Resolves the values of the given keys and puts them into the cache map.
+   *
+   * @return resolved values without <code>null</code> keys or values
+   * @see #resolveAndPut(Object)
+   */
+  protected Map<K, V> resolveAllAndPut(Set<K> keys) {
+    return resolveAllAndPut(keys, false);
+  }
+
+  /**
+   * @param shared
+   *          true if the values are shared with callers waiting for them, see {@link #createSharedLoadRunContext()}
+   * @see #resolveAllAndPut(Set)
+   */
+  protected Map<K, V> resolveAllAndPut(Set<K> keys, boolean shared) {
+    long invalidationCount = m_invalidationCount.get();
+    Map<K, V> resolvedValues = shared && isTransactional() ? createSharedLoadRunContext().call(() -> m_resolver.resolveAll(keys)) : m_resolver.resolveAll(keys);
+    boolean invalidated = m_invalidationCount.get() != invalidationCount;
     for (Iterator<Entry<K, V>> iterator = resolvedValues.entrySet().iterator(); iterator.hasNext();) {
       Entry<K, V> entry = iterator.next();
       // remove any null values from the resolved values map
       if (entry.getKey() == null || entry.getValue() == null) {
         iterator.remove();
       }
-      else if (m_atomicInsertion) {
+      else if (m_atomicInsertion && !invalidated) {
         V alreadySetValue = m_cacheMap.putIfAbsent(entry.getKey(), entry.getValue());
         if (alreadySetValue != null) {
           entry.setValue(alreadySetValue);
         }
       }
     }
-    if (!m_atomicInsertion) {
+    if (!m_atomicInsertion && !invalidated) {
       m_cacheMap.putAll(resolvedValues);
     }
-    result.putAll(resolvedValues);
-    return result;
+    if (!invalidated) {
+      resolvedValues.keySet().forEach(this::recordLoadTime);
+    }
+    return resolvedValues;
+  }
+
+  protected void recordLoadTime(K key) {
+    if (!isRefreshAhead()) {
+      return;
+    }
+    m_loadTimes.put(key, nanoTime());
+    if (m_loadTimes.size() > 2 * m_cacheMap.size() + 64) {
+      // drop load times of entries evicted by the cache map
+      m_loadTimes.keySet().removeIf(k -> !m_cacheMap.containsKey(k));
+    }
+  }
+
+  /**
+   * @return current value of the time source used to determine whether an entry is to be refreshed, in nanoseconds
+   */
+  protected long nanoTime() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Schedules a reload of the given cache entry if it is older than the refresh duration and is not already loading.
+   */
+  protected void refreshIfStale(K key, V staleValue) {
+    if (isChangedByCurrentTransaction(key)) {
+      return;
+    }
+    Long loadTime = m_loadTimes.get(key);
+    if (loadTime == null) {
+      // entry was not loaded by this cache instance (e.g. fast-forwarded by another transaction)
+      m_loadTimes.putIfAbsent(key, nanoTime());
+      return;
+    }
+    if (nanoTime() - loadTime < m_refreshAfterNanos) {
+      return;
+    }
+    P_Load<V> load = new P_Load<>(null);
+    if (m_inFlight.putIfAbsent(key, load) != null) {
+      return;
+    }
+    try {
+      Jobs.schedule(() -> refresh(key, staleValue, load), Jobs.newInput()
+          .withName("Refreshing cache entry [cacheId={}]", m_cacheId)
+          .withRunContext(createRefreshRunContext())
+          .withExceptionHandling(BEANS.get(ExceptionHandler.class), true))
+          .whenDone(event -> completeRefresh(key, staleValue, load), null);
+    }
+    catch (RuntimeException e) {
+      completeRefresh(key, staleValue, load);
+      LOG.warn("Failed to schedule refresh of cache entry [cacheId={}]", m_cacheId, e);
+    }
+  }
+
+  /**
+   * @return {@link RunContext} to reload a cache entry in, which is a copy of the current context (e.g. to keep the
+   *         session) running in a separate transaction and independent of the caller's cancellation.
+   */
+  protected RunContext createRefreshRunContext() {
+    return createSharedLoadRunContext()
+        .withRunMonitor(BEANS.get(RunMonitor.class));
+  }
+
+  /**
+   * @return {@link RunContext} to resolve a value of a transactional cache in, which is shared with callers of other
+   *         transactions. It is a copy of the current context running in a separate transaction, so that the value
+   *         does not depend on changes of the current transaction which are not committed yet.
+   */
+  protected RunContext createSharedLoadRunContext() {
+    RunContext currentRunContext = RunContext.CURRENT.get();
+    RunContext runContext = currentRunContext != null ? currentRunContext.copy() : RunContexts.empty();
+    return runContext.withTransactionScope(TransactionScope.REQUIRES_NEW);
+  }
+
+  protected void refresh(K key, V staleValue, P_Load<V> load) {
+    long invalidationCount = m_invalidationCount.get();
+    V value;
+    try {
+      value = m_resolver.resolve(key);
+    }
+    catch (RuntimeException | Error e) {
+      // retry not before another refresh duration has elapsed, and serve the stale value in the meantime
+      m_loadTimes.computeIfPresent(key, (k, loadTime) -> nanoTime());
+      load.completeExceptionally(e);
+      throw e;
+    }
+    if (m_invalidationCount.get() == invalidationCount) {
+      if (value == null) {
+        m_cacheMap.remove(key, staleValue);
+        m_loadTimes.remove(key);
+      }
+      else if (m_cacheMap.replace(key, staleValue, value)) {
+        recordLoadTime(key);
+      }
+    }
+    load.complete(value);
+  }
+
+  private void completeRefresh(K key, V staleValue, P_Load<V> load) {
+    // no-op if the refresh ran; otherwise (e.g. the job was rejected) release waiting callers with the stale value
+    load.complete(staleValue);
+    m_inFlight.remove(key, load);
   }
 
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    if (filter == null) {
+      return;
+    }
+    // values of loads in flight might be outdated and must neither be put into the cache map nor be shared any longer
+    m_invalidationCount.incrementAndGet();
     if (filter instanceof AllCacheEntryFilter) {
+      m_inFlight.clear();
       m_cacheMap.clear();
+      m_loadTimes.clear();
     }
     else if (filter instanceof KeyCacheEntryFilter) {
       KeyCacheEntryFilter<K, V> keyCacheEntryFilter = (KeyCacheEntryFilter<K, V>) filter;
       for (K key : keyCacheEntryFilter.getKeys()) {
+        m_inFlight.remove(key);
         m_cacheMap.remove(key);
+        m_loadTimes.remove(key);
       }
     }
-    else if (filter != null) {
+    else {
+      m_inFlight.clear();
       m_cacheMap.entrySet().removeIf(entry -> filter.accept(entry.getKey(), entry.getValue()));
+      m_loadTimes.keySet().removeIf(key -> !m_cacheMap.containsKey(key));
     }
   }
 
+  @Override
+  public CacheStatistics getStatistics() {
+    long evictionCount = m_cacheMap instanceof ConcurrentBoundedMap ? ((ConcurrentBoundedMap<K, V>) m_cacheMap).getEvictionCount() : 0L;
+    return new CacheStatistics(m_hitCount.sum(), m_missCount.sum(), evictionCount, m_cacheMap.size());
+  }
+
   @Override
   public <T> T getAdapter(Class<T> clazz) {
     return null;
   }
+
+  /**
+   * Resolve operation in flight, which is shared by concurrent callers for the same key.
+   */
+  protected static class P_Load<V> extends CompletableFuture<V> {
+
+    private final Thread m_owner;
+
+    protected P_Load(Thread owner) {
+      m_owner = owner;
+    }
+
+    protected boolean isOwner(Thread thread) {
+      return m_owner == thread;
+    }
+
+    /**
+     * @return thread resolving the value, or <code>null</code> if resolved by a job
+     */
+    protected Thread getOwner() {
+      return m_owner;
+    }
+
+    protected V await() {
+      try {
+        return get();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ThreadInterruptedError("Interrupted while waiting for cache value", e);
+      }
+      catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(cause);
+      }
+    }
+  }
 }
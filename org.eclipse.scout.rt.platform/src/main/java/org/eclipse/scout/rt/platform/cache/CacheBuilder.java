@@ -23,6 +23,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentBoundedMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.CopyOnWriteTransactionalMap;
@@ -41,6 +42,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private boolean m_remoteValueResolverEnabled;
   private boolean m_threadSafe;
   private boolean m_atomicInsertion;
+  private boolean m_singleFlight;
   private boolean m_clusterEnabled;
   private boolean m_transactional;
   private boolean m_transactionalFastForward;
@@ -48,6 +50,10 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private Integer m_maximumSize;
+  private Long m_maximumWeight;
+  private ICacheWeigher<? super K, ? super V> m_weigher;
+  private Long m_refreshAfter;
   private Integer m_maxConcurrentResolve;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
@@ -65,6 +71,18 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     if (getCacheId() == null) {
       throw new IllegalStateException("cacheId is null");
     }
+    if (getMaximumSize() != null && getMaximumWeight() != null) {
+      throw new IllegalStateException("maximumSize and maximumWeight cannot be combined");
+    }
+    if (isCreateBoundedMap() && isCreateCopyOnWriteTransactionalMap()) {
+      throw new IllegalStateException("maximumSize and maximumWeight require a fast forward or atomic insertion transactional cache");
+    }
+    if (isSingleFlight() && !isThreadSafe() && !isTransactional()) {
+      throw new IllegalStateException("singleFlight requires a thread safe or transactional cache");
+    }
+    if (getRefreshAfter() != null && !isSingleFlight()) {
+      throw new IllegalStateException("refreshAhead requires singleFlight");
+    }
     Map<K, V> cacheMap = createCacheMap();
     ICache<K, V> cache = createBasicCache(cacheMap);
     cache = addBeforeCustomWrappers(cache);
@@ -94,9 +112,18 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected Map<K, V> createCacheMap() {
-    if (!isCreateExpiringMap() && isTransactional() && !isAtomicInsertion() && (isSingleton() || !isTransactionalFastForward())) {
+    if (isCreateCopyOnWriteTransactionalMap()) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
+    else if (isCreateBoundedMap()) {
+      // a transactional cache is bounded by decorating the transactional map, like the expiring map does
+      long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
+      if (getMaximumWeight() != null) {
+        ICacheWeigher<? super K, ? super V> weigher = getWeigher();
+        return new ConcurrentBoundedMap<>(this.createConcurrentMap(), getMaximumWeight(), weigher::weigh, timeToLive, isTouchOnGet());
+      }
+      return new ConcurrentBoundedMap<>(this.createConcurrentMap(), getMaximumSize(), null, timeToLive, isTouchOnGet());
+    }
     else if (isCreateExpiringMap()) {
       boolean touchOnGet = isTouchOnGet() || getSizeBound() != null;
       long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
@@ -118,12 +145,20 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     }
   }
 
+  protected boolean isCreateCopyOnWriteTransactionalMap() {
+    return !isCreateExpiringMap() && isTransactional() && !isAtomicInsertion() && (isSingleton() || !isTransactionalFastForward());
+  }
+
+  protected boolean isCreateBoundedMap() {
+    return getMaximumSize() != null || getMaximumWeight() != null;
+  }
+
   protected boolean isCreateExpiringMap() {
     return getTimeToLive() != null || getSizeBound() != null;
   }
 
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    return new BasicCache<>(getCacheId(), getValueResolver(), cacheMap, isAtomicInsertion());
+    return new BasicCache<>(getCacheId(), getValueResolver(), cacheMap, isAtomicInsertion(), isSingleFlight(), getRefreshAfter());
   }
 
   protected ICache<K, V> addBeforeCustomWrappers(ICache<K, V> cache) {
@@ -237,6 +272,16 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_atomicInsertion && m_threadSafe;
   }
 
+  @Override
+  public CacheBuilder<K, V> withSingleFlight(boolean singleFlight) {
+    m_singleFlight = singleFlight;
+    return this;
+  }
+
+  public boolean isSingleFlight() {
+    return m_singleFlight;
+  }
+
   @Override
   public CacheBuilder<K, V> withClusterEnabled(boolean clusterEnabled) {
     m_clusterEnabled = clusterEnabled;
@@ -313,6 +358,63 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withMaximumSize(Integer maximumSize) {
+    if (maximumSize != null && maximumSize < 0) {
+      throw new IllegalArgumentException("maximumSize cannot be negative");
+    }
+    m_maximumSize = maximumSize;
+    return this;
+  }
+
+  public Integer getMaximumSize() {
+    return m_maximumSize;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ICacheWeigher<? super K, ? super V> weigher) {
+    if (maximumWeight != null) {
+      if (maximumWeight < 0L) {
+        throw new IllegalArgumentException("maximumWeight cannot be negative");
+      }
+      if (weigher == null) {
+        throw new IllegalArgumentException("weigher is required if maximumWeight is set");
+      }
+    }
+    m_maximumWeight = maximumWeight;
+    m_weigher = maximumWeight != null ? weigher : null;
+    return this;
+  }
+
+  public Long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  public ICacheWeigher<? super K, ? super V> getWeigher() {
+    return m_weigher;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withRefreshAhead(Long refreshAfterDuration, TimeUnit refreshAfterUnit) {
+    if (refreshAfterDuration == null || refreshAfterUnit == null) {
+      m_refreshAfter = null;
+    }
+    else {
+      if (refreshAfterDuration <= 0L) {
+        throw new IllegalArgumentException("refreshAfterDuration must be positive");
+      }
+      m_refreshAfter = refreshAfterUnit.toMillis(refreshAfterDuration);
+    }
+    return this;
+  }
+
+  /**
+   * @return refresh-ahead duration in milliseconds
+   */
+  public Long getRefreshAfter() {
+    return m_refreshAfter;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
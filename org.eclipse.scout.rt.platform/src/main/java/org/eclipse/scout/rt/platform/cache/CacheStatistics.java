@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.io.Serializable;
+
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Immutable snapshot of the statistics of an {@link ICache}.
+ *
+ * @see ICache#getStatistics()
+ * @since 11.0
+ */
+public class CacheStatistics implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final long m_hitCount;
+  private final long m_missCount;
+  private final long m_evictionCount;
+  private final int m_size;
+
+  public CacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+    m_hitCount = hitCount;
+    m_missCount = missCount;
+    m_evictionCount = evictionCount;
+    m_size = size;
+  }
+
+  /**
+   * @return number of requested keys found in the cache
+   */
+  public long getHitCount() {
+    return m_hitCount;
+  }
+
+  /**
+   * @return number of requested keys not found in the cache, which had to be resolved
+   */
+  public long getMissCount() {
+    return m_missCount;
+  }
+
+  /**
+   * @return number of requested keys
+   */
+  public long getRequestCount() {
+    return m_hitCount + m_missCount;
+  }
+
+  /**
+   * @return ratio of hits to requests, or 1.0 if there was no request
+   */
+  public double getHitRate() {
+    long requestCount = getRequestCount();
+    return requestCount == 0L ? 1.0 : (double) m_hitCount / requestCount;
+  }
+
+  /**
+   * @return number of entries evicted because of the size bound or because their time to live elapsed. Only bounded
+   *         caches count evictions (see {@link ICacheBuilder#withMaximumSize(Integer)}).
+   */
+  public long getEvictionCount() {
+    return m_evictionCount;
+  }
+
+  /**
+   * @return approximate number of entries in the cache
+   */
+  public int getSize() {
+    return m_size;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attr("hitCount", m_hitCount)
+        .attr("missCount", m_missCount)
+        .attr("evictionCount", m_evictionCount)
+        .attr("size", m_size)
+        .toString();
+  }
+}
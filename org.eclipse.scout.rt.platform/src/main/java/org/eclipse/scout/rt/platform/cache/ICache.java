@@ -82,4 +82,11 @@ public interface ICache<K, V> extends IAdaptable {
    */
   Map<K, V> getUnmodifiableMap();
 
+  /**
+   * @return a snapshot of the hit, miss and eviction counters of this cache. Never null.
+   * @since 11.0
+   */
+  default CacheStatistics getStatistics() {
+    return new CacheStatistics(0L, 0L, 0L, getUnmodifiableMap().size());
+  }
 }
@@ -109,13 +109,26 @@ public interface ICacheBuilder<K, V> {
 
   /**
    * @param atomicInsertion
-   *          if set to true, a cache might concurrently resolve a key, but the get operations that issued these
-   *          resolves will return the same value. This option is only valid if threadSafe is set to true. Typically set
-   *          this option to true if the cache value is modifiable. (Default false)
+   *          if set to true, the get operations that concurrently resolved a key will return the same value. This option
+   *          is only valid if threadSafe is set to true. Typically set this option to true if the cache value is
+   *          modifiable. (Default false)
    * @return this builder
    */
   ICacheBuilder<K, V> withAtomicInsertion(boolean atomicInsertion);
 
+  /**
+   * @param singleFlight
+   *          if set to true, a key is resolved only once at a time: concurrent callers for the same key wait for the
+   *          result of the resolve in flight instead of resolving the key again. A resolver that (transitively) waits for
+   *          a key resolved by a thread that in turn waits for the current thread resolves that key itself instead of
+   *          waiting. For a transactional cache, a shared resolve runs in a separate transaction, and a key changed by
+   *          the current transaction is resolved within the current transaction without being shared. This option is
+   *          only valid if threadSafe or transactional is set to true. (Default false)
+   * @return this builder
+   * @since 11.0
+   */
+  ICacheBuilder<K, V> withSingleFlight(boolean singleFlight);
+
   /**
    * @param clusterEnabled
    *          if true a cache that runs in a clustered server (<code>IClusterSynchronizationService#isEnabled()</code>)
@@ -178,9 +191,67 @@ public interface ICacheBuilder<K, V> {
    * @param sizeBound
    *          the target size that map should have approximately.
    * @return this builder
+   * @see #withMaximumSize(Integer)
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * If set to a non null value, the number of cached values is strictly bounded. In contrast to
+   * {@link #withSizeBound(Integer)}, entries are evicted upon insertion using a frequency-aware policy (W-TinyLFU),
+   * which retains frequently used entries even if many entries are used only once. Evictions are counted in
+   * {@link ICache#getStatistics()}.
+   * <p>
+   * If set, {@link #withSizeBound(Integer)} has no effect. An optional time to live (see
+   * {@link #withTimeToLive(Long, TimeUnit, boolean)}) is still applied. A transactional cache can only be bounded if it
+   * is {@link #withTransactionalFastForward(boolean) fast forward} (and not a singleton) or uses
+   * {@link #withAtomicInsertion(boolean) atomic insertion}; otherwise {@link #build()} throws an
+   * {@link IllegalStateException}.
+   *
+   * @param maximumSize
+   *          the maximum number of cached values
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maximumSize is negative
+   * @since 11.0
+   */
+  ICacheBuilder<K, V> withMaximumSize(Integer maximumSize);
+
+  /**
+   * Like {@link #withMaximumSize(Integer)}, but bounds the sum of the weights of all cached values instead of their
+   * number. This option cannot be combined with {@link #withMaximumSize(Integer)}.
+   *
+   * @param maximumWeight
+   *          the maximum sum of the weights of all cached values, or null to disable
+   * @param weigher
+   *          computes the weight of a cache entry
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maximumWeight is negative, or if maximumWeight is set but no weigher
+   * @since 11.0
+   */
+  ICacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ICacheWeigher<? super K, ? super V> weigher);
+
+  /**
+   * If both arguments are not null, a cached value that is older than the given duration is reloaded asynchronously
+   * by a job upon its next access (refresh-ahead). Until the reload completes, callers are served the current value.
+   * Combined with {@link #withTimeToLive(Long, TimeUnit, boolean)}, choose a refresh duration shorter than the time to
+   * live, so that frequently used values are reloaded before they expire.
+   * <p>
+   * The reload runs in a copy of the current {@link org.eclipse.scout.rt.platform.context.RunContext} within a
+   * separate transaction. A reload that fails is logged and retried not before the refresh duration has elapsed again.
+   * This option is only valid if single-flight loading is enabled (see {@link #withSingleFlight(boolean)}).
+   *
+   * @param refreshAfterDuration
+   *          duration after which a value is reloaded
+   * @param refreshAfterUnit
+   *          refresh duration unit
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if refreshAfterDuration is not positive
+   * @since 11.0
+   */
+  ICacheBuilder<K, V> withRefreshAhead(Long refreshAfterDuration, TimeUnit refreshAfterUnit);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
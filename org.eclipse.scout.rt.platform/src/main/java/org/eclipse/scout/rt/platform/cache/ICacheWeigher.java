@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Computes the weight of a cache entry, used to bound a cache by the total weight of its entries.
+ *
+ * @see ICacheBuilder#withMaximumWeight(Long, ICacheWeigher)
+ * @since 11.0
+ */
+@FunctionalInterface
+public interface ICacheWeigher<K, V> {
+
+  /**
+   * @param key
+   *          never null
+   * @param value
+   *          never null
+   * @return the weight of the entry, must not be negative
+   */
+  long weigh(K key, V value);
+}
@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.platform.filter;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -45,4 +46,11 @@ public class AndFilter<ELEMENT> implements Predicate<ELEMENT> {
     }
     return true;
   }
+
+  /**
+   * @return the Filters joined by this filter.
+   */
+  public List<Predicate<ELEMENT>> getFilters() {
+    return Collections.unmodifiableList(m_filters);
+  }
 }
@@ -37,12 +37,19 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Bean lookups are lock-free: all bean hierarchies are published as one immutable snapshot. Only
+ * {@link #registerBeans(Collection)} and {@link #unregisterBean(IBean)} acquire the write lock. They copy the changed
+ * hierarchies and publish a new snapshot, hence a lookup never sees a bean registered in some of its hierarchies only.
+ * Use {@link #registerBeans(Collection)} to register many beans at once: the hierarchies are copied once per batch
+ * instead of once per bean.
+ */
 public class BeanManagerImplementor implements IBeanManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(BeanManagerImplementor.class);
 
   private final ReentrantReadWriteLock m_lock;
-  private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
+  private volatile Map<Class<?>, BeanHierarchy> m_beanHierarchies; // immutable snapshot, replaced upon each change
   private IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
@@ -51,7 +58,7 @@ public class BeanManagerImplementor implements IBeanManager {
 
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
-    m_beanHierarchies = new HashMap<>();
+    m_beanHierarchies = Collections.emptyMap();
     m_beanDecorationFactory = f;
   }
 
@@ -64,39 +71,25 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
-      }
-    }
-    finally {
-      m_lock.readLock().unlock();
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    List<IBean<T>> singleBean = h.querySingle();
+    return getDecoratedBeans(singleBean, beanClazz);
   }
 
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
-    }
-    finally {
-      m_lock.readLock().unlock();
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    List<IBean<T>> allBeans = h.queryAll();
+    return getDecoratedBeans(allBeans, beanClazz);
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -155,14 +148,38 @@ public class BeanManagerImplementor implements IBeanManager {
   @SuppressWarnings("unchecked")
   @Override
   public <T> IBean<T> registerBean(BeanMetaData beanData) {
+    return (IBean<T>) registerBeans(Collections.singletonList(beanData)).get(0);
+  }
+
+  /**
+   * Registers all given beans in one step: each affected hierarchy is copied once and a single new snapshot is
+   * published.
+   *
+   * @return the registered beans in the order of the given bean data
+   * @since 11.0
+   */
+  @SuppressWarnings("unchecked")
+  public List<IBean<?>> registerBeans(Collection<BeanMetaData> beanData) {
     m_lock.writeLock().lock();
     try {
-      IBean<T> bean = createBeanImplementor(beanData);
-      for (Class<?> type : listImplementedTypes(bean)) {
-        BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
-        h.addBean(bean);
+      List<IBean<?>> beans = new ArrayList<>(beanData.size());
+      Map<Class<?>, List<IBean<?>>> beansByType = new HashMap<>();
+      for (BeanMetaData data : beanData) {
+        IBean<?> bean = createBeanImplementor(data);
+        beans.add(bean);
+        for (Class<?> type : listImplementedTypes(bean)) {
+          beansByType.computeIfAbsent(type, k -> new ArrayList<>()).add(bean);
+        }
       }
-      return bean;
+      Map<Class<?>, BeanHierarchy> hierarchies = new HashMap<>(m_beanHierarchies);
+      for (Map.Entry<Class<?>, List<IBean<?>>> entry : beansByType.entrySet()) {
+        BeanHierarchy h = hierarchies.get(entry.getKey());
+        h = h != null ? h.copy() : new BeanHierarchy(entry.getKey());
+        h.addBeans(entry.getValue());
+        hierarchies.put(entry.getKey(), h);
+      }
+      m_beanHierarchies = Collections.unmodifiableMap(hierarchies);
+      return beans;
     }
     finally {
       m_lock.writeLock().unlock();
@@ -175,12 +192,16 @@ public class BeanManagerImplementor implements IBeanManager {
     m_lock.writeLock().lock();
     try {
       Assertions.assertNotNull(bean);
+      Map<Class<?>, BeanHierarchy> hierarchies = new HashMap<>(m_beanHierarchies);
       for (Class<?> type : listImplementedTypes(bean)) {
-        BeanHierarchy h = m_beanHierarchies.get(type);
+        BeanHierarchy h = hierarchies.get(type);
         if (h != null) {
+          h = h.copy();
           h.removeBean(bean);
+          hierarchies.put(type, h);
         }
       }
+      m_beanHierarchies = Collections.unmodifiableMap(hierarchies);
       if (bean instanceof BeanImplementor) {
         ((BeanImplementor) bean).dispose();
       }
@@ -193,33 +214,21 @@ public class BeanManagerImplementor implements IBeanManager {
   @Override
   @SuppressWarnings("unchecked")
   public <T> List<IBean<T>> getRegisteredBeans(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return CollectionUtility.emptyArrayList();
-      }
-      return new ArrayList<>(h.getBeans());
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return CollectionUtility.emptyArrayList();
     }
+    return new ArrayList<>(h.getBeans());
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> IBean<T> getRegisteredBean(Class<?> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(beanClazz);
-      if (h != null) {
-        return h.getExactBean(beanClazz);
-      }
-      return null;
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy h = m_beanHierarchies.get(beanClazz);
+    if (h != null) {
+      return h.getExactBean(beanClazz);
     }
+    return null;
   }
 
   @Override
@@ -269,14 +278,8 @@ public class BeanManagerImplementor implements IBeanManager {
 
   @Override
   public <T> boolean isBean(Class<T> clazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(clazz);
-      return h != null && !h.getBeans().isEmpty();
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    BeanHierarchy h = m_beanHierarchies.get(clazz);
+    return h != null && !h.getBeans().isEmpty();
   }
 
   protected void callPreDestroyOnBeans() {
@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.IBeanManager;
@@ -220,9 +221,11 @@ public class PlatformImplementor implements IPlatform {
     Set<Class> allBeans = new BeanFilter().collect(inv);
     long t1 = System.nanoTime();
     LOG.info("Collected {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t1 - t0));
+    List<BeanMetaData> beanData = new ArrayList<>(allBeans.size());
     for (Class<?> bean : allBeans) {
-      beanManager.registerClass(bean);
+      beanData.add(new BeanMetaData(bean));
     }
+    beanManager.registerBeans(beanData);
     long t2 = System.nanoTime();
     LOG.info("Registered {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t2 - t1));
     return beanManager;
@@ -31,4 +31,8 @@ public class ExecutionHintFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return future.containsExecutionHint(m_hint);
   }
+
+  public String getHint() {
+    return m_hint;
+  }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2010-2017 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IFuture;
+
+/**
+ * Filter to accept Futures whose {@link RunContext} adapts to a specific object, e.g. the session a job is running on
+ * behalf of.
+ * <p>
+ * The job manager indexes its Futures by that adapter, so that looking up Futures with such a filter does not require
+ * to test every Future. This filter must only accept Futures whose {@link RunContext} adapts to the object returned by
+ * {@link #getAdapterObject()}.
+ *
+ * @since 11.0
+ */
+public interface IRunContextAdapterFutureFilter extends Predicate<IFuture<?>> {
+
+  /**
+   * @return the type to be passed to {@link RunContext#getAdapter(Class)}.
+   */
+  Class<?> getAdapterType();
+
+  /**
+   * @return the object the {@link RunContext} of an accepted Future adapts to, or <code>null</code> if not applicable,
+   *         so that every Future is tested.
+   */
+  Object getAdapterObject();
+}
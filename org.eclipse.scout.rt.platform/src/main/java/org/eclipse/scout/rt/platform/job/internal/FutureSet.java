@@ -11,29 +11,41 @@
 package org.eclipse.scout.rt.platform.job.internal;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerCorePoolSizeProperty;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.filter.AndFilter;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.filter.future.ExecutionHintFutureFilter;
+import org.eclipse.scout.rt.platform.job.filter.future.IRunContextAdapterFutureFilter;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 
 /**
  * Thread-safe implementation of a {@link Set} to contain {@link IFuture}s.
+ * <p>
+ * Futures are kept in a concurrent set, so that adding and removing a Future does not require a lock. Additionally,
+ * Futures are indexed by their execution hints, and by the objects their {@link RunContext} adapts to, like the
+ * session. That way, a filter joined with an {@link ExecutionHintFutureFilter} or an
+ * {@link IRunContextAdapterFutureFilter}, e.g. to look up all jobs of a session, only tests the Futures in the
+ * respective index. An index for an adapter type is created once a filter for that type is used for the first time.
  *
  * @since 5.1
  */
@@ -41,20 +53,24 @@ import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 public class FutureSet {
 
   private final Set<JobFutureTask<?>> m_futures;
+  private final FutureIndex<String> m_executionHintIndex;
+  private final ConcurrentMap<Class<?>, FutureIndex<Object>> m_runContextAdapterIndexes;
 
-  private final ReadLock m_readLock;
-  private final WriteLock m_writeLock;
+  private final ReentrantLock m_changedLock;
   private final Condition m_changedCondition;
+  private final AtomicInteger m_waitingThreadCount;
 
   private IRegistrationHandle m_jobListenerRegistration;
 
   public FutureSet() {
-    m_futures = new HashSet<>(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_futures = ConcurrentHashMap.newKeySet(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_executionHintIndex = new FutureIndex<>();
+    m_executionHintIndex.setReady();
+    m_runContextAdapterIndexes = new ConcurrentHashMap<>();
 
-    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    m_readLock = lock.readLock();
-    m_writeLock = lock.writeLock();
-    m_changedCondition = m_writeLock.newCondition();
+    m_changedLock = new ReentrantLock();
+    m_changedCondition = m_changedLock.newCondition();
+    m_waitingThreadCount = new AtomicInteger();
   }
 
   /**
@@ -62,13 +78,18 @@ public class FutureSet {
    */
   public void init(final IJobManager jobManager) {
     m_jobListenerRegistration = jobManager.addListener(newSignalingFilter(), event -> {
-      m_writeLock.lock();
-      try {
-        m_changedCondition.signalAll();
-      }
-      finally {
-        m_writeLock.unlock();
+      final JobFutureTask<?> future = (JobFutureTask<?>) event.getData().getFuture();
+      switch (event.getType()) {
+        case JOB_EXECUTION_HINT_ADDED:
+          indexExecutionHint(future, event.getData().getExecutionHint());
+          break;
+        case JOB_EXECUTION_HINT_REMOVED:
+          m_executionHintIndex.remove(event.getData().getExecutionHint(), future);
+          break;
+        default:
+          break;
       }
+      signalChanged();
     });
   }
 
@@ -79,16 +100,11 @@ public class FutureSet {
     m_jobListenerRegistration.dispose();
 
     // Clear and cancel all futures.
-    final List<JobFutureTask<?>> runningFutures;
-    m_writeLock.lock();
-    try {
-      runningFutures = copyFutures();
-      m_futures.clear();
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    final List<JobFutureTask<?>> runningFutures = copyFutures();
+    m_futures.clear();
+    m_executionHintIndex.clear();
+    m_runContextAdapterIndexes.clear();
+    signalChanged();
 
     for (final JobFutureTask<?> runningFuture : runningFutures) {
       runningFuture.cancel(true);
@@ -99,28 +115,37 @@ public class FutureSet {
    * Adds the given Future to this {@link FutureSet}.
    */
   public void add(final JobFutureTask<?> future) {
-    m_writeLock.lock();
-    try {
-      m_futures.add(future);
-      m_changedCondition.signalAll();
+    m_futures.add(future);
+
+    for (final String hint : future.getExecutionHints()) {
+      indexExecutionHint(future, hint);
     }
-    finally {
-      m_writeLock.unlock();
+    for (final FutureIndex<Object> index : m_runContextAdapterIndexes.values()) {
+      indexRunContextAdapter(index, future);
     }
+
+    signalChanged();
   }
 
   /**
    * Removes the given Future from this {@link FutureSet}.
    */
   public void remove(final JobFutureTask<?> future) {
-    m_writeLock.lock();
-    try {
-      m_futures.remove(future);
-      m_changedCondition.signalAll();
+    if (!m_futures.remove(future)) {
+      return;
     }
-    finally {
-      m_writeLock.unlock();
+
+    for (final String hint : future.getExecutionHints()) {
+      m_executionHintIndex.remove(hint, future);
+    }
+    for (final FutureIndex<Object> index : m_runContextAdapterIndexes.values()) {
+      final Object adapter = getRunContextAdapter(future, index.getAdapterType());
+      if (adapter != null) {
+        index.remove(adapter, future);
+      }
     }
+
+    signalChanged();
   }
 
   /**
@@ -134,7 +159,7 @@ public class FutureSet {
    * @return <code>true</code> if all Futures accepted by the specified Filter are successfully matched.
    */
   public boolean matchesEvery(final Predicate<IFuture<?>> filter, final Predicate<JobFutureTask<?>> matcher) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : getCandidates(filter)) {
       final boolean accepted = (filter == null || filter.test(future));
 
       if (accepted && !matcher.test(future)) {
@@ -148,7 +173,7 @@ public class FutureSet {
    * Returns <code>true</code>, if this {@link FutureSet} contains one Future matching the given filter at minimum.
    */
   public boolean containsSome(final Predicate<IFuture<?>> filter) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : getCandidates(filter)) {
       if (filter == null || filter.test(future)) {
         return true;
       }
@@ -175,20 +200,7 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are done, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
-    try {
-      long nanos = unit.toNanos(timeout);
-      while (!matchesEvery(filter, CompletionPromise.PROMISE_DONE_MATCHER) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
-      }
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    awaitUntil(() -> matchesEvery(filter, CompletionPromise.PROMISE_DONE_MATCHER), unit.toNanos(timeout));
   }
 
   /**
@@ -211,20 +223,7 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are removed, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
-    try {
-      long nanos = unit.toNanos(timeout);
-      while (containsSome(filter) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
-      }
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    awaitUntil(() -> !containsSome(filter), unit.toNanos(timeout));
   }
 
   /**
@@ -240,7 +239,7 @@ public class FutureSet {
    */
   public final Set<IFuture<?>> values(final Predicate<IFuture<?>> filter) {
     final Set<IFuture<?>> futures = new HashSet<>();
-    for (final IFuture<?> candidate : copyFutures()) {
+    for (final IFuture<?> candidate : getCandidates(filter)) {
       if (filter == null || filter.test(candidate)) {
         futures.add(candidate);
       }
@@ -269,12 +268,148 @@ public class FutureSet {
   }
 
   protected List<JobFutureTask<?>> copyFutures() {
-    m_readLock.lock();
+    return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
+  }
+
+  /**
+   * Returns the Futures which possibly match the given filter. That is the smallest index bucket of the filter's
+   * {@link ExecutionHintFutureFilter} or {@link IRunContextAdapterFutureFilter} criteria, or all Futures if the filter
+   * has no such criterion. The filter still must be applied to the returned Futures.
+   */
+  protected Collection<JobFutureTask<?>> getCandidates(final Predicate<IFuture<?>> filter) {
+    Collection<JobFutureTask<?>> candidates = m_futures;
+    if (filter == null) {
+      return candidates;
+    }
+
+    final List<Predicate<IFuture<?>>> criteria = (filter instanceof AndFilter ? ((AndFilter<IFuture<?>>) filter).getFilters() : Collections.singletonList(filter));
+    for (final Predicate<IFuture<?>> criterion : criteria) {
+      final Collection<JobFutureTask<?>> indexedCandidates = getIndexedCandidates(criterion);
+      if (indexedCandidates != null && indexedCandidates.size() < candidates.size()) {
+        candidates = indexedCandidates;
+      }
+    }
+    return candidates;
+  }
+
+  /**
+   * Returns the Futures which possibly match the given criterion according to an index, or <code>null</code> if the
+   * criterion is not backed by an index.
+   */
+  protected Collection<JobFutureTask<?>> getIndexedCandidates(final Predicate<IFuture<?>> criterion) {
+    if (criterion instanceof ExecutionHintFutureFilter) {
+      final String hint = ((ExecutionHintFutureFilter) criterion).getHint();
+      return hint != null ? m_executionHintIndex.get(hint) : null;
+    }
+
+    if (criterion instanceof IRunContextAdapterFutureFilter) {
+      final IRunContextAdapterFutureFilter adapterFilter = (IRunContextAdapterFutureFilter) criterion;
+      final Class<?> adapterType = adapterFilter.getAdapterType();
+      final Object adapter = adapterFilter.getAdapterObject();
+      if (adapterType == null || adapter == null) {
+        return null;
+      }
+
+      final FutureIndex<Object> index = getOrCreateRunContextAdapterIndex(adapterType);
+      return index.isReady() ? index.get(adapter) : null;
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns the index of Futures by the object their {@link RunContext} adapts to for the given type. If not existing
+   * yet, the index is created and populated with the Futures currently contained.
+   */
+  protected FutureIndex<Object> getOrCreateRunContextAdapterIndex(final Class<?> adapterType) {
+    final FutureIndex<Object> index = m_runContextAdapterIndexes.get(adapterType);
+    if (index != null) {
+      return index;
+    }
+
+    // Publish the index before populating it, so that Futures added meanwhile are indexed as well.
+    final FutureIndex<Object> newIndex = new FutureIndex<>(adapterType);
+    final FutureIndex<Object> existingIndex = m_runContextAdapterIndexes.putIfAbsent(adapterType, newIndex);
+    if (existingIndex != null) {
+      return existingIndex;
+    }
+
+    for (final JobFutureTask<?> future : m_futures) {
+      indexRunContextAdapter(newIndex, future);
+    }
+    newIndex.setReady();
+    return newIndex;
+  }
+
+  protected void indexRunContextAdapter(final FutureIndex<Object> index, final JobFutureTask<?> future) {
+    final Object adapter = getRunContextAdapter(future, index.getAdapterType());
+    if (adapter == null) {
+      return;
+    }
+
+    index.add(adapter, future);
+    if (!m_futures.contains(future)) {
+      index.remove(adapter, future); // removed concurrently
+    }
+  }
+
+  protected void indexExecutionHint(final JobFutureTask<?> future, final String hint) {
+    if (hint == null || !m_futures.contains(future)) {
+      return;
+    }
+
+    m_executionHintIndex.add(hint, future);
+    if (!m_futures.contains(future) || !future.containsExecutionHint(hint)) {
+      m_executionHintIndex.remove(hint, future); // removed concurrently
+    }
+  }
+
+  protected Object getRunContextAdapter(final JobFutureTask<?> future, final Class<?> adapterType) {
+    final RunContext runContext = future.getJobInput().getRunContext();
+    return runContext != null ? runContext.getAdapter(adapterType) : null;
+  }
+
+  /**
+   * Blocks the current thread until the given condition is met, or the timeout elapses.
+   */
+  protected void awaitUntil(final IWaitCondition condition, final long timeoutNanos) throws InterruptedException, TimeoutException {
+    // Register as waiting thread before evaluating the condition, so that any subsequent change is signaled.
+    m_waitingThreadCount.incrementAndGet();
     try {
-      return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
+      m_changedLock.lockInterruptibly();
+      try {
+        long nanos = timeoutNanos;
+        while (!condition.isMet() && nanos > 0L) {
+          nanos = m_changedCondition.awaitNanos(nanos);
+        }
+
+        if (nanos <= 0L) {
+          throw new TimeoutException();
+        }
+      }
+      finally {
+        m_changedLock.unlock();
+      }
     }
     finally {
-      m_readLock.unlock();
+      m_waitingThreadCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Signals waiting threads about a change. The lock is only acquired if there are waiting threads.
+   */
+  protected void signalChanged() {
+    if (m_waitingThreadCount.get() == 0) {
+      return;
+    }
+
+    m_changedLock.lock();
+    try {
+      m_changedCondition.signalAll();
+    }
+    finally {
+      m_changedLock.unlock();
     }
   }
 
@@ -303,4 +438,67 @@ public class FutureSet {
       }
     };
   }
+
+  @FunctionalInterface
+  protected interface IWaitCondition {
+
+    boolean isMet();
+  }
+
+  /**
+   * Index of Futures by a key. Buckets are removed once empty.
+   */
+  protected static class FutureIndex<KEY> {
+
+    private final Class<?> m_adapterType;
+    private final ConcurrentMap<KEY, Set<JobFutureTask<?>>> m_buckets = new ConcurrentHashMap<>();
+    private volatile boolean m_ready;
+
+    public FutureIndex() {
+      this(null);
+    }
+
+    public FutureIndex(final Class<?> adapterType) {
+      m_adapterType = adapterType;
+    }
+
+    public Class<?> getAdapterType() {
+      return m_adapterType;
+    }
+
+    /**
+     * @return <code>true</code> if this index contains all Futures, or <code>false</code> if still being populated.
+     */
+    public boolean isReady() {
+      return m_ready;
+    }
+
+    public void setReady() {
+      m_ready = true;
+    }
+
+    public void add(final KEY key, final JobFutureTask<?> future) {
+      m_buckets.compute(key, (k, bucket) -> {
+        final Set<JobFutureTask<?>> futures = (bucket != null ? bucket : ConcurrentHashMap.newKeySet());
+        futures.add(future);
+        return futures;
+      });
+    }
+
+    public void remove(final KEY key, final JobFutureTask<?> future) {
+      m_buckets.computeIfPresent(key, (k, bucket) -> {
+        bucket.remove(future);
+        return bucket.isEmpty() ? null : bucket;
+      });
+    }
+
+    public Set<JobFutureTask<?>> get(final KEY key) {
+      final Set<JobFutureTask<?>> bucket = m_buckets.get(key);
+      return bucket != null ? bucket : Collections.emptySet();
+    }
+
+    public void clear() {
+      m_buckets.clear();
+    }
+  }
 }
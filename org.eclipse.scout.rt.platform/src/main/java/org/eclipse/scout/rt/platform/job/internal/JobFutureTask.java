@@ -10,12 +10,13 @@
  */
 package org.eclipse.scout.rt.platform.job.internal;
 
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -81,7 +82,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   protected final CompletionPromise<RESULT> m_completionPromise;
   protected final AtomicBoolean m_finished = new AtomicBoolean(false);
 
-  protected volatile Set<String> m_executionHints = new HashSet<>();
+  protected volatile Set<String> m_executionHints = ConcurrentHashMap.newKeySet();
 
   protected final Date m_firstFireTime;
   protected final boolean m_singleExecution;
@@ -322,6 +323,13 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     return m_executionHints.contains(hint);
   }
 
+  /**
+   * Returns a live view of the execution hints this job is currently tagged with.
+   */
+  protected Set<String> getExecutionHints() {
+    return Collections.unmodifiableSet(m_executionHints);
+  }
+
   /**
    * Returns <code>true</code> if expired and this job should not commence execution, or else <code>false</code>.
    */
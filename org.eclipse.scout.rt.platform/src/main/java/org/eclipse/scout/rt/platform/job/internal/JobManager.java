@@ -34,6 +34,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -252,12 +253,6 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
-    final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
-    final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
-    final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
-    final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
-    final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
-
     // Create the rejection handler.
     final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
       if (isShutdown()) {
@@ -273,6 +268,20 @@ public class JobManager implements IJobManager {
       }
     };
 
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      if (NamedThreadFactory.isVirtualThreadSupported()) {
+        return createVirtualThreadExecutor(rejectHandler);
+      }
+      LOG.warn("Virtual threads are not supported by this Java runtime, jobs run on platform threads instead. [property={}, javaVersion={}]",
+          BEANS.get(JobManagerVirtualThreadsProperty.class).getKey(), System.getProperty("java.version"));
+    }
+
+    final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
+    final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
+    final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
+    final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
+    final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
+
     final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
     executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
     if (prestartCoreThreads) {
@@ -282,6 +291,14 @@ public class JobManager implements IJobManager {
     return executor;
   }
 
+  /**
+   * Creates the executor to run every job on a new virtual thread. Virtual threads are cheap to create and must not be
+   * pooled, which is why there are no core threads and worker threads terminate as soon as their job completed.
+   */
+  protected ExecutorService createVirtualThreadExecutor(final RejectedExecutionHandler rejectHandler) {
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread", true), rejectHandler);
+  }
+
   /**
    * Returns the internal Executor Service.
    */
@@ -11,12 +11,17 @@
 package org.eclipse.scout.rt.platform.job.internal;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.slf4j.Logger;
@@ -25,6 +30,10 @@ import org.slf4j.MDC;
 
 /**
  * Thread factory for named threads and to handle uncaught exceptions.
+ * <p>
+ * Optionally, this factory creates virtual threads instead of platform threads. Virtual threads are only available if
+ * running on a Java runtime which supports them (Java 21 or later), which can be checked via
+ * {@link #isVirtualThreadSupported()}.
  *
  * @since 5.1
  */
@@ -32,20 +41,50 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
 
   protected static final Logger LOG = LoggerFactory.getLogger(NamedThreadFactory.class);
 
+  /**
+   * Handle to create an unstarted virtual thread, or <code>null</code> if not supported by the Java runtime.
+   */
+  private static final MethodHandle VIRTUAL_THREAD_CREATOR = lookupVirtualThreadCreator();
+
   private final AtomicLong m_sequence;
   private final String m_threadName;
   private final ThreadGroup m_group;
+  private final boolean m_virtual;
 
   public NamedThreadFactory(final String threadName) {
+    this(threadName, false);
+  }
+
+  /**
+   * @param threadName
+   *          the name of the threads created.
+   * @param virtual
+   *          <code>true</code> to create virtual threads, or <code>false</code> to create platform threads. Virtual
+   *          threads must be supported by the Java runtime, see {@link #isVirtualThreadSupported()}.
+   */
+  public NamedThreadFactory(final String threadName, final boolean virtual) {
+    Assertions.assertTrue(!virtual || isVirtualThreadSupported(), "Virtual threads are not supported by this Java runtime [version={}]", System.getProperty("java.version"));
     m_threadName = threadName;
     m_sequence = new AtomicLong();
+    m_virtual = virtual;
 
     final SecurityManager securityManager = System.getSecurityManager();
     m_group = (securityManager != null) ? securityManager.getThreadGroup() : Thread.currentThread().getThreadGroup();
   }
 
+  /**
+   * @return <code>true</code> if this factory creates virtual threads.
+   */
+  public boolean isVirtual() {
+    return m_virtual;
+  }
+
   @Override
   public Thread newThread(final Runnable runnable) {
+    if (m_virtual) {
+      return newVirtualThread(runnable);
+    }
+
     final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
     final Thread thread = new Thread(m_group, runnable, m_threadName, 0) {
 
@@ -76,6 +115,74 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
     return thread;
   }
 
+  /**
+   * Creates a virtual thread. Virtual threads cannot be subclassed, which is why the thread's {@link ThreadInfo} is
+   * installed by wrapping the given {@link Runnable}. Also, virtual threads are always daemon threads and run with normal
+   * priority.
+   */
+  protected Thread newVirtualThread(final Runnable runnable) {
+    final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
+    final Thread thread = createVirtualThread(() -> {
+      MDC.clear(); // see newThread
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    threadInfoRef.set(new ThreadInfo(thread, m_threadName, m_sequence.incrementAndGet()));
+    thread.setUncaughtExceptionHandler(this);
+
+    return thread;
+  }
+
+  /**
+   * @return <code>true</code> if the Java runtime supports virtual threads.
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VIRTUAL_THREAD_CREATOR != null;
+  }
+
+  private static Thread createVirtualThread(final Runnable runnable) {
+    try {
+      return (Thread) VIRTUAL_THREAD_CREATOR.invoke(runnable);
+    }
+    catch (final RuntimeException | Error e) { // NOSONAR
+      throw e;
+    }
+    catch (final Throwable t) { // NOSONAR
+      throw new PlatformException("Failed to create virtual thread", t);
+    }
+  }
+
+  /**
+   * Looks up <code>Thread.ofVirtual().unstarted(Runnable)</code> reflectively, so that this class can be compiled and
+   * run on Java runtimes without virtual thread support. A new builder is obtained for every thread because builders
+   * are not thread-safe.
+   */
+  private static MethodHandle lookupVirtualThreadCreator() {
+    try {
+      final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      final MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+      final MethodHandle unstarted = lookup.findVirtual(builderClass, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+      final MethodHandle creator = MethodHandles.collectArguments(unstarted, 0, ofVirtual.asType(MethodType.methodType(builderClass)));
+
+      // Probe the creator, because virtual threads may be a disabled preview feature (Java 19 and 20).
+      creator.invoke((Runnable) () -> {
+        // NOOP
+      });
+      return creator;
+    }
+    catch (final Throwable t) { // NOSONAR
+      LOG.debug("Virtual threads not supported by this Java runtime", t);
+      return null;
+    }
+  }
+
   // === UncaughtExceptionHandler ===
 
   @Override
@@ -185,20 +185,31 @@ public abstract class AbstractObjectSerializer implements IObjectSerializer {
      */
     @Override
     protected Class<?> resolveClass(ObjectStreamClass osc) throws IOException, ClassNotFoundException {
-      if (m_blacklist.test(osc.getName())) {
+      checkClassName(osc.getName());
+      return super.resolveClass(osc);
+    }
+
+    /**
+     * Checks the class name against the blacklist and the whitelist before the class is loaded.
+     *
+     * @throws ProcessingException
+     *           if the class must not be deserialized
+     * @since 11.0
+     */
+    protected void checkClassName(String className) {
+      if (m_blacklist.test(className)) {
         throw new ProcessingException("Security check: deseserialization of class '{}'. This class is blacklisted. To change the blacklist use config property '{}' or '{}' and consider {}",
-            osc.getName(),
+            className,
             BEANS.get(DefaultSerializerBlacklistAppendProperty.class).getKey(),
             BEANS.get(DefaultSerializerBlacklistReplaceProperty.class).getKey(),
             DefaultSerializerBlacklist.class);
       }
-      if (!m_whitelist.test(osc.getName())) {
+      if (!m_whitelist.test(className)) {
         throw new ProcessingException("Security check: deseserialization of class '{}'. This class is not whitelisted. To change the blacklist use config property '{}' and consider {}",
-            osc.getName(),
+            className,
             BEANS.get(DefaultSerializerWhitelistProperty.class).getKey(),
             DefaultSerializerWhitelist.class);
       }
-      return super.resolveClass(osc);
     }
 
     @Override
@@ -117,6 +117,21 @@ public abstract class AbstractTransactionalMap<K, V> implements Map<K, V> {
 
   protected abstract <TM extends Map<K, V> & ITransactionMember> TM createMapTransactionMember();
 
+  /**
+   * @return true if the current transaction changed the entry of the given key, i.e. the value seen within the current
+   *         transaction may differ from the value in the shared map
+   * @since 11.0
+   */
+  @SuppressWarnings("unchecked")
+  public boolean isChangedByCurrentTransaction(Object key) {
+    Map<K, V> m = getTransaction(false);
+    if (m instanceof AbstractMapTransactionMember) {
+      AbstractMapTransactionMember<K, V> member = (AbstractMapTransactionMember<K, V>) m;
+      return member.getInsertedMap().containsKey(key) || member.getRemovedMap().containsKey(key);
+    }
+    return false;
+  }
+
   @Override
   public int size() {
     return getTransactionMap(true).size();
@@ -0,0 +1,848 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A thread-safe concurrent map whose size, or the total weight of its entries, is strictly bounded. Like
+ * {@link ConcurrentExpiringMap}, this class is just a decorator for any concurrent map.
+ * <p>
+ * Entries are evicted according to the <em>W-TinyLFU</em> policy: A new entry is added to a small LRU window. Once
+ * pushed out of the window, the entry competes for admission with the least recently used entry of the main space,
+ * which is a segmented LRU consisting of a probation and a protected segment. The entry with the higher access
+ * frequency is retained, whereas the frequencies are estimated by a compact count-min sketch which ages periodically.
+ * This way, popular entries are retained even if many entries are accessed only once (e.g. by a scan). Evicting an
+ * entry takes amortized constant time.
+ * <p>
+ * Read accesses are recorded in a lossy buffer and applied to the eviction policy in batches, so that reads do not
+ * contend for the eviction lock. Write accesses update the eviction policy immediately.
+ * <p>
+ * If a weigher is given, the map is bounded by the sum of the weights of its entries, otherwise by the number of its
+ * entries.
+ * <p>
+ * If the <tt>timeToLive</tt> property is set, entries expire after the given duration since they were written. If
+ * additionally the <tt>touchOnGet</tt> property is set, the {@link #get(Object)} operation resets the timeout of an
+ * entry.
+ * <p>
+ * Every time an entry in the map is evicted, {@link #execEntryEvicted(Object, Object)} is called.
+ * <p>
+ * <em>Important</em>: The method {@link #size()} does not check if entries are expired. Like the implementation in
+ * {@link AbstractCollection#toArray()} one should be prepared for such a behavior. If the decorated map is
+ * transactional, the bound is only approximately enforced for entries of uncommitted transactions.
+ * <p>
+ * This class does <em>not</em> allow <tt>null</tt> keys or values.
+ *
+ * @param <K>
+ *          the type of keys maintained by this map
+ * @param <V>
+ *          the type of mapped values
+ * @since 11.0
+ */
+@SuppressWarnings("squid:S2160")
+public class ConcurrentBoundedMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+  private static final int READ_BUFFER_SIZE = 64; // power of two
+  private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+  private static final int READ_BUFFER_DRAIN_MASK = 15; // try to drain the read buffer every 16 reads
+
+  private static final double WINDOW_RATIO = 0.01;
+  private static final double PROTECTED_RATIO = 0.8;
+
+  private final ConcurrentMap<K, BoundedElement<K, V>> m_elementMap;
+  private final long m_maximumWeight;
+  private final ToLongBiFunction<? super K, ? super V> m_weigher;
+  private final long m_timeToLive;
+  private final boolean m_touchOnGet;
+
+  private final AtomicReferenceArray<BoundedElement<K, V>> m_readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+  private final AtomicLong m_readCount = new AtomicLong();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final ReentrantLock m_evictionLock = new ReentrantLock();
+
+  // guarded by m_evictionLock
+  private final ElementDeque<K, V> m_window = new ElementDeque<>();
+  private final ElementDeque<K, V> m_probation = new ElementDeque<>();
+  private final ElementDeque<K, V> m_protected = new ElementDeque<>();
+  private final FrequencySketch m_sketch;
+  private final long m_maximumWindowWeight;
+  private final long m_maximumProtectedWeight;
+  private long m_windowWeight;
+  private long m_protectedWeight;
+  private long m_weight;
+  private long m_elementCount;
+
+  /**
+   * Creates a new map holding at most the given number of entries.
+   *
+   * @param maximumSize
+   *          maximum number of entries
+   */
+  public ConcurrentBoundedMap(long maximumSize) {
+    this(new ConcurrentHashMap<>(), maximumSize, null, 0L, false);
+  }
+
+  /**
+   * @param elementMap
+   *          {@link ConcurrentMap} that contains {@link BoundedElement}s
+   * @param maximumWeight
+   *          maximum sum of the weights of all entries; if no weigher is given, the maximum number of entries
+   * @param weigher
+   *          computes the weight of an entry, or <code>null</code> to weigh each entry with 1
+   * @param timeToLiveDurationMillis
+   *          if greater than zero, entries expire after the given duration
+   * @param touchOnGet
+   *          if true, {@link #get(Object)} operation resets the timeout of an entry
+   * @throws IllegalArgumentException
+   *           if maximumWeight is negative
+   */
+  public ConcurrentBoundedMap(ConcurrentMap<K, BoundedElement<K, V>> elementMap, long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher, long timeToLiveDurationMillis, boolean touchOnGet) {
+    if (maximumWeight < 0L) {
+      throw new IllegalArgumentException("maximumWeight cannot be negative");
+    }
+    m_elementMap = elementMap;
+    m_maximumWeight = maximumWeight;
+    m_weigher = weigher;
+    m_timeToLive = timeToLiveDurationMillis;
+    m_touchOnGet = touchOnGet;
+
+    m_maximumWindowWeight = maximumWeight == 0L ? 0L : Math.max(1L, (long) (maximumWeight * WINDOW_RATIO));
+    m_maximumProtectedWeight = (long) ((maximumWeight - m_maximumWindowWeight) * PROTECTED_RATIO);
+    m_sketch = new FrequencySketch(0L); // grows with the number of entries
+  }
+
+  /**
+   * @return the decorated map instance
+   */
+  public ConcurrentMap<K, BoundedElement<K, V>> getElementMap() {
+    return m_elementMap;
+  }
+
+  public long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  public long getTimeToLive() {
+    return m_timeToLive;
+  }
+
+  public boolean isTouchOnGet() {
+    return m_touchOnGet;
+  }
+
+  /**
+   * @return the current sum of the weights of all entries known to the eviction policy
+   */
+  public long getWeight() {
+    m_evictionLock.lock();
+    try {
+      return m_weight;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  /**
+   * @return number of entries evicted because of the size bound or because their time to live elapsed
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  /**
+   * <b>Note:</b> The implementation of this method does not check if entries are expired, else it would have to iterate
+   * though the whole map at each call.
+   */
+  @Override
+  public int size() {
+    return m_elementMap.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !newEntryIterator().hasNext();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return getElement(key) != null;
+  }
+
+  @Override
+  public V get(Object key) {
+    BoundedElement<K, V> e = getElement(key);
+    if (e == null) {
+      return null;
+    }
+    if (m_touchOnGet) {
+      e.touch();
+    }
+    afterRead(e);
+    return e.getValue();
+  }
+
+  @Override
+  public V put(K key, V value) {
+    BoundedElement<K, V> e = createElement(key, value);
+    BoundedElement<K, V> old = m_elementMap.put(key, e);
+    afterWrite(old, e);
+    return extractValidElementValue(old);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+      put(e.getKey(), e.getValue());
+    }
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    BoundedElement<K, V> e = createElement(key, value);
+    while (true) {
+      BoundedElement<K, V> existing = m_elementMap.putIfAbsent(key, e);
+      if (existing == null) {
+        afterWrite(null, e);
+        return null;
+      }
+      if (!isExpired(existing)) {
+        afterRead(existing);
+        return existing.getValue();
+      }
+      if (m_elementMap.replace(key, existing, e)) {
+        afterWrite(existing, e);
+        entryEvicted(existing);
+        return null;
+      }
+      // else we retry
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    BoundedElement<K, V> e = m_elementMap.remove(key);
+    if (e != null) {
+      afterWrite(e, null);
+    }
+    return extractValidElementValue(e);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    BoundedElement<K, V> e = getElement(key);
+    if (e != null && e.getValue().equals(value) && m_elementMap.remove(key, e)) {
+      afterWrite(e, null);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    BoundedElement<K, V> e = getElement(key);
+    if (e != null && e.getValue().equals(oldValue)) {
+      BoundedElement<K, V> newElement = createElement(key, newValue);
+      if (m_elementMap.replace(key, e, newElement)) {
+        afterWrite(e, newElement);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    BoundedElement<K, V> e = getElement(key);
+    while (e != null) {
+      BoundedElement<K, V> newElement = createElement(key, value);
+      if (m_elementMap.replace(key, e, newElement)) {
+        afterWrite(e, newElement);
+        return e.getValue();
+      }
+      // else we retry
+      e = getElement(key);
+    }
+    return null;
+  }
+
+  @Override
+  public void clear() {
+    m_elementMap.clear();
+
+    // Remove all elements from the eviction policy which are not contained anymore. Elements added concurrently remain.
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      removeOrphanedElements(m_window);
+      removeOrphanedElements(m_probation);
+      removeOrphanedElements(m_protected);
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  protected BoundedElement<K, V> createElement(K key, V value) {
+    if (key == null || value == null) {
+      throw new NullPointerException();
+    }
+    long weight = m_weigher != null ? m_weigher.applyAsLong(key, value) : 1L;
+    if (weight < 0L) {
+      throw new IllegalArgumentException("weight cannot be negative [key=" + key + ", weight=" + weight + "]");
+    }
+    return new BoundedElement<>(key, value, weight);
+  }
+
+  /**
+   * @return the element of the given key, or <code>null</code> if not contained or expired. This method does not record
+   *         an access.
+   */
+  protected BoundedElement<K, V> getElement(Object key) {
+    BoundedElement<K, V> e = m_elementMap.get(key);
+    if (e != null && isExpired(e)) {
+      if (m_elementMap.remove(key, e)) {
+        afterWrite(e, null);
+        entryEvicted(e);
+      }
+      return null;
+    }
+    return e;
+  }
+
+  protected boolean isExpired(BoundedElement<K, V> element) {
+    return m_timeToLive > 0L && element.getTimestamp() + m_timeToLive <= System.currentTimeMillis();
+  }
+
+  protected V extractValidElementValue(BoundedElement<K, V> element) {
+    if (element != null && !isExpired(element)) {
+      return element.getValue();
+    }
+    return null;
+  }
+
+  /**
+   * Records the read access of the given element. Accesses are buffered and applied to the eviction policy in batches
+   * by the first thread which acquires the eviction lock. If the buffer is full, accesses are dropped.
+   */
+  protected void afterRead(BoundedElement<K, V> element) {
+    long readCount = m_readCount.getAndIncrement();
+    m_readBuffer.lazySet((int) (readCount & READ_BUFFER_MASK), element);
+    if ((readCount & READ_BUFFER_DRAIN_MASK) == 0L && m_evictionLock.tryLock()) {
+      try {
+        drainReadBuffer();
+      }
+      finally {
+        m_evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Applies a write access to the eviction policy and evicts entries if the map exceeds its bound.
+   *
+   * @param removedElement
+   *          element removed from the map, or <code>null</code>
+   * @param addedElement
+   *          element added to the map, or <code>null</code>
+   */
+  protected void afterWrite(BoundedElement<K, V> removedElement, BoundedElement<K, V> addedElement) {
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      if (removedElement != null) {
+        unlink(removedElement);
+      }
+      if (addedElement != null) {
+        onAdd(addedElement);
+      }
+      evict();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  // === Eviction policy (guarded by m_evictionLock) ===
+
+  private void drainReadBuffer() {
+    for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+      BoundedElement<K, V> e = m_readBuffer.getAndSet(i, null);
+      if (e != null) {
+        onAccess(e);
+      }
+    }
+  }
+
+  private void onAdd(BoundedElement<K, V> e) {
+    if (e.m_queue != BoundedElement.QUEUE_NONE) {
+      return; // removed concurrently before being added to the policy
+    }
+    m_elementCount++;
+    m_sketch.ensureCapacity(m_elementCount);
+    m_sketch.increment(e.getKey());
+
+    e.m_queue = BoundedElement.QUEUE_WINDOW;
+    m_window.addLast(e);
+    m_windowWeight += e.getWeight();
+    m_weight += e.getWeight();
+  }
+
+  private void onAccess(BoundedElement<K, V> e) {
+    switch (e.m_queue) {
+      case BoundedElement.QUEUE_WINDOW:
+        m_sketch.increment(e.getKey());
+        m_window.moveToLast(e);
+        break;
+      case BoundedElement.QUEUE_PROBATION:
+        m_sketch.increment(e.getKey());
+        m_probation.remove(e);
+        e.m_queue = BoundedElement.QUEUE_PROTECTED;
+        m_protected.addLast(e);
+        m_protectedWeight += e.getWeight();
+        demoteFromProtected();
+        break;
+      case BoundedElement.QUEUE_PROTECTED:
+        m_sketch.increment(e.getKey());
+        m_protected.moveToLast(e);
+        break;
+      default:
+        // not added yet or already removed
+        break;
+    }
+  }
+
+  private void demoteFromProtected() {
+    while (m_protectedWeight > m_maximumProtectedWeight) {
+      BoundedElement<K, V> e = m_protected.peekFirst();
+      if (e == null) {
+        break;
+      }
+      m_protected.remove(e);
+      m_protectedWeight -= e.getWeight();
+      e.m_queue = BoundedElement.QUEUE_PROBATION;
+      m_probation.addLast(e);
+    }
+  }
+
+  /**
+   * Moves entries overflowing the window to the probation segment, and lets them compete with the probation's least
+   * recently used entries until the map complies with its bound.
+   */
+  private void evict() {
+    BoundedElement<K, V> candidate = null;
+    while (m_windowWeight > m_maximumWindowWeight) {
+      BoundedElement<K, V> e = m_window.peekFirst();
+      if (e == null) {
+        break;
+      }
+      m_window.remove(e);
+      m_windowWeight -= e.getWeight();
+      e.m_queue = BoundedElement.QUEUE_PROBATION;
+      m_probation.addLast(e);
+      if (candidate == null) {
+        candidate = e;
+      }
+    }
+
+    while (m_weight > m_maximumWeight) {
+      BoundedElement<K, V> victim = m_probation.peekFirst();
+      if (candidate == null) {
+        // no candidates from the window; evict in the order probation, protected, window
+        if (victim == null) {
+          victim = m_protected.peekFirst();
+        }
+        if (victim == null) {
+          victim = m_window.peekFirst();
+        }
+        if (victim == null) {
+          break;
+        }
+        evictElement(victim);
+      }
+      else if (victim == candidate || candidate.getWeight() > m_maximumWeight) {
+        BoundedElement<K, V> next = candidate.m_next;
+        evictElement(candidate);
+        candidate = next;
+      }
+      else if (admit(candidate, victim)) {
+        evictElement(victim);
+      }
+      else {
+        BoundedElement<K, V> next = candidate.m_next;
+        evictElement(candidate);
+        candidate = next;
+      }
+    }
+  }
+
+  private boolean admit(BoundedElement<K, V> candidate, BoundedElement<K, V> victim) {
+    return m_sketch.frequency(candidate.getKey()) > m_sketch.frequency(victim.getKey());
+  }
+
+  private void evictElement(BoundedElement<K, V> e) {
+    unlink(e);
+    if (m_elementMap.remove(e.getKey(), e)) {
+      entryEvicted(e);
+    }
+  }
+
+  private void unlink(BoundedElement<K, V> e) {
+    switch (e.m_queue) {
+      case BoundedElement.QUEUE_WINDOW:
+        m_window.remove(e);
+        m_windowWeight -= e.getWeight();
+        break;
+      case BoundedElement.QUEUE_PROBATION:
+        m_probation.remove(e);
+        break;
+      case BoundedElement.QUEUE_PROTECTED:
+        m_protected.remove(e);
+        m_protectedWeight -= e.getWeight();
+        break;
+      default:
+        // not added yet or already removed
+        e.m_queue = BoundedElement.QUEUE_REMOVED;
+        return;
+    }
+    e.m_queue = BoundedElement.QUEUE_REMOVED;
+    m_weight -= e.getWeight();
+    m_elementCount--;
+  }
+
+  private void removeOrphanedElements(ElementDeque<K, V> deque) {
+    BoundedElement<K, V> e = deque.peekFirst();
+    while (e != null) {
+      BoundedElement<K, V> next = e.m_next;
+      if (m_elementMap.get(e.getKey()) != e) {
+        unlink(e);
+      }
+      e = next;
+    }
+  }
+
+  private void entryEvicted(BoundedElement<K, V> e) {
+    m_evictionCount.increment();
+    execEntryEvicted(e.getKey(), e.getValue());
+  }
+
+  /**
+   * Called when the map evicted an entry because of its bound or because its time to live elapsed.
+   */
+  protected void execEntryEvicted(K key, V value) {
+    // hook method for subclasses
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return newEntryIterator();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      BoundedElement<K, V> element = getElement(e.getKey());
+      return element != null && element.getValue().equals(e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      return ConcurrentBoundedMap.this.remove(e.getKey(), e.getValue());
+    }
+
+    @Override
+    public int size() {
+      return ConcurrentBoundedMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      ConcurrentBoundedMap.this.clear();
+    }
+  }
+
+  protected Iterator<Entry<K, V>> newEntryIterator() {
+    return new EntryIterator();
+  }
+
+  /**
+   * Iterates the entries without recording read accesses.
+   */
+  private final class EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<K> m_elementMapIterator;
+    private Entry<K, V> m_nextEntry;
+    private Entry<K, V> m_lastReturned;
+
+    EntryIterator() {
+      m_elementMapIterator = m_elementMap.keySet().iterator();
+      advance();
+    }
+
+    void advance() {
+      m_nextEntry = null;
+      while (m_elementMapIterator.hasNext()) {
+        K key = m_elementMapIterator.next();
+        BoundedElement<K, V> element = getElement(key);
+        if (element != null) {
+          m_nextEntry = new WriteThroughEntry(key, element.getValue());
+          break;
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return m_nextEntry != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (m_nextEntry == null) {
+        throw new NoSuchElementException();
+      }
+      m_lastReturned = m_nextEntry;
+      advance();
+      return m_lastReturned;
+    }
+
+    @Override
+    public void remove() {
+      if (m_lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      ConcurrentBoundedMap.this.remove(m_lastReturned.getKey());
+      m_lastReturned = null;
+    }
+  }
+
+  private final class WriteThroughEntry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    WriteThroughEntry(K k, V v) {
+      super(k, v);
+    }
+
+    @Override
+    public V setValue(V value) {
+      V v = super.setValue(value);
+      ConcurrentBoundedMap.this.put(getKey(), value);
+      return v;
+    }
+  }
+
+  /**
+   * Element of the decorated map. Elements are compared by identity.
+   */
+  public static class BoundedElement<K, V> {
+    private static final int QUEUE_NONE = 0;
+    private static final int QUEUE_WINDOW = 1;
+    private static final int QUEUE_PROBATION = 2;
+    private static final int QUEUE_PROTECTED = 3;
+    private static final int QUEUE_REMOVED = 4;
+
+    private final K m_key;
+    private final V m_value;
+    private final long m_weight;
+    private volatile long m_timestamp;
+
+    // guarded by the eviction lock of the map
+    private int m_queue;
+    private BoundedElement<K, V> m_prev;
+    private BoundedElement<K, V> m_next;
+
+    public BoundedElement(K key, V value, long weight) {
+      m_key = key;
+      m_value = value;
+      m_weight = weight;
+      m_timestamp = System.currentTimeMillis();
+    }
+
+    public K getKey() {
+      return m_key;
+    }
+
+    public V getValue() {
+      return m_value;
+    }
+
+    public long getWeight() {
+      return m_weight;
+    }
+
+    public long getTimestamp() {
+      return m_timestamp;
+    }
+
+    protected void touch() {
+      m_timestamp = System.currentTimeMillis();
+    }
+  }
+
+  /**
+   * Doubly linked list of elements in access order, linked through the elements themselves.
+   */
+  private static final class ElementDeque<K, V> {
+    private BoundedElement<K, V> m_first;
+    private BoundedElement<K, V> m_last;
+
+    BoundedElement<K, V> peekFirst() {
+      return m_first;
+    }
+
+    void addLast(BoundedElement<K, V> e) {
+      e.m_prev = m_last;
+      e.m_next = null;
+      if (m_last == null) {
+        m_first = e;
+      }
+      else {
+        m_last.m_next = e;
+      }
+      m_last = e;
+    }
+
+    void remove(BoundedElement<K, V> e) {
+      if (e.m_prev == null) {
+        m_first = e.m_next;
+      }
+      else {
+        e.m_prev.m_next = e.m_next;
+      }
+      if (e.m_next == null) {
+        m_last = e.m_prev;
+      }
+      else {
+        e.m_next.m_prev = e.m_prev;
+      }
+      e.m_prev = null;
+      e.m_next = null;
+    }
+
+    void moveToLast(BoundedElement<K, V> e) {
+      if (m_last != e) {
+        remove(e);
+        addLast(e);
+      }
+    }
+  }
+
+  /**
+   * Count-min sketch with four 4-bit counters per key to estimate the access frequency of keys. Once the number of
+   * increments reaches ten times the capacity, all counters are halved, so that the frequencies age. The capacity grows
+   * with the number of entries, whereas growing discards the recorded frequencies. Not thread-safe.
+   */
+  static final class FrequencySketch {
+    private static final long[] SEED = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 22;
+
+    private long[] m_table;
+    private int m_tableMask;
+    private int m_sampleSize;
+    private int m_size;
+
+    FrequencySketch(long expectedSize) {
+      ensureCapacity(expectedSize);
+    }
+
+    void ensureCapacity(long expectedSize) {
+      if (m_table != null && (m_table.length >= expectedSize || m_table.length == MAXIMUM_CAPACITY)) {
+        return;
+      }
+      int capacity = (int) Math.min(Math.max(expectedSize, MINIMUM_CAPACITY), MAXIMUM_CAPACITY);
+      m_table = new long[Integer.highestOneBit(capacity - 1) << 1];
+      m_tableMask = m_table.length - 1;
+      m_sampleSize = 10 * capacity;
+      m_size = 0;
+    }
+
+    int frequency(Object key) {
+      int hash = spread(key.hashCode());
+      int start = (hash & 3) << 2;
+      int frequency = Integer.MAX_VALUE;
+      for (int i = 0; i < 4; i++) {
+        int index = indexOf(hash, i);
+        int count = (int) ((m_table[index] >>> ((start + i) << 2)) & 0xfL);
+        frequency = Math.min(frequency, count);
+      }
+      return frequency;
+    }
+
+    void increment(Object key) {
+      int hash = spread(key.hashCode());
+      int start = (hash & 3) << 2;
+      boolean added = false;
+      for (int i = 0; i < 4; i++) {
+        added |= incrementAt(indexOf(hash, i), start + i);
+      }
+      if (added && ++m_size >= m_sampleSize) {
+        reset();
+      }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+      int offset = counter << 2;
+      long mask = 0xfL << offset;
+      if ((m_table[index] & mask) != mask) {
+        m_table[index] += 1L << offset;
+        return true;
+      }
+      return false;
+    }
+
+    private void reset() {
+      for (int i = 0; i < m_table.length; i++) {
+        m_table[i] = (m_table[i] >>> 1) & RESET_MASK;
+      }
+      m_size >>>= 1;
+    }
+
+    private int indexOf(int hash, int i) {
+      long h = (hash + SEED[i]) * SEED[i];
+      h += h >>> 32;
+      return ((int) h) & m_tableMask;
+    }
+
+    private static int spread(int x) {
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      return (x >>> 16) ^ x;
+    }
+  }
+}
@@ -141,6 +141,17 @@ public class AccessControlServiceTest {
     assertSame(p5, p6);
   }
 
+  @Test
+  public void testPermissionsSharedAcrossUsers() {
+    m_accessControlService.clearCache();
+    IPermissionCollection p1 = m_accessControlService.getPermissions();
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new SimplePrincipal("jane"));
+    IPermissionCollection p2 = Subject.doAs(subject, (PrivilegedAction<IPermissionCollection>) () -> m_accessControlService.getPermissions());
+    assertSame(p1, p2);
+    assertEquals(PermissionLevel.ALL, p2.getGrantedPermissionLevel(new SomePermission1()));
+  }
+
   @IgnoreBean
   private static class P_SharedAccessControlService extends AbstractAccessControlService<String> {
 
@@ -10,11 +10,16 @@
  */
 package org.eclipse.scout.rt.security;
 
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PermissionCollection;
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -28,7 +33,12 @@ import org.eclipse.scout.rt.platform.cache.ICache;
 import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
 import org.eclipse.scout.rt.platform.cache.ICacheValueResolver;
 import org.eclipse.scout.rt.platform.cache.KeyCacheEntryFilter;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.security.SecurityConfigProperties.AccessControlCacheMaxSizeProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Common logic for an {@link IAccessControlService} implementation. An Implementation has to override
@@ -41,6 +51,9 @@ import org.eclipse.scout.rt.platform.context.RunContext;
  * <p>
  * This class caches permission collections. As default, the cache is transactional and with a time to live duration of
  * one hour. To change any of these properties override {@link #createCacheBuilder()}.
+ * <p>
+ * Users with equal permissions share one permission collection instance, see
+ * {@link #sharePermissions(IPermissionCollection)}.
  *
  * @param <K>
  *          the type of keys maintained the cache
@@ -48,10 +61,14 @@ import org.eclipse.scout.rt.platform.context.RunContext;
  */
 public abstract class AbstractAccessControlService<K> implements IAccessControlService {
   public static final String ACCESS_CONTROL_SERVICE_CACHE_ID = AbstractAccessControlService.class.getName();
+  private static final Logger LOG = LoggerFactory.getLogger(AbstractAccessControlService.class);
+  private static final int MIN_PURGE_THRESHOLD = 64;
 
   // never null
   private volatile Pattern[] m_userIdSearchPatterns;
   private volatile ICache<K, IPermissionCollection> m_cache;
+  private final Map<PermissionsSignature, WeakReference<IPermissionCollection>> m_sharedPermissions = new ConcurrentHashMap<>();
+  private volatile int m_purgeThreshold = MIN_PURGE_THRESHOLD;
 
   public AbstractAccessControlService() {
     m_userIdSearchPatterns = new Pattern[]{
@@ -117,11 +134,47 @@ public abstract class AbstractAccessControlService<K> implements IAccessControlS
         .withClusterEnabled(true)
         .withTransactional(true)
         .withTransactionalFastForward(true)
-        .withTimeToLive(1L, TimeUnit.HOURS, false);
+        .withTimeToLive(1L, TimeUnit.HOURS, false)
+        .withMaximumSize(CONFIG.getPropertyValue(AccessControlCacheMaxSizeProperty.class));
   }
 
   protected ICacheValueResolver<K, IPermissionCollection> createCacheValueResolver() {
-    return this::execLoadPermissions;
+    return key -> sharePermissions(execLoadPermissions(key));
+  }
+
+  /**
+   * Returns an equal permission collection loaded before for another cache key, if there is one. Hence users with the
+   * same roles share one instance instead of holding a copy each.
+   * <p>
+   * Only read-only {@link DefaultPermissionCollection}s are shared. Two collections are equal if their serialized forms
+   * are equal, which includes the state of all permissions and values.
+   */
+  protected IPermissionCollection sharePermissions(IPermissionCollection permissions) {
+    if (!(permissions instanceof DefaultPermissionCollection) || !permissions.isReadOnly()) {
+      return permissions;
+    }
+    PermissionsSignature signature;
+    try {
+      signature = new PermissionsSignature(SerializationUtility.createObjectSerializer().serialize(permissions));
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.debug("Permission collection is not shared because it cannot be serialized", e);
+      return permissions;
+    }
+
+    if (m_sharedPermissions.size() >= m_purgeThreshold) {
+      m_sharedPermissions.values().removeIf(ref -> ref.get() == null);
+      m_purgeThreshold = Math.max(MIN_PURGE_THRESHOLD, 2 * m_sharedPermissions.size());
+    }
+    IPermissionCollection shared = m_sharedPermissions.compute(signature, (k, ref) -> ref != null && ref.get() != null ? ref : new WeakReference<>(permissions)).get();
+    return shared != null ? shared : permissions;
+  }
+
+  /**
+   * Stops sharing the given permission collection, so that subsequent loads of equal permissions create a new one.
+   */
+  protected void unsharePermissions(IPermissionCollection permissions) {
+    m_sharedPermissions.values().removeIf(ref -> ref.get() == null || ref.get() == permissions);
   }
 
   protected ICache<K, IPermissionCollection> getCache() {
@@ -174,6 +227,7 @@ public abstract class AbstractAccessControlService<K> implements IAccessControlS
 
   @Override
   public void clearCache() {
+    m_sharedPermissions.clear();
     getCache().invalidate(new AllCacheEntryFilter<>(), true);
   }
 
@@ -190,6 +244,43 @@ public abstract class AbstractAccessControlService<K> implements IAccessControlS
     if (filter.getKeys().isEmpty()) {
       return;
     }
+    Map<K, IPermissionCollection> cachedPermissions = getCache().getUnmodifiableMap();
+    for (K key : filter.getKeys()) {
+      IPermissionCollection permissions = cachedPermissions.get(key);
+      if (permissions != null) {
+        unsharePermissions(permissions);
+      }
+    }
     getCache().invalidate(filter, true);
   }
+
+  /**
+   * Serialized form of a permission collection used to find equal collections.
+   */
+  protected static final class PermissionsSignature {
+    private final byte[] m_bytes;
+    private final int m_hash;
+
+    protected PermissionsSignature(byte[] bytes) {
+      m_bytes = bytes;
+      m_hash = Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      PermissionsSignature other = (PermissionsSignature) obj;
+      return m_hash == other.m_hash && Arrays.equals(m_bytes, other.m_bytes);
+    }
+  }
 }
@@ -18,10 +18,13 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.util.EnumerationUtility;
 
 /**
@@ -29,13 +32,21 @@ import org.eclipse.scout.rt.platform.util.EnumerationUtility;
  * <p>
  * Unlike other permission collections, this implementation utilize the fact than an {@link IPermission} can only be
  * implied by another {@link IPermission} with the same name.
+ * <p>
+ * When set read-only, the granted levels of all permissions using the default {@link AbstractPermission#matches}
+ * implementation are compiled into a lookup table, so that {@link #getGrantedPermissionLevel(IPermission)} does not
+ * need to evaluate the granted permissions anymore.
  */
 public class DefaultPermissionCollection extends AbstractPermissionCollection {
   private static final long serialVersionUID = 1L;
 
+  private static final Map<Class<?>, Boolean> DEFAULT_MATCHES = new ConcurrentHashMap<>();
+
   /** content is effective immutable and protected by {@link #isReadOnly()} */
   private final Map<String, List<IPermission>> m_permissions;
   private final List<Permission> m_javaPermissions;
+  /** granted level by permission class and name, assigned by {@link #setReadOnly()} */
+  private Map<String, Map<Class<?>, PermissionLevel>> m_grantedLevels;
 
   public DefaultPermissionCollection() {
     m_permissions = new HashMap<>();
@@ -65,6 +76,7 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
   public void setReadOnly() {
     super.setReadOnly();
     assignPermissionCollectionInternal();
+    compileGrantedLevels();
   }
 
   protected void assignPermissionCollectionInternal() {
@@ -73,6 +85,34 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
         .forEach(p -> p.assignPermissionCollection(this));
   }
 
+  /**
+   * Compiles the granted levels of all permission names whose granted permissions match by class and name only.
+   */
+  protected void compileGrantedLevels() {
+    Map<String, Map<Class<?>, PermissionLevel>> grantedLevels = new HashMap<>();
+    for (Entry<String, List<IPermission>> entry : m_permissions.entrySet()) {
+      ((ArrayList<IPermission>) entry.getValue()).trimToSize();
+      if (!entry.getValue().stream().allMatch(p -> p.getLevel() != null && DEFAULT_MATCHES.computeIfAbsent(p.getClass(), DefaultPermissionCollection::isDefaultMatches))) {
+        continue;
+      }
+      Map<Class<?>, PermissionLevel> levels = new HashMap<>();
+      for (IPermission p : entry.getValue()) {
+        levels.merge(p.getClass(), p.getLevel(), (level1, level2) -> level1 == level2 ? level1 : PermissionLevel.UNDEFINED);
+      }
+      grantedLevels.put(entry.getKey(), levels);
+    }
+    m_grantedLevels = grantedLevels;
+  }
+
+  private static boolean isDefaultMatches(Class<?> permissionClass) {
+    try {
+      return permissionClass.getMethod("matches", IPermission.class).getDeclaringClass() == AbstractPermission.class;
+    }
+    catch (NoSuchMethodException e) {
+      throw new PlatformException("Unable to inspect permission {}", permissionClass, e);
+    }
+  }
+
   @Override
   public boolean implies(Permission permission) {
     if (permission == null) {
@@ -81,9 +121,12 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
     else if (permission instanceof IPermission) {
       return implies((IPermission) permission);
     }
-    else {
-      return m_javaPermissions.stream().anyMatch(def -> def.implies(permission));
+    for (int i = 0; i < m_javaPermissions.size(); i++) {
+      if (m_javaPermissions.get(i).implies(permission)) {
+        return true;
+      }
     }
+    return false;
   }
 
   @Override
@@ -91,7 +134,16 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
     if (permission == null) {
       return false;
     }
-    return m_permissions.getOrDefault(permission.getName(), Collections.emptyList()).stream().anyMatch(def -> def.implies(permission));
+    List<IPermission> permissions = m_permissions.get(permission.getName());
+    if (permissions == null) {
+      return false;
+    }
+    for (int i = 0; i < permissions.size(); i++) {
+      if (permissions.get(i).implies(permission)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
@@ -100,6 +152,17 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
       return PermissionLevel.UNDEFINED;
     }
 
+    Map<String, Map<Class<?>, PermissionLevel>> compiledLevels = m_grantedLevels;
+    if (compiledLevels != null) {
+      Map<Class<?>, PermissionLevel> levels = compiledLevels.get(permission.getName());
+      if (levels != null) {
+        return levels.getOrDefault(permission.getClass(), PermissionLevel.NONE);
+      }
+      if (!m_permissions.containsKey(permission.getName())) {
+        return PermissionLevel.NONE;
+      }
+    }
+
     Set<PermissionLevel> grantedLevels = stream(permission)
         .map(IPermission::getLevel)
         .collect(Collectors.toSet());
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.security;
+
+import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
+
+/**
+ * @since 11.0
+ */
+public final class SecurityConfigProperties {
+
+  private SecurityConfigProperties() {
+  }
+
+  public static class AccessControlCacheMaxSizeProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public String description() {
+      return "Maximum number of permission collections held in the cache of the access control service. If not set, the cache is unbounded. This property is not set by default.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.accessControl.cacheMaxSize";
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @since 11.0
+ */
+public class GzipServletResponseWrapperTest {
+
+  private static final int MIN_SIZE = 256;
+
+  private HttpServletResponse m_response;
+  private ByteArrayOutputStream m_out;
+
+  @Before
+  public void before() throws IOException {
+    m_out = new ByteArrayOutputStream();
+    m_response = mock(HttpServletResponse.class);
+    when(m_response.getContentType()).thenReturn("application/json");
+    when(m_response.getCharacterEncoding()).thenReturn(StandardCharsets.UTF_8.name());
+    when(m_response.getOutputStream()).thenReturn(new ServletOutputStream() {
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {
+      }
+
+      @Override
+      public void write(int b) {
+        m_out.write(b);
+      }
+    });
+  }
+
+  private static byte[] createContent(int size) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; sb.length() < size; i++) {
+      sb.append("{\"row\":").append(i).append("},");
+    }
+    return sb.substring(0, size).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testSmallContentIsBuffered() throws IOException {
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, MIN_SIZE, r -> true);
+    byte[] content = createContent(MIN_SIZE - 1);
+    wrapper.getOutputStream().write(content);
+    assertEquals(0, m_out.size());
+
+    assertFalse(wrapper.finish(MIN_SIZE));
+    assertArrayEquals(content, m_out.toByteArray());
+    verify(m_response).setContentLength(content.length);
+    verify(m_response, never()).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+  }
+
+  @Test
+  public void testLargeContentIsCompressedWhileWritten() throws IOException {
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, MIN_SIZE, r -> "application/json".equals(r.getContentType()));
+    byte[] content = createContent(500000);
+    ServletOutputStream out = wrapper.getOutputStream();
+    int half = content.length / 2;
+    out.write(content, 0, half);
+    // the content is not held until finish
+    assertTrue(m_out.size() > 0);
+    verify(m_response).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    out.write(content, half, content.length - half);
+
+    assertTrue(wrapper.finish(MIN_SIZE));
+    assertArrayEquals(content, IOUtility.uncompressGzip(m_out.toByteArray()));
+    assertEquals(content.length, wrapper.getUncompressedLength());
+    assertEquals(m_out.size(), wrapper.getCompressedLength());
+    verify(m_response, never()).setContentLength(anyInt());
+  }
+
+  @Test
+  public void testLargeContentIsPassedThrough() throws IOException {
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, MIN_SIZE, r -> false);
+    byte[] content = createContent(10000);
+    wrapper.getWriter().write(new String(content, StandardCharsets.UTF_8));
+    wrapper.getWriter().flush();
+    assertEquals(content.length, m_out.size());
+
+    assertFalse(wrapper.finish(MIN_SIZE));
+    assertArrayEquals(content, m_out.toByteArray());
+    verify(m_response, never()).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+  }
+
+  @Test
+  public void testEncodedContentIsPassedThrough() throws IOException {
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, MIN_SIZE, r -> true);
+    byte[] content = createContent(10000);
+    byte[] gzipContent = IOUtility.compressGzip(content);
+    wrapper.setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    wrapper.setContentLength(gzipContent.length);
+    wrapper.getOutputStream().write(gzipContent);
+    // written directly, neither buffered nor compressed again
+    assertArrayEquals(gzipContent, m_out.toByteArray());
+
+    assertTrue(wrapper.isContentEncoded());
+    assertFalse(wrapper.finish(MIN_SIZE));
+    assertArrayEquals(content, IOUtility.uncompressGzip(m_out.toByteArray()));
+    verify(m_response).setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_response, never()).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_response).setContentLength(gzipContent.length);
+  }
+
+  @Test
+  public void testIsCompressible() {
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, MIN_SIZE, r -> "application/json".equals(r.getContentType()));
+    assertTrue(wrapper.isCompressible(MIN_SIZE));
+    assertFalse(wrapper.isCompressible(MIN_SIZE - 1));
+
+    when(m_response.getContentType()).thenReturn("image/png");
+    assertFalse(wrapper.isCompressible(MIN_SIZE));
+
+    // compression disabled
+    assertFalse(new GzipServletResponseWrapper(m_response).isCompressible(MIN_SIZE));
+    assertFalse(new GzipServletResponseWrapper(m_response, -1, r -> true).isCompressible(MIN_SIZE));
+  }
+}
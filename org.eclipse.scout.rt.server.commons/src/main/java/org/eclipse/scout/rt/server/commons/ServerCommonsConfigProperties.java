@@ -23,12 +23,14 @@ import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractMapConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringListConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.healthcheck.RemoteHealthChecker;
 import org.eclipse.scout.rt.server.commons.servlet.ContentSecurityPolicy;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceCache;
 
 public final class ServerCommonsConfigProperties {
 
@@ -162,4 +164,23 @@ public final class ServerCommonsConfigProperties {
       return "URIs to DER (Base64) encoded certificate files that should be trusted. The URI may refer to a local file or a resource on the classpath (use classpath: prefix). The default value is an empty list.";
     }
   }
+
+  public static class HttpResourceCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.httpResourceCache.maxSize";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum number of bytes held by a single %s (uncompressed and precompressed content of all resources). "
+          + "If exceeded, the least recently used resources are evicted. The default value is 100 MB.", HttpResourceCache.class.getSimpleName());
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 100L * 1024L * 1024L;
+    }
+  }
 }
@@ -20,7 +20,8 @@ import org.eclipse.scout.rt.platform.PlatformEvent;
 /**
  * A {@link HttpResourceCache} used for global resources. This class holds a single {@link HttpResourceCache} instance.
  * <br>
- * Resources added to this cache will never be removed until the Scout {@link Platform} stops.
+ * Resources added to this cache will never be removed until the Scout {@link Platform} stops, unless they are evicted
+ * because the cache exceeds its maximum size.
  */
 @ApplicationScoped
 public class GlobalHttpResourceCache implements IPlatformListener, IHttpResourceCache {
@@ -10,6 +10,7 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
@@ -19,16 +20,22 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Used in {@link HttpCacheControl} in order to decide caching strategy and set caching headers
  */
 public class HttpCacheObject implements Serializable {
   private static final long serialVersionUID = 1L;
+  private static final Logger LOG = LoggerFactory.getLogger(HttpCacheObject.class);
+  private static final byte[] NOT_COMPRESSED = new byte[0];
 
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  private transient volatile byte[] m_gzipContent;
 
   /**
    * @param cacheKey
@@ -69,6 +76,42 @@ public class HttpCacheObject implements Serializable {
     return null;
   }
 
+  /**
+   * Whether a resource is compressed at all is decided by the caller, e.g. by the configuration of the gzip filter.
+   *
+   * @return the content of the resource compressed with gzip or {@code null} if the compressed content is not smaller.
+   *         The compressed content is computed upon the first call and then retained by this object, hence cached
+   *         resources are compressed only once.
+   */
+  public byte[] getGzipContent() {
+    byte[] gzipContent = m_gzipContent;
+    if (gzipContent == null) {
+      gzipContent = m_resource.getContent() != null ? compressGzip() : NOT_COMPRESSED;
+      m_gzipContent = gzipContent;
+    }
+    return gzipContent == NOT_COMPRESSED ? null : gzipContent;
+  }
+
+  /**
+   * @return number of bytes of the compressed content retained by this object, 0 if {@link #getGzipContent()} was not
+   *         called yet or the content is not compressible
+   */
+  public int getGzipContentLength() {
+    byte[] gzipContent = m_gzipContent;
+    return gzipContent != null ? gzipContent.length : 0;
+  }
+
+  protected byte[] compressGzip() {
+    try {
+      byte[] gzipContent = IOUtility.compressGzip(m_resource.getContent());
+      return gzipContent.length < m_resource.getContentLength() ? gzipContent : NOT_COMPRESSED;
+    }
+    catch (IOException ex) {
+      LOG.warn("Error while compressing {}", m_cacheKey, ex);
+      return NOT_COMPRESSED;
+    }
+  }
+
   public void addHttpResponseInterceptor(IHttpResponseInterceptor interceptor) {
     m_httpResponseInterceptors.add(interceptor);
   }
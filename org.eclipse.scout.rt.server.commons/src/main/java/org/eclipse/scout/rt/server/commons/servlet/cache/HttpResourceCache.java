@@ -10,44 +10,79 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheMaxSizeProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A server side cache use to store web resources like HTML, CSS and JS.
+ * <p>
+ * The cache is bounded by the total number of bytes of the cached resources (see
+ * {@link HttpResourceCacheMaxSizeProperty}), the least recently used resources are evicted first. The compressed content
+ * retained by a cached object (see {@link HttpCacheObject#getGzipContent()}) is computed upon the first request
+ * accepting it, hence the size is recomputed whenever an object is added.
  */
 @Bean
 public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  private final long m_maxSize;
+  private final Map<HttpCacheKey, HttpCacheObject> m_cache = new LinkedHashMap<>(16, 0.75f, true); // access-order, guarded by this
+
+  public HttpResourceCache() {
+    this(CONFIG.getPropertyValue(HttpResourceCacheMaxSizeProperty.class));
+  }
+
+  /**
+   * @param maxSize
+   *          maximum number of bytes held by this cache
+   */
+  protected HttpResourceCache(long maxSize) {
+    m_maxSize = maxSize;
+  }
 
   @Override
   public boolean put(HttpCacheObject obj) {
     if (!obj.isCachingAllowed()) {
       return false;
     }
-    m_cache.put(obj.getCacheKey(), obj);
+    long size = sizeOf(obj);
+    if (size > m_maxSize) {
+      LOG.debug("Object too large to be stored in cache: {} size={}", obj.getCacheKey(), size);
+      return false;
+    }
+    synchronized (this) {
+      m_cache.put(obj.getCacheKey(), obj);
+      evict();
+    }
     LOG.debug("Stored object in cache: {}", obj.getCacheKey());
     return true;
   }
 
   @Override
   public HttpCacheObject get(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.get(cacheKey);
+    HttpCacheObject obj;
+    synchronized (this) {
+      obj = m_cache.get(cacheKey);
+    }
     LOG.debug("Lookup object in cache: {} found={}", cacheKey, obj != null);
     return obj;
   }
 
   @Override
   public HttpCacheObject remove(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.remove(cacheKey);
+    HttpCacheObject obj;
+    synchronized (this) {
+      obj = m_cache.remove(cacheKey);
+    }
     LOG.debug("Remove object in cache: {} removed={}", cacheKey, obj != null);
     return obj;
   }
@@ -55,6 +90,40 @@ public class HttpResourceCache implements IHttpResourceCache {
   @Override
   public void clear() {
     LOG.debug("Clear resource cache");
-    m_cache.clear();
+    synchronized (this) {
+      m_cache.clear();
+    }
+  }
+
+  /**
+   * @return number of bytes currently held by this cache
+   */
+  public synchronized long getSize() {
+    long size = 0;
+    for (HttpCacheObject obj : m_cache.values()) {
+      size += sizeOf(obj);
+    }
+    return size;
+  }
+
+  /**
+   * Removes the least recently used objects until the size of the cache does not exceed its maximum size.
+   */
+  protected void evict() {
+    long size = getSize();
+    Iterator<Entry<HttpCacheKey, HttpCacheObject>> it = m_cache.entrySet().iterator();
+    while (size > m_maxSize && it.hasNext()) {
+      HttpCacheObject obj = it.next().getValue();
+      it.remove();
+      size -= sizeOf(obj);
+      LOG.debug("Evicted object from cache: {}", obj.getCacheKey());
+    }
+  }
+
+  /**
+   * @return number of bytes held by the given object, i.e. its content and its compressed content (if already computed)
+   */
+  protected long sizeOf(HttpCacheObject obj) {
+    return Math.max(obj.getResource().getContentLength(), 0) + obj.getGzipContentLength();
   }
 }
@@ -40,6 +40,8 @@ import org.slf4j.LoggerFactory;
  * <li><b>post_pattern:</b> regex of pathInfo that is compressed for POST requests (default value =
  * <code>.{@literal *}/json</code>)
  * </ul>
+ * Responses smaller than the minimum size are buffered. Larger responses are streamed: compressed on the fly if the
+ * content type is set and compressible once the minimum size is reached, otherwise passed through unchanged.
  */
 public class GzipServletFilter implements Filter {
   private static final Logger LOG = LoggerFactory.getLogger(GzipServletFilter.class);
@@ -47,6 +49,7 @@ public class GzipServletFilter implements Filter {
   public static final String ACCEPT_ENCODING = "Accept-Encoding";
   public static final String CONTENT_ENCODING = "Content-Encoding";
   public static final String GZIP = "gzip";
+  public static final String VARY = "Vary";
   public static final String CONTENT_TYPES = "text/html,text/css,text/xml,text/plain,application/json,application/javascript,image/svg+xml,text/vcard";
 
   private int m_getMinSize;
@@ -78,7 +81,9 @@ public class GzipServletFilter implements Filter {
       }
     }
     if (requestAcceptsGzipEncoding(req)) {
-      resp = new GzipServletResponseWrapper(resp);
+      // content exceeding the minimum size is compressed on the fly instead of being buffered as a whole
+      final HttpServletRequest gzipReq = req;
+      resp = new GzipServletResponseWrapper(resp, minimumLengthToCompress(req), r -> responseNeedsGzipEncoding(gzipReq, r));
     }
 
     chain.doFilter(req, resp);
@@ -90,6 +95,10 @@ public class GzipServletFilter implements Filter {
         // Disable compression
         minLength = -1;
       }
+      if (req.isAsyncStarted()) {
+        // the content of an asynchronous response (e.g. an event stream) is still being written, pass it through
+        gzipResp.flushBuffer();
+      }
       boolean compressed = gzipResp.finish(minLength);
       if (compressed && LOG.isDebugEnabled()) {
         LOG.debug("GZIP response[size {}%, uncompressed: {}, compressed: {}]: {}",
@@ -112,6 +121,10 @@ public class GzipServletFilter implements Filter {
   }
 
   protected boolean responseNeedsGzipEncoding(HttpServletRequest req, HttpServletResponse resp) {
+    if (req.isAsyncStarted()) {
+      // asynchronous content is written after the filter finished the response, hence it cannot be compressed
+      return false;
+    }
     if (!UrlHints.isCompressHint(req)) {
       return false;
     }
@@ -10,28 +10,65 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
 
+/**
+ * Buffers the content of the response and compresses it in {@link #finish(int)}.
+ * <p>
+ * If created with a minimum length to compress, the content is only buffered until it reaches that length. Then the
+ * response is either compressed on the fly, if the compression condition accepts it, or passed through unchanged. In
+ * both cases, the content is not held in memory as a whole.
+ * <p>
+ * Content written after {@link #finish(int)}, e.g. by an asynchronous request, is passed through to the response
+ * unchanged.
+ */
 public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
+  private final int m_streamingThreshold;
+  private final Predicate<HttpServletResponse> m_compressionCondition;
   private BufferedServletOutputStream m_buf;
+  private P_StreamingOutputStream m_stream;
+  private boolean m_contentEncoded;
   private int m_compressedLength = -1;
   private int m_uncompressedLength = -1;
+  private boolean m_compressedStream;
+  private boolean m_finished;
   // one of these two is used
   private ServletOutputStream m_servletOut;
   private PrintWriter m_writer;
 
   public GzipServletResponseWrapper(HttpServletResponse resp) {
+    this(resp, -1, null);
+  }
+
+  /**
+   * @param minimumLengthToCompress
+   *          minimum uncompressed size that is compressed; content of at least this size is streamed. -1 buffers the
+   *          whole content.
+   * @param compressionCondition
+   *          evaluated when the content reaches minimumLengthToCompress, decides whether the streamed content is
+   *          compressed. The content type of the response must be set at this time.
+   * @since 11.0
+   */
+  public GzipServletResponseWrapper(HttpServletResponse resp, int minimumLengthToCompress, Predicate<HttpServletResponse> compressionCondition) {
     super(resp);
+    m_streamingThreshold = compressionCondition != null ? minimumLengthToCompress : -1;
+    m_compressionCondition = compressionCondition;
   }
 
   protected BufferedServletOutputStream ensureBufferedStream() {
@@ -41,6 +78,20 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     return m_buf;
   }
 
+  protected ServletOutputStream ensureContentStream() {
+    if (m_streamingThreshold < 0) {
+      return ensureBufferedStream();
+    }
+    if (m_stream == null) {
+      m_stream = new P_StreamingOutputStream();
+    }
+    return m_stream;
+  }
+
+  protected boolean hasContentStream() {
+    return m_buf != null || m_stream != null;
+  }
+
   /**
    * only valid after {@link #finish(int)} was called
    */
@@ -55,31 +106,85 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     return m_uncompressedLength;
   }
 
+  /**
+   * Allows the application to serve precompressed content exactly where the {@link GzipServletFilter} would compress
+   * the content itself.
+   *
+   * @return true if content of the given length would be compressed, i.e. it reaches the minimum length to compress and
+   *         the compression condition accepts the response. The content type of the response must be set at this time.
+   * @since 11.0
+   */
+  public boolean isCompressible(int contentLength) {
+    return m_streamingThreshold >= 0 && contentLength >= m_streamingThreshold && m_compressionCondition.test(this);
+  }
+
+  /**
+   * @return true if the content was already encoded by the application (e.g. precompressed), see
+   *         {@link #setHeader(String, String)}
+   */
+  public boolean isContentEncoded() {
+    return m_contentEncoded;
+  }
+
   @Override
   public ServletOutputStream getOutputStream() throws IOException {
+    if (m_finished) {
+      return super.getOutputStream();
+    }
     if (m_writer != null) {
       throw new IllegalStateException("getWriter was previsouly called, getOutputStream is not available");
     }
     if (m_servletOut == null) {
-      m_servletOut = ensureBufferedStream();
+      // already encoded content is written directly to the response
+      m_servletOut = m_contentEncoded && !hasContentStream() ? super.getOutputStream() : ensureContentStream();
     }
     return m_servletOut;
   }
 
   @Override
   public PrintWriter getWriter() throws IOException {
+    if (m_finished) {
+      return super.getWriter();
+    }
     if (m_servletOut != null) {
       throw new IllegalStateException("getOutputStream was previsouly called, getWriter is not available");
     }
     if (m_writer == null) {
-      m_writer = new PrintWriter(new OutputStreamWriter(ensureBufferedStream(), getResponse().getCharacterEncoding()));
+      m_writer = new PrintWriter(new OutputStreamWriter(ensureContentStream(), getResponse().getCharacterEncoding()));
     }
     return m_writer;
   }
 
   @Override
   public void setContentLength(int len) {
-    // ignored
+    if (m_contentEncoded) {
+      super.setContentLength(len);
+    }
+    // otherwise ignored
+  }
+
+  /**
+   * A {@link GzipServletFilter#CONTENT_ENCODING} header set by the application disables compression of the content.
+   */
+  @Override
+  public void setHeader(String name, String value) {
+    checkContentEncoding(name);
+    super.setHeader(name, value);
+  }
+
+  /**
+   * A {@link GzipServletFilter#CONTENT_ENCODING} header added by the application disables compression of the content.
+   */
+  @Override
+  public void addHeader(String name, String value) {
+    checkContentEncoding(name);
+    super.addHeader(name, value);
+  }
+
+  protected void checkContentEncoding(String name) {
+    if (GzipServletFilter.CONTENT_ENCODING.equalsIgnoreCase(name)) {
+      m_contentEncoded = true;
+    }
   }
 
   @Override
@@ -90,6 +195,9 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     if (m_buf != null) {
       m_buf.flush();
     }
+    if (m_stream != null) {
+      m_stream.flush();
+    }
     super.flushBuffer();
   }
 
@@ -99,16 +207,36 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
    * @return true if the content was compressed
    */
   public boolean finish(int minimumLengthToCompress) throws IOException {
+    m_finished = true;
+    m_servletOut = null;
     if (m_writer != null) {
       m_writer.close();
       m_writer = null;
     }
     boolean compressed = false;
-    if (m_buf != null) {
+    if (m_contentEncoded) {
+      minimumLengthToCompress = -1;
+    }
+    if (m_stream != null && m_stream.isStreaming()) {
+      m_stream.finish();
+      m_uncompressedLength = m_stream.getUncompressedLength();
+      m_compressedLength = m_stream.getCompressedLength();
+      m_stream = null;
+      super.flushBuffer();
+      return m_compressedStream;
+    }
+    byte[] raw = null;
+    if (m_stream != null) {
+      raw = m_stream.getPendingContent();
+      m_stream = null;
+    }
+    else if (m_buf != null) {
       m_buf.close();
-      byte[] raw = m_buf.getContent();
-      m_uncompressedLength = raw.length;
+      raw = m_buf.getContent();
       m_buf = null;
+    }
+    if (raw != null) {
+      m_uncompressedLength = raw.length;
 
       HttpServletResponse res = (HttpServletResponse) getResponse();
       byte[] gzipped;
@@ -128,4 +256,123 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     }
     return compressed;
   }
+
+  /**
+   * Buffers the content until it reaches the streaming threshold, then writes it to the response, compressed or not.
+   */
+  protected class P_StreamingOutputStream extends ServletOutputStream {
+
+    private ByteArrayOutputStream m_pending = new ByteArrayOutputStream();
+    private OutputStream m_target;
+    private int m_uncompressedCount;
+    private int m_writtenCount;
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      // writes are blocking, hence always possible
+      try {
+        writeListener.onWritePossible();
+      }
+      catch (IOException e) {
+        writeListener.onError(e);
+      }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      m_uncompressedCount += len;
+      if (m_target != null) {
+        m_target.write(b, off, len);
+        return;
+      }
+      m_pending.write(b, off, len);
+      if (m_pending.size() >= m_streamingThreshold) {
+        startStreaming();
+      }
+    }
+
+    protected void startStreaming() throws IOException {
+      HttpServletResponse res = (HttpServletResponse) getResponse();
+      OutputStream out = new FilterOutputStream(res.getOutputStream()) {
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          this.out.write(b, off, len);
+          m_writtenCount += len;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+          this.out.write(b);
+          m_writtenCount++;
+        }
+      };
+      if (!m_contentEncoded && m_compressionCondition.test(GzipServletResponseWrapper.this)) {
+        res.addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+        out = new GZIPOutputStream(out, 8192, true);
+        m_compressedStream = true;
+      }
+      m_target = out;
+      m_pending.writeTo(m_target);
+      m_pending = null;
+    }
+
+    /**
+     * Flushes the content written so far. If the content is compressed, this ends the current deflate block, hence
+     * flush only when really required.
+     * <p>
+     * Pending content that is not compressed anyway (e.g. the events of an event stream) is passed through, as it would
+     * otherwise not reach the client until {@link GzipServletResponseWrapper#finish(int)}.
+     */
+    @Override
+    public void flush() throws IOException {
+      if (m_target == null && (m_contentEncoded || !m_compressionCondition.test(GzipServletResponseWrapper.this))) {
+        startStreaming();
+      }
+      if (m_target != null) {
+        m_target.flush();
+      }
+    }
+
+    /**
+     * Closing the stream (e.g. by the writer) does not complete the response, see
+     * {@link GzipServletResponseWrapper#finish(int)}.
+     */
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+
+    protected boolean isStreaming() {
+      return m_target != null;
+    }
+
+    protected byte[] getPendingContent() {
+      return m_pending.toByteArray();
+    }
+
+    protected void finish() throws IOException {
+      if (m_target instanceof GZIPOutputStream) {
+        ((GZIPOutputStream) m_target).finish();
+      }
+      m_target.flush();
+    }
+
+    protected int getUncompressedLength() {
+      return m_uncompressedCount;
+    }
+
+    protected int getCompressedLength() {
+      return m_writtenCount;
+    }
+  }
 }
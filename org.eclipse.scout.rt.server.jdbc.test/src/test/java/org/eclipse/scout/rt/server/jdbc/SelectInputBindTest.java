@@ -10,6 +10,7 @@
  */
 package org.eclipse.scout.rt.server.jdbc;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
@@ -151,6 +152,89 @@ public class SelectInputBindTest {
     assertExpectedProtocol(sql);
   }
 
+  /**
+   * {@link TableFieldBeanData} used as input for a JDBC batch update. All rows are sent in one round trip.
+   */
+  @Test
+  public void testJdbcBatchUpdateFromTableFieldBeanData() {
+    SqlServiceMock sql = createSqlServiceMock();
+    TableFieldBeanData tableData = createTableFieldBeanData(false);
+    int[] updateCounts = sql.updateBatch("UDPATE my_table SET a=:{active}, s=:{state} where n=:{name} ", tableData);
+    assertArrayEquals(new int[]{1, 1}, updateCounts);
+    assertEquals("Connection.prepareStatement(UDPATE my_table SET a = ?, s = ? where n = ?)\n"
+        + "PreparedStatement.setObject(1, 1, 4)\n"
+        + "PreparedStatement.setObject(2, 3, 4)\n"
+        + "PreparedStatement.setObject(3, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 0, 4)\n"
+        + "PreparedStatement.setObject(2, 6, 4)\n"
+        + "PreparedStatement.setObject(3, ipsum, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  /**
+   * Batch insert from an array: one row per element.
+   */
+  @Test
+  public void testJdbcBatchInsertFromArray() {
+    SqlServiceMock sql = createSqlServiceMock();
+    int[] updateCounts = sql.insertBatch("INSERT INTO this_table (r, v) VALUES (:{roles}, :value)", new NVPair("roles", new Long[]{5L, 6L, 7L}), new NVPair("value", "lorem"));
+    assertArrayEquals(new int[]{1, 1, 1}, updateCounts);
+    assertEquals("Connection.prepareStatement(INSERT INTO this_table (r, v) VALUES (?, ?))\n"
+        + "PreparedStatement.setObject(1, 5, -5)\n"
+        + "PreparedStatement.setObject(2, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 6, -5)\n"
+        + "PreparedStatement.setObject(2, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 7, -5)\n"
+        + "PreparedStatement.setObject(2, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  /**
+   * Batch delete from {@link TableFieldBeanData}.
+   */
+  @Test
+  public void testJdbcBatchDeleteFromTableFieldBeanData() {
+    SqlServiceMock sql = createSqlServiceMock();
+    TableFieldBeanData tableData = createTableFieldBeanData(false);
+    int[] updateCounts = sql.deleteBatch("DELETE FROM my_table where n=:{name} ", tableData);
+    assertArrayEquals(new int[]{1, 1}, updateCounts);
+    assertEquals("Connection.prepareStatement(DELETE FROM my_table where n = ?)\n"
+        + "PreparedStatement.setObject(1, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, ipsum, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  /**
+   * Rows are sent in chunks of {@link AbstractSqlService#getJdbcBatchSize()} rows.
+   */
+  @Test
+  public void testJdbcBatchChunking() {
+    SqlServiceMock sql = new SqlServiceMock() {
+      @Override
+      protected int getConfiguredJdbcBatchSize() {
+        return 2;
+      }
+    };
+    int[] updateCounts = sql.insertBatch("INSERT INTO this_table (r) VALUES (:{roles})", new NVPair("roles", new Long[]{5L, 6L, 7L}));
+    assertArrayEquals(new int[]{1, 1, 1}, updateCounts);
+    assertEquals("Connection.prepareStatement(INSERT INTO this_table (r) VALUES (?))\n"
+        + "PreparedStatement.setObject(1, 5, -5)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 6, -5)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n"
+        + "PreparedStatement.setObject(1, 7, -5)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
   private TableFieldBeanData createTableFieldBeanData(boolean withAdditionalRows) {
     TableFieldBeanData tableBeanData = new TableFieldBeanData();
     if (withAdditionalRows) {
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectStreamingRows(String, ISelectRowHandler, Object...)} (using the mock
+ * {@link SqlServiceMock}).
+ */
+@RunWith(PlatformTestRunner.class)
+public class SelectStreamingRowsTest {
+
+  @Test
+  public void testStreamingRows() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(new Object[][]{
+        {1L, "lorem"},
+        {2L, null},
+        {null, "ipsum"}});
+
+    List<ISelectRow> views = new ArrayList<>();
+    List<Object> values = new ArrayList<>();
+    List<Object[]> arrays = new ArrayList<>();
+    int[] finishedRowCount = {-1};
+    sql.selectStreamingRows("SELECT A, B FROM T WHERE C = :c", new ISelectRowHandler() {
+      private Object[] m_buffer;
+
+      @Override
+      public void handleRow(ISelectRow row) {
+        assertEquals(views.size(), row.getRowIndex());
+        assertEquals(2, row.getColumnCount());
+        views.add(row);
+        long a = row.getLong(0);
+        values.add(row.wasNull() ? null : a);
+        values.add(row.getString(1));
+        m_buffer = row.toArray(m_buffer);
+        arrays.add(m_buffer);
+      }
+
+      @Override
+      public void finished(int rowCount) {
+        finishedRowCount[0] = rowCount;
+      }
+    }, new NVPair("c", 1));
+
+    assertEquals(3, finishedRowCount[0]);
+    assertEquals(Arrays.asList(1L, "lorem", 2L, null, null, "ipsum"), values);
+    // the row view and the value array are reused
+    assertSame(views.get(0), views.get(2));
+    assertSame(arrays.get(0), arrays.get(2));
+    assertArrayEquals(new Object[]{null, "ipsum"}, arrays.get(2));
+  }
+}
@@ -14,6 +14,7 @@ import java.sql.Connection;
 
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.ISelectRowHandler;
 import org.eclipse.scout.rt.server.jdbc.SQL;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
@@ -84,12 +85,35 @@ public class SqlServiceMock extends AbstractSqlService {
     createStatementProcessor(s, bindBases, 0).processSelectInto(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public void selectStreamingRows(String s, ISelectRowHandler handler, Object... bindBases) {
+    createStatementProcessor(s, bindBases, 0).processSelectStreamingRows(getTransaction(), new PreparedStatementCache(1), handler);
+  }
+
   @Override
   public int update(String s, Object... bindBases) {
     createPlainTextLog(s, bindBases);
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    createPlainTextLog(s, bindBases);
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), new PreparedStatementCache(1), getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    createPlainTextLog(s, bindBases);
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), new PreparedStatementCache(1), getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] deleteBatch(String s, Object... bindBases) {
+    createPlainTextLog(s, bindBases);
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), new PreparedStatementCache(1), getJdbcBatchSize());
+  }
+
   @Override
   protected Connection getTransaction() {
     return new ConnectionMock(m_protocol, getResultData()).getConnection();
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.Test;
+
+/**
+ * Unit Test for {@link PreparedStatementCache}
+ */
+public class PreparedStatementCacheTest {
+
+  @Test
+  public void testCachedStatementIsReset() throws SQLException {
+    PreparedStatement ps = mock(PreparedStatement.class);
+    Connection conn = mock(Connection.class);
+    when(conn.prepareStatement("UPDATE T SET V = ?")).thenReturn(ps);
+
+    PreparedStatementCache cache = new PreparedStatementCache(5);
+    cache.getPreparedStatement(conn, "UPDATE T SET V = ?");
+    cache.getPreparedStatement(conn, "UPDATE T SET V = ?"); // second access: cached
+    verify(ps, never()).clearBatch();
+
+    assertSame(ps, cache.getPreparedStatement(conn, "UPDATE T SET V = ?"));
+    verify(ps).clearParameters();
+    verify(ps).clearWarnings();
+    verify(ps).clearBatch();
+  }
+}
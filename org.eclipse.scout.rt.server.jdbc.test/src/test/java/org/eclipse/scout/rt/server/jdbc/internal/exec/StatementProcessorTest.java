@@ -11,11 +11,17 @@
 package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.IntegerHolder;
 import org.eclipse.scout.rt.platform.holders.LongHolder;
@@ -24,6 +30,7 @@ import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
 import org.eclipse.scout.rt.server.AbstractServerSession;
 import org.eclipse.scout.rt.server.TestJdbcServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
@@ -37,6 +44,7 @@ import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
 import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 
 /**
  * Unit Test for {@link StatementProcessor}
@@ -156,6 +164,32 @@ public class StatementProcessorTest {
     return duplicates.toArray(new String[duplicates.size()]);
   }
 
+  @Test
+  public void testBatchModificationClearsPendingRowsOnFailure() throws SQLException {
+    AbstractSqlService sqlService = new AbstractSqlService() {
+    };
+    BeanInstanceUtil.initializeBeanInstance(sqlService);
+    PreparedStatement ps = mock(PreparedStatement.class);
+    doNothing().doThrow(new SQLException("expected")).when(ps).addBatch();
+    IStatementCache cache = mock(IStatementCache.class);
+    when(cache.getPreparedStatement(any(), anyString())).thenReturn(ps);
+
+    StatementProcessor sp = new StatementProcessor(sqlService, "UPDATE T SET V = 1 WHERE R = :{roles}", new Object[]{new NVPair("roles", new Long[]{5L, 6L, 7L})});
+    try {
+      sp.processBatchModification(mock(Connection.class), cache, 500);
+      fail();
+    }
+    catch (PlatformException e) {
+      assertNotNull(e);
+    }
+
+    // the first row is pending when the second fails: it must not survive in the (cached) statement
+    InOrder inOrder = inOrder(ps, cache);
+    inOrder.verify(ps).clearBatch();
+    inOrder.verify(cache).releasePreparedStatement(ps);
+    verify(ps, never()).executeBatch();
+  }
+
   @Test
   public void testSelectLike() {
     AbstractSqlService sqlService = new AbstractSqlService() {
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link SqlConnectionPool}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolTest {
+
+  private static final MockDriver DRIVER = new MockDriver();
+
+  private SqlConnectionPool m_pool;
+  private AbstractSqlService m_service;
+
+  @BeforeClass
+  public static void beforeClass() throws SQLException {
+    DriverManager.registerDriver(DRIVER);
+  }
+
+  @AfterClass
+  public static void afterClass() throws SQLException {
+    DriverManager.deregisterDriver(DRIVER);
+  }
+
+  @Before
+  public void before() {
+    m_service = new AbstractSqlService() {
+      @Override
+      protected String getConfiguredJdbcDriverName() {
+        return MockDriver.class.getName();
+      }
+
+      @Override
+      protected String getConfiguredJdbcMappingName() {
+        return MockDriver.URL;
+      }
+
+      @Override
+      protected void execTestConnection(Connection conn) {
+        // nop
+      }
+    };
+    m_pool = BEANS.get(SqlConnectionPool.class);
+    m_pool.initialize(getClass().getName(), 1, 300000L, 21600000L, 100L, 0L);
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testLeaseAndRelease() throws Exception {
+    Connection conn = m_pool.leaseConnection(m_service);
+    assertEquals(1, m_pool.getBusyCount());
+    assertEquals(0, m_pool.getIdleCount());
+
+    m_pool.releaseConnection(conn);
+    assertEquals(0, m_pool.getBusyCount());
+    assertEquals(1, m_pool.getIdleCount());
+
+    // idle connection is reused
+    assertSame(conn, m_pool.leaseConnection(m_service));
+    m_pool.releaseConnection(conn);
+    assertEquals(2, m_pool.getLeaseCount());
+  }
+
+  @Test
+  public void testLeaseTimeout() throws Exception {
+    Connection conn = m_pool.leaseConnection(m_service);
+    try {
+      m_pool.leaseConnection(m_service);
+      fail("pool size exceeded");
+    }
+    catch (TimedOutError e) {
+      assertEquals(1, m_pool.getLeaseTimeoutCount());
+    }
+    m_pool.releaseConnection(conn);
+
+    // permit of the timed out lease must not be lost
+    conn = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(conn);
+    assertTrue(m_pool.getInventory().contains("Lease timeouts: 1"));
+  }
+
+  public static class MockDriver implements Driver {
+    public static final String URL = "jdbc:scoutpoolmock:test";
+    private static final AtomicInteger CONNECTION_COUNT = new AtomicInteger();
+
+    @Override
+    public Connection connect(String url, Properties info) {
+      if (!acceptsURL(url)) {
+        return null;
+      }
+      int id = CONNECTION_COUNT.incrementAndGet();
+      return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "isClosed":
+            return false;
+          case "hashCode":
+            return id;
+          case "equals":
+            return proxy == args[0];
+          case "toString":
+            return "MockConnection" + id;
+          default:
+            return null;
+        }
+      });
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+      return URL.equals(url);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+      return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+      return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+      return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+      return false;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.lookup;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.server.jdbc.ISqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link AbstractSqlLookupService} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlLookupServiceTest {
+
+  private SqlServiceMock m_sqlService;
+  private List<IBean<?>> m_beans;
+
+  @Before
+  public void before() {
+    m_sqlService = new SqlServiceMock();
+    m_beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(ISqlService.class).withInitialInstance(m_sqlService).withApplicationScoped(true));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testGetDataByKeys() {
+    m_sqlService.setResultData(new Object[][]{{1L, "A"}, {3L, "C"}});
+    List<ILookupCall<Long>> calls = new ArrayList<>();
+    for (long key = 1; key <= 3; key++) {
+      LookupCall<Long> call = new LookupCall<>();
+      call.setKey(key);
+      calls.add(call);
+    }
+
+    FixtureSqlLookupService service = new FixtureSqlLookupService();
+    assertTrue(service.isDataByKeysSupported());
+    List<List<? extends ILookupRow<Long>>> result = service.getDataByKeys(calls);
+
+    assertEquals(3, result.size());
+    assertEquals(1, result.get(0).size());
+    assertEquals("A", result.get(0).get(0).getText());
+    assertTrue(result.get(1).isEmpty());
+    assertEquals(1, result.get(2).size());
+    assertEquals("C", result.get(2).get(0).getText());
+
+    String protocol = m_sqlService.getProtocol().toString();
+    assertEquals(protocol, 1, protocol.split("Connection.prepareStatement", -1).length - 1);
+    assertTrue(protocol, protocol.contains("ID IN (1,2,3)"));
+  }
+
+  @Test
+  public void testGetDataByKeysWithDifferentKeyType() {
+    // JDBC returns the key column as BigDecimal, the requested keys are Longs and Integers
+    m_sqlService.setResultData(new Object[][]{{new BigDecimal("1"), "A"}, {new BigDecimal("10.00"), "B"}, {BigDecimal.ZERO, "Z"}});
+    List<ILookupCall<Object>> calls = new ArrayList<>();
+    for (Object key : new Object[]{1L, 10, 2L, 0L}) {
+      LookupCall<Object> call = new LookupCall<>();
+      call.setKey(key);
+      calls.add(call);
+    }
+
+    List<List<? extends ILookupRow<Object>>> result = new FixtureObjectKeySqlLookupService().getDataByKeys(calls);
+
+    assertEquals(4, result.size());
+    assertEquals(1, result.get(0).size());
+    assertEquals("A", result.get(0).get(0).getText());
+    assertEquals(1, result.get(1).size());
+    assertEquals("B", result.get(1).get(0).getText());
+    assertTrue(result.get(2).isEmpty());
+    assertEquals(1, result.get(3).size());
+    assertEquals("Z", result.get(3).get(0).getText());
+  }
+
+  @Test
+  public void testGetDataByKeysDisabledByDefault() {
+    AbstractSqlLookupService<Long> service = new AbstractSqlLookupService<Long>() {
+    };
+    assertFalse(service.isDataByKeysSupported());
+  }
+
+  @Test
+  public void testGetDataByKeysExecLoadLookupRowsOverridden() {
+    assertFalse(new FixtureSqlLookupServiceWithExecLoadLookupRows().isDataByKeysSupported());
+  }
+
+  public static class FixtureSqlLookupService extends AbstractSqlLookupService<Long> {
+
+    @Override
+    protected String getConfiguredSqlSelect() {
+      return "SELECT ID, NAME FROM T WHERE 1 = 1 <key> AND ID = :key </key> <text> AND NAME LIKE :text </text>";
+    }
+
+    @Override
+    protected boolean getConfiguredDataByKeysEnabled() {
+      return true;
+    }
+  }
+
+  public static class FixtureObjectKeySqlLookupService extends AbstractSqlLookupService<Object> {
+
+    @Override
+    protected String getConfiguredSqlSelect() {
+      return "SELECT ID, NAME FROM T WHERE 1 = 1 <key> AND ID = :key </key>";
+    }
+
+    @Override
+    protected boolean getConfiguredDataByKeysEnabled() {
+      return true;
+    }
+  }
+
+  public static class FixtureSqlLookupServiceWithExecLoadLookupRows extends FixtureSqlLookupService {
+
+    @Override
+    protected List<ILookupRow<Long>> execLoadLookupRows(String originalSql, String preprocessedSql, ILookupCall<Long> call) {
+      return super.execLoadLookupRows(originalSql, preprocessedSql, call);
+    }
+  }
+}
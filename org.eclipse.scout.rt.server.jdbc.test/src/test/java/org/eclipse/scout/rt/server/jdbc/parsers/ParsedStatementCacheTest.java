@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache.ParsedStatement;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.postgresql.PostgreSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ParsedStatementCache}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ParsedStatementCacheTest {
+
+  private static final String SQL = "SELECT NAME FROM PERSON WHERE PERSON_NR = :personNr AND @upper(NAME) LIKE :{names} INTO :name";
+  private static final ISqlStyle STYLE = new OracleSqlStyle();
+
+  @Test
+  public void testHitAndMiss() {
+    ParsedStatementCache cache = new ParsedStatementCache();
+    cache.getParsedStatement(SQL, STYLE);
+    cache.getParsedStatement(SQL, STYLE);
+    cache.getParsedStatement(SQL, STYLE);
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(2, cache.getHitCount());
+
+    // parsed statements depend on the style type, not on the style instance
+    cache.getParsedStatement(SQL, new OracleSqlStyle());
+    assertEquals(1, cache.size());
+    cache.getParsedStatement(SQL, new PostgreSqlStyle());
+    cache.getParsedStatement(SQL, null);
+    assertEquals(3, cache.size());
+    assertEquals(3, cache.getMissCount());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHitCount());
+  }
+
+  @Test
+  public void testReturnedModelsAreIndependent() {
+    ParsedStatementCache cache = new ParsedStatementCache();
+    ParsedStatement first = cache.getParsedStatement(SQL, STYLE);
+    ValueInputToken token = (ValueInputToken) first.getBindModel().getIOTokens()[0];
+    token.setReplaceToken("?");
+    token.setPlainValue(true);
+
+    ParsedStatement second = cache.getParsedStatement(SQL, STYLE);
+    assertNotSame(first.getBindModel(), second.getBindModel());
+    assertNotSame(first.getIntoModel().getOutputTokens()[0], second.getIntoModel().getOutputTokens()[0]);
+
+    ValueInputToken secondToken = (ValueInputToken) second.getBindModel().getIOTokens()[0];
+    assertEquals(":personNr", secondToken.getReplaceToken());
+    assertFalse(secondToken.isPlainValue());
+    assertEquals("personNr", secondToken.getName());
+    assertEquals("PERSON_NR", secondToken.getParsedAttribute());
+    assertEquals("=", secondToken.getParsedOp());
+
+    ValueInputToken batchToken = (ValueInputToken) second.getBindModel().getIOTokens()[1];
+    assertTrue(batchToken.isBatch());
+    assertEquals("names", batchToken.getName());
+    assertEquals(first.getBindModel().getFilteredStatement().replace("?", ":personNr"), second.getBindModel().getFilteredStatement());
+  }
+}
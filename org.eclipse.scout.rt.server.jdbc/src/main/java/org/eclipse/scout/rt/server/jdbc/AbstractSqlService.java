@@ -46,11 +46,14 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionMaxWaitProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolValidationIntervalProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiInitialContextFactoryProperty;
@@ -88,9 +91,12 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final long m_jdbcPoolConnectionMaxWait;
+  private final long m_jdbcPoolValidationInterval;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final int m_jdbcBatchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -117,9 +123,12 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolConnectionMaxWait = getPropertyValue(SqlJdbcPoolConnectionMaxWaitProperty.class, getConfiguredJdbcPoolConnectionMaxWait());
+    m_jdbcPoolValidationInterval = getPropertyValue(SqlJdbcPoolValidationIntervalProperty.class, getConfiguredJdbcPoolValidationInterval());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -248,12 +257,41 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * @return maximum time in milliseconds to wait for a pooled connection, 0 to wait forever
+   */
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(152)
+  protected long getConfiguredJdbcPoolConnectionMaxWait() {
+    return 0L;
+  }
+
+  /**
+   * @return if greater than 0, pooled connections are validated in the background and only tested when leased if not
+   *         validated within this time in milliseconds. 0 tests every connection when leased.
+   */
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(154)
+  protected long getConfiguredJdbcPoolValidationInterval() {
+    return 0L;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
     return 25;
   }
 
+  /**
+   * @return maximum number of rows sent to the database in one round trip by {@link #insertBatch(String, Object...)},
+   *         {@link #updateBatch(String, Object...)} and {@link #deleteBatch(String, Object...)}.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(165)
+  protected int getConfiguredJdbcBatchSize() {
+    return 500;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -437,6 +475,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -485,6 +527,14 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public long getJdbcPoolConnectionMaxWait() {
+    return m_jdbcPoolConnectionMaxWait;
+  }
+
+  public long getJdbcPoolValidationInterval() {
+    return m_jdbcPoolValidationInterval;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
@@ -553,7 +603,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
       m_pool = BEANS.get(SqlConnectionPool.class);
-      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout(), getJdbcPoolConnectionMaxWait(), getJdbcPoolValidationInterval());
     }
     return m_pool;
   }
@@ -635,6 +685,16 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
   }
 
+  @Override
+  public void selectStreamingRows(String s, ISelectRowHandler handler, Object... bindBases) {
+    createStatementProcessor(s, bindBases, 0).processSelectStreamingRows(getTransaction(), getStatementCache(), handler);
+  }
+
+  @Override
+  public void selectStreamingRowsLimited(String s, ISelectRowHandler handler, int maxRowCount, Object... bindBases) {
+    createStatementProcessor(s, bindBases, maxRowCount).processSelectStreamingRows(getTransaction(), getStatementCache(), handler);
+  }
+
   @Override
   public int insert(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
@@ -650,6 +710,21 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), getStatementCache(), getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), getStatementCache(), getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] deleteBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), getStatementCache(), getJdbcBatchSize());
+  }
+
   @Override
   public boolean callStoredProcedure(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processStoredProcedure(getTransaction(), getStatementCache(), null);
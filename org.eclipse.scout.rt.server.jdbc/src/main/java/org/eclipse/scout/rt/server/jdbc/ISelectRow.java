@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.ResultSet;
+import java.util.Date;
+
+/**
+ * View on the current row of a streaming select, see {@link ISqlService#selectStreamingRows(String, ISelectRowHandler,
+ * Object...)}.
+ * <p>
+ * The column readers are resolved once per result set, therefore no objects are allocated per row unless requested by
+ * the caller. The same instance is passed to every {@link ISelectRowHandler#handleRow(ISelectRow)} call and is only
+ * valid during that call.
+ * <p>
+ * All column indices are 0-based, as in the rows returned by {@link ISqlService#select(String, Object...)}.
+ *
+ * @since 11.0
+ */
+public interface ISelectRow {
+
+  /**
+   * @return 0-based index of the current row
+   */
+  int getRowIndex();
+
+  int getColumnCount();
+
+  /**
+   * @return the {@link java.sql.Types} of the column
+   */
+  int getColumnType(int column);
+
+  String getColumnName(int column);
+
+  /**
+   * @return the value converted the same way as in {@link ISqlService#select(String, Object...)} (using
+   *         {@link org.eclipse.scout.rt.server.jdbc.style.ISqlStyle#readBind(ResultSet, java.sql.ResultSetMetaData, int, int)})
+   */
+  Object getObject(int column);
+
+  /**
+   * @return the value of the column or 0 if it is <code>null</code>, use {@link #wasNull()} to distinguish
+   */
+  long getLong(int column);
+
+  /**
+   * @return the value of the column or 0 if it is <code>null</code>, use {@link #wasNull()} to distinguish
+   */
+  double getDouble(int column);
+
+  /**
+   * @return the value of the column or <code>false</code> if it is <code>null</code>, use {@link #wasNull()} to
+   *         distinguish
+   */
+  boolean getBoolean(int column);
+
+  String getString(int column);
+
+  Date getDate(int column);
+
+  /**
+   * @return <code>true</code> if the value read by the last getter was SQL <code>NULL</code>
+   */
+  boolean wasNull();
+
+  /**
+   * Copies the values of all columns (see {@link #getObject(int)}) into the given array, which may be reused for every
+   * row.
+   *
+   * @param target
+   *          array of at least {@link #getColumnCount()} elements or <code>null</code> to allocate a new one
+   * @return the filled array
+   */
+  Object[] toArray(Object[] target);
+
+  /**
+   * @return the underlying result set positioned on the current row, for direct access to driver specific getters
+   */
+  ResultSet getResultSet();
+}
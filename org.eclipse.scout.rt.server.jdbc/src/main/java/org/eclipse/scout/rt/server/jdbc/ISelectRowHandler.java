@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+/**
+ * Callback of {@link ISqlService#selectStreamingRows(String, ISelectRowHandler, Object...)}.
+ *
+ * @since 11.0
+ */
+@FunctionalInterface
+public interface ISelectRowHandler {
+
+  /**
+   * @param row
+   *          view on the current row. The instance is reused for all rows and must not be kept after this call.
+   */
+  void handleRow(ISelectRow row);
+
+  /**
+   * Called after the last row was handled.
+   */
+  default void finished(int rowCount) {
+    // nop
+  }
+}
@@ -238,6 +238,30 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * Streams the selected rows to the handler without materializing them. Column types are resolved once per result set
+   * and the same {@link ISelectRow} instance is passed for every row, so that large results can be processed with
+   * constant memory.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @param handler
+   *          callback to handle individual rows
+   * @see #selectStreaming(String, ISelectStreamHandler, Object...)
+   */
+  void selectStreamingRows(String s, ISelectRowHandler handler, Object... bindBases);
+
+  /**
+   * Streams at most <code>maxRowCount</code> selected rows to the handler.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @see #selectStreamingRows(String, ISelectRowHandler, Object...)
+   */
+  void selectStreamingRowsLimited(String s, ISelectRowHandler handler, int maxRowCount, Object... bindBases);
+
   /**
    * insert rows
    * <p>
@@ -268,6 +292,43 @@ public interface ISqlService extends IService {
    */
   int delete(String s, Object... bindBases);
 
+  /**
+   * insert rows using JDBC batch execution
+   * <p>
+   * Instead of executing the statement once per batch value (<code>:{name}</code> or <code>:tableHolder.column</code>
+   * binds), all batch rows are sent to the database in groups of {@link AbstractSqlService#getJdbcBatchSize()} rows.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of inserted rows per batch row, may contain {@link java.sql.Statement#SUCCESS_NO_INFO} if the driver
+   *         does not report row counts for batches
+   */
+  int[] insertBatch(String s, Object... bindBases);
+
+  /**
+   * update rows using JDBC batch execution
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of updated rows per batch row
+   * @see #insertBatch(String, Object...)
+   */
+  int[] updateBatch(String s, Object... bindBases);
+
+  /**
+   * delete rows using JDBC batch execution
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of deleted rows per batch row
+   * @see #insertBatch(String, Object...)
+   */
+  int[] deleteBatch(String s, Object... bindBases);
+
   /**
    * call a stored procedure
    * <p>
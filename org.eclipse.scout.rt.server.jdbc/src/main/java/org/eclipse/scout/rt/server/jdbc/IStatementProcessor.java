@@ -20,8 +20,26 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * Streams the selected rows to the handler using a single reusable {@link ISelectRow} per result set.
+   */
+  void processSelectStreamingRows(Connection conn, IStatementCache cache, ISelectRowHandler handler);
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Executes the modification statement using JDBC batching ({@link java.sql.PreparedStatement#addBatch()} and
+   * {@link java.sql.Statement#executeBatch()}). Consecutive batch rows producing the same statement text are sent to the
+   * database together.
+   *
+   * @param batchSize
+   *          maximum number of rows sent to the database in one round trip. A value &lt;= 0 sends all rows sharing the
+   *          same statement text in one batch.
+   * @return the update count of every executed row in the order of the batch rows. An entry may be
+   *         {@link java.sql.Statement#SUCCESS_NO_INFO} if the JDBC driver does not report row counts for batches.
+   */
+  int[] processBatchModification(Connection conn, IStatementCache cache, int batchSize);
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
@@ -120,6 +120,22 @@ public final class SQL {
     service.selectIntoLimited(s, maxRowCount, bindBases);
   }
 
+  /**
+   * @see ISqlService#selectStreamingRows(String, ISelectRowHandler, Object...)
+   */
+  public static void selectStreamingRows(String s, ISelectRowHandler handler, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    service.selectStreamingRows(s, handler, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectStreamingRowsLimited(String, ISelectRowHandler, int, Object...)
+   */
+  public static void selectStreamingRowsLimited(String s, ISelectRowHandler handler, int maxRowCount, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    service.selectStreamingRowsLimited(s, handler, maxRowCount, bindBases);
+  }
+
   /**
    * @see ISqlService#insert(String, Object...)
    */
@@ -144,6 +160,30 @@ public final class SQL {
     return service.delete(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#insertBatch(String, Object...)
+   */
+  public static int[] insertBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.insertBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#updateBatch(String, Object...)
+   */
+  public static int[] updateBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.updateBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#deleteBatch(String, Object...)
+   */
+  public static int[] deleteBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.deleteBatch(s, bindBases);
+  }
+
   /**
    * @see ISqlService#callStoredProcedure(String, Object...)
    */
@@ -192,6 +192,33 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcPoolConnectionMaxWaitProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.connectionMaxWait";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum time in milliseconds to wait for a free connection if all connections of the pool are in use. A value of 0 waits forever. The default value is 0.";
+    }
+  }
+
+  public static class SqlJdbcPoolValidationIntervalProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.validationInterval";
+    }
+
+    @Override
+    public String description() {
+      return "If greater than 0, pooled connections are validated in the background and a connection is only tested when leased if it was not validated within this time in milliseconds. "
+          + "A value of 0 tests every connection when leased. The default value is 0.";
+    }
+  }
+
   public static class SqlJdbcStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -217,4 +244,35 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent to the database in one round trip by the batch operations (insertBatch, updateBatch, deleteBatch). The default value is 500.";
+    }
+  }
+
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of parsed SQL statements (bind and into tokens) shared by all statement executions. A value of 0 disables the cache. The default value is 1000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+  }
 }
@@ -18,9 +18,6 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -31,9 +28,9 @@ import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.util.BomInputStreamReader;
 import org.eclipse.scout.rt.server.csv.CsvSettings;
-import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
+import org.eclipse.scout.rt.server.jdbc.ISelectRow;
+import org.eclipse.scout.rt.server.jdbc.ISelectRowHandler;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
-import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.shared.csv.CsvHelper;
 import org.eclipse.scout.rt.shared.csv.IDataConsumer;
 
@@ -209,22 +206,17 @@ public class CsvSqlAdapter {
 
     try (FileOutputStream out = new FileOutputStream(params.getFile()); Writer w = new OutputStreamWriter(out, params.getEncoding())) {
       h.exportHeaderRows(w, params.getWriteColumnNames(), params.getWriteColumnTypes());
-      ISelectStreamHandler handler = new ISelectStreamHandler() {
-        @Override
-        public void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, List<SqlBind> values) {
-          Object[] row = new Object[values.size()];
-          for (int i = 0; i < row.length; i++) {
-            row[i] = values.get(i).getValue();
-          }
-          h.exportDataRow(row, w, false);
-        }
+      ISelectRowHandler handler = new ISelectRowHandler() {
+        private Object[] m_values;
 
         @Override
-        public void finished(Connection con, PreparedStatement stm, ResultSet rs, int rowCount) {
-          // do nothing
+        public void handleRow(ISelectRow row) {
+          // the values array is reused for all rows, the helper does not keep a reference to it
+          m_values = row.toArray(m_values);
+          h.exportDataRow(m_values, w, false);
         }
       };
-      m_sqlService.selectStreaming(sqlText, handler, base);
+      m_sqlService.selectStreamingRows(sqlText, handler, base);
     }
     catch (IOException e) {
       throw new ProcessingException(e.getMessage(), e);
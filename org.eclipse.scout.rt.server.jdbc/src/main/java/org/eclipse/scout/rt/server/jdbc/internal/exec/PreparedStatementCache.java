@@ -63,6 +63,7 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
     else {
       ps.clearParameters();
       ps.clearWarnings();
+      ps.clearBatch();
     }
     return ps;
   }
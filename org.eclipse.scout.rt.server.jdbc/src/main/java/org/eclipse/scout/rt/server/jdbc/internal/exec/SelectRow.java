@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Date;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.server.jdbc.ISelectRow;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+
+/**
+ * Reusable {@link ISelectRow} over a {@link ResultSet}. The metadata is read once when the instance is created.
+ */
+public class SelectRow implements ISelectRow {
+  private final ResultSet m_rs;
+  private final ResultSetMetaData m_meta;
+  private final ISqlStyle m_sqlStyle;
+  private final int[] m_columnTypes;
+  private final String[] m_columnNames;
+  private int m_rowIndex = -1;
+
+  public SelectRow(ResultSet rs, ISqlStyle sqlStyle) throws SQLException {
+    m_rs = rs;
+    m_meta = rs.getMetaData();
+    m_sqlStyle = sqlStyle;
+    int colCount = m_meta.getColumnCount();
+    m_columnTypes = new int[colCount];
+    m_columnNames = new String[colCount];
+    for (int i = 0; i < colCount; i++) {
+      m_columnTypes[i] = m_meta.getColumnType(i + 1);
+      m_columnNames[i] = m_meta.getColumnLabel(i + 1);
+    }
+  }
+
+  void setRowIndex(int rowIndex) {
+    m_rowIndex = rowIndex;
+  }
+
+  @Override
+  public int getRowIndex() {
+    return m_rowIndex;
+  }
+
+  @Override
+  public int getColumnCount() {
+    return m_columnTypes.length;
+  }
+
+  @Override
+  public int getColumnType(int column) {
+    return m_columnTypes[column];
+  }
+
+  @Override
+  public String getColumnName(int column) {
+    return m_columnNames[column];
+  }
+
+  @Override
+  public Object getObject(int column) {
+    try {
+      return m_sqlStyle.readBind(m_rs, m_meta, m_columnTypes[column], column + 1);
+    }
+    catch (SQLException e) {
+      throw newReadException(column, e);
+    }
+  }
+
+  @Override
+  public long getLong(int column) {
+    try {
+      return m_rs.getLong(column + 1);
+    }
+    catch (SQLException e) {
+      throw newReadException(column, e);
+    }
+  }
+
+  @Override
+  public double getDouble(int column) {
+    try {
+      return m_rs.getDouble(column + 1);
+    }
+    catch (SQLException e) {
+      throw newReadException(column, e);
+    }
+  }
+
+  @Override
+  public boolean getBoolean(int column) {
+    try {
+      return m_rs.getBoolean(column + 1);
+    }
+    catch (SQLException e) {
+      throw newReadException(column, e);
+    }
+  }
+
+  @Override
+  public String getString(int column) {
+    try {
+      return m_rs.getString(column + 1);
+    }
+    catch (SQLException e) {
+      throw newReadException(column, e);
+    }
+  }
+
+  @Override
+  public Date getDate(int column) {
+    try {
+      return m_rs.getTimestamp(column + 1);
+    }
+    catch (SQLException e) {
+      throw newReadException(column, e);
+    }
+  }
+
+  @Override
+  public boolean wasNull() {
+    try {
+      return m_rs.wasNull();
+    }
+    catch (SQLException e) {
+      throw new ProcessingException("Could not check for null value", e);
+    }
+  }
+
+  @Override
+  public Object[] toArray(Object[] target) {
+    Object[] row = target != null && target.length >= m_columnTypes.length ? target : new Object[m_columnTypes.length];
+    for (int i = 0; i < m_columnTypes.length; i++) {
+      row[i] = getObject(i);
+    }
+    return row;
+  }
+
+  @Override
+  public ResultSet getResultSet() {
+    return m_rs;
+  }
+
+  protected ProcessingException newReadException(int column, SQLException e) {
+    return new ProcessingException("Could not read column {} of row {}", column, m_rowIndex, e);
+  }
+}
@@ -46,6 +46,7 @@ import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.server.IServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlTransactionMember;
+import org.eclipse.scout.rt.server.jdbc.ISelectRowHandler;
 import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
@@ -54,9 +55,9 @@ import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache.ParsedStatement;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -139,14 +140,14 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
+      ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+      ParsedStatement parsedStatement = BEANS.get(ParsedStatementCache.class).getParsedStatement(m_originalStm, sqlStyle);
+      IntoModel intoModel = parsedStatement.getIntoModel();
       //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      m_bindModel = parsedStatement.getBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
-      ISqlStyle sqlStyle = m_callerService.getSqlStyle();
       for (IToken t : m_ioTokens) {
         IBindInput in = null;
         IBindOutput out = null;
@@ -380,12 +381,15 @@ public class StatementProcessor implements IStatementProcessor {
 
           ResultSetMetaData meta = rs.getMetaData();
           int colCount = meta.getColumnCount();
+          int[] types = new int[colCount];
+          for (int i = 0; i < colCount; i++) {
+            types[i] = meta.getColumnType(i + 1);
+          }
           while (rs.next()) {
             List<SqlBind> row = new ArrayList<>(colCount);
             for (int i = 0; i < colCount; i++) {
-              int type = meta.getColumnType(i + 1);
-              Object value = sqlStyle.readBind(rs, meta, type, i + 1);
-              row.add(new SqlBind(type, value));
+              Object value = sqlStyle.readBind(rs, meta, types[i], i + 1);
+              row.add(new SqlBind(types[i], value));
             }
             handler.handleRow(conn, ps, rs, rowCount, row);
             rowCount++;
@@ -418,6 +422,51 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings({"resource", "squid:S2095"})
+  @Override
+  public void processSelectStreamingRows(Connection conn, IStatementCache cache, ISelectRowHandler handler) {
+    PreparedStatement ps = null;
+    ResultSet rs = null;
+    try {
+      int rowCount = 0;
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        ps = cache.getPreparedStatement(conn, m_currentInputStm);
+        bindBatch(ps);
+        registerActiveStatement(ps);
+        try {
+          rs = ps.executeQuery();
+          SelectRow row = new SelectRow(rs, m_callerService.getSqlStyle());
+          while (rs.next()) {
+            row.setRowIndex(rowCount);
+            handler.handleRow(row);
+            rowCount++;
+            if (m_maxRowCount > 0 && rowCount >= m_maxRowCount) {
+              break;
+            }
+          }
+        }
+        finally {
+          unregisterActiveStatement(ps);
+          if (hasNextInputBatch()) {
+            releasePreparedStatementAndResultSet(ps, cache, rs);
+          }
+        }
+      }
+      finishOutputBatch();
+      handler.finished(rowCount);
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      releasePreparedStatementAndResultSet(ps, cache, rs);
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -457,6 +506,82 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings("resource")
+  @Override
+  public int[] processBatchModification(Connection conn, IStatementCache cache, int batchSize) {
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int pendingCount = 0;
+    List<Integer> updateCounts = new ArrayList<>();
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && !m_currentInputStm.equals(batchStm)) {
+          // statement text changed (e.g. IN-list of different length), flush rows collected so far
+          executeBatch(ps, updateCounts);
+          cache.releasePreparedStatement(ps);
+          ps = null;
+          pendingCount = 0;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          batchStm = m_currentInputStm;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        pendingCount++;
+        if (batchSize > 0 && pendingCount >= batchSize) {
+          executeBatch(ps, updateCounts);
+          pendingCount = 0;
+        }
+      }
+      if (ps != null && pendingCount > 0) {
+        executeBatch(ps, updateCounts);
+      }
+      int[] result = new int[updateCounts.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = updateCounts.get(i);
+      }
+      return result;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false))
+          .withContextInfo("batchRowIndex", m_currentInputBatchIndex);
+    }
+    finally {
+      if (ps != null && pendingCount > 0) {
+        // do not hand back a (cached) statement with rows of a failed batch still pending
+        clearBatchSafe(ps);
+      }
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  private void clearBatchSafe(PreparedStatement ps) {
+    try {
+      ps.clearBatch();
+    }
+    catch (SQLException | RuntimeException e) {
+      LOG.warn("Could not clear pending batch of statement", e);
+    }
+  }
+
+  private void executeBatch(PreparedStatement ps, List<Integer> updateCounts) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      for (int count : ps.executeBatch()) {
+        updateCounts.add(count);
+      }
+    }
+    finally {
+      unregisterActiveStatement(ps);
+      ps.clearBatch();
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import javax.management.MXBean;
+
+@MXBean
+public interface ISqlConnectionPoolMBean {
+
+  int getPoolSize();
+
+  int getIdleCount();
+
+  int getBusyCount();
+
+  /**
+   * @return number of threads currently waiting for a connection
+   */
+  int getWaitingCount();
+
+  long getLeaseCount();
+
+  /**
+   * @return number of lease requests that failed because no connection became available within the maximum wait time
+   */
+  long getLeaseTimeoutCount();
+
+  long getAverageWaitTime();
+
+  long getMaxWaitTime();
+
+  long getAverageLeaseTime();
+
+  long getMaxLeaseTime();
+
+  String getInventory();
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in milliseconds with fixed, roughly exponential bucket bounds.
+ */
+public class LatencyHistogram {
+
+  private static final long[] BUCKET_UPPER_BOUNDS = {1, 5, 10, 50, 100, 500, 1_000, 5_000, 10_000, 60_000, Long.MAX_VALUE};
+
+  private final LongAdder[] m_buckets;
+  private final LongAdder m_count = new LongAdder();
+  private final LongAdder m_sum = new LongAdder();
+  private final LongAccumulator m_max = new LongAccumulator(Math::max, 0L);
+
+  public LatencyHistogram() {
+    m_buckets = new LongAdder[BUCKET_UPPER_BOUNDS.length];
+    for (int i = 0; i < m_buckets.length; i++) {
+      m_buckets[i] = new LongAdder();
+    }
+  }
+
+  public void record(long millis) {
+    long value = Math.max(0L, millis);
+    int i = 0;
+    while (value > BUCKET_UPPER_BOUNDS[i]) {
+      i++;
+    }
+    m_buckets[i].increment();
+    m_count.increment();
+    m_sum.add(value);
+    m_max.accumulate(value);
+  }
+
+  public long getCount() {
+    return m_count.sum();
+  }
+
+  public long getMax() {
+    return m_max.get();
+  }
+
+  public long getAverage() {
+    long count = getCount();
+    return count > 0 ? m_sum.sum() / count : 0L;
+  }
+
+  /**
+   * @return number of recorded values per bucket, the upper bounds are given by {@link #getBucketUpperBounds()}
+   */
+  public long[] getBucketCounts() {
+    long[] counts = new long[m_buckets.length];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = m_buckets[i].sum();
+    }
+    return counts;
+  }
+
+  public long[] getBucketUpperBounds() {
+    return BUCKET_UPPER_BOUNDS.clone();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder();
+    buf.append("count=").append(getCount()).append(", avg=").append(getAverage()).append("ms, max=").append(getMax()).append("ms");
+    long[] counts = getBucketCounts();
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] == 0) {
+        continue;
+      }
+      buf.append(", ");
+      buf.append(BUCKET_UPPER_BOUNDS[i] == Long.MAX_VALUE ? ">" + BUCKET_UPPER_BOUNDS[i - 1] : "<=" + BUCKET_UPPER_BOUNDS[i]);
+      buf.append("ms:").append(counts[i]);
+    }
+    return buf.toString();
+  }
+}
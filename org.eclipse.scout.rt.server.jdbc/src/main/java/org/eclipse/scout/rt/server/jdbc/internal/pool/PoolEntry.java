@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2017 BSI Business Systems Integration AG.
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,15 @@ package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
 import java.sql.Connection;
 
+/**
+ * An entry is owned by exactly one of the idle deque or the busy map of {@link SqlConnectionPool}. Fields are only
+ * modified by the thread that removed the entry from one of these structures.
+ */
 @SuppressWarnings({"squid:S00116", "squid:ClassVariableVisibilityCheck"})
 class PoolEntry {
-  public Connection conn;
-  public long createTime;
-  public long leaseBegin;
-  public int leaseCount;
+  public volatile Connection conn;
+  public volatile long createTime;
+  public volatile long leaseBegin;
+  public volatile long lastValidated;
+  public volatile int leaseCount;
 }
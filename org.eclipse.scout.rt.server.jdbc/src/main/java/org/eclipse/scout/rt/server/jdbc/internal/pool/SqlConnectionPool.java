@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2017 BSI Business Systems Integration AG.
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,30 +14,43 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashSet;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.ObjectName;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
 import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * System-wide connection pool for pooling connections There is one pool for every ISqlService sub class type If
- * possible, every scout Session is provided with always the same connection it had in the last request this class is
- * thread-safe
+ * System-wide connection pool for pooling connections. There is one pool for every ISqlService sub class type. This
+ * class is thread-safe.
+ * <p>
+ * Leasing and releasing a connection does not take any pool wide lock: The number of connections is bounded by a fair
+ * {@link Semaphore} (waiting threads are served in FIFO order), idle connections are kept in a concurrent deque and busy
+ * connections in a concurrent map. Expired idle connections and timed out busy connections are evicted by a periodic
+ * job, which also validates idle connections if a validation interval is configured.
  */
 @Bean
 @SuppressWarnings("squid:S1166")
-public class SqlConnectionPool {
+public class SqlConnectionPool implements ISqlConnectionPoolMBean {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
   private volatile boolean m_destroyed;
@@ -46,24 +59,52 @@ public class SqlConnectionPool {
   /*
    * Instance
    */
-  private final Object m_poolLock = new Object();
-  private final Set<PoolEntry> m_idleEntries = new HashSet<>();
-  private final Set<PoolEntry> m_busyEntries = new HashSet<>();
+  private final Deque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final Map<ConnectionKey, PoolEntry> m_busyEntries = new ConcurrentHashMap<>();
+  private volatile Semaphore m_permits;
   private volatile String m_name;
   private volatile int m_poolSize;
   private volatile long m_connectionLifetime;
   private volatile long m_connectionBusyTimeout;
+  private volatile long m_maxWaitTime;
+  private volatile long m_validationInterval;
+  private volatile AbstractSqlService m_service;
   private final AtomicBoolean m_initialized = new AtomicBoolean(false);
 
+  // statistics
+  private final LatencyHistogram m_waitTimes = new LatencyHistogram();
+  private final LatencyHistogram m_leaseTimes = new LatencyHistogram();
+  private final LongAdder m_leaseTimeoutCount = new LongAdder();
+
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    initialize(name, poolSize, connectionLifetime, connectionBusyTimeout, 0L, 0L);
+  }
+
+  /**
+   * @param maxWaitTime
+   *          maximum time in milliseconds to wait for a connection to become available. A value &lt;= 0 waits forever.
+   * @param validationInterval
+   *          if &gt; 0, an idle connection is only tested when leased if it was not validated within this time in
+   *          milliseconds. Idle connections are then validated in the background instead. A value &lt;= 0 tests the
+   *          connection on every lease.
+   */
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout, long maxWaitTime, long validationInterval) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
     m_poolSize = poolSize;
+    m_permits = new Semaphore(poolSize, true);
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
+    m_maxWaitTime = maxWaitTime;
+    m_validationInterval = validationInterval;
+    MBeanUtility.register(jmxObjectName(), this);
     startManagePool();
   }
 
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.server.jdbc", PlatformIdentifier.get(), getClass().getSimpleName() + "." + m_name);
+  }
+
   /**
    * Start managing pool
    */
@@ -77,188 +118,323 @@ public class SqlConnectionPool {
   }
 
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
-    managePool();
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    if (m_service == null) {
+      m_service = service;
+    }
 
+    acquirePermit();
+    boolean leased = false;
+    try {
       PoolEntry candidate = null;
       while (candidate == null) {
-        // get next available conn
-        for (PoolEntry m_idleEntry : m_idleEntries) {
-          candidate = m_idleEntry;
-          break;
-        }
-        if (candidate == null && m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
-          // create new connection
-          PoolEntry test = new PoolEntry();
-          test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
-          LOG.info("created jdbc connection {}", test.conn);
-          service.callbackAfterConnectionCreated(test.conn);
-          test.createTime = System.currentTimeMillis();
-          m_idleEntries.add(test);
-          candidate = test;
-        }
+        candidate = m_idleEntries.pollFirst();
         if (candidate == null) {
-          // wait
-          try {
-            m_poolLock.wait();
-          }
-          catch (InterruptedException ie) {
-            Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
-            throw new ThreadInterruptedError("Interrupted while leasing database connection");
-          }
+          candidate = createEntry(service);
+        }
+        else if (isExpired(candidate, System.currentTimeMillis())) {
+          closeConnectionAsync(candidate.conn, "expired idle connection");
+          candidate = null;
         }
-        // test candidate connection
-        if (candidate != null) {
-          try {
-            service.callbackTestConnection(candidate.conn);
-          }
-          catch (Exception e) {
-            // remove candidate from idle pool and close it
-            m_idleEntries.remove(candidate);
-            LOG.warn("closing dirty connection: {}", candidate.conn, e);
-            try {
-              candidate.conn.close();
-            }
-            catch (Exception fatal) {
-              LOG.warn("could not close candidate connection", fatal);
-            }
-            candidate = null;
-          }
+        else if (!testConnection(service, candidate, false)) {
+          candidate = null;
         }
-      }// end while
-       // move to busy pool
-      m_idleEntries.remove(candidate);
+      }
+      // move to busy pool
       candidate.leaseBegin = System.currentTimeMillis();
       candidate.leaseCount++;
-      m_busyEntries.add(candidate);
+      m_busyEntries.put(new ConnectionKey(candidate.conn), candidate);
+      leased = true;
       LOG.debug("lease   {}", candidate.conn);
       return candidate.conn;
     }
+    finally {
+      if (!leased) {
+        m_permits.release();
+      }
+    }
   }
 
-  public void releaseConnection(Connection conn) {
-    LOG.debug("release {}", conn);
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
-
-      PoolEntry candidate = null;
-      for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-        PoolEntry e = (PoolEntry) it.next();
-        if (e.conn == conn) {
-          candidate = e;
-          it.remove();
-          break;
+  private void acquirePermit() {
+    long start = System.nanoTime();
+    try {
+      long maxWaitTime = m_maxWaitTime;
+      if (maxWaitTime > 0) {
+        if (!m_permits.tryAcquire(maxWaitTime, TimeUnit.MILLISECONDS)) {
+          m_leaseTimeoutCount.increment();
+          throw new TimedOutError("Timeout while waiting for a database connection")
+              .withContextInfo("pool", m_name)
+              .withContextInfo("maxWaitTime", "{}ms", maxWaitTime);
         }
       }
-      // check close status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.isClosed()) {
-            candidate = null;
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
+      else {
+        m_permits.acquire();
       }
-      // check error status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.getWarnings() != null) {
-            /*
-             * connection is normally valid again after clearing the warnings.
-             * Since oracle is not supporting warnings, the subsequent call has no effect!
-             */
-            candidate.conn.clearWarnings();
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    m_waitTimes.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  private PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    PoolEntry entry = new PoolEntry();
+    entry.conn = new SqlConnectionBuilder().createJdbcConnection(service);
+    LOG.info("created jdbc connection {}", entry.conn);
+    service.callbackAfterConnectionCreated(entry.conn);
+    entry.createTime = System.currentTimeMillis();
+    entry.lastValidated = entry.createTime;
+    return entry;
+  }
+
+  /**
+   * Tests the connection of an entry that is owned by the calling thread. Dirty connections are closed.
+   *
+   * @return <code>true</code> if the connection is valid
+   */
+  private boolean testConnection(AbstractSqlService service, PoolEntry entry, boolean force) {
+    long now = System.currentTimeMillis();
+    long validationInterval = m_validationInterval;
+    if (!force && validationInterval > 0 && now - entry.lastValidated <= validationInterval) {
+      return true;
+    }
+    try {
+      service.callbackTestConnection(entry.conn);
+      entry.lastValidated = now;
+      return true;
+    }
+    catch (Exception e) {
+      LOG.warn("closing dirty connection: {}", entry.conn, e);
+      try {
+        entry.conn.close();
+      }
+      catch (Exception fatal) {
+        LOG.warn("could not close candidate connection", fatal);
       }
-      // all checks passed, candidate is either non-null or null, in the latter
-      // case conn is a dirty connection
-      // back to idle pool
-      if (candidate != null) {
-        // move to idle pool
+      return false;
+    }
+  }
+
+  private boolean isExpired(PoolEntry entry, long now) {
+    return now - entry.createTime > m_connectionLifetime;
+  }
+
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+
+    PoolEntry candidate = m_busyEntries.remove(new ConnectionKey(conn));
+    if (candidate == null) {
+      // unknown connection or evicted because its lease timed out (the permit was already returned)
+      LOG.warn("closing dirty connection: {}", conn);
+      closeQuietly(conn);
+      return;
+    }
+    try {
+      m_leaseTimes.record(System.currentTimeMillis() - candidate.leaseBegin);
+      // check close and error status of connection
+      if (isReusable(candidate.conn)) {
         candidate.leaseBegin = 0;
-        m_idleEntries.add(candidate);
+        m_idleEntries.offerFirst(candidate);
       }
       else {
         LOG.warn("closing dirty connection: {}", conn);
-        try {
-          conn.close();
-        }
-        catch (SQLException e) {
-          // ignored
-        }
+        closeQuietly(conn);
       }
-      m_poolLock.notifyAll();
     }
-    managePool();
+    finally {
+      m_permits.release();
+    }
   }
 
+  private boolean isReusable(Connection conn) {
+    try {
+      if (conn.isClosed()) {
+        return false;
+      }
+      if (conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Exception e) {
+      // ignore
+      return false;
+    }
+  }
+
+  private static void closeQuietly(Connection conn) {
+    try {
+      conn.close();
+    }
+    catch (SQLException e) {
+      // ignored
+    }
+  }
+
+  @Override
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
-    synchronized (m_poolLock) {
-      buf.append("Total connections: ").append(m_busyEntries.size() + m_idleEntries.size());
-      buf.append("\n");
-      buf.append("Busy: ").append(m_busyEntries.size());
+    buf.append("Total connections: ").append(m_busyEntries.size() + m_idleEntries.size());
+    buf.append("\n");
+    buf.append("Busy: ").append(m_busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : m_busyEntries.values()) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin)));
       buf.append("\n");
-      for (PoolEntry e : m_busyEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
-            .append(fmt.format(new Date(e.leaseBegin)));
-        buf.append("\n");
-      }
-      buf.append("Idle: ").append(m_idleEntries.size());
+    }
+    buf.append("Idle: ").append(m_idleEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : m_idleEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
       buf.append("\n");
-      for (PoolEntry e : m_idleEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
-        buf.append("\n");
-      }
     }
+    buf.append("Waiting: ").append(getWaitingCount());
+    buf.append("\n");
+    buf.append("Lease timeouts: ").append(m_leaseTimeoutCount.sum());
+    buf.append("\n");
+    buf.append("Wait time: ").append(m_waitTimes);
+    buf.append("\n");
+    buf.append("Lease time: ").append(m_leaseTimes);
+    buf.append("\n");
     return buf.toString();
   }
 
+  @Override
+  public int getPoolSize() {
+    return m_poolSize;
+  }
+
+  @Override
+  public int getIdleCount() {
+    return m_idleEntries.size();
+  }
+
+  @Override
+  public int getBusyCount() {
+    return m_busyEntries.size();
+  }
+
+  @Override
+  public int getWaitingCount() {
+    Semaphore permits = m_permits;
+    return permits != null ? permits.getQueueLength() : 0;
+  }
+
+  @Override
+  public long getLeaseCount() {
+    return m_waitTimes.getCount();
+  }
+
+  @Override
+  public long getLeaseTimeoutCount() {
+    return m_leaseTimeoutCount.sum();
+  }
+
+  @Override
+  public long getAverageWaitTime() {
+    return m_waitTimes.getAverage();
+  }
+
+  @Override
+  public long getMaxWaitTime() {
+    return m_waitTimes.getMax();
+  }
+
+  @Override
+  public long getAverageLeaseTime() {
+    return m_leaseTimes.getAverage();
+  }
+
+  @Override
+  public long getMaxLeaseTime() {
+    return m_leaseTimes.getMax();
+  }
+
+  /**
+   * @return distribution of the time threads waited for a connection
+   */
+  public LatencyHistogram getWaitTimeHistogram() {
+    return m_waitTimes;
+  }
+
+  /**
+   * @return distribution of the time connections were leased
+   */
+  public LatencyHistogram getLeaseTimeHistogram() {
+    return m_leaseTimes;
+  }
+
   /**
    * Thread worker to manage pool
    */
   private void managePool() {
     try {
-      synchronized (m_poolLock) {
-        if (isDestroyed()) {
-          return;
-        }
+      if (isDestroyed()) {
+        return;
+      }
+      long now = System.currentTimeMillis();
 
-        // close old idle connections
-        for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
-            closeConnectionAsync(e.conn, "expired idle connection");
-            e.conn = null;
-            it.remove();
-          }
+      // close old idle connections
+      for (Iterator<PoolEntry> it = m_idleEntries.iterator(); it.hasNext();) {
+        PoolEntry e = it.next();
+        // only the thread removing an entry owns it, a concurrent lease may have taken it already
+        if (isExpired(e, now) && m_idleEntries.removeFirstOccurrence(e)) {
+          closeConnectionAsync(e.conn, "expired idle connection");
         }
-        // close timed out busy connections
-        for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
-            closeConnectionAsync(e.conn, "timed out busy connection");
-            e.conn = null;
-            it.remove();
-          }
+      }
+      // close timed out busy connections
+      for (Iterator<Map.Entry<ConnectionKey, PoolEntry>> it = m_busyEntries.entrySet().iterator(); it.hasNext();) {
+        Map.Entry<ConnectionKey, PoolEntry> e = it.next();
+        if (now - e.getValue().leaseBegin > m_connectionBusyTimeout && m_busyEntries.remove(e.getKey(), e.getValue())) {
+          closeConnectionAsync(e.getValue().conn, "timed out busy connection");
+          m_permits.release();
         }
       }
+      validateIdleConnections();
     }
     catch (Exception t) {
       LOG.warn("Unexpected Problem while managing SQL connection pool", t);
     }
   }
 
+  /**
+   * Validates idle connections in the background, so that {@link #leaseConnection(AbstractSqlService)} does not need to
+   * test them.
+   */
+  private void validateIdleConnections() {
+    AbstractSqlService service = m_service;
+    long validationInterval = m_validationInterval;
+    if (service == null || validationInterval <= 0) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    for (PoolEntry e : m_idleEntries) {
+      if (now - e.lastValidated <= validationInterval / 2) {
+        continue;
+      }
+      // the connection under validation occupies a permit, so that leasing threads cannot exceed the pool size
+      if (!m_permits.tryAcquire()) {
+        return;
+      }
+      try {
+        if (m_idleEntries.removeFirstOccurrence(e) && testConnection(service, e, true)) {
+          m_idleEntries.offerLast(e);
+        }
+      }
+      finally {
+        m_permits.release();
+      }
+    }
+  }
+
   /**
    * Returns whether this SQL pool was destroyed, and cannot be used anymore.
    */
@@ -269,31 +445,29 @@ public class SqlConnectionPool {
   /**
    * Destroys this connection pool. Upon return, this pool cannot be used anymore.
    */
-  public void destroy() {
+  public synchronized void destroy() {
     if (isDestroyed()) {
       return;
     }
+    m_destroyed = true;
 
-    synchronized (m_poolLock) {
-      if (isDestroyed()) {
-        return; // double-checked locking
-      }
-      m_destroyed = true;
-
-      // Cancel jobs.
-      Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
-          .andMatchExecutionHint(m_identity)
-          .toFilter(), true);
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
+    if (m_initialized.get()) {
+      MBeanUtility.unregister(jmxObjectName());
+    }
 
-      for (final PoolEntry idleEntry : m_idleEntries) {
-        closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
-      }
-      m_idleEntries.clear();
+    PoolEntry idleEntry;
+    while ((idleEntry = m_idleEntries.pollFirst()) != null) {
+      closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
+    }
 
-      for (final PoolEntry busyEntry : m_busyEntries) {
-        closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
-      }
-      m_busyEntries.clear();
+    for (Iterator<PoolEntry> it = m_busyEntries.values().iterator(); it.hasNext();) {
+      PoolEntry busyEntry = it.next();
+      it.remove();
+      closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
     }
   }
 
@@ -310,4 +484,26 @@ public class SqlConnectionPool {
         .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
         .withExecutionHint(m_identity));
   }
+
+  /**
+   * Map key comparing connections by identity, since drivers or proxies may implement {@link Object#equals(Object)}
+   * differently.
+   */
+  private static final class ConnectionKey {
+    private final Connection m_conn;
+
+    ConnectionKey(Connection conn) {
+      m_conn = conn;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(m_conn);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ConnectionKey && ((ConnectionKey) obj).m_conn == m_conn;
+    }
+  }
 }
@@ -10,7 +10,13 @@
  */
 package org.eclipse.scout.rt.server.jdbc.lookup;
 
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -20,12 +26,14 @@ import org.eclipse.scout.rt.platform.annotations.ConfigOperation;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.SQL;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.services.lookup.AbstractLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
@@ -53,6 +61,10 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Valid bind names are: Object key, String text, String all, Object rec, {@link TriState} active<br>
  * Valid xml tags are: &lt;key&gt;, &lt;text&gt;, &lt;all&gt;, &lt;rec&gt;
+ * <p>
+ * If enabled by {@link #getConfiguredDataByKeysEnabled()}, lookups by several keys (see {@link #getDataByKeys(List)})
+ * bind all keys to <code>:key</code> at once. Hence the &lt;key&gt; tag is expected to compare an attribute with the
+ * key, e.g. <code>&lt;key&gt; AND ID = :key &lt;/key&gt;</code>, which is turned into an IN-list.
  */
 public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<T> {
 
@@ -61,6 +73,8 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlLookupService.class);
 
+  private volatile Boolean m_dataByKeysSupported;
+
   /**
    * Sql SELECT statement
    */
@@ -79,6 +93,17 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return 1;
   }
 
+  /**
+   * @return {@code true} if lookups by several keys are executed with a single SQL statement, see
+   *         {@link #getDataByKeys(List)}. Enable only if the &lt;key&gt; tag of the SQL select compares an attribute
+   *         with the <code>:key</code> bind.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(30)
+  protected boolean getConfiguredDataByKeysEnabled() {
+    return false;
+  }
+
   /**
    * This method is called on server side to load lookup rows.
    */
@@ -98,6 +123,29 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     }
   }
 
+  /**
+   * This method is called on server side to load the lookup rows of several keys.
+   * <p>
+   * The keys are bound to <code>:key</code> as an array, which is turned into an IN-list split into chunks of at most
+   * {@link ISqlStyle#MAX_LIST_SIZE} elements (see {@link ISqlStyle#createInList(String, Object)}). All other binds are
+   * taken from the call.
+   */
+  @ConfigOperation
+  @Order(20)
+  protected List<ILookupRow<T>> execLoadLookupRowsByKeys(String originalSql, String preprocessedSql, ILookupCall<T> call, List<T> keys) {
+    Object[][] data = SQL.select(preprocessedSql, new NVPair("key", keys.toArray()), call);
+    if (getConfiguredSortColumn() >= 0) {
+      sortData(data, getConfiguredSortColumn());
+    }
+    try {
+      Class<?> genericsParameterClass = determineGenericsParameterClass();
+      return createLookupRowArray(data, call, genericsParameterClass);
+    }
+    catch (IllegalArgumentException e) {
+      throw new ProcessingException("Unable to load lookup rows for lookup service '" + getClass().getName() + "'.", e);
+    }
+  }
+
   protected Class<?> determineGenericsParameterClass() {
     Class<?> genericsParameterClass = Object.class;
     try {
@@ -115,6 +163,87 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return execLoadLookupRows(sql, filterSqlByKey(sql), call);
   }
 
+  /**
+   * Loads the lookup rows of all keys with a single SQL statement, see
+   * {@link #execLoadLookupRowsByKeys(String, String, ILookupCall, List)}. Falls back to one statement per key if the
+   * calls limit the number of rows.
+   */
+  @Override
+  public List<List<? extends ILookupRow<T>>> getDataByKeys(List<? extends ILookupCall<T>> calls) {
+    if (calls.size() < 2 || calls.get(0).getMaxRowCount() > 0 || !isDataByKeysSupported()) {
+      return super.getDataByKeys(calls);
+    }
+    Map<Object, List<ILookupRow<T>>> rowsByKey = new LinkedHashMap<>();
+    List<T> keys = new ArrayList<>(calls.size());
+    for (ILookupCall<T> call : calls) {
+      if (rowsByKey.putIfAbsent(normalizeKey(call.getKey()), new ArrayList<>()) == null) {
+        keys.add(call.getKey());
+      }
+    }
+    String sql = getConfiguredSqlSelect();
+    List<ILookupRow<T>> rows = execLoadLookupRowsByKeys(sql, filterSqlByKey(sql), calls.get(0), keys);
+    for (ILookupRow<T> row : rows) {
+      List<ILookupRow<T>> keyRows = rowsByKey.get(normalizeKey(row.getKey()));
+      if (keyRows != null) {
+        keyRows.add(row);
+      }
+    }
+
+    List<List<? extends ILookupRow<T>>> result = new ArrayList<>(calls.size());
+    for (ILookupCall<T> call : calls) {
+      result.add(rowsByKey.get(normalizeKey(call.getKey())));
+    }
+    return result;
+  }
+
+  /**
+   * @return key used to assign the loaded rows to the calls. Integral keys are compared by their numeric value, because
+   *         the type of the key column returned by JDBC (e.g. {@link BigDecimal}) may differ from the type of the
+   *         requested keys (e.g. {@link Long}).
+   */
+  private static Object normalizeKey(Object key) {
+    BigDecimal value;
+    if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+      value = BigDecimal.valueOf(((Number) key).longValue());
+    }
+    else if (key instanceof BigInteger) {
+      value = new BigDecimal((BigInteger) key);
+    }
+    else if (key instanceof BigDecimal) {
+      value = (BigDecimal) key;
+    }
+    else {
+      return key;
+    }
+    return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+  }
+
+  /**
+   * @return {@link #getConfiguredDataByKeysEnabled()}, unless
+   *         {@link #execLoadLookupRows(String, String, ILookupCall)} is overridden, which is not called by
+   *         {@link #getDataByKeys(List)}
+   */
+  @Override
+  public boolean isDataByKeysSupported() {
+    Boolean supported = m_dataByKeysSupported;
+    if (supported == null) {
+      supported = getConfiguredDataByKeysEnabled() && !isExecLoadLookupRowsOverridden();
+      m_dataByKeysSupported = supported;
+    }
+    return supported;
+  }
+
+  private boolean isExecLoadLookupRowsOverridden() {
+    for (Class<?> c = getClass(); c != AbstractSqlLookupService.class; c = c.getSuperclass()) {
+      for (Method m : c.getDeclaredMethods()) {
+        if ("execLoadLookupRows".equals(m.getName()) && !m.isSynthetic()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   @Override
   public List<ILookupRow<T>> getDataByText(ILookupCall<T> call) {
     // change wildcards in text to db specific wildcards
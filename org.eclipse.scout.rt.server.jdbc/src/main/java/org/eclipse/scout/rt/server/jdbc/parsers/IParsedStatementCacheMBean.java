@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import javax.management.MXBean;
+
+@MXBean
+public interface IParsedStatementCacheMBean {
+
+  int getCacheSize();
+
+  long getHitCount();
+
+  long getMissCount();
+
+  void clear();
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+
+/**
+ * Application wide cache of parsed SQL statements. {@link IntoParser} and {@link BindParser} results only depend on the
+ * statement text and the SQL style and are therefore shared between all statement executions.
+ * <p>
+ * The cached models are never handed out directly, since the bind resolution modifies the tokens. Each call to
+ * {@link #getParsedStatement(String, ISqlStyle)} returns a private copy.
+ *
+ * @since 11.0
+ */
+@ApplicationScoped
+public class ParsedStatementCache {
+
+  private final ConcurrentExpiringMap<P_CacheKey, ParsedStatement> m_cache;
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+
+  public ParsedStatementCache() {
+    int cacheSize = CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class);
+    m_cache = cacheSize > 0 ? new ConcurrentExpiringMap<>(0L, TimeUnit.MILLISECONDS, cacheSize) : null;
+  }
+
+  /**
+   * @return the parsed statement. The returned models are owned by the caller and may be modified.
+   */
+  public ParsedStatement getParsedStatement(String stm, ISqlStyle sqlStyle) {
+    if (m_cache == null) {
+      m_missCount.increment();
+      return parse(stm, sqlStyle);
+    }
+    P_CacheKey key = new P_CacheKey(stm, sqlStyle);
+    ParsedStatement cached = m_cache.get(key);
+    if (cached != null) {
+      m_hitCount.increment();
+    }
+    else {
+      m_missCount.increment();
+      cached = parse(stm, sqlStyle);
+      m_cache.put(key, cached);
+    }
+    return cached.copy();
+  }
+
+  /**
+   * @param sqlStyle
+   *          style of the database the statement is executed on, may be {@code null}
+   */
+  protected ParsedStatement parse(String stm, ISqlStyle sqlStyle) {
+    IntoModel intoModel = new IntoParser(stm).parse();
+    BindModel bindModel = new BindParser(intoModel.getFilteredStatement()).parse();
+    return new ParsedStatement(intoModel, bindModel);
+  }
+
+  public int size() {
+    return m_cache != null ? m_cache.size() : 0;
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  public void clear() {
+    if (m_cache != null) {
+      m_cache.clear();
+    }
+    m_hitCount.reset();
+    m_missCount.reset();
+  }
+
+  /**
+   * Statements are parsed per style type, style instances are not retained by the cache.
+   */
+  private static final class P_CacheKey {
+    private final String m_statement;
+    private final Class<? extends ISqlStyle> m_sqlStyleClass;
+
+    private P_CacheKey(String statement, ISqlStyle sqlStyle) {
+      m_statement = statement;
+      m_sqlStyleClass = sqlStyle != null ? sqlStyle.getClass() : null;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * m_statement.hashCode() + Objects.hashCode(m_sqlStyleClass);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_CacheKey other = (P_CacheKey) obj;
+      return m_statement.equals(other.m_statement) && m_sqlStyleClass == other.m_sqlStyleClass;
+    }
+  }
+
+  public static class ParsedStatement {
+    private final IntoModel m_intoModel;
+    private final BindModel m_bindModel;
+
+    public ParsedStatement(IntoModel intoModel, BindModel bindModel) {
+      m_intoModel = intoModel;
+      m_bindModel = bindModel;
+    }
+
+    public IntoModel getIntoModel() {
+      return m_intoModel;
+    }
+
+    public BindModel getBindModel() {
+      return m_bindModel;
+    }
+
+    public ParsedStatement copy() {
+      return new ParsedStatement(m_intoModel.copy(), m_bindModel.copy());
+    }
+  }
+}
@@ -56,4 +56,11 @@ public class DatabaseSpecificToken implements IToken {
     return m_name;
   }
 
+  @Override
+  public DatabaseSpecificToken copy() {
+    DatabaseSpecificToken copy = new DatabaseSpecificToken(m_parsedToken, m_name);
+    copy.m_replaceToken = m_replaceToken;
+    return copy;
+  }
+
 }
@@ -93,4 +93,12 @@ public class FunctionInputToken implements IToken {
   public void setPlainSql(boolean b) {
     m_plainSql = b;
   }
+
+  @Override
+  public FunctionInputToken copy() {
+    FunctionInputToken copy = new FunctionInputToken(m_parsedToken, m_name, m_args, m_plainValue, m_plainSql);
+    copy.m_replaceToken = m_replaceToken;
+    copy.m_plainToken = m_plainToken;
+    return copy;
+  }
 }
@@ -21,4 +21,13 @@ public interface IToken {
   boolean isInput();
 
   boolean isOutput();
+
+  /**
+   * Parsed statements are shared by all executions of the same statement text, see
+   * {@link org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache}.
+   *
+   * @return a copy of this token that can be modified (e.g. by {@link #setReplaceToken(String)}) independently of this
+   *         token
+   */
+  IToken copy();
 }
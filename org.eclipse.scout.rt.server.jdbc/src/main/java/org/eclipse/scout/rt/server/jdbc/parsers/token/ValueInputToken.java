@@ -118,6 +118,17 @@ public class ValueInputToken implements IToken {
     m_batch = b;
   }
 
+  @Override
+  public ValueInputToken copy() {
+    ValueInputToken copy = new ValueInputToken(m_parsedToken, m_name, m_plainValue, m_plainSql);
+    copy.m_parsedOp = m_parsedOp;
+    copy.m_parsedAttribute = m_parsedAttribute;
+    copy.m_replaceToken = m_replaceToken;
+    copy.m_name = m_name;
+    copy.m_batch = m_batch;
+    return copy;
+  }
+
   @Override
   public String toString() {
     StringBuilder b = new StringBuilder();
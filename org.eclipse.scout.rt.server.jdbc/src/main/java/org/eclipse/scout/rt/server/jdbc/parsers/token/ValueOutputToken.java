@@ -76,6 +76,15 @@ public class ValueOutputToken implements IToken {
     m_batch = b;
   }
 
+  @Override
+  public ValueOutputToken copy() {
+    ValueOutputToken copy = new ValueOutputToken(m_parsedToken, m_name, m_selectInto);
+    copy.m_replaceToken = m_replaceToken;
+    copy.m_name = m_name;
+    copy.m_batch = m_batch;
+    return copy;
+  }
+
   @Override
   public String toString() {
     StringBuilder b = new StringBuilder();
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.*;
 
 import java.security.AccessController;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -36,6 +37,7 @@ import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.server.commons.context.HttpRunContextProducer;
+import org.eclipse.scout.rt.server.commons.idempotent.DuplicateRequestException;
 import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
 import org.eclipse.scout.rt.server.commons.servlet.logging.ServletDiagnosticsProviderFactory;
 import org.eclipse.scout.rt.server.context.HttpServerRunContextProducer;
@@ -44,6 +46,8 @@ import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.session.ServerSessionCache;
 import org.eclipse.scout.rt.server.session.ServerSessionProvider;
 import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
@@ -171,6 +175,60 @@ public class ServiceTunnelServletTest {
     assertEquals(0, res.getNotifications().size());
   }
 
+  @Test
+  public void testPostBatch() {
+    ServiceTunnelServlet s = new ServiceTunnelServlet();
+    Class[] parameterTypes = new Class[]{String.class};
+    ServiceTunnelRequest req1 = new ServiceTunnelRequest(IPingService.class.getName(), "ping", parameterTypes, new Object[]{"test1"});
+    req1.setUserAgent(UserAgents.createDefault().createIdentifier());
+    ServiceTunnelRequest req2 = new ServiceTunnelRequest(IPingService.class.getName(), "ping", parameterTypes, new Object[]{"test2"});
+    req2.setUserAgent(UserAgents.createDefault().createIdentifier());
+
+    ServiceTunnelResponse res = s.doPost(new ServiceTunnelBatchRequest(Arrays.asList(req1, req2)));
+    assertTrue(res instanceof ServiceTunnelBatchResponse);
+    List<ServiceTunnelResponse> responses = ((ServiceTunnelBatchResponse) res).getResponses();
+    assertEquals(2, responses.size());
+    assertEquals("test1", responses.get(0).getData());
+    assertEquals("test2", responses.get(1).getData());
+    assertNull(responses.get(0).getException());
+    assertNull(responses.get(1).getException());
+  }
+
+  @Test
+  public void testPostBatchFailureOfOneRequest() {
+    final Thread servletThread = Thread.currentThread();
+    final List<Thread> invokingThreads = new ArrayList<>();
+    ServiceTunnelServlet s = new ServiceTunnelServlet() {
+      @Override
+      protected ServiceTunnelResponse doPost(ServiceTunnelRequest serviceRequest) {
+        if (!(serviceRequest instanceof ServiceTunnelBatchRequest)) {
+          synchronized (invokingThreads) {
+            invokingThreads.add(Thread.currentThread());
+          }
+          if ("duplicate".equals(serviceRequest.getArgs()[0])) {
+            throw DuplicateRequestException.create("test", serviceRequest.getRequestSequence());
+          }
+        }
+        return super.doPost(serviceRequest);
+      }
+    };
+    Class[] parameterTypes = new Class[]{String.class};
+    ServiceTunnelRequest req1 = new ServiceTunnelRequest(IPingService.class.getName(), "ping", parameterTypes, new Object[]{"duplicate"});
+    req1.setUserAgent(UserAgents.createDefault().createIdentifier());
+    ServiceTunnelRequest req2 = new ServiceTunnelRequest(IPingService.class.getName(), "ping", parameterTypes, new Object[]{"test2"});
+    req2.setUserAgent(UserAgents.createDefault().createIdentifier());
+
+    ServiceTunnelResponse res = s.doPost(new ServiceTunnelBatchRequest(Arrays.asList(req1, req2)));
+    List<ServiceTunnelResponse> responses = ((ServiceTunnelBatchResponse) res).getResponses();
+    assertEquals(2, responses.size());
+    assertTrue(responses.get(0).getException() instanceof DuplicateRequestException);
+    assertEquals("test2", responses.get(1).getData());
+    assertNull(responses.get(1).getException());
+    // the first request is invoked by the servlet thread
+    assertEquals(2, invokingThreads.size());
+    assertTrue(invokingThreads.contains(servletThread));
+  }
+
   private Answer<IServerSession> slowCreateTestsession(final TestServerSession testSession) {
     return invocation -> {
       Thread.sleep(2000); // simulate long running task
@@ -12,12 +12,14 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.*;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
@@ -74,6 +76,44 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testRegisterUnregisterSessions() {
+    m_queue.registerSession("testSession2", "testUser");
+    m_queue.registerSession("otherSession", "otherUser");
+    assertEquals(CollectionUtility.hashSet("testSession", "testSession2", "otherSession"), m_queue.getAllSessionIds());
+    assertEquals(CollectionUtility.hashSet("testUser", "otherUser"), m_queue.getAllUserIds());
+
+    m_queue.unregisterSession("testSession", "testUser");
+    assertEquals(CollectionUtility.hashSet("testUser", "otherUser"), m_queue.getAllUserIds());
+    m_queue.unregisterSession("testSession2", "testUser");
+    assertEquals(CollectionUtility.hashSet("otherUser"), m_queue.getAllUserIds());
+    assertTrue(m_queue.hasSessions());
+
+    m_queue.unregisterSession("otherSession", "otherUser");
+    assertFalse(m_queue.hasSessions());
+    assertTrue(m_queue.getAllUserIds().isEmpty());
+  }
+
+  @Test
+  public void testRegisterSessionForOtherUser() {
+    m_queue.registerSession("testSession", "otherUser");
+    assertEquals(Collections.singleton("otherUser"), m_queue.getAllUserIds());
+    assertEquals(Collections.singleton("testSession"), m_queue.getAllSessionIds());
+  }
+
+  @Test
+  public void testRelevantNotifications() {
+    m_queue.put(new ClientNotificationMessage(ClientNotificationAddress.createSessionAddress(CollectionUtility.hashSet("unknownSession")), "unknownSession", true, "cid"));
+    m_queue.put(new ClientNotificationMessage(ClientNotificationAddress.createUserAddress(CollectionUtility.hashSet("unknownUser")), "unknownUser", true, "cid"));
+    m_queue.put(new ClientNotificationMessage(ClientNotificationAddress.createSessionAddress(CollectionUtility.hashSet("unknownSession", "testSession")), "session", true, "cid"));
+    m_queue.put(new ClientNotificationMessage(ClientNotificationAddress.createUserAddress(CollectionUtility.hashSet("testUser")), "user", true, "cid"));
+
+    List<ClientNotificationMessage> notifications = m_queue.getNotifications(10, 10, TimeUnit.MILLISECONDS);
+    assertEquals(2, notifications.size());
+    assertEquals("session", notifications.get(0).getNotification());
+    assertEquals("user", notifications.get(1).getNotification());
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
@@ -116,6 +116,22 @@ public class BatchLookupTest {
     testInternal(SubclassedLocalFlowerLookupCallWithMembersWithEqualsOverride.class, 100, 0);
   }
 
+  @Test
+  public void testGroupedByKey() throws Exception {
+    Mockito.doReturn(true).when(m_lookupService).isDataByKeysSupported();
+    Mockito.doAnswer(invocation -> {
+      List<ILookupCall<?>> calls = invocation.getArgument(0);
+      List<List<ILookupRow<Object>>> result = new ArrayList<>();
+      for (ILookupCall<?> call : calls) {
+        result.add(createCallResult(call));
+      }
+      return result;
+    }).when(m_lookupService).getDataByKeys(Mockito.any());
+
+    testInternal(FlowerLookupCallNoMembersWithEqualsOverride.class, 0, 0);
+    Mockito.verify(m_lookupService, Mockito.times(1)).getDataByKeys(Mockito.argThat(calls -> calls.size() == 10));
+  }
+
   private void testInternal(Class<? extends IFlowerLookupCall> callClazz, int expectedLocalInvocations, int expectedServerInvocations) throws Exception {
     m_localInvocations = 0;
     BatchLookupCall batchCall = new BatchLookupCall();
@@ -14,6 +14,8 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.SocketException;
 import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.LongPredicate;
 
@@ -24,7 +26,12 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.transaction.TransactionCancelledError;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.concurrent.AbstractInterruptionError;
@@ -46,6 +53,8 @@ import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry.IRegistratio
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
@@ -179,6 +188,9 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
   }
 
   protected ServiceTunnelResponse doPost(ServiceTunnelRequest serviceRequest) {
+    if (serviceRequest instanceof ServiceTunnelBatchRequest) {
+      return doPostBatch((ServiceTunnelBatchRequest) serviceRequest);
+    }
     if (LOG.isDebugEnabled()) {
       LOG.debug("requestSequence {} {}.{}", serviceRequest.getRequestSequence(), serviceRequest.getServiceInterfaceClassName(), serviceRequest.getOperation());
     }
@@ -196,6 +208,51 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     }
   }
 
+  /**
+   * Invokes the requests of the batch in parallel, each within its own transaction and {@link RunMonitor} so that it
+   * can be cancelled individually. The first request is invoked by the calling thread. Failures are reported in the
+   * response of the failed request only.
+   */
+  protected ServiceTunnelBatchResponse doPostBatch(ServiceTunnelBatchRequest batchRequest) {
+    final List<ServiceTunnelRequest> requests = batchRequest.getRequests();
+    LOG.debug("requestSequence {} batch of {} requests", batchRequest.getRequestSequence(), requests.size());
+    if (requests.isEmpty()) {
+      return new ServiceTunnelBatchResponse(new ArrayList<>());
+    }
+
+    final List<IFuture<ServiceTunnelResponse>> futures = new ArrayList<>(requests.size() - 1);
+    for (final ServiceTunnelRequest serviceRequest : requests.subList(1, requests.size())) {
+      futures.add(Jobs.schedule(() -> doPost(serviceRequest), Jobs.newInput()
+          .withName("Processing batched service request [seq={}]", serviceRequest.getRequestSequence())
+          .withRunContext(createBatchedRequestRunContext())
+          .withExceptionHandling(null, false)));
+    }
+
+    final List<ServiceTunnelResponse> responses = new ArrayList<>(requests.size());
+    try {
+      responses.add(createBatchedRequestRunContext().call(() -> doPost(requests.get(0))));
+    }
+    catch (RuntimeException | AbstractInterruptionError e) { // NOSONAR
+      responses.add(new ServiceTunnelResponse(e));
+    }
+    for (IFuture<ServiceTunnelResponse> future : futures) {
+      try {
+        responses.add(future.awaitDoneAndGet());
+      }
+      catch (RuntimeException | AbstractInterruptionError e) { // NOSONAR
+        responses.add(new ServiceTunnelResponse(e));
+      }
+    }
+    return new ServiceTunnelBatchResponse(responses);
+  }
+
+  protected RunContext createBatchedRequestRunContext() {
+    return ServerRunContexts.copyCurrent()
+        .withRunMonitor(BEANS.get(RunMonitor.class))
+        .withTransactionScope(TransactionScope.REQUIRES_NEW)
+        .withParentRunMonitor(RunMonitor.CURRENT.get());
+  }
+
   protected String interruptInfo(boolean interrupted) {
     return interrupted ? ", thread was interrupted" : ", thread was not interrupted";
   }
@@ -12,19 +12,16 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
@@ -39,6 +36,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A queue for a client node, that keeps track of notifications for that node.
+ * <p>
+ * Sessions and users of the node are kept in a bidirectional index of concurrent maps. Registering, unregistering and
+ * checking the relevance of a notification do not depend on the number of registered sessions and never block the
+ * consumption of notifications.
  */
 @Bean
 public class ClientNotificationNodeQueue {
@@ -49,9 +50,8 @@ public class ClientNotificationNodeQueue {
   private final int m_capacity;
   private final BlockingDeque<ClientNotificationMessage> m_notifications;
 
-  private final ReentrantReadWriteLock m_sessionUserCacheLock = new ReentrantReadWriteLock();
-  private final Set<String /*sessionId*/> m_sessions = new HashSet<>();
-  private final Map<String /*userId*/, Set<String /*sessionId*/>> m_userToSessions = new HashMap<>();
+  private final ConcurrentMap<String /*sessionId*/, String /*userId*/> m_sessionToUser = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String /*userId*/, Set<String /*sessionId*/>> m_userToSessions = new ConcurrentHashMap<>();
   private final AtomicLong m_lastConsumeAccess;
 
   public ClientNotificationNodeQueue() {
@@ -82,40 +82,35 @@ public class ClientNotificationNodeQueue {
   public void registerSession(String sessionId, String userId) {
     Assertions.assertNotNull(sessionId);
     Assertions.assertNotNull(userId);
-    m_sessionUserCacheLock.writeLock().lock();
-    try {
-      m_sessions.add(sessionId);
-      Set<String> userSessions = m_userToSessions.computeIfAbsent(userId, k -> new HashSet<>());
-      userSessions.add(sessionId);
-    }
-    finally {
-      m_sessionUserCacheLock.writeLock().unlock();
+    String previousUserId = m_sessionToUser.put(sessionId, userId);
+    if (previousUserId != null && !previousUserId.equals(userId)) {
+      removeUserSession(previousUserId, sessionId);
     }
+    m_userToSessions.compute(userId, (k, sessions) -> {
+      Set<String> result = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+      result.add(sessionId);
+      return result;
+    });
   }
 
   public void unregisterSession(String sessionId, String userId) {
     Assertions.assertNotNull(sessionId);
     Assertions.assertNotNull(userId);
-    m_sessionUserCacheLock.writeLock().lock();
-    try {
-      m_sessions.remove(sessionId);
-      Iterator<Entry<String, Set<String>>> iterator = m_userToSessions.entrySet().iterator();
-      while (iterator.hasNext()) {
-        Entry<String, Set<String>> entry = iterator.next();
-        Set<String> sessions = entry.getValue();
-        if (sessions.contains(sessionId)) {
-          sessions.remove(sessionId);
-        }
-        if (sessions.isEmpty()) {
-          iterator.remove();
-        }
-      }
-    }
-    finally {
-      m_sessionUserCacheLock.writeLock().unlock();
+    String registeredUserId = m_sessionToUser.remove(sessionId);
+    removeUserSession(userId, sessionId);
+    if (registeredUserId != null && !registeredUserId.equals(userId)) {
+      removeUserSession(registeredUserId, sessionId);
     }
   }
 
+  protected void removeUserSession(String userId, String sessionId) {
+    // atomic for the user: a concurrent registration either sees the removed entry or adds to a new one
+    m_userToSessions.computeIfPresent(userId, (k, sessions) -> {
+      sessions.remove(sessionId);
+      return sessions.isEmpty() ? null : sessions;
+    });
+  }
+
   public void put(ClientNotificationMessage notification) {
     put(CollectionUtility.arrayList(notification));
   }
@@ -194,29 +189,34 @@ public class ClientNotificationNodeQueue {
   public boolean isRelevant(IClientNotificationAddress address) {
     return address.isNotifyAllSessions()
         || address.isNotifyAllNodes()
-        || CollectionUtility.containsAny(getAllSessionIds(), address.getSessionIds())
-        || CollectionUtility.containsAny(getAllUserIds(), address.getUserIds());
+        || containsAny(m_sessionToUser.keySet(), address.getSessionIds())
+        || containsAny(m_userToSessions.keySet(), address.getUserIds());
   }
 
-  public Set<String /*sessionId*/> getAllSessionIds() {
-    m_sessionUserCacheLock.readLock().lock();
-    try {
-      return new HashSet<>(m_sessions);
+  private static boolean containsAny(Set<String> registered, Collection<String> ids) {
+    if (ids == null) {
+      return false;
     }
-    finally {
-      m_sessionUserCacheLock.readLock().unlock();
+    for (String id : ids) {
+      if (id != null && registered.contains(id)) {
+        return true;
+      }
     }
+    return false;
   }
 
-  public Set<String> getAllUserIds() {
-    m_sessionUserCacheLock.readLock().lock();
-    try {
-      return new HashSet<>(m_userToSessions.keySet());
-    }
-    finally {
-      m_sessionUserCacheLock.readLock().unlock();
-    }
+  /**
+   * @return <code>true</code> if at least one session is registered for this node
+   */
+  public boolean hasSessions() {
+    return !m_sessionToUser.isEmpty();
+  }
 
+  public Set<String /*sessionId*/> getAllSessionIds() {
+    return new HashSet<>(m_sessionToUser.keySet());
   }
 
+  public Set<String> getAllUserIds() {
+    return new HashSet<>(m_userToSessions.keySet());
+  }
 }
@@ -79,7 +79,7 @@ public class ClientNotificationRegistry {
     synchronized (m_notificationQueues) {
       ClientNotificationNodeQueue queue = getQueue(nodeId);
       queue.unregisterSession(sessionId, userId);
-      if (queue.getAllSessionIds().isEmpty()) {
+      if (!queue.hasSessions()) {
         m_notificationQueues.remove(nodeId);
       }
     }
@@ -11,15 +11,22 @@
 package org.eclipse.scout.rt.server.services.lookup;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
 import org.eclipse.scout.rt.shared.services.lookup.IBatchLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
 import org.eclipse.scout.rt.shared.services.lookup.IServerBatchLookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
 
 /**
  * Implementation of {@link IBatchLookupService} that can be used in a server.<br>
@@ -31,17 +38,78 @@ import org.eclipse.scout.rt.shared.services.lookup.IServerBatchLookupService;
 @Order(5100)
 public class BatchLookupService implements IServerBatchLookupService {
 
+  private static final ConcurrentMap<Class<?>, Boolean> DEFAULT_DATA_BY_KEY = new ConcurrentHashMap<>();
+
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByKey(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
+    prefetchDataByKeys(calls, cache);
     for (ILookupCall<?> call : calls) {
       result.add(new ArrayList<>(cache.getDataByKey(call)));
     }
     return result;
   }
 
+  /**
+   * Resolves the calls which differ in their key only with a single {@link ILookupService#getDataByKeys(List)} per
+   * group and puts the results into the cache. Only calls of services supporting
+   * {@link ILookupService#isDataByKeysSupported()} are grouped.
+   */
+  @SuppressWarnings("unchecked")
+  protected void prefetchDataByKeys(List<ILookupCall<?>> calls, BatchLookupResultCache cache) {
+    Map<LookupCall<?>, Map<Object, LookupCall<?>>> groups = new LinkedHashMap<>();
+    for (ILookupCall<?> call : calls) {
+      if (!isGroupableByKey(call) || cache.getCachedResult(call) != null) {
+        continue;
+      }
+      LookupCall<?> groupKey = ((LookupCall<?>) call).copy();
+      groupKey.setKey(null);
+      groups.computeIfAbsent(groupKey, k -> new LinkedHashMap<>()).putIfAbsent(call.getKey(), (LookupCall<?>) call);
+    }
+
+    for (Map<Object, LookupCall<?>> group : groups.values()) {
+      if (group.size() < 2) {
+        continue; // resolved by getDataByKey
+      }
+      List<LookupCall> groupCalls = new ArrayList<>(group.values());
+      ILookupService service = groupCalls.get(0).getLookupService();
+      List<List<? extends ILookupRow<?>>> groupResult = service.getDataByKeys(groupCalls);
+      for (int i = 0; i < groupCalls.size(); i++) {
+        cache.putCachedResult(groupCalls.get(i), new ArrayList<>(groupResult.get(i)));
+      }
+    }
+  }
+
+  /**
+   * @return {@code true} if the call is resolved by {@link ILookupService#getDataByKey(ILookupCall)} of a service
+   *         supporting {@link ILookupService#getDataByKeys(List)} and its result may be cached
+   */
+  protected boolean isGroupableByKey(ILookupCall<?> call) {
+    if (!(call instanceof LookupCall) || call.getKey() == null) {
+      return false;
+    }
+    if (!BatchLookupResultCache.isCacheable(call.getClass()) || !DEFAULT_DATA_BY_KEY.computeIfAbsent(call.getClass(), BatchLookupService::isDefaultDataByKey)) {
+      return false;
+    }
+    ILookupService<?> service = ((LookupCall<?>) call).getLookupService();
+    return service != null && service.isDataByKeysSupported();
+  }
+
+  /**
+   * @return {@code true} if {@link LookupCall#getDataByKey()} is not overridden by the given call class (e.g. by a
+   *         {@link org.eclipse.scout.rt.shared.services.lookup.LocalLookupCall})
+   */
+  private static boolean isDefaultDataByKey(Class<?> callClass) {
+    try {
+      return callClass.getMethod("getDataByKey").getDeclaringClass() == LookupCall.class;
+    }
+    catch (NoSuchMethodException e) {
+      throw new PlatformException("Unable to inspect lookup call {}", callClass, e);
+    }
+  }
+
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByText(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
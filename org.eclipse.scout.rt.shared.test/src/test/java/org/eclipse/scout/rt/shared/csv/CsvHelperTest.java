@@ -30,6 +30,7 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -41,11 +42,17 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.util.BomInputStreamReader;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.hamcrest.CoreMatchers;
 import org.junit.After;
 import org.junit.Before;
@@ -189,6 +196,118 @@ public class CsvHelperTest {
     }
   }
 
+  @Test
+  public void testImportDataWithCellsSpanningReadBuffer() {
+    String longText = StringUtility.repeat("x", 10000);
+    StringBuilder csv = new StringBuilder();
+    for (int i = 0; i < 3; i++) {
+      csv.append(longText).append(",\"a,\"\"b\"\"\nc\",").append(i).append('\n');
+    }
+    csv.append(",\"\",\r\n");
+
+    Object[][] result = m_csvHelper.importData(new StringReader(csv.toString()), 0, null, -1);
+    assertEquals(4, result.length);
+    for (int i = 0; i < 3; i++) {
+      assertArrayEquals(new Object[]{longText, "a,\"b\"\nc", String.valueOf(i)}, result[i]);
+    }
+    assertArrayEquals(new Object[]{null, null, null}, result[3]);
+  }
+
+  @Test
+  public void testStreamDataParallel() {
+    StringBuilder csv = new StringBuilder("id,name\ninteger,string\n");
+    for (int i = 0; i < 5000; i++) {
+      csv.append(i).append(",name").append(i).append('\n');
+    }
+
+    List<List<Object>> rows = new ArrayList<>();
+    try (Stream<List<Object>> stream = m_csvHelper.streamData(new StringReader(csv.toString()), true, true, 2, false)) {
+      stream.parallel().forEachOrdered(rows::add);
+    }
+    assertEquals(Arrays.asList("id", "name"), m_csvHelper.getColumnNames());
+    assertEquals(5000, rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      assertEquals(Arrays.asList((long) i, "name" + i), rows.get(i));
+    }
+  }
+
+  @Test
+  public void testStreamDataParallelDoesNotReadAhead() throws IOException {
+    int rowCount = 50000;
+    StringBuilder csv = new StringBuilder();
+    for (int i = 0; i < rowCount; i++) {
+      csv.append(i).append(",name").append(i).append('\n');
+    }
+    AtomicInteger readRows = new AtomicInteger();
+    Reader reader = new StringReader(csv.toString()) {
+      @Override
+      public int read(char[] cbuf, int off, int len) throws IOException {
+        int n = super.read(cbuf, off, len);
+        for (int i = off; i < off + n; i++) {
+          if (cbuf[i] == '\n') {
+            readRows.incrementAndGet();
+          }
+        }
+        return n;
+      }
+    };
+
+    // rows in batches not consumed yet, the batch currently split off and one read buffer (at least 8 chars per row)
+    int maxReadAhead = (CsvHelper.STREAM_MAX_BATCHES + 1) * 1024 + 8192 / 8;
+    AtomicInteger consumedRows = new AtomicInteger();
+    AtomicInteger maxObservedReadAhead = new AtomicInteger();
+    try (Stream<List<Object>> stream = m_csvHelper.streamData(reader, false, false, 0, false)) {
+      stream.parallel().forEach(row -> {
+        LockSupport.parkNanos(10000); // consumer is slower than the reader
+        int consumed = consumedRows.incrementAndGet();
+        maxObservedReadAhead.accumulateAndGet(readRows.get() - consumed, Math::max);
+      });
+    }
+    assertEquals(rowCount, consumedRows.get());
+    assertTrue("read ahead " + maxObservedReadAhead.get(), maxObservedReadAhead.get() <= maxReadAhead);
+  }
+
+  @Test
+  public void testStreamDataParallelShortCircuit() {
+    StringBuilder csv = new StringBuilder();
+    for (int i = 0; i < 50000; i++) {
+      csv.append(i).append('\n');
+    }
+    try (Stream<List<Object>> stream = m_csvHelper.streamData(new StringReader(csv.toString()), false, false, 0, false)) {
+      assertTrue(stream.parallel().anyMatch(row -> "100".equals(row.get(0))));
+    }
+  }
+
+  @Test
+  public void testImportRowOverridden() {
+    List<Reader> readers = new ArrayList<>();
+    CsvHelper csvHelper = new CsvHelper(null, ',', '"', "\n") {
+      @Override
+      protected List<String> importRow(Reader reader) throws IOException {
+        readers.add(reader);
+        return super.importRow(reader);
+      }
+    };
+    Object[][] data = csvHelper.importData(new StringReader("a,b\nc,d\n"), 0, null, -1);
+    assertArrayEquals(new Object[][]{{"a", "b"}, {"c", "d"}}, data);
+    assertEquals(3, readers.size()); // two rows and the end of the input
+  }
+
+  @Test
+  public void testExportDataStream() {
+    Object[][] data = IntStream.range(0, 100)
+        .mapToObj(i -> new Object[]{"a" + i, "b,\"" + i, null})
+        .toArray(Object[][]::new);
+
+    StringWriter expected = new StringWriter();
+    new CsvHelper().exportData(data, expected, Arrays.asList("a", "b", "c"), true, null, false);
+    StringWriter actual = new StringWriter();
+    m_csvHelper.exportData(Arrays.stream(data), actual, Arrays.asList("a", "b", "c"), true, null, false);
+
+    assertEquals(expected.toString(), actual.toString());
+    assertEquals("a,b,c\na0,\"b,\"\"0\",\n", Arrays.stream(actual.toString().split("\n")).limit(2).collect(Collectors.joining("\n", "", "\n")));
+  }
+
   private void export(Object[][] data) {
     m_csvHelper.exportData(data, m_testFile, StandardCharsets.UTF_8.name(), m_columnNames, true, null, false);
   }
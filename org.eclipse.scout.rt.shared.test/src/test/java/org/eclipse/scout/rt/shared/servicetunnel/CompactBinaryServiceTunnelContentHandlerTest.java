@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link CompactBinaryServiceTunnelContentHandler}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactBinaryServiceTunnelContentHandlerTest {
+
+  @Test
+  public void testRequest() throws Exception {
+    CompactBinaryServiceTunnelContentHandler handler = createHandler(true);
+    ServiceTunnelRequest request = new ServiceTunnelRequest("test", "op", new Class[]{long.class, String[].class, Serializable.class}, new Object[]{42L, new String[]{"a", "b"}, null});
+    request.setSessionId("session");
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, request);
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+
+    assertEquals("test", readRequest.getServiceInterfaceClassName());
+    assertEquals("op", readRequest.getOperation());
+    assertEquals("session", readRequest.getSessionId());
+    assertEquals(request.getRequestSequence(), readRequest.getRequestSequence());
+    assertArrayEquals(request.getParameterTypes(), readRequest.getParameterTypes());
+    assertEquals(42L, readRequest.getArgs()[0]);
+    assertArrayEquals(new String[]{"a", "b"}, (String[]) readRequest.getArgs()[1]);
+  }
+
+  @Test
+  public void testResponse() throws Exception {
+    for (boolean compressed : new boolean[]{true, false}) {
+      CompactBinaryServiceTunnelContentHandler handler = createHandler(compressed);
+      List<P_Row> rows = createRows(100);
+
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      handler.writeResponse(bos, new ServiceTunnelResponse(rows));
+      ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+
+      assertEquals(rows, readResponse.getData());
+    }
+  }
+
+  @Test
+  public void testBatchResponse() throws Exception {
+    CompactBinaryServiceTunnelContentHandler handler = createHandler(true);
+    ServiceTunnelBatchResponse response = new ServiceTunnelBatchResponse(Arrays.asList(new ServiceTunnelResponse("data"), new ServiceTunnelResponse(new ProcessingException("failed"))));
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, response);
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+
+    assertTrue(readResponse instanceof ServiceTunnelBatchResponse);
+    List<ServiceTunnelResponse> responses = ((ServiceTunnelBatchResponse) readResponse).getResponses();
+    assertEquals("data", responses.get(0).getData());
+    assertEquals("failed", ((ProcessingException) responses.get(1).getException()).getStatus().getBody());
+  }
+
+  @Test
+  public void testSmallerThanBinary() throws Exception {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(createRows(500));
+
+    ByteArrayOutputStream compact = new ByteArrayOutputStream();
+    createHandler(false).writeResponse(compact, response);
+
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler() {
+      @Override
+      protected boolean isUseCompression() {
+        return false;
+      }
+    };
+    binaryHandler.initialize();
+    ByteArrayOutputStream binary = new ByteArrayOutputStream();
+    binaryHandler.writeResponse(binary, response);
+
+    assertTrue("compact: " + compact.size() + ", binary: " + binary.size(), compact.size() < binary.size() * 0.7);
+  }
+
+  @Test
+  public void testTableRows() throws Exception {
+    CompactBinaryServiceTunnelContentHandler handler = createHandler(true);
+    P_TableRowData row = new P_TableRowData();
+    row.setRowState(AbstractTableRowData.STATUS_UPDATED);
+    row.setCustomValue("custom", "value");
+    row.m_id = 42L;
+    row.m_name = "name";
+    row.m_active = true;
+    row.m_count = 7;
+    row.m_ratio = 0.5;
+    row.m_date = new Date(1600000000000L);
+    row.m_amount = BigDecimal.valueOf(1234, 2);
+    P_TableRowData emptyRow = new P_TableRowData();
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(new P_TableRowData[]{row, emptyRow, row}));
+    P_TableRowData[] readRows = (P_TableRowData[]) handler.readResponse(new ByteArrayInputStream(bos.toByteArray())).getData();
+
+    assertEquals(3, readRows.length);
+    P_TableRowData readRow = readRows[0];
+    assertEquals(AbstractTableRowData.STATUS_UPDATED, readRow.getRowState());
+    assertEquals("value", readRow.getCustomValue("custom"));
+    assertEquals(Long.valueOf(42L), readRow.m_id);
+    assertEquals("name", readRow.m_name);
+    assertEquals(Boolean.TRUE, readRow.m_active);
+    assertEquals(Integer.valueOf(7), readRow.m_count);
+    assertEquals(Double.valueOf(0.5), readRow.m_ratio);
+    assertEquals(new Date(1600000000000L), readRow.m_date);
+    assertEquals(BigDecimal.valueOf(1234, 2), readRow.m_amount);
+    assertNull(readRows[1].m_id);
+    assertNull(readRows[1].m_active);
+    assertNull(readRows[1].getCustomValues());
+    assertSame(readRow, readRows[2]);
+  }
+
+  @Test
+  public void testTableRowsSmallerThanBinary() throws Exception {
+    P_TableRowData[] rows = new P_TableRowData[500];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = new P_TableRowData();
+      rows[i].m_id = (long) i;
+      rows[i].m_name = "status" + (i % 3);
+      rows[i].m_active = i % 2 == 0;
+      rows[i].m_count = i;
+      rows[i].m_date = new Date(1600000000000L + i);
+    }
+    ServiceTunnelResponse response = new ServiceTunnelResponse(rows);
+
+    ByteArrayOutputStream compact = new ByteArrayOutputStream();
+    createHandler(false).writeResponse(compact, response);
+
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler() {
+      @Override
+      protected boolean isUseCompression() {
+        return false;
+      }
+    };
+    binaryHandler.initialize();
+    ByteArrayOutputStream binary = new ByteArrayOutputStream();
+    binaryHandler.writeResponse(binary, response);
+
+    assertTrue("compact: " + compact.size() + ", binary: " + binary.size(), compact.size() < binary.size() * 0.5);
+  }
+
+  @Test(expected = IOException.class)
+  public void testRejectsOtherFormat() throws Exception {
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+    binaryHandler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    binaryHandler.writeResponse(bos, new ServiceTunnelResponse("data"));
+
+    createHandler(true).readResponse(new ByteArrayInputStream(bos.toByteArray()));
+  }
+
+  protected CompactBinaryServiceTunnelContentHandler createHandler(final boolean compressed) {
+    CompactBinaryServiceTunnelContentHandler handler = new CompactBinaryServiceTunnelContentHandler() {
+      @Override
+      protected boolean isUseCompression() {
+        return compressed;
+      }
+    };
+    handler.initialize();
+    return handler;
+  }
+
+  protected List<P_Row> createRows(int count) {
+    List<P_Row> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      rows.add(new P_Row(i, "status" + (i % 3), new String("Company " + (i % 10)), BigDecimal.valueOf(i * 1000L, 2), new Date(1600000000000L + i)));
+    }
+    return rows;
+  }
+
+  private static class P_TableRowData extends AbstractTableRowData {
+    private static final long serialVersionUID = 1L;
+
+    private Long m_id;
+    private String m_name;
+    private Boolean m_active;
+    private Integer m_count;
+    private Double m_ratio;
+    private Date m_date;
+    private BigDecimal m_amount;
+  }
+
+  private static class P_Row implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long m_id;
+    private final String m_status;
+    private final String m_company;
+    private final BigDecimal m_amount;
+    private final Date m_date;
+
+    P_Row(long id, String status, String company, BigDecimal amount, Date date) {
+      m_id = id;
+      m_status = status;
+      m_company = company;
+      m_amount = amount;
+      m_date = date;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(m_id);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof P_Row)) {
+        return false;
+      }
+      P_Row other = (P_Row) obj;
+      return m_id == other.m_id
+          && m_status.equals(other.m_status)
+          && m_company.equals(other.m_company)
+          && m_amount.equals(other.m_amount)
+          && m_date.equals(other.m_date);
+    }
+  }
+}
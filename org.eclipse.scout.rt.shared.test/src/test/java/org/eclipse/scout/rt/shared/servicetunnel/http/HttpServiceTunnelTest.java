@@ -16,13 +16,23 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
 import org.eclipse.scout.rt.shared.http.AbstractHttpTransportManager;
 import org.eclipse.scout.rt.shared.http.IHttpTransportBuilder;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
@@ -31,6 +41,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpResponse;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.testing.http.MockHttpTransport;
 import com.google.api.client.testing.http.MockLowLevelHttpResponse;
@@ -74,6 +85,74 @@ public class HttpServiceTunnelTest {
     assertEquals(401, ((HttpServiceTunnelException) response.getException()).getHttpStatus());
   }
 
+  @Test
+  public void testTunnelBatched() throws IOException {
+    when(mockUrl.getValue()).thenReturn("http://localhost");
+    MockLowLevelHttpResponse expectedResponse = new MockLowLevelHttpResponse().setContent(serialize(new ServiceTunnelBatchResponse(Arrays.asList(
+        new ServiceTunnelResponse("data1"),
+        new ServiceTunnelResponse("data2")))));
+    final List<ServiceTunnelRequest> sentRequests = new CopyOnWriteArrayList<>();
+    final HttpServiceTunnel delegate = createHttpServiceTunnel(expectedResponse);
+    delegate.setContentHandler(getTestContentHandler());
+    HttpServiceTunnel tunnel = new HttpServiceTunnel() {
+
+      @Override
+      protected ServiceTunnelRequestBatcher createRequestBatcher() {
+        return new ServiceTunnelRequestBatcher(this, 10000L, 2); // batch is sent as soon as it is full
+      }
+
+      @Override
+      protected HttpResponse executeRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+        sentRequests.add(call);
+        return delegate.executeRequest(call, callData);
+      }
+    };
+    tunnel.setContentHandler(getTestContentHandler());
+
+    ServiceTunnelRequest request1 = new ServiceTunnelRequest("IPingService", "ping", null, null);
+    request1.setSessionId("session");
+    ServiceTunnelRequest request2 = new ServiceTunnelRequest("IPingService", "ping", null, null);
+    request2.setSessionId("session");
+    IFuture<ServiceTunnelResponse> future1 = Jobs.schedule(() -> tunnel.tunnel(request1), Jobs.newInput().withRunContext(RunContexts.copyCurrent()));
+    ServiceTunnelResponse response2 = tunnel.tunnel(request2);
+
+    // the order of the responses depends on which call was added to the batch first
+    ServiceTunnelResponse response1 = future1.awaitDoneAndGet();
+    assertEquals(1, sentRequests.size());
+    assertTrue(sentRequests.get(0) instanceof ServiceTunnelBatchRequest);
+    List<ServiceTunnelRequest> batch = ((ServiceTunnelBatchRequest) sentRequests.get(0)).getRequests();
+    assertEquals(batch.indexOf(request1) == 0 ? "data1" : "data2", response1.getData());
+    assertEquals(batch.indexOf(request2) == 0 ? "data1" : "data2", response2.getData());
+  }
+
+  @Test
+  public void testBatchOnlyRequestsWithSameLocale() {
+    final List<ServiceTunnelRequestBatcher.P_Batch> scheduledBatches = new ArrayList<>();
+    ServiceTunnelRequestBatcher batcher = new ServiceTunnelRequestBatcher(null, 10000L, 2) {
+      @Override
+      protected void scheduleSend(P_Batch batch, long delayMillis) {
+        scheduledBatches.add(batch);
+      }
+    };
+
+    batcher.submit(createSessionRequest(Locale.GERMAN));
+    batcher.submit(createSessionRequest(Locale.ENGLISH));
+    batcher.submit(createSessionRequest(Locale.GERMAN));
+
+    // new batch for each locale, then the german batch is full
+    assertEquals(3, scheduledBatches.size());
+    assertNotSame(scheduledBatches.get(0), scheduledBatches.get(1));
+    assertSame(scheduledBatches.get(0), scheduledBatches.get(2));
+  }
+
+  protected ServiceTunnelRequest createSessionRequest(Locale locale) {
+    ServiceTunnelRequest request = RunContexts.copyCurrent()
+        .withLocale(locale)
+        .call(() -> new ServiceTunnelRequest("IPingService", "ping", null, null));
+    request.setSessionId("session");
+    return request;
+  }
+
   protected HttpServiceTunnel createHttpServiceTunnel(final MockLowLevelHttpResponse expectedResponse) {
     HttpServiceTunnel tunnel = new HttpServiceTunnel() {
 
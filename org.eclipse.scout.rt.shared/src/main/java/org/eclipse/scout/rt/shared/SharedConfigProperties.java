@@ -18,6 +18,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBinaryConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractSubjectConfigProperty;
@@ -270,4 +271,17 @@ public final class SharedConfigProperties {
       return false;
     }
   }
+
+  public static class CodeTypeCacheMaxSizeProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public String description() {
+      return "Maximum number of code types held in the cache of the CodeService. If not set, the cache is unbounded. This property is not set by default.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.codeTypeCache.maxSize";
+    }
+  }
 }
@@ -33,11 +33,22 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.util.BomInputStreamReader;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.NumberFormatProvider;
@@ -49,6 +60,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Helper for reading and writing CSV data. <br/>
  * Consider using {@link BomInputStreamReader} when working with unicode encoded input data.
+ * <p>
+ * Data is read and written row by row, hence large files may be imported using {@link #importData(IDataConsumer,
+ * Reader, boolean, boolean, int, int, boolean)} or {@link #streamData(Reader, boolean, boolean, int, boolean)} and
+ * exported using {@link #exportData(Stream, Writer, List, boolean, List, boolean)} without holding all rows in memory.
  */
 public class CsvHelper {
   /**
@@ -56,6 +71,10 @@ public class CsvHelper {
    */
   public static final String IGNORED_COLUMN_NAME = "null";
   private static final Logger LOG = LoggerFactory.getLogger(CsvHelper.class);
+  private static final int READ_BUFFER_SIZE = 8192;
+  private static final int STREAM_BATCH_SIZE = 1024;
+  static final int STREAM_MAX_BATCHES = 8;
+  private static final long STREAM_SPLIT_TIMEOUT_MILLIS = 1000L;
 
   private final Locale m_locale;
   private final char m_separatorChar;// ";"
@@ -246,56 +265,19 @@ public class CsvHelper {
    *          true if not all lines have the same number of columns
    */
   public void importData(IDataConsumer dataConsumer, Reader reader, boolean readNameHeader, boolean readTypeHeader, int headerRowCount, int rowCount, boolean allowVariableColumnCount) {
-    String cell = null;
-    int colIndex = 0;
     int lineNr = -1;
     if (rowCount < 0) {
       rowCount = Integer.MAX_VALUE;
     }
     try {
-      if (readNameHeader) {
-        List<String> list = importRow(reader);
-        if (list != null) {
-          setColumnNames(list);
-        }
-        headerRowCount--;
-      }
-      if (readTypeHeader) {
-        List<String> list = importRow(reader);
-        if (list != null) {
-          setColumnTypes(list);
-        }
-        headerRowCount--;
-      }
-      while (headerRowCount > 0) {
-        importRow(reader);
-        headerRowCount--;
-      }
+      RowTokenizer tokenizer = createRowTokenizer(reader);
+      importHeaderRows(tokenizer, readNameHeader, readTypeHeader, headerRowCount);
       // data
+      RowConverter converter = new RowConverter(allowVariableColumnCount);
       List<String> cellList;
       lineNr = 1;
-      while (lineNr <= rowCount && (cellList = importRow(reader)) != null) {
-        // fill up with empty row if allowed
-        while (allowVariableColumnCount && (cellList.size() < getColumnNames().size())) {
-          cellList.add(cellList.size(), null);
-        }
-        // convert data types
-        List<Object> objList = new ArrayList<>(cellList.size());
-        for (colIndex = 0; colIndex < cellList.size(); colIndex++) {
-          if (m_ignoredColumns == null || m_ignoredColumns.length == 0 || m_ignoredColumns.length < colIndex || !m_ignoredColumns[colIndex]) {
-            cell = cellList.get(colIndex);
-            try { // NOSONAR
-              objList.add(importCell(cell, getColumnFormat(colIndex)));
-            }
-            catch (RuntimeException e) {
-              throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
-                  .withContextInfo("cell", cell)
-                  .withContextInfo("colIndex", colIndex);
-            }
-          }
-        }
-        // add row to data
-        dataConsumer.processRow(lineNr, objList);
+      while (lineNr <= rowCount && (cellList = tokenizer.nextRow()) != null) {
+        dataConsumer.processRow(lineNr, converter.convert(cellList));
         lineNr++;
       }
     }
@@ -305,6 +287,74 @@ public class CsvHelper {
     }
   }
 
+  /**
+   * Reads the header rows and returns the data rows as a lazily populated stream, i.e. a row is read from the reader not
+   * before it is consumed from the stream. The reader must therefore not be closed before the stream is consumed.
+   * <p>
+   * The stream is ordered. If it is turned into a parallel stream, the rows are still read sequentially but converted
+   * concurrently (in batches), terminal operations such as {@link Stream#forEachOrdered(Consumer)} keep the order of the
+   * rows. At most a fixed number of batches is read ahead of the consumption of the stream.
+   *
+   * @param reader
+   *          read data from
+   * @param readNameHeader
+   *          stream contains a column header line
+   * @param readTypeHeader
+   *          stream contains a column type line
+   * @param headerRowCount
+   *          total number of header lines
+   * @param allowVariableColumnCount
+   *          true if not all lines have the same number of columns
+   * @since 11.0
+   */
+  public Stream<List<Object>> streamData(Reader reader, boolean readNameHeader, boolean readTypeHeader, int headerRowCount, boolean allowVariableColumnCount) {
+    RowTokenizer tokenizer = createRowTokenizer(reader);
+    try {
+      importHeaderRows(tokenizer, readNameHeader, readTypeHeader, headerRowCount);
+    }
+    catch (IOException e) {
+      throw new ProcessingException("reading header rows", e);
+    }
+    return StreamSupport.stream(new RowSpliterator(tokenizer, new RowConverter(allowVariableColumnCount)), false);
+  }
+
+  /**
+   * @return tokenizer splitting the reader into rows. If {@link #importRow(Reader)} is overridden, the rows are read by
+   *         that method.
+   */
+  protected RowTokenizer createRowTokenizer(Reader reader) {
+    if (ConfigurationUtility.isMethodOverwrite(CsvHelper.class, "importRow", new Class[]{Reader.class}, getClass())) {
+      return new RowTokenizer(reader) {
+        @Override
+        public List<String> nextRow() throws IOException {
+          return importRow(reader);
+        }
+      };
+    }
+    return new RowTokenizer(reader);
+  }
+
+  protected void importHeaderRows(RowTokenizer tokenizer, boolean readNameHeader, boolean readTypeHeader, int headerRowCount) throws IOException {
+    if (readNameHeader) {
+      List<String> list = tokenizer.nextRow();
+      if (list != null) {
+        setColumnNames(list);
+      }
+      headerRowCount--;
+    }
+    if (readTypeHeader) {
+      List<String> list = tokenizer.nextRow();
+      if (list != null) {
+        setColumnTypes(list);
+      }
+      headerRowCount--;
+    }
+    while (headerRowCount > 0) {
+      tokenizer.nextRow();
+      headerRowCount--;
+    }
+  }
+
   public void exportData(Object[][] data, File f, String encoding, List<String> columnNames, boolean writeColumnNames, List<String> columnTypes, boolean writeColumnTypes) {
     if (encoding == null) {
       encoding = StandardCharsets.UTF_8.name();
@@ -318,6 +368,16 @@ public class CsvHelper {
   }
 
   public void exportData(Object[][] data, Writer writer, List<String> columnNames, boolean writeColumnNames, List<String> columnTypes, boolean writeColumnTypes) {
+    exportData(Arrays.stream(data), writer, columnNames, writeColumnNames, columnTypes, writeColumnTypes);
+  }
+
+  /**
+   * Writes the header rows and all rows of the given stream to the writer and closes it. The rows are written in
+   * encounter order of the stream, while they are consumed.
+   *
+   * @since 11.0
+   */
+  public void exportData(Stream<Object[]> data, Writer writer, List<String> columnNames, boolean writeColumnNames, List<String> columnTypes, boolean writeColumnTypes) {
     try {
       if (columnNames != null) {
         setColumnNames(columnNames);
@@ -326,9 +386,8 @@ public class CsvHelper {
         setColumnTypes(columnTypes);
       }
       exportHeaderRows(writer, writeColumnNames, writeColumnTypes);
-      for (Object[] row : data) {
-        exportDataRow(row, writer, false);
-      }
+      Format[] formats = resolveColumnFormats();
+      data.forEachOrdered(row -> writeDataRow(row, writer, formats));
     }
     finally {
       try {
@@ -388,23 +447,8 @@ public class CsvHelper {
    *           Writes data rows to the writer.
    */
   public void exportDataRow(Object[] row, Writer writer, boolean closeWriter) {
-    String line = null;
-    Object val = null;
-    String cell = null;
     try {
-      List<String> rowStrings = new ArrayList<>();
-      rowStrings.clear();
-      for (int i = 0; i < row.length; i++) {
-        val = row[i];
-        cell = exportCell(val, getColumnFormat(i));
-        rowStrings.add(cell);
-      }
-      line = exportRow(rowStrings);
-      writer.write(line);
-      writer.write(getLineSeparator());
-    }
-    catch (IOException e) {
-      throw new ProcessingException("line=" + Arrays.asList(row), e);
+      writeDataRow(row, writer, null);
     }
     finally {
       if (closeWriter) {
@@ -418,6 +462,46 @@ public class CsvHelper {
     }
   }
 
+  /**
+   * Writes the cells of the row directly to the writer.
+   *
+   * @param formats
+   *          format of each column (see {@link #resolveColumnFormats()}) or {@code null} to use
+   *          {@link #getColumnFormat(int)}
+   */
+  protected void writeDataRow(Object[] row, Writer writer, Format[] formats) {
+    try {
+      for (int i = 0; i < row.length; i++) {
+        if (i > 0 && getSeparatorChar() != 0x00) {
+          writer.write(getSeparatorChar());
+        }
+        Format f;
+        if (formats == null) {
+          f = getColumnFormat(i);
+        }
+        else {
+          f = i < formats.length ? formats[i] : null;
+        }
+        writer.write(encodeText(exportCell(row[i], f)));
+      }
+      writer.write(getLineSeparator());
+    }
+    catch (IOException e) {
+      throw new ProcessingException("line=" + Arrays.asList(row), e);
+    }
+  }
+
+  /**
+   * @return the format of each column according to {@link #getColumnFormat(int)}, the array is indexed by column
+   */
+  protected Format[] resolveColumnFormats() {
+    Format[] formats = new Format[Math.max(getColCount(), m_colFormat.size())];
+    for (int i = 0; i < formats.length; i++) {
+      formats[i] = getColumnFormat(i);
+    }
+    return formats;
+  }
+
   protected Format getColumnFormat(int colIndex) {
     if (colIndex < m_colFormat.size()) {
       return m_colFormat.get(colIndex);
@@ -427,6 +511,13 @@ public class CsvHelper {
     }
   }
 
+  /**
+   * Reads the cells of the next row. If a subclass overrides this method, {@link #importData(IDataConsumer, Reader,
+   * boolean, boolean, int, int, boolean)} and {@link #streamData(Reader, boolean, boolean, int, boolean)} read all rows
+   * by this method instead of the buffered {@link RowTokenizer}.
+   *
+   * @return the cells of the next row or {@code null} if the end of the reader is reached
+   */
   protected List<String> importRow(Reader reader) throws IOException {
     List<String> cellList = new ArrayList<>(Math.max(getColCount(), 2));
     boolean inString = false;
@@ -549,7 +640,9 @@ public class CsvHelper {
       if (text.charAt(0) == getTextDelimiterChar() && text.charAt(text.length() - 1) == getTextDelimiterChar()) {
         text = text.substring(1, text.length() - 1);
       }
-      text = stringReplace(text, "" + getTextDelimiterChar() + getTextDelimiterChar(), "" + getTextDelimiterChar());
+      if (text.indexOf(getTextDelimiterChar()) >= 0) {
+        text = stringReplace(text, "" + getTextDelimiterChar() + getTextDelimiterChar(), "" + getTextDelimiterChar());
+      }
     }
     return text;
   }
@@ -559,17 +652,20 @@ public class CsvHelper {
     if (s == null || sOld == null) {
       return s;
     }
-    StringBuilder buf = new StringBuilder();
+    int i = s.indexOf(sOld);
+    if (i < 0) {
+      return s;
+    }
+    StringBuilder buf = new StringBuilder(s.length());
     int oldLen = sOld.length();
     int pos = 0;
-    int i = s.indexOf(sOld);
     while (i >= 0) {
-      buf.append(s.substring(pos, i));
+      buf.append(s, pos, i);
       buf.append(sNew);
       pos = i + oldLen;
       i = s.indexOf(sOld, pos);
     }
-    buf.append(s.substring(pos));
+    buf.append(s, pos, s.length());
     return buf.toString();
   }
 
@@ -602,4 +698,377 @@ public class CsvHelper {
       throw new ProcessingException("reading header row", e);
     }
   }
+
+  /**
+   * Splits a reader into rows of cell tokens. The characters are read in blocks into a buffer, a cell is created from
+   * the buffer without intermediate copies unless it spans two blocks.
+   */
+  protected class RowTokenizer {
+    private final Reader m_reader;
+    private final char[] m_buf = new char[READ_BUFFER_SIZE];
+    private final StringBuilder m_overflow = new StringBuilder();
+    private int m_pos;
+    private int m_len;
+    private int m_tokenStart = -1;
+
+    public RowTokenizer(Reader reader) {
+      m_reader = reader;
+    }
+
+    /**
+     * @return the cells of the next row (see {@link CsvHelper#importRow(Reader)}) or {@code null} if the end of the
+     *         reader is reached
+     */
+    public List<String> nextRow() throws IOException {
+      int ch = read();
+      while (ch == '\n' || ch == '\r') {
+        ch = read();
+      }
+      if (ch < 0) {
+        return null;
+      }
+      List<String> cellList = new ArrayList<>(Math.max(getColCount(), 2));
+      char separatorChar = getSeparatorChar();
+      char textDelimiterChar = getTextDelimiterChar();
+      boolean inString = false;
+      m_tokenStart = m_pos - 1;
+      while (true) {
+        if (ch >= 0 && inString) {
+          if (ch == textDelimiterChar) {
+            inString = false;
+          }
+        }
+        else if (ch == separatorChar || ch < 0 || ch == '\n' || ch == '\r') {
+          // the current character is not part of the token
+          cellList.add(decodeText(consumeToken(ch < 0 ? m_pos : m_pos - 1)));
+          if (ch < 0 || ch == '\n' || ch == '\r') {
+            break;
+          }
+          m_tokenStart = m_pos;
+        }
+        else if (ch == textDelimiterChar) {
+          inString = true;
+        }
+        ch = read();
+      }
+      return cellList;
+    }
+
+    protected int read() throws IOException {
+      if (m_pos >= m_len) {
+        if (m_tokenStart >= 0) {
+          // keep the part of the current token which is in the buffer
+          m_overflow.append(m_buf, m_tokenStart, m_len - m_tokenStart);
+          m_tokenStart = 0;
+        }
+        m_pos = 0;
+        m_len = Math.max(m_reader.read(m_buf, 0, m_buf.length), 0);
+        if (m_len == 0) {
+          return -1;
+        }
+      }
+      return m_buf[m_pos++];
+    }
+
+    /**
+     * @return the token from the token start up to {@code end} with enclosing text delimiters removed or {@code null} if
+     *         it is empty
+     */
+    protected String consumeToken(int end) {
+      char textDelimiterChar = getTextDelimiterChar();
+      int start = m_tokenStart;
+      m_tokenStart = -1;
+      if (m_overflow.length() > 0) {
+        m_overflow.append(m_buf, start, end - start);
+        String token = m_overflow.toString();
+        m_overflow.setLength(0);
+        int tokenLen = token.length();
+        if (tokenLen >= 2 && token.charAt(0) == textDelimiterChar && token.charAt(tokenLen - 1) == textDelimiterChar) {
+          token = token.substring(1, tokenLen - 1);
+        }
+        return token.isEmpty() ? null : token;
+      }
+      if (end - start >= 2 && m_buf[start] == textDelimiterChar && m_buf[end - 1] == textDelimiterChar) {
+        start++;
+        end--;
+      }
+      return end > start ? new String(m_buf, start, end - start) : null;
+    }
+  }
+
+  /**
+   * Converts the cells of a row according to the column formats, which are resolved once per converter. Not thread
+   * safe, see {@link #copy()}.
+   */
+  private class RowConverter {
+    private final boolean m_allowVariableColumnCount;
+    private final int m_columnNameCount;
+    private final Format[] m_formats;
+    private final boolean[] m_ignored;
+
+    RowConverter(boolean allowVariableColumnCount) {
+      m_allowVariableColumnCount = allowVariableColumnCount;
+      m_columnNameCount = m_colNames != null ? m_colNames.size() : 0;
+      m_formats = resolveColumnFormats();
+      m_ignored = m_ignoredColumns != null ? m_ignoredColumns.clone() : new boolean[0];
+    }
+
+    private RowConverter(RowConverter template) {
+      m_allowVariableColumnCount = template.m_allowVariableColumnCount;
+      m_columnNameCount = template.m_columnNameCount;
+      m_formats = new Format[template.m_formats.length];
+      for (int i = 0; i < m_formats.length; i++) {
+        m_formats[i] = template.m_formats[i] != null ? (Format) template.m_formats[i].clone() : null;
+      }
+      m_ignored = template.m_ignored;
+    }
+
+    /**
+     * @return a converter with its own copy of the formats
+     */
+    RowConverter copy() {
+      return new RowConverter(this);
+    }
+
+    List<Object> convert(List<String> cellList) {
+      // fill up with empty row if allowed
+      while (m_allowVariableColumnCount && cellList.size() < m_columnNameCount) {
+        cellList.add(null);
+      }
+      // convert data types
+      List<Object> objList = new ArrayList<>(cellList.size());
+      for (int colIndex = 0; colIndex < cellList.size(); colIndex++) {
+        if (colIndex >= m_ignored.length || !m_ignored[colIndex]) {
+          String cell = cellList.get(colIndex);
+          try {
+            objList.add(importCell(cell, colIndex < m_formats.length ? m_formats[colIndex] : null));
+          }
+          catch (RuntimeException e) {
+            throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                .withContextInfo("cell", cell)
+                .withContextInfo("colIndex", colIndex);
+          }
+        }
+      }
+      return objList;
+    }
+  }
+
+  private static final class RawRow {
+    private final int m_lineNr;
+    private final List<String> m_cells;
+
+    RawRow(int lineNr, List<String> cells) {
+      m_lineNr = lineNr;
+      m_cells = cells;
+    }
+  }
+
+  /**
+   * Ordered source of the converted rows of a {@link RowTokenizer}. Splits off batches of a fixed size, so that rows are
+   * converted in parallel. At most {@link #STREAM_MAX_BATCHES} batches are read ahead: a split waits until a batch is
+   * consumed. If no batch is consumed in time (e.g. because a short-circuiting operation cancelled the remaining
+   * batches), no further batch is split off and the remaining rows are read and converted one by one.
+   * <p>
+   * Formats are not thread safe, hence each batch borrows a converter from the pool of this spliterator while it is
+   * consumed.
+   */
+  private static final class RowSpliterator extends Spliterators.AbstractSpliterator<List<Object>> {
+    private final RowTokenizer m_tokenizer;
+    private final RowConverter m_template;
+    private final RowConverter m_converter;
+    private final Queue<RowConverter> m_converterPool = new ConcurrentLinkedQueue<>();
+    private final Semaphore m_batchPermits = new Semaphore(STREAM_MAX_BATCHES);
+    private int m_lineNr;
+
+    RowSpliterator(RowTokenizer tokenizer, RowConverter template) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      m_tokenizer = tokenizer;
+      m_template = template;
+      m_converter = template.copy();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<Object>> action) {
+      RawRow row = nextRow();
+      if (row == null) {
+        return false;
+      }
+      action.accept(convert(m_converter, row));
+      return true;
+    }
+
+    @Override
+    public Spliterator<List<Object>> trySplit() {
+      if (!acquireBatchPermit()) {
+        return null;
+      }
+      RawRow[] batch = new RawRow[STREAM_BATCH_SIZE];
+      int n = 0;
+      try {
+        RawRow row;
+        while (n < batch.length && (row = nextRow()) != null) {
+          batch[n] = row;
+          n++;
+        }
+      }
+      finally {
+        if (n == 0) {
+          m_batchPermits.release();
+        }
+      }
+      if (n == 0) {
+        return null;
+      }
+      return new BatchSpliterator(this, batch, n);
+    }
+
+    /**
+     * Waits for a batch permit, allowing a fork join pool to compensate the blocked thread.
+     */
+    private boolean acquireBatchPermit() {
+      if (m_batchPermits.tryAcquire()) {
+        return true;
+      }
+      BatchPermitBlocker blocker = new BatchPermitBlocker(m_batchPermits);
+      try {
+        ForkJoinPool.managedBlock(blocker);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+      return blocker.m_acquired;
+    }
+
+    private RowConverter borrowConverter() {
+      RowConverter converter = m_converterPool.poll();
+      return converter != null ? converter : m_template.copy();
+    }
+
+    private void releaseBatch(RowConverter converter) {
+      if (converter != null) {
+        m_converterPool.offer(converter);
+      }
+      m_batchPermits.release();
+    }
+
+    private static List<Object> convert(RowConverter converter, RawRow row) {
+      try {
+        return converter.convert(row.m_cells);
+      }
+      catch (RuntimeException e) {
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+            .withContextInfo("lineNr", row.m_lineNr);
+      }
+    }
+
+    private RawRow nextRow() {
+      List<String> cells;
+      try {
+        cells = m_tokenizer.nextRow();
+      }
+      catch (IOException e) {
+        throw new ProcessingException("reading data row", e)
+            .withContextInfo("lineNr", m_lineNr + 1);
+      }
+      if (cells == null) {
+        return null;
+      }
+      m_lineNr++;
+      return new RawRow(m_lineNr, cells);
+    }
+  }
+
+  /**
+   * Rows split off by a {@link RowSpliterator}. Releases its batch permit and converter once all rows are consumed or
+   * the consumption of a row fails.
+   */
+  private static final class BatchSpliterator implements Spliterator<List<Object>> {
+    private final RowSpliterator m_source;
+    private final RawRow[] m_rows;
+    private final int m_end;
+    private int m_index;
+    private RowConverter m_converter;
+    private boolean m_released;
+
+    BatchSpliterator(RowSpliterator source, RawRow[] rows, int end) {
+      m_source = source;
+      m_rows = rows;
+      m_end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<Object>> action) {
+      if (m_index >= m_end) {
+        return false;
+      }
+      if (m_converter == null) {
+        m_converter = m_source.borrowConverter();
+      }
+      RawRow row = m_rows[m_index];
+      m_rows[m_index] = null;
+      m_index++;
+      try {
+        action.accept(RowSpliterator.convert(m_converter, row));
+      }
+      catch (RuntimeException | Error e) {
+        release();
+        throw e;
+      }
+      if (m_index >= m_end) {
+        release();
+      }
+      return true;
+    }
+
+    private void release() {
+      if (!m_released) {
+        m_released = true;
+        m_source.releaseBatch(m_converter);
+        m_converter = null;
+      }
+    }
+
+    @Override
+    public Spliterator<List<Object>> trySplit() {
+      return null;
+    }
+
+    @Override
+    public long estimateSize() {
+      return m_end - m_index;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+  }
+
+  /**
+   * Waits for a batch permit of a {@link RowSpliterator}, at most {@link #STREAM_SPLIT_TIMEOUT_MILLIS}.
+   */
+  private static final class BatchPermitBlocker implements ForkJoinPool.ManagedBlocker {
+    private final Semaphore m_permits;
+    private boolean m_acquired;
+
+    BatchPermitBlocker(Semaphore permits) {
+      m_permits = permits;
+    }
+
+    @Override
+    public boolean block() throws InterruptedException {
+      m_acquired = m_permits.tryAcquire(STREAM_SPLIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+      if (!m_acquired) {
+        m_acquired = m_permits.tryAcquire();
+      }
+      return m_acquired;
+    }
+  }
 }
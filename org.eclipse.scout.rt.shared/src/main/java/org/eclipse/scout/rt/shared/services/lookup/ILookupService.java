@@ -10,6 +10,7 @@
  */
 package org.eclipse.scout.rt.shared.services.lookup;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.scout.rt.platform.service.IService;
@@ -38,4 +39,31 @@ public interface ILookupService<KEY_TYPE> extends IService {
    * Lookup child rows by parent for lazy loading hierarchical data, using {@link ILookupCall#getRec()} (parent)
    */
   List<? extends ILookupRow<KEY_TYPE>> getDataByRec(ILookupCall<KEY_TYPE> call);
+
+  /**
+   * Lookup by several keys at once using {@link ILookupCall#getKey()} of each call. The calls differ in their key only,
+   * all other properties are equal.
+   * <p>
+   * The default implementation calls {@link #getDataByKey(ILookupCall)} for each call.
+   *
+   * @return the result of {@link #getDataByKey(ILookupCall)} for each call, in the order of the calls
+   * @since 11.0
+   */
+  default List<List<? extends ILookupRow<KEY_TYPE>>> getDataByKeys(List<? extends ILookupCall<KEY_TYPE>> calls) {
+    List<List<? extends ILookupRow<KEY_TYPE>>> result = new ArrayList<>(calls.size());
+    for (ILookupCall<KEY_TYPE> call : calls) {
+      result.add(getDataByKey(call));
+    }
+    return result;
+  }
+
+  /**
+   * @return {@code true} if {@link #getDataByKeys(List)} resolves several keys more efficiently than a call to
+   *         {@link #getDataByKey(ILookupCall)} per key. Then {@link IServerBatchLookupService} groups the lookups by key
+   *         of this service. The default is {@code false}.
+   * @since 11.0
+   */
+  default boolean isDataByKeysSupported() {
+    return false;
+  }
 }
@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.Replace;
+import org.eclipse.scout.rt.platform.serialization.AbstractObjectSerializer.ReplacingObjectOutputStream;
+import org.eclipse.scout.rt.platform.serialization.AbstractObjectSerializer.ResolvingObjectInputStream;
+import org.eclipse.scout.rt.platform.serialization.IObjectReplacer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binary content handler which produces smaller messages than {@link BinaryServiceTunnelContentHandler}:
+ * <ul>
+ * <li>Class descriptors only consist of the class name. Field descriptions and serial version UIDs are not transferred
+ * because the client and the server must use the same classes anyway.</li>
+ * <li>Equal strings are written only once per message (e.g. column ids and texts of table rows).</li>
+ * <li>{@link BigDecimal} values are written as unscaled value and scale instead of the full object graph.</li>
+ * <li>Rows of table field beans ({@link AbstractTableRowData}) are written field by field. {@link Long},
+ * {@link Integer}, {@link Double}, {@link Boolean} and {@link Date} values are written as primitives instead of
+ * objects.</li>
+ * </ul>
+ * The compression algorithm can be replaced by overriding {@link #createCompressingOutputStream(OutputStream)} and
+ * {@link #createDecompressingInputStream(InputStream)}.
+ * <p>
+ * This implementation can be used by an application by subclassing this class and adding the {@link Replace}
+ * annotation. The client and the server must use the same content handler.
+ *
+ * @since 11.0
+ */
+@Order(5200)
+public class CompactBinaryServiceTunnelContentHandler extends AbstractServiceTunnelContentHandler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CompactBinaryServiceTunnelContentHandler.class);
+  private static final String CONTENT_TYPE = "application/x-scout-compact";
+
+  private static final int FLAG_UNCOMPRESSED = 0x10;
+  private static final int FLAG_COMPRESSED = 0x11;
+
+  private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+  static {
+    for (Class<?> c : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class}) {
+      PRIMITIVE_TYPES.put(c.getName(), c);
+    }
+  }
+
+  private Boolean m_receivedCompressed;
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void writeRequest(OutputStream out, ServiceTunnelRequest msg) throws IOException {
+    writeData(out, msg);
+  }
+
+  @Override
+  public ServiceTunnelRequest readRequest(InputStream in) throws IOException, ClassNotFoundException {
+    return readData(in, ServiceTunnelRequest.class);
+  }
+
+  @Override
+  public void writeResponse(OutputStream out, ServiceTunnelResponse msg) throws IOException {
+    writeData(out, msg);
+  }
+
+  @Override
+  public ServiceTunnelResponse readResponse(InputStream in) throws IOException, ClassNotFoundException {
+    return readData(in, ServiceTunnelResponse.class);
+  }
+
+  protected void writeData(OutputStream out, Object msg) throws IOException {
+    boolean compressed = isUseCompression();
+    out.write(compressed ? FLAG_COMPRESSED : FLAG_UNCOMPRESSED);
+    if (compressed) {
+      out = createCompressingOutputStream(out);
+    }
+    try (ObjectOutputStream oos = new CompactObjectOutputStream(out, getObjectReplacer())) {
+      oos.writeObject(msg);
+      oos.flush();
+    }
+    catch (NotSerializableException e) {
+      LOG.error("Error serializing data '{}'", msg);
+      throw e;
+    }
+  }
+
+  protected <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
+    int flag = in.read();
+    if (flag != FLAG_COMPRESSED && flag != FLAG_UNCOMPRESSED) {
+      throw new StreamCorruptedException("Unexpected format " + flag + ". Client and server must use the same service tunnel content handler.");
+    }
+    boolean compressed = flag == FLAG_COMPRESSED;
+    m_receivedCompressed = compressed;
+    if (compressed) {
+      in = createDecompressingInputStream(in);
+    }
+    try (ObjectInputStream ois = new CompactObjectInputStream(in, getObjectReplacer(), getObjectSerializer().getBlacklist(), getObjectSerializer().getWhitelist())) {
+      Object o = ois.readObject();
+      if (!clazz.isInstance(o)) {
+        throw new IOException("deserialized object has unexpected type: expected '" + clazz + "', actual '" + (o == null ? null : o.getClass()) + "'.");
+      }
+      return clazz.cast(o);
+    }
+  }
+
+  protected IObjectReplacer getObjectReplacer() {
+    return new ServiceTunnelObjectReplacer();
+  }
+
+  /**
+   * @return stream compressing the data written to the given stream. Closing the returned stream must close the given
+   *         one.
+   */
+  protected OutputStream createCompressingOutputStream(OutputStream out) {
+    return new DeflaterOutputStream(out, new Deflater(Deflater.BEST_SPEED)) {
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        }
+        finally {
+          def.end();
+        }
+      }
+    };
+  }
+
+  /**
+   * @return stream decompressing the data created by {@link #createCompressingOutputStream(OutputStream)}
+   */
+  protected InputStream createDecompressingInputStream(InputStream in) {
+    return new InflaterInputStream(in, new Inflater()) {
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        }
+        finally {
+          inf.end();
+        }
+      }
+    };
+  }
+
+  protected boolean isUseCompression() {
+    if (isSendCompressed() != null) {
+      return isSendCompressed();
+    }
+    if (m_receivedCompressed != null) {
+      return m_receivedCompressed;
+    }
+    return true;
+  }
+
+  /**
+   * Writes class descriptors as class names and shares equal strings.
+   */
+  public static class CompactObjectOutputStream extends ReplacingObjectOutputStream {
+    private final Map<String, String> m_strings = new HashMap<>();
+
+    public CompactObjectOutputStream(OutputStream out, IObjectReplacer objectReplacer) throws IOException {
+      super(out, objectReplacer);
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+      // the stream writes each descriptor only once and refers to it by its handle afterwards
+      writeUTF(desc.getName());
+    }
+
+    @Override
+    protected Object replaceObject(Object obj) throws IOException {
+      Object replaced = super.replaceObject(obj);
+      if (replaced instanceof String) {
+        // the stream writes a back reference for an instance it has already written
+        return m_strings.computeIfAbsent((String) replaced, s -> s);
+      }
+      if (replaced != null && replaced.getClass() == BigDecimal.class) {
+        return new CompactBigDecimal((BigDecimal) replaced);
+      }
+      if (replaced instanceof AbstractTableRowData && CompactTableRowData.isSupported((AbstractTableRowData) replaced)) {
+        return new CompactTableRowData((AbstractTableRowData) replaced);
+      }
+      return replaced;
+    }
+  }
+
+  /**
+   * Serialized form of a {@link BigDecimal}, resolved by {@link CompactObjectInputStream}.
+   */
+  public static final class CompactBigDecimal implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private BigDecimal m_value;
+
+    public CompactBigDecimal() {
+      // for deserialization
+    }
+
+    CompactBigDecimal(BigDecimal value) {
+      m_value = value;
+    }
+
+    public BigDecimal getValue() {
+      return m_value;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      out.writeInt(m_value.scale());
+      BigInteger unscaled = m_value.unscaledValue();
+      if (unscaled.bitLength() < Long.SIZE) {
+        out.writeByte(0);
+        out.writeLong(unscaled.longValue());
+      }
+      else {
+        byte[] bytes = unscaled.toByteArray();
+        out.writeByte(1);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      int scale = in.readInt();
+      if (in.readByte() == 0) {
+        m_value = BigDecimal.valueOf(in.readLong(), scale);
+      }
+      else {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        m_value = new BigDecimal(new BigInteger(bytes), scale);
+      }
+    }
+  }
+
+  /**
+   * Serialized form of an {@link AbstractTableRowData}, resolved by {@link CompactObjectInputStream}. The fields declared
+   * by the row class are written in declaration order, boxed primitives and dates without object overhead. Rows with
+   * contributions or custom serialization are written by the default serialization.
+   */
+  public static final class CompactTableRowData implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int VALUE_NULL = 0;
+    private static final int VALUE_OBJECT = 1;
+    private static final int VALUE_LONG = 2;
+    private static final int VALUE_INTEGER = 3;
+    private static final int VALUE_DOUBLE = 4;
+    private static final int VALUE_TRUE = 5;
+    private static final int VALUE_FALSE = 6;
+    private static final int VALUE_DATE = 7;
+
+    /**
+     * Fields written for a row class or {@code null} if the class is not supported.
+     */
+    private static final ClassValue<Field[]> ROW_FIELDS = new ClassValue<Field[]>() {
+      @Override
+      protected Field[] computeValue(Class<?> type) {
+        return computeRowFields(type);
+      }
+    };
+
+    private AbstractTableRowData m_row;
+
+    public CompactTableRowData() {
+      // for deserialization
+    }
+
+    CompactTableRowData(AbstractTableRowData row) {
+      m_row = row;
+    }
+
+    public AbstractTableRowData getRow() {
+      return m_row;
+    }
+
+    static boolean isSupported(AbstractTableRowData row) {
+      return ROW_FIELDS.get(row.getClass()) != null && row.getAllContributions().isEmpty();
+    }
+
+    private static Field[] computeRowFields(Class<?> type) {
+      if (!AbstractTableRowData.class.isAssignableFrom(type) || Modifier.isAbstract(type.getModifiers())) {
+        return null;
+      }
+      try {
+        type.getDeclaredConstructor();
+      }
+      catch (NoSuchMethodException e) { // NOSONAR
+        return null;
+      }
+      List<Field> fields = new ArrayList<>();
+      for (Class<?> c = type; c != AbstractTableRowData.class; c = c.getSuperclass()) {
+        if (hasCustomSerialization(c)) {
+          return null;
+        }
+        List<Field> declaredFields = new ArrayList<>();
+        for (Field f : c.getDeclaredFields()) {
+          int modifiers = f.getModifiers();
+          if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+            continue;
+          }
+          if (Modifier.isFinal(modifiers)) {
+            return null;
+          }
+          f.setAccessible(true);
+          declaredFields.add(f);
+        }
+        fields.addAll(0, declaredFields);
+      }
+      return fields.toArray(new Field[0]);
+    }
+
+    private static boolean hasCustomSerialization(Class<?> c) {
+      for (Method m : c.getDeclaredMethods()) {
+        String name = m.getName();
+        if ("writeObject".equals(name) || "readObject".equals(name) || "writeReplace".equals(name) || "readResolve".equals(name)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      out.writeObject(m_row.getClass());
+      out.writeInt(m_row.getRowState());
+      out.writeObject(m_row.getCustomValues());
+      try {
+        for (Field f : ROW_FIELDS.get(m_row.getClass())) {
+          writeValue(out, f.get(m_row));
+        }
+      }
+      catch (IllegalAccessException e) {
+        throw new NotSerializableException(m_row.getClass().getName());
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+      Class<?> rowClass = (Class<?>) in.readObject();
+      Field[] fields = ROW_FIELDS.get(rowClass);
+      if (fields == null) {
+        throw new InvalidClassException(rowClass.getName(), "not a supported table row");
+      }
+      try {
+        Constructor<?> constructor = rowClass.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        m_row = (AbstractTableRowData) constructor.newInstance();
+        m_row.setRowState(in.readInt());
+        m_row.setCustomValues((Map<String, Object>) in.readObject());
+        for (Field f : fields) {
+          f.set(m_row, readValue(in));
+        }
+      }
+      catch (ReflectiveOperationException | IllegalArgumentException e) {
+        InvalidClassException ice = new InvalidClassException(rowClass.getName(), "cannot read table row");
+        ice.initCause(e);
+        throw ice;
+      }
+    }
+
+    private static void writeValue(ObjectOutput out, Object value) throws IOException {
+      if (value == null) {
+        out.writeByte(VALUE_NULL);
+      }
+      else if (value.getClass() == Long.class) {
+        out.writeByte(VALUE_LONG);
+        out.writeLong((Long) value);
+      }
+      else if (value.getClass() == Integer.class) {
+        out.writeByte(VALUE_INTEGER);
+        out.writeInt((Integer) value);
+      }
+      else if (value.getClass() == Double.class) {
+        out.writeByte(VALUE_DOUBLE);
+        out.writeDouble((Double) value);
+      }
+      else if (value.getClass() == Boolean.class) {
+        out.writeByte((Boolean) value ? VALUE_TRUE : VALUE_FALSE);
+      }
+      else if (value.getClass() == Date.class) {
+        out.writeByte(VALUE_DATE);
+        out.writeLong(((Date) value).getTime());
+      }
+      else {
+        out.writeByte(VALUE_OBJECT);
+        out.writeObject(value);
+      }
+    }
+
+    private static Object readValue(ObjectInput in) throws IOException, ClassNotFoundException {
+      int type = in.readByte();
+      switch (type) {
+        case VALUE_NULL:
+          return null;
+        case VALUE_LONG:
+          return in.readLong();
+        case VALUE_INTEGER:
+          return in.readInt();
+        case VALUE_DOUBLE:
+          return in.readDouble();
+        case VALUE_TRUE:
+          return Boolean.TRUE;
+        case VALUE_FALSE:
+          return Boolean.FALSE;
+        case VALUE_DATE:
+          return new Date(in.readLong());
+        case VALUE_OBJECT:
+          return in.readObject();
+        default:
+          throw new StreamCorruptedException("Unknown value type " + type);
+      }
+    }
+  }
+
+  /**
+   * Reads the class descriptors written by {@link CompactObjectOutputStream}.
+   */
+  public static class CompactObjectInputStream extends ResolvingObjectInputStream {
+
+    public CompactObjectInputStream(InputStream in, IObjectReplacer objectReplacer, Predicate<String> blacklist, Predicate<String> whitelist) throws IOException {
+      super(in, objectReplacer, blacklist, whitelist);
+      enableResolveObject(true);
+    }
+
+    @Override
+    protected Object resolveObject(Object obj) throws IOException {
+      if (obj instanceof CompactBigDecimal) {
+        return ((CompactBigDecimal) obj).getValue();
+      }
+      if (obj instanceof CompactTableRowData) {
+        return ((CompactTableRowData) obj).getRow();
+      }
+      return super.resolveObject(obj);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+      String className = readUTF();
+      checkClassName(className);
+      Class<?> c = PRIMITIVE_TYPES.get(className);
+      if (c == null) {
+        c = Class.forName(className, false, SerializationUtility.getClassLoader());
+      }
+      return ObjectStreamClass.lookupAny(c);
+    }
+  }
+}
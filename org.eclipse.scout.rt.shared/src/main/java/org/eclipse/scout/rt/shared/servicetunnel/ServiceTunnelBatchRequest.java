@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Several {@link ServiceTunnelRequest}s of the same session which are sent to the server with a single round-trip. The
+ * server invokes the requests in parallel and answers with a {@link ServiceTunnelBatchResponse}.
+ * <p>
+ * Every request keeps its own request sequence, so it can be cancelled individually.
+ *
+ * @since 11.0
+ */
+public class ServiceTunnelBatchRequest extends ServiceTunnelRequest {
+  private static final long serialVersionUID = 1L;
+
+  private final List<ServiceTunnelRequest> m_requests;
+
+  public ServiceTunnelBatchRequest(List<ServiceTunnelRequest> requests) {
+    super(ServiceTunnelBatchRequest.class.getName(), "batch", new Class[0], null);
+    Assertions.assertFalse(requests.isEmpty(), "batch must contain at least one request");
+    m_requests = Collections.unmodifiableList(new ArrayList<>(requests));
+    ServiceTunnelRequest first = m_requests.get(0);
+    setSessionId(first.getSessionId());
+    setUserAgent(first.getUserAgent());
+    setClientNodeId(first.getClientNodeId());
+  }
+
+  public List<ServiceTunnelRequest> getRequests() {
+    return m_requests;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder();
+    buf.append("Remote batch call [");
+    buf.append("requestSequence='").append(getRequestSequence()).append("', ");
+    buf.append("sessionId='").append(getSessionId()).append("']");
+    for (ServiceTunnelRequest request : m_requests) {
+      buf.append("\n").append(request);
+    }
+    return buf.toString();
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+
+/**
+ * {@link RemoteServiceInvocationCallable} which does not send the request on its own but adds it to the batch of the
+ * current session, see {@link ServiceTunnelRequestBatcher}.
+ *
+ * @since 11.0
+ */
+public class BatchedServiceInvocationCallable extends RemoteServiceInvocationCallable {
+
+  private final ServiceTunnelRequestBatcher m_batcher;
+  private final ServiceTunnelRequest m_serviceRequest;
+
+  public BatchedServiceInvocationCallable(final HttpServiceTunnel tunnel, final ServiceTunnelRequestBatcher batcher, final ServiceTunnelRequest serviceRequest) {
+    super(tunnel, serviceRequest);
+    m_batcher = batcher;
+    m_serviceRequest = serviceRequest;
+  }
+
+  @Override
+  public ServiceTunnelResponse call() throws Exception {
+    final CompletableFuture<ServiceTunnelResponse> future = m_batcher.submit(m_serviceRequest);
+    try {
+      return future.get();
+    }
+    catch (InterruptedException e) {
+      future.cancel(false); // not sent yet: remove from batch
+      Thread.currentThread().interrupt();
+      throw new ThreadInterruptedError("Interrupted while waiting for batched service request", e);
+    }
+    catch (ExecutionException e) {
+      return new ServiceTunnelResponse(e.getCause());
+    }
+  }
+}
@@ -16,22 +16,27 @@ import java.net.URL;
 import java.util.concurrent.Callable;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.UriUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
+import org.eclipse.scout.rt.shared.services.common.context.IRunMonitorCancelService;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelBatchWindowProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelMaxBatchSizeProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +58,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   private final URL m_serverUrl;
   private final GenericUrl m_genericUrl;
   private final boolean m_active;
+  private final LazyValue<ServiceTunnelRequestBatcher> m_requestBatcher = new LazyValue<>(this::createRequestBatcher);
 
   public HttpServiceTunnel() {
     this(getConfiguredServerUrl());
@@ -202,6 +208,24 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     return new RemoteServiceInvocationCallable(this, serviceRequest);
   }
 
+  /**
+   * Creates the batcher which collects concurrent service requests of a session, see
+   * {@link HttpServiceTunnelBatchWindowProperty}.
+   */
+  protected ServiceTunnelRequestBatcher createRequestBatcher() {
+    return new ServiceTunnelRequestBatcher(this, CONFIG.getPropertyValue(HttpServiceTunnelBatchWindowProperty.class), CONFIG.getPropertyValue(HttpServiceTunnelMaxBatchSizeProperty.class));
+  }
+
+  /**
+   * @return <code>true</code> if the request may be sent to the server together with other requests of the same
+   *         session. Requests without session and cancellation requests are always sent immediately.
+   */
+  protected boolean isBatchable(ServiceTunnelRequest serviceRequest) {
+    return serviceRequest.getSessionId() != null
+        && !IRunMonitorCancelService.class.getName().equals(serviceRequest.getServiceInterfaceClassName())
+        && m_requestBatcher.get().isEnabled();
+  }
+
   @Override
   protected ServiceTunnelResponse tunnel(final ServiceTunnelRequest serviceRequest) {
     if (LOG.isDebugEnabled()) {
@@ -210,7 +234,9 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     final long requestSequence = serviceRequest.getRequestSequence();
 
     // Create the Callable to be given to the job manager for execution.
-    final RemoteServiceInvocationCallable remoteInvocationCallable = createRemoteServiceInvocationCallable(serviceRequest);
+    final RemoteServiceInvocationCallable remoteInvocationCallable = isBatchable(serviceRequest)
+        ? new BatchedServiceInvocationCallable(this, m_requestBatcher.get(), serviceRequest)
+        : createRemoteServiceInvocationCallable(serviceRequest);
 
     // Register the execution monitor as child monitor of the current monitor so that the service request is cancelled once the current monitor gets cancelled.
     // Invoke the service operation asynchronously (to enable cancellation) and wait until completed or cancelled.
@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.shared.servicetunnel.http;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsPerRouteProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsTotalProperty;
 
@@ -70,4 +72,46 @@ public final class HttpServiceTunnelConfigurationProperties {
           BEANS.get(ApacheHttpTransportMaxConnectionsTotalProperty.class).getKey());
     }
   }
+
+  public static class HttpServiceTunnelBatchWindowProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.batchWindow";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Time in milliseconds the HTTP service tunnel waits for further service calls of the same session before sending them to the server with a single request.\n"
+          + "The calls are invoked in parallel on the server. Batching saves round-trips on high-latency connections but delays every call by up to this time.\n"
+          + "The maximum number of calls per request is defined by '%s'.\n"
+          + "The default value is 0 which sends every call with its own request.",
+          BEANS.get(HttpServiceTunnelMaxBatchSizeProperty.class).getKey());
+    }
+  }
+
+  public static class HttpServiceTunnelMaxBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 32;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.maxBatchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of service calls sent to the server with a single request if batching is enabled. A full batch is sent immediately.\n"
+          + "The default value is 32.";
+    }
+  }
 }
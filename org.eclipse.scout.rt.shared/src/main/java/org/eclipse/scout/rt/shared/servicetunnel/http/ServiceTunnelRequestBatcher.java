@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.security.auth.Subject;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the service requests of a session which are submitted within the batch window and sends them to the server
+ * with a single {@link ServiceTunnelBatchRequest}. The batch is sent when the window elapses or when it reaches the
+ * maximum size.
+ * <p>
+ * The batch is sent on behalf of the first request. Therefore only requests with the same session, {@link Subject} and
+ * locale are batched together.
+ *
+ * @see HttpServiceTunnelConfigurationProperties.HttpServiceTunnelBatchWindowProperty
+ * @since 11.0
+ */
+public class ServiceTunnelRequestBatcher {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ServiceTunnelRequestBatcher.class);
+
+  private final HttpServiceTunnel m_tunnel;
+  private final long m_batchWindowMillis;
+  private final int m_maxBatchSize;
+  private final Map<P_BatchKey, P_Batch> m_openBatches = new HashMap<>();
+
+  public ServiceTunnelRequestBatcher(HttpServiceTunnel tunnel, long batchWindowMillis, int maxBatchSize) {
+    m_tunnel = tunnel;
+    m_batchWindowMillis = batchWindowMillis;
+    m_maxBatchSize = maxBatchSize;
+  }
+
+  public boolean isEnabled() {
+    return m_batchWindowMillis > 0 && m_maxBatchSize > 1;
+  }
+
+  /**
+   * Adds the request to the open batch of its session.
+   *
+   * @return future completed with the response once the batch returns. Cancelling the future before the batch is sent
+   *         removes the request from the batch.
+   */
+  public CompletableFuture<ServiceTunnelResponse> submit(ServiceTunnelRequest request) {
+    final P_Call call = new P_Call(request);
+    final P_BatchKey key = new P_BatchKey(request.getSessionId(), Subject.getSubject(AccessController.getContext()), request.getLocale());
+    P_Batch newBatch = null;
+    P_Batch fullBatch = null;
+    synchronized (m_openBatches) {
+      P_Batch batch = m_openBatches.get(key);
+      if (batch == null) {
+        batch = new P_Batch(key);
+        m_openBatches.put(key, batch);
+        newBatch = batch;
+      }
+      batch.m_calls.add(call);
+      if (batch.m_calls.size() >= m_maxBatchSize) {
+        m_openBatches.remove(key);
+        fullBatch = batch;
+      }
+    }
+
+    if (fullBatch != null) {
+      scheduleSend(fullBatch, 0L);
+    }
+    else if (newBatch != null) {
+      scheduleSend(newBatch, m_batchWindowMillis);
+    }
+    return call;
+  }
+
+  protected void scheduleSend(final P_Batch batch, final long delayMillis) {
+    Jobs.schedule(() -> {
+      close(batch);
+      send(batch);
+    }, Jobs.newInput()
+        .withName("Sending batched service requests [session={}]", batch.m_key.m_sessionId)
+        .withRunContext(RunContext.CURRENT.get().copy()
+            .withRunMonitor(BEANS.get(RunMonitor.class))) // cancelling one of the requests must not cancel the others
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(delayMillis, TimeUnit.MILLISECONDS))
+        .withExceptionHandling(null, false));
+  }
+
+  protected void close(P_Batch batch) {
+    synchronized (m_openBatches) {
+      m_openBatches.remove(batch.m_key, batch);
+    }
+  }
+
+  /**
+   * Sends the requests of the batch which are not cancelled yet and completes their futures.
+   */
+  protected void send(P_Batch batch) {
+    if (!batch.m_sent.compareAndSet(false, true)) {
+      return;
+    }
+    final List<P_Call> calls = new ArrayList<>();
+    synchronized (m_openBatches) {
+      for (P_Call call : batch.m_calls) {
+        if (!call.isDone()) {
+          calls.add(call);
+        }
+      }
+    }
+    if (calls.isEmpty()) {
+      return;
+    }
+
+    final List<ServiceTunnelRequest> requests = new ArrayList<>(calls.size());
+    for (P_Call call : calls) {
+      requests.add(call.m_request);
+    }
+    ServiceTunnelResponse response;
+    try {
+      final ServiceTunnelRequest request = requests.size() == 1 ? requests.get(0) : new ServiceTunnelBatchRequest(requests);
+      response = m_tunnel.createRemoteServiceInvocationCallable(request).call();
+    }
+    catch (Exception | Error e) { // NOSONAR
+      LOG.debug("Batched service request failed [session={}, size={}]", batch.m_key.m_sessionId, requests.size(), e);
+      response = new ServiceTunnelResponse(e);
+    }
+
+    if (calls.size() == 1) {
+      calls.get(0).complete(response);
+    }
+    else if (response instanceof ServiceTunnelBatchResponse && ((ServiceTunnelBatchResponse) response).getResponses().size() == calls.size()) {
+      final List<ServiceTunnelResponse> responses = ((ServiceTunnelBatchResponse) response).getResponses();
+      for (int i = 0; i < calls.size(); i++) {
+        calls.get(i).complete(responses.get(i));
+      }
+    }
+    else {
+      final Throwable t = response.getException() != null ? response.getException() : new IllegalStateException("Unexpected response to batch request: " + response);
+      for (P_Call call : calls) {
+        call.complete(new ServiceTunnelResponse(t));
+      }
+    }
+  }
+
+  protected static class P_Batch {
+    private final P_BatchKey m_key;
+    private final List<P_Call> m_calls = new ArrayList<>();
+    private final AtomicBoolean m_sent = new AtomicBoolean();
+
+    protected P_Batch(P_BatchKey key) {
+      m_key = key;
+    }
+  }
+
+  /**
+   * Requests are only batched if they belong to the same session and are issued by the same {@link Subject} instance
+   * with the same locale.
+   */
+  protected static class P_BatchKey {
+    private final String m_sessionId;
+    private final Subject m_subject;
+    private final Locale m_locale;
+
+    protected P_BatchKey(String sessionId, Subject subject, Locale locale) {
+      m_sessionId = sessionId;
+      m_subject = subject;
+      m_locale = locale;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(m_sessionId, System.identityHashCode(m_subject), m_locale);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_BatchKey other = (P_BatchKey) obj;
+      return m_subject == other.m_subject
+          && Objects.equals(m_sessionId, other.m_sessionId)
+          && Objects.equals(m_locale, other.m_locale);
+    }
+  }
+
+  protected static class P_Call extends CompletableFuture<ServiceTunnelResponse> {
+    private final ServiceTunnelRequest m_request;
+
+    protected P_Call(ServiceTunnelRequest request) {
+      m_request = request;
+    }
+  }
+}
@@ -10,9 +10,13 @@
  */
 package org.eclipse.scout.rt.ui.html.cache;
 
+import java.util.Random;
+
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceCache;
@@ -92,4 +96,64 @@ public class HttpResourceCacheTest {
     Assert.assertNull(obj2);
   }
 
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    HttpResourceCache cache = new HttpResourceCache(25) {
+    };
+    Assert.assertTrue(cache.put(createCacheObject("/a.png", 10)));
+    Assert.assertTrue(cache.put(createCacheObject("/b.png", 10)));
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/a.png"))); // b.png is now least recently used
+    Assert.assertTrue(cache.put(createCacheObject("/c.png", 10)));
+
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/a.png")));
+    Assert.assertNull(cache.get(new HttpCacheKey("/b.png")));
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/c.png")));
+    Assert.assertEquals(20, cache.getSize());
+
+    Assert.assertFalse(cache.put(createCacheObject("/d.png", 30))); // larger than the cache
+    Assert.assertNull(cache.get(new HttpCacheKey("/d.png")));
+
+    cache.remove(new HttpCacheKey("/a.png"));
+    Assert.assertEquals(10, cache.getSize());
+    cache.clear();
+    Assert.assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testGzipContent() throws Exception {
+    byte[] content = StringUtility.repeat("console.log('hello');", 100).getBytes("UTF-8");
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.js")
+        .withContent(content)
+        .withCachingAllowed(true)
+        .build();
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/a.js"), res);
+    Assert.assertTrue(rc.put(obj));
+    Assert.assertEquals(content.length, rc.getSize()); // compressed upon first request
+
+    byte[] gzipContent = rc.get(new HttpCacheKey("/a.js")).getGzipContent();
+    Assert.assertNotNull(gzipContent);
+    Assert.assertSame(gzipContent, obj.getGzipContent()); // compressed only once
+    Assert.assertArrayEquals(content, IOUtility.uncompressGzip(gzipContent));
+    Assert.assertEquals(content.length + gzipContent.length, rc.getSize());
+
+    // compressed content not smaller
+    byte[] random = new byte[1000];
+    new Random(1).nextBytes(random);
+    BinaryResource randomRes = BinaryResources.create()
+        .withFilename("a.png")
+        .withContent(random)
+        .withCachingAllowed(true)
+        .build();
+    Assert.assertNull(new HttpCacheObject(new HttpCacheKey("/a.png"), randomRes).getGzipContent());
+  }
+
+  protected HttpCacheObject createCacheObject(String path, int size) {
+    BinaryResource res = BinaryResources.create()
+        .withFilename(path.substring(1))
+        .withContent(new byte[size])
+        .withCachingAllowed(true)
+        .build();
+    return new HttpCacheObject(new HttpCacheKey(path), res);
+  }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.AsyncContext;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class JsonPushChannelTest {
+
+  private P_UiSession m_uiSession;
+  private AsyncContext m_asyncContext;
+  private BufferedServletOutputStream m_out;
+  private JsonPushChannel m_channel;
+
+  @Before
+  public void before() {
+    m_uiSession = new P_UiSession();
+    m_out = new BufferedServletOutputStream();
+    m_asyncContext = mock(AsyncContext.class);
+    when(m_asyncContext.getResponse()).thenReturn(JsonTestUtility.createHttpServletResponse(m_out));
+    m_channel = new JsonPushChannel(m_uiSession, m_asyncContext, RunContexts.copyCurrent());
+  }
+
+  @Test
+  public void testNothingToPush() {
+    m_uiSession.clearJsonResponse();
+    m_channel.push();
+    assertEquals(0, m_out.getContent().length);
+    assertFalse(m_channel.isClosed());
+    verify(m_asyncContext, never()).complete();
+  }
+
+  @Test
+  public void testSessionTerminated() {
+    m_uiSession.markDisposed();
+    m_channel.push();
+    String content = new String(m_out.getContent(), StandardCharsets.UTF_8);
+    assertTrue(content, content.startsWith("data: {\"sessionTerminated\":true"));
+    assertTrue(content, content.endsWith("}\n\n"));
+    assertTrue(m_channel.isClosed());
+    verify(m_asyncContext).complete();
+
+    // closed channel ignores signals
+    m_channel.signal();
+    m_channel.close();
+    verify(m_asyncContext).complete();
+  }
+
+  @Test
+  public void testReplacedChannelIsClosed() {
+    m_uiSession.setPushChannel(m_channel);
+    JsonPushChannel channel2 = new JsonPushChannel(m_uiSession, mock(AsyncContext.class), RunContexts.copyCurrent());
+    m_uiSession.setPushChannel(channel2);
+    assertTrue(m_channel.isClosed());
+    assertFalse(channel2.isClosed());
+    verify(m_asyncContext).complete();
+  }
+
+  private static class P_UiSession extends UiSessionMock {
+
+    void markDisposed() {
+      setDisposedInternal(true);
+    }
+
+    void clearJsonResponse() {
+      setCurrentJsonResponseInternal(createJsonResponse());
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPushEnabledProperty;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class JsonPushRequestHandlerTest {
+
+  private IBean<?> m_pushEnabledBean;
+
+  @Before
+  public void before() {
+    m_pushEnabledBean = BeanTestingHelper.get().registerBean(new BeanMetaData(BackgroundPushEnabledProperty.class).withInitialInstance(new BackgroundPushEnabledProperty() {
+      @Override
+      public Boolean getDefaultValue() {
+        return Boolean.TRUE;
+      }
+    }));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBean(m_pushEnabledBean);
+  }
+
+  @Test
+  public void testOtherPath() throws Exception {
+    HttpServletRequest req = JsonTestUtility.createHttpServletRequest(JsonTestUtility.createHttpSession(new Object()), "/json", null);
+    HttpServletResponse resp = JsonTestUtility.createHttpServletResponse(new BufferedServletOutputStream());
+    assertFalse(new JsonPushRequestHandler().handleGet(req, resp));
+  }
+
+  @Test
+  public void testAsyncNotSupported() throws Exception {
+    HttpServletRequest req = JsonTestUtility.createHttpServletRequest(JsonTestUtility.createHttpSession(new Object()), "/push/unknown", null);
+    HttpServletResponse resp = mock(HttpServletResponse.class);
+    assertTrue(new JsonPushRequestHandler().handleGet(req, resp));
+    verify(resp).sendError(HttpServletResponse.SC_NOT_IMPLEMENTED);
+  }
+
+  @Test
+  public void testSessionTimeout() throws Exception {
+    HttpSession httpSession = JsonTestUtility.createHttpSession(new Object());
+    HttpServletRequest req = JsonTestUtility.createHttpServletRequest(httpSession, "/push/unknown", null);
+    when(req.isAsyncSupported()).thenReturn(true);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse resp = JsonTestUtility.createHttpServletResponse(out);
+
+    assertTrue(new JsonPushRequestHandler().handleGet(req, resp));
+    verify(req, never()).startAsync(any(), any());
+    assertEquals(JsonPushRequestHandler.CONTENT_TYPE_EVENT_STREAM, resp.getContentType());
+    String content = new String(out.getContent(), StandardCharsets.UTF_8);
+    assertTrue(content, content.startsWith("data: {\"error\":{\"code\":" + JsonResponse.ERR_SESSION_TIMEOUT));
+    assertTrue(content, content.endsWith("}\n\n"));
+  }
+
+  @Test
+  public void testEventsPassGzipFilter() throws Exception {
+    HttpServletRequest req = JsonTestUtility.createHttpServletRequest(JsonTestUtility.createHttpSession(new Object()), "/push/abc", null);
+    when(req.getMethod()).thenReturn("GET");
+    when(req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn(GzipServletFilter.GZIP);
+    when(req.isAsyncStarted()).thenReturn(true);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse resp = JsonTestUtility.createHttpServletResponse(out);
+    JsonRequestHelper helper = BEANS.get(JsonRequestHelper.class);
+    JSONObject event1 = new JSONObject().put("events", 1);
+    JSONObject event2 = new JSONObject().put("events", 2);
+
+    GzipServletFilter filter = new GzipServletFilter();
+    filter.init(mock(FilterConfig.class));
+    AtomicReference<ServletResponse> asyncResp = new AtomicReference<>();
+    filter.doFilter(req, resp, (chainReq, chainResp) -> {
+      // like JsonPushRequestHandler#handlePushRequest, the first event is pushed before the filter completes
+      chainResp.setContentType(JsonPushRequestHandler.CONTENT_TYPE_EVENT_STREAM);
+      asyncResp.set(chainResp);
+      helper.writeEvent(chainResp, event1);
+      assertEquals("data: {\"events\":1}\n\n", new String(out.getContent(), StandardCharsets.UTF_8));
+    });
+
+    // events smaller than the minimum size to compress are delivered immediately and uncompressed
+    helper.writeEvent(asyncResp.get(), event2);
+    assertEquals("data: {\"events\":1}\n\ndata: {\"events\":2}\n\n", new String(out.getContent(), StandardCharsets.UTF_8));
+  }
+}
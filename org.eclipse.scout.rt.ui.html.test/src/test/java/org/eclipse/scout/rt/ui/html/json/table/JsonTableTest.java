@@ -30,14 +30,18 @@ import org.eclipse.scout.rt.client.ui.basic.table.TableEvent;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.UserTableRowFilter;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
 import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
 import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
 import org.eclipse.scout.rt.testing.shared.TestingUtility;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableRowPageSizeProperty;
 import org.eclipse.scout.rt.ui.html.UiSessionTestUtility;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonEvent;
@@ -1622,6 +1626,188 @@ public class JsonTableTest {
         .anyMatch(p -> "columnStructureChanged".equals(p.getType())));
   }
 
+  /**
+   * Tests that only the first page of rows is sent to the UI and the next page is sent on request.
+   */
+  @Test
+  public void testFetchRows() throws JSONException {
+    IBean<?> bean = registerRowPageSize(2);
+    try {
+      Table table = createTableFixture(5);
+      JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+      JSONObject json = jsonTable.toJson();
+      assertEquals(2, json.getJSONArray(JsonTable.PROP_ROWS).length());
+      assertTrue(json.getBoolean(JsonTable.PROP_MORE_ROWS_AVAILABLE));
+      assertFalse(json.getBoolean(ITable.PROP_UI_SORT_POSSIBLE));
+      assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(1)));
+      assertNull(jsonTable.tableRowIdsMap().get(table.getRow(2)));
+
+      jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FETCH_ROWS, new JSONObject()));
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      assertEquals(4, jsonTable.tableRowIdsMap().size());
+
+      // selecting a row which is not sent yet sends the row as well
+      table.selectRow(4);
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(4)));
+      assertEquals(5, jsonTable.tableRowIdsMap().size());
+
+      assertEquals(Boolean.FALSE, JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_MORE_ROWS_AVAILABLE));
+      assertEquals(Boolean.TRUE, JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), ITable.PROP_UI_SORT_POSSIBLE));
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+
+  /**
+   * Tests that transferring a selected row does not remove rows already known by the UI.
+   */
+  @Test
+  public void testSelectRowsKeepsTransferredRows() throws JSONException {
+    IBean<?> bean = registerRowPageSize(2);
+    try {
+      Table table = createTableFixture(5);
+      JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+      jsonTable.toJson();
+
+      table.selectRow(4);
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      table.selectRow(3);
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+
+      assertEquals(4, jsonTable.tableRowIdsMap().size());
+      assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(4)));
+      assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(3)));
+      List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_DELETED);
+      assertEquals(0, responseEvents.size());
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+
+  /**
+   * Tests that inserted rows are only transferred as long as the row limit is not reached.
+   */
+  @Test
+  public void testInsertRowsWithRowLimit() throws JSONException {
+    IBean<?> bean = registerRowPageSize(2);
+    try {
+      Table table = createTableFixture(1);
+      JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+      jsonTable.toJson();
+
+      // the model may sort the inserted rows, hence refer to them directly
+      List<ITableRow> insertedRows = table.addRowsByMatrix(new Object[][]{new Object[]{"cell1"}, new Object[]{"cell2"}});
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      assertEquals(2, jsonTable.tableRowIdsMap().size());
+      assertNotNull(jsonTable.tableRowIdsMap().get(insertedRows.get(0)));
+      assertNull(jsonTable.tableRowIdsMap().get(insertedRows.get(1)));
+      assertEquals(Boolean.TRUE, JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_MORE_ROWS_AVAILABLE));
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+
+  /**
+   * Tests that rows rejected by the user filter count as rows to transfer, since they are known by the UI as well.
+   */
+  @Test
+  public void testFetchRowsWithUserRowFilter() throws JSONException {
+    IBean<?> bean = registerRowPageSize(2);
+    try {
+      Table table = createTableFixture(4);
+      table.getUIFacade().setFilteredRowsFromUI(Arrays.asList(table.getRow(0), table.getRow(2)));
+      JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+      JSONObject json = jsonTable.toJson();
+      assertEquals(2, json.getJSONArray(JsonTable.PROP_ROWS).length());
+      assertTrue(json.getBoolean(JsonTable.PROP_MORE_ROWS_AVAILABLE));
+      assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(1)));
+
+      jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FETCH_ROWS, new JSONObject()));
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      assertEquals(4, jsonTable.tableRowIdsMap().size());
+      assertEquals(Boolean.FALSE, JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_MORE_ROWS_AVAILABLE));
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+
+  /**
+   * Tests that the parent rows of a transferred row are transferred as well, see {@link #testExpandAll()} for the
+   * structure of the rows.
+   */
+  @Test
+  public void testFetchRowsHierarchical() throws JSONException {
+    IBean<?> bean = registerRowPageSize(2);
+    try {
+      HierarchicalTable table = new HierarchicalTable();
+      table.init();
+      List<ITableRow> rows = new ArrayList<>();
+      rows.add(table.createRow(new Object[]{0, null}));
+      rows.add(table.createRow(new Object[]{1, 0}));
+      rows.add(table.createRow(new Object[]{2, 0}));
+      rows.add(table.createRow(new Object[]{3, null}));
+      rows.add(table.createRow(new Object[]{4, 3}));
+      rows.add(table.createRow(new Object[]{5, 4}));
+      table.replaceRows(rows);
+
+      JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+      Set<String> transferredRowIds = new HashSet<>();
+      JSONObject json = jsonTable.toJson();
+      assertEquals(2, json.getJSONArray(JsonTable.PROP_ROWS).length());
+      assertParentRowsTransferred(jsonTable, json.getJSONArray(JsonTable.PROP_ROWS), transferredRowIds);
+
+      // selecting a row whose parent rows are not sent yet sends the parent rows as well
+      table.selectRow(table.getRowByKey(Arrays.asList(5)));
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+      assertEquals(1, responseEvents.size());
+      assertEquals(3, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+      assertParentRowsTransferred(jsonTable, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS), transferredRowIds);
+      JsonTestUtility.endRequest(m_uiSession);
+
+      jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FETCH_ROWS, new JSONObject()));
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+      assertEquals(1, responseEvents.size());
+      assertParentRowsTransferred(jsonTable, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS), transferredRowIds);
+      assertEquals(6, transferredRowIds.size());
+      assertEquals(6, jsonTable.tableRowIdsMap().size());
+      assertEquals(Boolean.FALSE, JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_MORE_ROWS_AVAILABLE));
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+
+  protected static void assertParentRowsTransferred(JsonTable<ITable> jsonTable, JSONArray jsonRows, Set<String> transferredRowIds) throws JSONException {
+    for (int i = 0; i < jsonRows.length(); i++) {
+      JSONObject jsonRow = jsonRows.getJSONObject(i);
+      ITableRow parentRow = jsonTable.getModel().findParentRow(jsonTable.getTableRow(jsonRow.getString("id")));
+      if (parentRow == null) {
+        assertFalse(jsonRow.has("parentRow"));
+      }
+      else {
+        assertEquals(jsonTable.getTableRowId(parentRow), jsonRow.getString("parentRow"));
+        assertTrue(transferredRowIds.contains(jsonRow.getString("parentRow")));
+      }
+      transferredRowIds.add(jsonRow.getString("id"));
+    }
+  }
+
+  protected static IBean<?> registerRowPageSize(int pageSize) {
+    return BeanTestingHelper.get().registerBean(new BeanMetaData(TableRowPageSizeProperty.class).withInitialInstance(new TableRowPageSizeProperty() {
+      @Override
+      public Integer getDefaultValue() {
+        return pageSize;
+      }
+    }));
+  }
+
   public static Table createTableFixture(int numRows) {
     Table table = new Table();
     table.fill(numRows);
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.res;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletResponseWrapper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ResourceRequestHandler}
+ *
+ * @since 11.0
+ */
+@RunWith(PlatformTestRunner.class)
+public class ResourceRequestHandlerTest {
+
+  private static final int MIN_SIZE = 256;
+
+  private byte[] m_content;
+  private HttpCacheObject m_cacheObject;
+  private HttpServletRequest m_request;
+  private HttpServletResponse m_response;
+  private ByteArrayOutputStream m_out;
+  private ResourceRequestHandler m_handler;
+
+  @Before
+  public void before() throws IOException {
+    m_content = StringUtility.repeat("console.log('hello');", 100).getBytes(StandardCharsets.UTF_8);
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.js")
+        .withContent(m_content)
+        .withCachingAllowed(true)
+        .build();
+    m_cacheObject = new HttpCacheObject(new HttpCacheKey("/a.js"), res);
+
+    m_request = mock(HttpServletRequest.class);
+    when(m_request.getMethod()).thenReturn("GET");
+    when(m_request.getPathInfo()).thenReturn("/a.js");
+
+    m_out = new ByteArrayOutputStream();
+    m_response = mock(HttpServletResponse.class);
+    when(m_response.getOutputStream()).thenReturn(new ServletOutputStream() {
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {
+      }
+
+      @Override
+      public void write(int b) {
+        m_out.write(b);
+      }
+    });
+
+    IResourceLoader loader = mock(IResourceLoader.class);
+    when(loader.createCacheKey(any())).thenReturn(m_cacheObject.getCacheKey());
+    when(loader.loadResource(any(HttpCacheKey.class))).thenReturn(m_cacheObject);
+    when(loader.validateResource(any(), any())).thenReturn(true);
+    m_handler = new ResourceRequestHandler() {
+      @Override
+      protected IResourceLoader createLoaderFor(HttpServletRequest req, String requestedExternalPath) {
+        return loader;
+      }
+    };
+  }
+
+  @Test
+  public void testPrecompressedContent() throws IOException, ServletException {
+    GzipServletResponseWrapper gzipResponse = new GzipServletResponseWrapper(m_response, MIN_SIZE, r -> true);
+    assertTrue(m_handler.handleGet(m_request, gzipResponse));
+    // precompressed content is written directly, not compressed again by the filter
+    byte[] gzipContent = m_cacheObject.getGzipContent();
+    assertArrayEquals(gzipContent, m_out.toByteArray());
+    assertFalse(gzipResponse.finish(MIN_SIZE));
+
+    assertArrayEquals(m_content, IOUtility.uncompressGzip(m_out.toByteArray()));
+    verify(m_response).setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_response).setContentLength(gzipContent.length);
+    verify(m_response).addHeader(GzipServletFilter.VARY, GzipServletFilter.ACCEPT_ENCODING);
+
+    // compressed only once
+    m_out.reset();
+    m_handler.handleGet(m_request, new GzipServletResponseWrapper(m_response, MIN_SIZE, r -> true));
+    assertSame(gzipContent, m_cacheObject.getGzipContent());
+    assertArrayEquals(gzipContent, m_out.toByteArray());
+  }
+
+  @Test
+  public void testNotCompressibleByFilter() throws IOException, ServletException {
+    GzipServletResponseWrapper gzipResponse = new GzipServletResponseWrapper(m_response, MIN_SIZE, r -> false);
+    assertTrue(m_handler.handleGet(m_request, gzipResponse));
+    assertFalse(gzipResponse.finish(MIN_SIZE));
+
+    assertArrayEquals(m_content, m_out.toByteArray());
+    assertEquals(0, m_cacheObject.getGzipContentLength());
+    verify(m_response, never()).setHeader(eq(GzipServletFilter.CONTENT_ENCODING), anyString());
+    verify(m_response, never()).addHeader(eq(GzipServletFilter.CONTENT_ENCODING), anyString());
+    verify(m_response).addHeader(GzipServletFilter.VARY, GzipServletFilter.ACCEPT_ENCODING);
+  }
+
+  @Test
+  public void testWithoutGzipFilter() throws IOException, ServletException {
+    assertTrue(m_handler.handleGet(m_request, m_response));
+
+    assertArrayEquals(m_content, m_out.toByteArray());
+    assertEquals(0, m_cacheObject.getGzipContentLength());
+    verify(m_response, never()).setHeader(eq(GzipServletFilter.CONTENT_ENCODING), anyString());
+    verify(m_response).addHeader(GzipServletFilter.VARY, GzipServletFilter.ACCEPT_ENCODING);
+  }
+
+  @Test
+  public void testNotModified() throws IOException, ServletException {
+    when(m_request.getHeader(HttpCacheControl.IF_NONE_MATCH)).thenReturn(m_cacheObject.createETag());
+    assertTrue(m_handler.handleGet(m_request, m_response));
+
+    assertEquals(0, m_out.size());
+    verify(m_response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    verify(m_response).addHeader(GzipServletFilter.VARY, GzipServletFilter.ACCEPT_ENCODING);
+  }
+}
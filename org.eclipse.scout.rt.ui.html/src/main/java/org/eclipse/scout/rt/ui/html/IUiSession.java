@@ -26,6 +26,7 @@ import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonMessageRequestHandler;
+import org.eclipse.scout.rt.ui.html.json.JsonPushChannel;
 import org.eclipse.scout.rt.ui.html.json.JsonRequest;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
 import org.eclipse.scout.rt.ui.html.json.JsonStartupRequest;
@@ -206,6 +207,14 @@ public interface IUiSession {
    */
   void waitForBackgroundJobs(JsonRequest jsonRequest, int pollWaitSeconds) throws InterruptedException;
 
+  /**
+   * Sets the channel which is signaled whenever a model job started by a background job has terminated. A previously
+   * set channel is closed. Use <code>null</code> to remove the current channel.
+   *
+   * @since 11.0
+   */
+  void setPushChannel(JsonPushChannel pushChannel);
+
   /**
    * Sends a "localeChanged" event to the UI. All locale-relevant data (number formats, texts map etc.) is sent along.
    */
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
@@ -156,4 +157,47 @@ public final class UiHtmlConfigProperties {
       return 30;
     }
   }
+
+  public static class TableRowPageSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.tableRowPageSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of table rows transferred to the UI at once. If a table contains more rows, the UI requests the next rows when the user scrolls to the end of the table. "
+          + "Rows which are not transferred yet are not considered by UI-side features like text filter, aggregation or client-side sorting (tables are sorted by the model instead).\n"
+          + "By default this property is set to 0 which transfers all rows.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 0;
+    }
+  }
+
+  public static class BackgroundPushEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.backgroundPushEnabled";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies if the results of background jobs are pushed to the browser using a server-sent events stream instead of a polling request.\n"
+          + "The stream does not occupy a container thread while waiting. It requires asynchronous request processing to be enabled for the UI servlet and all its filters (<async-supported>true</async-supported> in the web.xml). "
+          + "Browsers not supporting server-sent events fall back to polling.\n"
+          + "The stream is reopened after the number of seconds specified by property '%s'.\n"
+          + "By default this property is set to false.", BEANS.get(BackgroundPollingIntervalProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
 }
@@ -74,12 +74,14 @@ import org.eclipse.scout.rt.shared.ui.UiSystem;
 import org.eclipse.scout.rt.shared.ui.UserAgent;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPushEnabledProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonAdapterRegistry;
 import org.eclipse.scout.rt.ui.html.json.JsonClientSession;
 import org.eclipse.scout.rt.ui.html.json.JsonEventProcessor;
 import org.eclipse.scout.rt.ui.html.json.JsonLocale;
+import org.eclipse.scout.rt.ui.html.json.JsonPushChannel;
 import org.eclipse.scout.rt.ui.html.json.JsonRequest;
 import org.eclipse.scout.rt.ui.html.json.JsonRequest.RequestType;
 import org.eclipse.scout.rt.ui.html.json.JsonRequestHelper;
@@ -141,6 +143,7 @@ public class UiSession implements IUiSession {
   private volatile IRegistrationHandle m_uiDataAvailableListener;
   private volatile long m_lastAccessedTime;
   private volatile RunMonitor m_pollerMonitor;
+  private volatile JsonPushChannel m_pushChannel;
   private volatile boolean m_persistent;
 
   public UiSession() {
@@ -489,6 +492,7 @@ public class UiSession implements IUiSession {
     startupData.put("clientSessionId", m_clientSession.getId()); // Send back clientSessionId to allow the browser to attach to the same client session on page reload
     startupData.put("clientSession", clientSessionAdapterId);
     startupData.put("pollingInterval", CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class));
+    startupData.put("pushEnabled", CONFIG.getPropertyValue(BackgroundPushEnabledProperty.class));
     startupData.put("persistent", isPersistent());
     putLocaleData(startupData, BEANS.get(UiJobs.class).awaitAndGet(future));
   }
@@ -1212,6 +1216,22 @@ public class UiSession implements IUiSession {
   @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   protected void signalPoller() {
     m_pollerQueue.offer(m_notificationToken);
+    JsonPushChannel pushChannel = m_pushChannel;
+    if (pushChannel != null) {
+      pushChannel.signal();
+    }
+  }
+
+  @Override
+  public void setPushChannel(JsonPushChannel pushChannel) {
+    JsonPushChannel previousPushChannel;
+    synchronized (m_pollerQueueLock) {
+      previousPushChannel = m_pushChannel;
+      m_pushChannel = pushChannel;
+    }
+    if (previousPushChannel != null && previousPushChannel != pushChannel) {
+      previousPushChannel.close();
+    }
   }
 
   @Override
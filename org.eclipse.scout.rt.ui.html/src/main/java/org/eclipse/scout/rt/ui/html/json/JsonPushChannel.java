@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Server-sent events stream of an {@link IUiSession}, used instead of polling requests to transport the results of
+ * background jobs to the UI (see {@link JsonPushRequestHandler}).
+ * <p>
+ * No thread is occupied while waiting. When signaled by the UI session, a job acquires the UI session lock and writes
+ * the current JSON response (if not empty) as event to the stream. If the lock is held by a regular request, the data
+ * is transported with the response of that request and the job is retried shortly after.
+ *
+ * @since 11.0
+ */
+public class JsonPushChannel implements AsyncListener {
+  private static final Logger LOG = LoggerFactory.getLogger(JsonPushChannel.class);
+
+  /**
+   * in milliseconds, allows coalescing the results of background jobs finishing at the same time
+   */
+  private static final long PUSH_DELAY = 100;
+  /**
+   * in milliseconds
+   */
+  private static final long RETRY_DELAY = 500;
+
+  private final IUiSession m_uiSession;
+  private final AsyncContext m_asyncContext;
+  private final JsonRequest m_pollRequest;
+  private final RunContext m_runContext;
+  private final AtomicBoolean m_pushScheduled = new AtomicBoolean();
+  private volatile boolean m_closed;
+
+  public JsonPushChannel(IUiSession uiSession, AsyncContext asyncContext, RunContext runContext) {
+    m_uiSession = uiSession;
+    m_asyncContext = asyncContext;
+    m_pollRequest = new JsonRequest(new JSONObject()
+        .put(JsonRequest.PROP_UI_SESSION_ID, uiSession.getUiSessionId())
+        .put(JsonRequest.PROP_POLL, true));
+    m_runContext = runContext.copy()
+        .withThreadLocal(IUiSession.CURRENT, uiSession)
+        .withThreadLocal(JsonRequest.CURRENT, m_pollRequest);
+    asyncContext.addListener(this);
+  }
+
+  public IUiSession getUiSession() {
+    return m_uiSession;
+  }
+
+  public boolean isClosed() {
+    return m_closed;
+  }
+
+  /**
+   * Signals that UI data is possibly available. This method never blocks.
+   */
+  public void signal() {
+    schedulePush(PUSH_DELAY);
+  }
+
+  protected void schedulePush(long delayMillis) {
+    if (m_closed || !m_pushScheduled.compareAndSet(false, true)) {
+      return; // a push is already scheduled
+    }
+    Jobs.schedule(this::push, Jobs.newInput()
+        .withName("Pushing UI data [uiSessionId={}]", m_uiSession.getUiSessionId())
+        .withRunContext(m_runContext.copy()
+            .withRunMonitor(BEANS.get(RunMonitor.class)))
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(delayMillis, TimeUnit.MILLISECONDS))
+        .withExceptionHandling(BEANS.get(ExceptionHandler.class), true));
+  }
+
+  protected void push() {
+    m_pushScheduled.set(false);
+    if (m_closed) {
+      return;
+    }
+
+    // Same as for poll requests: there is no reason to wait for the lock, because the other thread will send the current
+    // JSON response to the UI. However, data of jobs finishing after that response was created must be pushed afterwards.
+    final ReentrantLock uiSessionLock = m_uiSession.uiSessionLock();
+    if (!uiSessionLock.tryLock()) {
+      schedulePush(RETRY_DELAY);
+      return;
+    }
+    try {
+      if (m_uiSession.isDisposed()) {
+        writeEvent(BEANS.get(JsonRequestHelper.class).createSessionTerminatedResponse(m_uiSession.getLogoutRedirectUrl()));
+        close();
+        return;
+      }
+
+      JsonResponse jsonResponse = m_uiSession.currentJsonResponse();
+      if (jsonResponse == null || jsonResponse.isEmpty()) {
+        return;
+      }
+      JSONObject json = m_uiSession.processJsonRequest((HttpServletRequest) m_asyncContext.getRequest(), (HttpServletResponse) m_asyncContext.getResponse(), m_pollRequest);
+      if (json != null) {
+        writeEvent(json);
+      }
+    }
+    catch (IOException | IllegalStateException e) {
+      // The response queue of the UI detects the missing response and requests it again (same as for lost poll requests).
+      LOG.debug("Could not push UI data, closing stream [uiSessionId={}]", m_uiSession.getUiSessionId(), e);
+      close();
+    }
+    finally {
+      uiSessionLock.unlock();
+    }
+  }
+
+  protected void writeEvent(JSONObject json) throws IOException {
+    BEANS.get(JsonRequestHelper.class).writeEvent(m_asyncContext.getResponse(), json);
+  }
+
+  /**
+   * Completes the stream. The UI reconnects if the UI session is still valid.
+   */
+  public void close() {
+    if (m_closed) {
+      return;
+    }
+    m_closed = true;
+    try {
+      m_asyncContext.complete();
+    }
+    catch (IllegalStateException e) { // NOSONAR
+      // already completed
+    }
+  }
+
+  @Override
+  public void onComplete(AsyncEvent event) {
+    m_closed = true;
+  }
+
+  @Override
+  public void onTimeout(AsyncEvent event) {
+    close();
+  }
+
+  @Override
+  public void onError(AsyncEvent event) {
+    LOG.debug("Push stream failed [uiSessionId={}]", m_uiSession.getUiSessionId(), event.getThrowable());
+    close();
+  }
+
+  @Override
+  public void onStartAsync(AsyncEvent event) {
+    // nop
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPushEnabledProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
+import org.eclipse.scout.rt.ui.html.UiSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles "/push/<uiSessionId>" requests by opening a server-sent events stream, which transports the results of
+ * background jobs to the UI instead of polling requests. Only active if {@link BackgroundPushEnabledProperty} is set.
+ * <p>
+ * The stream is completed after the polling interval ({@link BackgroundPollingIntervalProperty}) and then reopened by
+ * the UI. Like for poll requests, opening the stream does not touch the UI session.
+ *
+ * @see Session.js
+ * @see JsonPushChannel
+ * @since 11.0
+ */
+@Order(4550)
+public class JsonPushRequestHandler extends AbstractUiServletRequestHandler {
+  private static final Logger LOG = LoggerFactory.getLogger(JsonPushRequestHandler.class);
+
+  public static final Pattern PUSH_PATH_PATTERN = Pattern.compile("^/push/(.+)$");
+  public static final String CONTENT_TYPE_EVENT_STREAM = "text/event-stream";
+
+  private final boolean m_pushEnabled = CONFIG.getPropertyValue(BackgroundPushEnabledProperty.class).booleanValue();
+  private final int m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class).intValue();
+  private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
+
+  private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final JsonRequestHelper m_jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+
+  @Override
+  protected boolean handleGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    if (!m_pushEnabled) {
+      return false;
+    }
+    final String pathInfo = req.getPathInfo();
+    if (pathInfo == null) {
+      return false;
+    }
+    final Matcher matcher = PUSH_PATH_PATTERN.matcher(pathInfo);
+    if (!matcher.matches()) {
+      return false;
+    }
+
+    if (!req.isAsyncSupported()) {
+      // The UI falls back to polling requests
+      LOG.warn("Cannot open push stream because asynchronous processing is not supported. Enable async support for the UI servlet and all its filters or disable property '{}'.",
+          BEANS.get(BackgroundPushEnabledProperty.class).getKey());
+      resp.sendError(HttpServletResponse.SC_NOT_IMPLEMENTED);
+      return true;
+    }
+
+    handlePushRequest(req, resp, matcher.group(1));
+    return true;
+  }
+
+  protected void handlePushRequest(HttpServletRequest req, HttpServletResponse resp, String uiSessionId) throws IOException {
+    m_httpCacheControl.checkAndSetCacheHeaders(req, resp, null);
+    resp.setContentType(CONTENT_TYPE_EVENT_STREAM);
+    resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+    IUiSession uiSession = UiSession.get(req, uiSessionId);
+    if (uiSession == null) {
+      LOG.info("Push stream cannot be opened due to UI session timeout [id={}]", uiSessionId);
+      m_jsonRequestHelper.writeEvent(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
+      return;
+    }
+
+    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+    if (curIdle > m_maxUserIdleTime) {
+      handleMaxIdleTimeout(resp, uiSession, curIdle);
+      return;
+    }
+    uiSession.verifySubject(req);
+
+    // Same as for poll requests: don't keep the stream open longer than the max idle time
+    int pushWait = Math.max(Math.min(m_maxUserIdleTime - curIdle, m_pollingInterval), 3);
+    AsyncContext asyncContext = req.startAsync(req, resp);
+    asyncContext.setTimeout(TimeUnit.SECONDS.toMillis(pushWait));
+    JsonPushChannel pushChannel = createPushChannel(uiSession, asyncContext);
+
+    // Commit the headers so that the browser considers the stream as open
+    resp.flushBuffer();
+    uiSession.setPushChannel(pushChannel);
+    LOG.debug("Push stream opened for {} seconds [uiSessionId={}]", pushWait, uiSessionId);
+
+    // Data of background jobs might already be available
+    pushChannel.signal();
+  }
+
+  protected JsonPushChannel createPushChannel(IUiSession uiSession, AsyncContext asyncContext) {
+    return new JsonPushChannel(uiSession, asyncContext, RunContexts.copyCurrent());
+  }
+
+  protected void handleMaxIdleTimeout(HttpServletResponse resp, IUiSession uiSession, int idleSeconds) throws IOException {
+    LOG.info("Detected idle timeout for UI session {} after {} seconds (maxIdleSeconds={})", uiSession.getUiSessionId(), idleSeconds, m_maxUserIdleTime);
+    final ReentrantLock uiSessionLock = uiSession.uiSessionLock();
+    uiSessionLock.lock();
+    try {
+      uiSession.dispose();
+    }
+    finally {
+      uiSessionLock.unlock();
+    }
+    m_jsonRequestHelper.writeEvent(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
+  }
+}
@@ -12,7 +12,9 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -131,11 +133,11 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON data is encoded directly into the response's output stream (UTF-8) without building the whole JSON string
+   * in memory. Therefore, no content length is set.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -145,15 +147,15 @@ public class JsonRequestHelper {
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
     try {
-      servletResponse.getOutputStream().write(data);
+      jsonResponse.write(new OutputStreamWriter(servletResponse.getOutputStream(), StandardCharsets.UTF_8));
     }
     catch (final EOFException e) { // NOSONAR
       final StringBuilder sb = new StringBuilder("EOF - Client disconnected, cannot write response");
       if (LOG.isDebugEnabled()) {
-        sb.append(": ").append(jsonText);
+        sb.append(": ").append(jsonResponse);
       }
       else {
-        sb.append(" (").append(data.length).append(" bytes)");
+        sb.append(" (").append(formatJsonResponseForLogging(jsonResponse)).append(")");
       }
       LOG.warn(sb.toString());
       return;
@@ -162,13 +164,38 @@ public class JsonRequestHelper {
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
     }
   }
 
+  /**
+   * Writes the given {@link JSONObject} as server-sent event into the given {@link ServletResponse} and flushes it to
+   * the client. The response must have the content type <code>text/event-stream</code>.
+   *
+   * @since 11.0
+   */
+  public void writeEvent(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
+    IRestorer interruption = ThreadInterruption.clear();
+    try {
+      Writer writer = new OutputStreamWriter(servletResponse.getOutputStream(), StandardCharsets.UTF_8);
+      // JSON is written without line breaks, hence a single data line is sufficient
+      writer.write("data: ");
+      jsonResponse.write(writer);
+      writer.write("\n\n");
+      writer.flush();
+      servletResponse.flushBuffer();
+    }
+    finally {
+      interruption.restore();
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Pushed: {}", formatJsonResponseForLogging(jsonResponse));
+    }
+  }
+
   /**
    * Reads the content of {@link ServletRequest} into a {@link JSONObject}.
    */
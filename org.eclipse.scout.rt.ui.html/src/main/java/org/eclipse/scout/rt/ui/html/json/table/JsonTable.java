@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,7 @@ import org.eclipse.scout.rt.client.ui.dnd.TextTransferObject;
 import org.eclipse.scout.rt.client.ui.dnd.TransferObject;
 import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.status.IStatus;
@@ -62,6 +64,7 @@ import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.security.CopyToClipboardPermission;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableRowPageSizeProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonWidget;
 import org.eclipse.scout.rt.ui.html.json.FilteredJsonAdapterIds;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
@@ -128,6 +131,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_FETCH_ROWS = "fetchRows";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -140,6 +144,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  public static final String PROP_MORE_ROWS_AVAILABLE = "moreRowsAvailable";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -151,6 +156,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final BinaryResourceMediator m_binaryResourceMediator;
   private final JsonTableListeners m_listeners = new JsonTableListeners();
+  private int m_rowLimit = -1;
+  private boolean m_moreRowsAvailable;
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -327,7 +334,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     putJsonProperty(new JsonProperty<ITable>(ITable.PROP_UI_SORT_POSSIBLE, model) {
       @Override
       protected Boolean modelValue() {
-        return getModel().isUiSortPossible();
+        // rows which are not transferred yet can only be sorted by the model
+        return getModel().isUiSortPossible() && !m_moreRowsAvailable;
       }
     });
     putJsonProperty(new JsonProperty<ITable>(ITable.PROP_LOADING, model) {
@@ -449,8 +457,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void attachRows() {
-    List<ITableRow> rows = getModel().getRows();
-    for (ITableRow row : rows) {
+    for (ITableRow row : filterRowsToTransfer(getModel().getRows())) {
       if (isRowAccepted(row)) {
         getOrCreateRowId(row);
       }
@@ -562,7 +569,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    json.put(PROP_ROWS, tableRowsToJson(filterRowsToTransfer(getModel().getRows())));
+    m_moreRowsAvailable = computeMoreRowsAvailable();
+    json.put(PROP_MORE_ROWS_AVAILABLE, m_moreRowsAvailable);
+    json.put(ITable.PROP_UI_SORT_POSSIBLE, getModel().isUiSortPossible() && !m_moreRowsAvailable);
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
     if (getModel().getUserFilterManager() != null) {
@@ -655,6 +665,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
+    else if (EVENT_FETCH_ROWS.equals(event.getType())) {
+      handleUiFetchRows(event);
+    }
     else {
       super.handleUiEvent(event);
     }
@@ -673,6 +686,19 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * Transfers the next page of rows to the UI, see {@link #getRowPageSize()}.
+   */
+  protected void handleUiFetchRows(JsonEvent event) {
+    if (!isRowLimitEnabled() || !m_moreRowsAvailable) {
+      return;
+    }
+    // rows transferred beyond the limit (e.g. selected rows) must not prevent the next page from being transferred
+    m_rowLimit = Math.max(m_rowLimit, m_tableRows.size()) + getRowPageSize();
+    transferRows(filterRowsToTransfer(getModel().getRows()));
+    updateMoreRowsAvailable();
+  }
+
   protected void handleUiColumnOrganizeAction(JsonEvent event) {
     JSONObject data = event.getData();
     String action = data.getString("action");
@@ -1016,7 +1042,11 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
     JSONObject jsonRow = new JSONObject();
     putProperty(jsonRow, "id", getOrCreateRowId(row));
-    putProperty(jsonRow, "parentRow", getOrCreateRowId(getModel().findParentRow(row)));
+    ITableRow parentRow = getModel().findParentRow(row);
+    if (parentRow != null && isRowAccepted(parentRow)) {
+      // accepted parent rows are transferred together with their child rows, see filterRowsToTransfer
+      putProperty(jsonRow, "parentRow", getOrCreateRowId(parentRow));
+    }
     putProperty(jsonRow, "cells", jsonCells);
     putProperty(jsonRow, "checked", row.isChecked());
     putProperty(jsonRow, "enabled", row.isEnabled());
@@ -1109,6 +1139,93 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return row.isRejectedByUser();
   }
 
+  /**
+   * @return the number of rows transferred to the UI at once, or 0 to transfer all rows. If the table contains more
+   *         rows, the UI fetches the next page when it scrolls to the end of the transferred rows. Rows which are not
+   *         transferred yet are not known by the UI, so sorting is done by the model only.
+   */
+  protected int getRowPageSize() {
+    Integer pageSize = CONFIG.getPropertyValue(TableRowPageSizeProperty.class);
+    return pageSize != null ? pageSize : 0;
+  }
+
+  protected boolean isRowLimitEnabled() {
+    if (m_rowLimit < 0) {
+      m_rowLimit = getRowPageSize();
+    }
+    return m_rowLimit > 0;
+  }
+
+  /**
+   * @return the given rows without the ones which must not be transferred to the UI yet, because the row limit is
+   *         reached. Rows already known by the UI are always retained, other rows are retained in the given order as
+   *         long as the number of transferred rows is below the limit. A retained row is preceded by its parent rows not
+   *         known by the UI yet, even if they are not part of the given rows.
+   */
+  protected Collection<ITableRow> filterRowsToTransfer(Collection<ITableRow> rows) {
+    if (!isRowLimitEnabled() || rows.isEmpty()) {
+      return rows;
+    }
+    int freeSlots = m_rowLimit - m_tableRows.size();
+    Set<ITableRow> result = new LinkedHashSet<>(rows.size());
+    for (ITableRow row : rows) {
+      if (getTableRowId(row) != null) {
+        result.add(row);
+      }
+      else if (freeSlots > 0 && isRowAccepted(row) && !result.contains(row)) {
+        for (ITableRow ancestor : getAcceptedAncestors(row)) {
+          if (getTableRowId(ancestor) == null && result.add(ancestor)) {
+            freeSlots--;
+          }
+        }
+        result.add(row);
+        freeSlots--;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the accepted parent rows of the given row, the root row first
+   */
+  protected List<ITableRow> getAcceptedAncestors(ITableRow row) {
+    LinkedList<ITableRow> ancestors = new LinkedList<>();
+    ITableRow parentRow = getModel().findParentRow(row);
+    while (parentRow != null && isRowAccepted(parentRow)) {
+      ancestors.addFirst(parentRow);
+      parentRow = getModel().findParentRow(parentRow);
+    }
+    return ancestors;
+  }
+
+  /**
+   * @return the given rows without the ones not yet transferred to the UI
+   */
+  protected Collection<ITableRow> filterTransferredRows(Collection<ITableRow> rows) {
+    if (!isRowLimitEnabled()) {
+      return rows;
+    }
+    return rows.stream().filter(row -> getTableRowId(row) != null).collect(Collectors.toList());
+  }
+
+  protected boolean computeMoreRowsAvailable() {
+    if (!isRowLimitEnabled()) {
+      return false;
+    }
+    // same rows as transferred by filterRowsToTransfer, i.e. including the rows rejected by the user
+    return getModel().getRows().stream().anyMatch(row -> getTableRowId(row) == null && isRowAccepted(row));
+  }
+
+  protected void updateMoreRowsAvailable() {
+    boolean moreRowsAvailable = computeMoreRowsAvailable();
+    if (moreRowsAvailable == m_moreRowsAvailable) {
+      return;
+    }
+    m_moreRowsAvailable = moreRowsAvailable;
+    addPropertyChangeEvent(PROP_MORE_ROWS_AVAILABLE, moreRowsAvailable);
+    addPropertyChangeEvent(getJsonProperty(ITable.PROP_UI_SORT_POSSIBLE));
+  }
+
   public List<ITableRow> extractTableRows(JSONObject json) {
     JSONArray rowIds = json.getJSONArray(PROP_ROW_IDS);
     return extractTableRows(rowIds);
@@ -1354,6 +1471,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     for (TableEvent event : coalescedEvents) {
       processEvent(event);
     }
+    if (isRowLimitEnabled()) {
+      updateMoreRowsAvailable();
+    }
   }
 
   protected void processEvent(TableEvent event) {
@@ -1426,7 +1546,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleModelRowsInserted(Collection<ITableRow> modelRows) {
     Set<ITableRow> acceptedRows = new HashSet<>();
-    JSONArray jsonRows = tableRowsToJson(modelRows, acceptedRows);
+    JSONArray jsonRows = tableRowsToJson(filterRowsToTransfer(modelRows), acceptedRows);
     if (jsonRows.length() == 0) {
       return;
     }
@@ -1437,7 +1557,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsUpdated(Collection<ITableRow> modelRows) {
-    JSONArray jsonRows = tableRowsToJson(modelRows);
+    JSONArray jsonRows = tableRowsToJson(filterTransferredRows(modelRows));
     if (jsonRows.length() == 0) {
       return;
     }
@@ -1500,11 +1620,15 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
     m_tableRows.clear();
     m_tableRowIds.clear();
+    m_rowLimit = -1; // start with the first page again
     addActionEvent(EVENT_ALL_ROWS_DELETED);
     m_listeners.fireEvent(new JsonTableEvent(this, JsonTableEvent.TYPE_ROWS_DELETED, disposedRows));
   }
 
   protected void handleModelRowsSelected(Collection<ITableRow> modelRows) {
+    if (isRowLimitEnabled()) {
+      transferRows(modelRows);
+    }
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_ROW_IDS, rowIdsToJson(modelRows));
     addActionEvent(EVENT_ROWS_SELECTED, jsonEvent);
@@ -1512,7 +1636,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleModelRowsChecked(Collection<ITableRow> modelRows) {
     JSONArray jsonRows = new JSONArray();
-    for (ITableRow row : modelRows) {
+    for (ITableRow row : filterTransferredRows(modelRows)) {
       if (!isRowAccepted(row)) {
         continue;
       }
@@ -1531,7 +1655,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleModelRowsExpanded(List<ITableRow> rows) {
     JSONArray jsonRows = new JSONArray();
-    rows.stream().filter(this::isRowAccepted)
+    filterTransferredRows(rows).stream().filter(this::isRowAccepted)
         .map(row -> {
           JSONObject jsonRow = new JSONObject();
           putProperty(jsonRow, "id", getTableRowId(row));
@@ -1545,11 +1669,22 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowOrderChanged(Collection<ITableRow> modelRows) {
+    if (m_moreRowsAvailable) {
+      // the rows on top may have changed: replace the transferred rows by the first rows in the new order
+      moveRowWindow();
+    }
+    addRowOrderChangedEvent(modelRows);
+  }
+
+  protected void addRowOrderChangedEvent(Collection<ITableRow> modelRows) {
     JSONArray jsonRowIds = new JSONArray();
     List<String> rowIds = new ArrayList<>();
     for (ITableRow row : modelRows) {
       if (isRowAccepted(row)) {
         String rowId = getTableRowId(row);
+        if (rowId == null) { // Ignore rows that are not yet sent to the UI
+          continue;
+        }
         jsonRowIds.put(rowId);
         rowIds.add(rowId);
       }
@@ -1575,6 +1710,65 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     addActionEvent("rowOrderChanged", jsonEvent);
   }
 
+  /**
+   * Transfers the given rows to the UI if they are not known by the UI yet, e.g. to select them. The rows already known
+   * by the UI are kept, only the row order is updated.
+   */
+  protected void transferRows(Collection<ITableRow> rows) {
+    Set<ITableRow> rowsToInsert = new LinkedHashSet<>();
+    for (ITableRow row : rows) {
+      if (isRowAccepted(row) && getTableRowId(row) == null) {
+        rowsToInsert.addAll(getAcceptedAncestors(row));
+        rowsToInsert.add(row);
+      }
+    }
+    rowsToInsert.removeIf(row -> getTableRowId(row) != null);
+    if (rowsToInsert.isEmpty()) {
+      return;
+    }
+    JSONObject jsonEvent = new JSONObject();
+    putProperty(jsonEvent, PROP_ROWS, tableRowsToJson(rowsToInsert));
+    addActionEvent(EVENT_ROWS_INSERTED, jsonEvent);
+    m_listeners.fireEvent(new JsonTableEvent(this, JsonTreeEvent.TYPE_NODES_INSERTED, rowsToInsert));
+    addRowOrderChangedEvent(getModel().getRows());
+  }
+
+  /**
+   * Deletes transferred rows which are not among the first rows anymore (unless selected) and transfers the new first
+   * rows instead.
+   */
+  protected void moveRowWindow() {
+    Set<ITableRow> window = new LinkedHashSet<>();
+    for (ITableRow row : getModel().getRows()) {
+      if (window.size() >= m_rowLimit) {
+        break;
+      }
+      if (isRowAccepted(row)) {
+        window.addAll(getAcceptedAncestors(row));
+        window.add(row);
+      }
+    }
+    List<ITableRow> rowsToInsert = window.stream()
+        .filter(row -> getTableRowId(row) == null)
+        .collect(Collectors.toList());
+    for (ITableRow row : getModel().getSelectedRows()) {
+      window.addAll(getAcceptedAncestors(row));
+      window.add(row);
+    }
+    List<ITableRow> rowsToDelete = m_tableRowIds.keySet().stream()
+        .filter(row -> !window.contains(row))
+        .collect(Collectors.toList());
+    if (!rowsToDelete.isEmpty()) {
+      handleModelRowsDeleted(rowsToDelete);
+    }
+    if (!rowsToInsert.isEmpty()) {
+      JSONObject jsonEvent = new JSONObject();
+      putProperty(jsonEvent, PROP_ROWS, tableRowsToJson(rowsToInsert));
+      addActionEvent(EVENT_ROWS_INSERTED, jsonEvent);
+      m_listeners.fireEvent(new JsonTableEvent(this, JsonTreeEvent.TYPE_NODES_INSERTED, rowsToInsert));
+    }
+  }
+
   protected void handleModelColumnStructureChanged() {
     disposeAllColumns();
     attachColumns();
@@ -15,6 +15,8 @@ import java.util.Collections;
 import java.util.List;
 
 import javax.servlet.ServletException;
+import javax.servlet.ServletResponse;
+import javax.servlet.ServletResponseWrapper;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -28,6 +30,8 @@ import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletResponseWrapper;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
@@ -68,6 +72,9 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
       return false; // not valid
     }
 
+    // the content of the response depends on whether the client accepts gzip encoding, see writeResourceToResponse (also for 304)
+    resp.addHeader(GzipServletFilter.VARY, GzipServletFilter.ACCEPT_ENCODING);
+
     // cached in browser? -> returns 304 if the resource has not been modified
     if (m_httpCacheControl.checkAndSetCacheHeaders(req, resp, cachedObject)) {
       return true;
@@ -85,11 +92,37 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
     // Apply response interceptors
     cachedObject.applyHttpResponseInterceptors(req, resp);
 
-    if (!"HEAD".equals(req.getMethod())) {
+    if ("HEAD".equals(req.getMethod())) {
+      return;
+    }
+
+    // Serve the precompressed content where the gzip filter would compress it, so that the resource is not compressed on each request
+    byte[] gzipContent = isGzipCompressible(resp, binaryResource) ? cachedObject.getGzipContent() : null;
+    if (gzipContent != null) {
+      resp.setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+      resp.setContentLength(gzipContent.length);
+      resp.getOutputStream().write(gzipContent);
+    }
+    else {
       resp.getOutputStream().write(binaryResource.getContent());
     }
   }
 
+  /**
+   * @return true if the response is wrapped by the {@link GzipServletFilter} (i.e. the filter is installed and the client
+   *         accepts gzip encoding) and the filter would compress the resource according to its configuration
+   */
+  protected boolean isGzipCompressible(HttpServletResponse resp, BinaryResource resource) {
+    ServletResponse r = resp;
+    while (r instanceof ServletResponseWrapper) {
+      if (r instanceof GzipServletResponseWrapper) {
+        return ((GzipServletResponseWrapper) r).isCompressible(resource.getContentLength());
+      }
+      r = ((ServletResponseWrapper) r).getResponse();
+    }
+    return false;
+  }
+
   /**
    * Clear global cache (only allowed in development mode). This allows to work with ?cache=true and clears the cache
    * only when required --> rebuilds script/less files.